@@ -21,6 +21,7 @@ package org.drools.base.common;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.drools.util.ObjectPool;
 import org.kie.internal.concurrent.ExecutorProviderFactory;
@@ -30,10 +31,22 @@ public class PartitionsManager {
     public static final int MIN_PARALLEL_THRESHOLD = 8;
     public static final int MAX_PARALLEL_THRESHOLD = MIN_PARALLEL_THRESHOLD * 4;
 
+    // below this estimated cost a parallel evaluation is slower than a sequential one because of the forking overhead
+    public static final long MIN_PARALLEL_EVALUATION_NANOS = 100_000L;
+
+    // how often a cheap evaluation is performed in parallel anyway to refresh the measured cost
+    private static final int EVALUATION_COST_SAMPLING_RATE = 64;
+
     private int partitionCounter = 0;
 
     private int parallelEvaluationSlotsCount = -1;
 
+    private ForkJoinPool evaluationPool;
+
+    private volatile long evaluationCostPerItem = -1L;
+
+    private final AtomicInteger skippedParallelEvaluations = new AtomicInteger();
+
     public RuleBasePartitionId createNewPartitionId() {
         return new RuleBasePartitionId(this, ++partitionCounter);
     }
@@ -47,7 +60,100 @@ public class PartitionsManager {
     }
 
     public void init() {
+        init(0);
+    }
+
+    public synchronized void init(int evaluationPoolSize) {
         this.parallelEvaluationSlotsCount = Math.min(partitionCounter, MAX_PARALLEL_THRESHOLD);
+        if (evaluationPoolSize > 0 && (evaluationPool == null || evaluationPool.getParallelism() != evaluationPoolSize)) {
+            ForkJoinPool oldPool = evaluationPool;
+            this.evaluationPool = new ForkJoinPool(evaluationPoolSize);
+            if (oldPool != null) {
+                oldPool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Shuts down the evaluation pool owned by this rule base, if any. The rule base falls back to the shared pool
+     * if it is evaluated again afterwards.
+     */
+    public synchronized void shutdown() {
+        if (evaluationPool != null) {
+            evaluationPool.shutdown();
+            evaluationPool = null;
+        }
+    }
+
+    /**
+     * Returns the pool used to evaluate the partitions of this rule base: its own one if
+     * a parallel evaluation pool size has been configured, the one shared by all the rule bases otherwise.
+     */
+    public ForkJoinPool getEvaluationPool() {
+        return evaluationPool != null ? evaluationPool : ForkJoinPoolHolder.RULES_EVALUATION_POOL;
+    }
+
+    public boolean hasOwnEvaluationPool() {
+        return evaluationPool != null;
+    }
+
+    public void doOnEvaluationPool(Runnable task) {
+        getEvaluationPool().submit( task ).join();
+    }
+
+    public <T> T doOnEvaluationPool(Callable<T> task) {
+        return getEvaluationPool().submit( task ).join();
+    }
+
+    /**
+     * Decides if the evaluation of the given number of items is expensive enough to be worth running in parallel,
+     * based on the cost measured during the former parallel evaluations. When the cost is still unknown the
+     * evaluation is always performed in parallel, and even when it is estimated to be cheap it is still
+     * periodically run in parallel in order to keep the measured cost up to date.
+     */
+    public boolean isWorthParallelEvaluation(int itemsCount) {
+        long costPerItem = evaluationCostPerItem;
+        if (costPerItem < 0 || costPerItem * itemsCount >= MIN_PARALLEL_EVALUATION_NANOS) {
+            return true;
+        }
+        return skippedParallelEvaluations.incrementAndGet() % EVALUATION_COST_SAMPLING_RATE == 0;
+    }
+
+    public void recordEvaluationCost(long totalNanos, int itemsCount) {
+        if (itemsCount <= 0) {
+            return;
+        }
+        long sample = totalNanos / itemsCount;
+        long costPerItem = evaluationCostPerItem;
+        // exponential moving average, so an occasional outlier doesn't flip the decision
+        evaluationCostPerItem = costPerItem < 0 ? sample : (costPerItem * 7 + sample) / 8;
+    }
+
+    /**
+     * Returns the average cost in nanoseconds of evaluating a single item, or -1 if it hasn't been measured yet
+     */
+    public long getEvaluationCostPerItem() {
+        return evaluationCostPerItem;
+    }
+
+    public int getEvaluationPoolParallelism() {
+        return getEvaluationPool().getParallelism();
+    }
+
+    public int getEvaluationPoolActiveThreadCount() {
+        return getEvaluationPool().getActiveThreadCount();
+    }
+
+    public long getEvaluationPoolQueuedTaskCount() {
+        return getEvaluationPool().getQueuedTaskCount();
+    }
+
+    public int getEvaluationPoolQueuedSubmissionCount() {
+        return getEvaluationPool().getQueuedSubmissionCount();
+    }
+
+    public long getEvaluationPoolStealCount() {
+        return getEvaluationPool().getStealCount();
     }
 
     private static class ForkJoinPoolHolder {
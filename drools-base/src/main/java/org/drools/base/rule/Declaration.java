@@ -238,6 +238,11 @@ public class Declaration implements Externalizable, AcceptsReadAccessor, TupleVa
         return this.readAccessor.getValue(valueResolver, object);
     }
 
+    @Override
+    public long getWholeNumberValue(BaseTuple tuple) {
+        return getWholeNumberValue( null, tuple.get( this ).getObject() );
+    }
+
     public long getWholeNumberValue(ValueResolver valueResolver,
                              final Object object) {
         return this.readAccessor.getWholeNumberValue(valueResolver, object);
@@ -40,6 +40,11 @@ public class RightTupleValueExtractor implements TupleValueExtractor {
         return extractor.getValue(valueResolver, tuple.getFactHandle().getObject());
     }
 
+    @Override
+    public long getWholeNumberValue(BaseTuple tuple) {
+        return extractor.getWholeNumberValue(null, tuple.getFactHandle().getObject());
+    }
+
     @Override
     public TupleValueExtractor clone() {
         return new RightTupleValueExtractor(extractor);
@@ -32,6 +32,10 @@ public interface TupleValueExtractor extends Cloneable {
 
     Object getValue(ValueResolver valueResolver, BaseTuple tuple);
 
+    default long getWholeNumberValue(BaseTuple tuple) {
+        return ((Number) getValue( tuple )).longValue();
+    }
+
     TupleValueExtractor clone();
 
     default int getIndex() {
@@ -18,6 +18,7 @@
  */
 package org.drools.base.util;
 
+import org.drools.base.base.ValueType;
 import org.drools.base.reteoo.BaseTuple;
 import org.drools.base.rule.accessor.TupleValueExtractor;
 
@@ -71,6 +72,24 @@ public class IndexedValueReader implements Externalizable {
         return requiresCoercion;
     }
 
+    /**
+     * Returns true if both sides of the index read the same primitive whole number type, so the indexed value can be
+     * obtained through wholeNumberIndexedValueOf without boxing it. Decimal numbers are excluded because their
+     * primitive accessors may round the value, e.g. through FloatHelper.cleanDouble, and so merge distinct keys.
+     */
+    public boolean isPrimitiveIndexable() {
+        if (requiresCoercion) {
+            return false;
+        }
+        ValueType valueType = rightExtractor.getValueType();
+        return valueType != null && valueType.getClassType() != null && valueType.getClassType().isPrimitive() &&
+               valueType.isIntegerNumber();
+    }
+
+    public long wholeNumberIndexedValueOf(BaseTuple tuple, boolean left) {
+        return left ? leftExtractor.getWholeNumberValue(tuple) : rightExtractor.getWholeNumberValue(tuple);
+    }
+
     public Object indexedValueOf(BaseTuple tuple, boolean left) {
         return left ?
                 (requiresCoercion ?
@@ -25,6 +25,7 @@ import org.drools.base.rule.accessor.TupleValueExtractor;
 import org.drools.base.rule.constraint.BetaConstraint;
 import org.kie.api.KieBaseConfiguration;
 import org.kie.api.conf.BetaRangeIndexOption;
+import org.kie.internal.conf.BetaCompositeRangeIndexOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 
 public class IndexUtil {
@@ -77,6 +78,20 @@ public class IndexUtil {
         }
     }
 
+    public static boolean isCompositeRangeIndexable(int nodeType, BetaConstraint constraint, KieBaseConfiguration config) {
+        if ( !(constraint instanceof IndexableConstraint) ) {
+            return false;
+        }
+        IndexableConstraint indexableConstraint = (IndexableConstraint) constraint;
+        return canHaveCompositeRangeIndexForNodeType(nodeType, config) && indexableConstraint.getConstraintType().isComparison() &&
+               !indexableConstraint.isUnification() && areRangeIndexCompatibleOperands(indexableConstraint);
+    }
+
+    private static boolean canHaveCompositeRangeIndexForNodeType(int nodeType, KieBaseConfiguration config) {
+        return USE_COMPARISON_INDEX && config.getOption(BetaCompositeRangeIndexOption.KEY).isBetaCompositeRangeIndexEnabled() &&
+               (nodeType == NodeTypeEnums.NotNode || nodeType == NodeTypeEnums.ExistsNode || nodeType == NodeTypeEnums.JoinNode);
+    }
+
     private static boolean areRangeIndexCompatibleOperands(IndexableConstraint constraint) {
         TupleValueExtractor rightTupleExtractor;
         TupleValueExtractor leftTupleExtractor;
@@ -145,6 +160,7 @@ public class IndexUtil {
     private static boolean[] findIndexableWithEqualityPriority(int nodeType, int keyDepth, BetaConstraint[] constraints, KieBaseConfiguration config) {
         boolean[] indexable = new boolean[constraints.length];
         if (hasEqualIndexable(keyDepth, indexable, constraints)) {
+            sortCompositeRangeIndexable(nodeType, indexable, constraints, config);
             return indexable;
         }
 
@@ -168,6 +184,7 @@ public class IndexUtil {
             if (isIndexable(constraints[i], nodeType, config)) {
                 if (isEqualIndexable(constraints[i])) {
                     sortEqualIndexable(keyDepth, indexable, constraints, i);
+                    sortCompositeRangeIndexable(nodeType, indexable, constraints, config);
                 } else {
                     sortRangeIndexable(constraints, indexable, i);
                 }
@@ -197,6 +214,28 @@ public class IndexUtil {
         return hasEqualIndexable;
     }
 
+    /**
+     * Moves the first comparison constraint usable in a composite index right after the indexed equality constraints,
+     * so that it is evaluated by the index together with them.
+     */
+    private static void sortCompositeRangeIndexable(int nodeType, boolean[] indexable, BetaConstraint[] constraints, KieBaseConfiguration config) {
+        // UnificationRestrictions cannot be allowed in composite indexes
+        if (!indexable[0] || ((IndexableConstraint) constraints[0]).isUnification()) {
+            return;
+        }
+        int equalIndexed = 0;
+        while (equalIndexed < indexable.length && indexable[equalIndexed]) {
+            equalIndexed++;
+        }
+        for (int i = equalIndexed; i < constraints.length; i++) {
+            if (isCompositeRangeIndexable(nodeType, constraints[i], config)) {
+                swap(constraints, i, equalIndexed);
+                indexable[equalIndexed] = true;
+                return;
+            }
+        }
+    }
+
     private static void sortRangeIndexable(BetaConstraint[] constraints, boolean[] indexable, int i) {
         swap(constraints, i, 0);
         indexable[0] = true;
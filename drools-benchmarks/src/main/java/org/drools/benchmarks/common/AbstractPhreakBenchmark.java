@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.common;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.KieBase;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base class of the Phreak benchmarks. The KieBase is built once per trial, with both the executable model
+ * and MVEL, while each benchmark invocation works on a brand new session.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractPhreakBenchmark {
+
+    @Param({"EXEC_MODEL", "MVEL"})
+    protected RuleBuild build;
+
+    protected KieBase kieBase;
+
+    protected KieSession kieSession;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        kieBase = build.buildKieBase(getDrl(), getKieBaseOptions());
+        setupFacts();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupKieSession() {
+        kieSession = newKieSession();
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeKieSession() {
+        if (kieSession != null) {
+            kieSession.dispose();
+            kieSession = null;
+        }
+    }
+
+    protected KieSession newKieSession() {
+        return kieBase.newKieSession();
+    }
+
+    protected EventProcessingOption getEventProcessingOption() {
+        return EventProcessingOption.CLOUD;
+    }
+
+    protected KieBaseOption[] getKieBaseOptions() {
+        return new KieBaseOption[] { getEventProcessingOption() };
+    }
+
+    protected abstract String getDrl();
+
+    protected abstract void setupFacts();
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.impl.DMNBatchEvaluator;
+import org.kie.dmn.core.internal.utils.DMNRuntimeBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput, in rows per second, of the evaluation of all the decisions of a model for a batch of input rows:
+ * calling evaluateAll for each row, or using the DMNBatchEvaluator on the calling thread or on all the cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(DMNBatchBenchmark.ROWS)
+public class DMNBatchBenchmark {
+
+    static final int ROWS = 10_000;
+
+    private DMNRuntime runtime;
+
+    private DMNModel model;
+
+    private List<DMNContext> rows;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        runtime = DMNRuntimeBuilder.fromDefaults().buildConfiguration()
+                .fromClasspathResource("vacation-days.dmn", DMNBatchBenchmark.class)
+                .getOrElseThrow(RuntimeException::new);
+        model = runtime.getModel("https://www.drools.org/kie-dmn", "0020-vacation-days");
+        rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            DMNContext row = DMNFactory.newContext();
+            row.set("Age", 16 + i % 50);
+            row.set("Years of Service", i % 35);
+            rows.add(row);
+        }
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void perCall(Blackhole blackhole) {
+        for (DMNContext row : rows) {
+            blackhole.consume(runtime.evaluateAll(model, row));
+        }
+    }
+
+    @Benchmark
+    public void batch(Blackhole blackhole) {
+        new DMNBatchEvaluator(runtime, model).evaluateAll(rows.stream()).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void parallelBatch(Blackhole blackhole) {
+        new DMNBatchEvaluator(runtime, model).withExecutor(executor, 1024).evaluateAll(rows.stream()).forEach(blackhole::consume);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.CompiledExpression;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.lang.impl.FEELBuilder;
+import org.kie.dmn.feel.lang.impl.FEELImpl;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+import org.kie.dmn.feel.runtime.UnaryTest;
+import org.kie.dmn.feel.runtime.decisiontables.DTDecisionRule;
+import org.kie.dmn.feel.runtime.decisiontables.DTInputClause;
+import org.kie.dmn.feel.runtime.decisiontables.DTOutputClause;
+import org.kie.dmn.feel.runtime.decisiontables.DecisionTableImpl;
+import org.kie.dmn.feel.runtime.decisiontables.HitPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation of a UNIQUE decision table with a range column and an equality column, with and without the
+ * index of its input entries. The unindexed table is built without the texts of the input entries, so it
+ * always tests all its rules.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecisionTableBenchmark {
+
+    private static final int CATEGORIES = 10;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int rulesNumber;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private FEEL feel;
+
+    private DecisionTableImpl decisionTable;
+
+    private EvaluationContext[] contexts;
+
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        feel = FEELBuilder.builder().build();
+
+        CompilerContext compilerContext = feel.newCompilerContext()
+                .addInputVariableType("amount", BuiltInType.NUMBER)
+                .addInputVariableType("category", BuiltInType.STRING);
+        List<DTInputClause> inputs = new ArrayList<>();
+        inputs.add(new DTInputClause("amount", null, null, feel.compile("amount", compilerContext), false));
+        inputs.add(new DTInputClause("category", null, null, feel.compile("category", compilerContext), false));
+        List<DTOutputClause> outputs = Collections.singletonList(new DTOutputClause("result", null));
+        CompiledExpression output = feel.compile("\"matched\"", compilerContext);
+
+        // each rule covers its own slice of amounts, for one of the categories
+        int slices = Math.max(1, rulesNumber / CATEGORIES);
+        Map<String, List<UnaryTest>> unaryTests = new HashMap<>();
+        List<DTDecisionRule> rules = new ArrayList<>(rulesNumber);
+        for (int i = 0; i < rulesNumber; i++) {
+            DTDecisionRule rule = new DTDecisionRule(i, "rule" + i);
+            int slice = i / CATEGORIES;
+            String amountText = slice == slices - 1 ? ">= " + (slice * 10) : "[" + (slice * 10) + ".." + (slice * 10 + 10) + ")";
+            String categoryText = "\"category" + (i % CATEGORIES) + "\"";
+            for (String text : new String[]{amountText, categoryText}) {
+                rule.getInputEntry().add(toUnaryTest(unaryTests.computeIfAbsent(text, feel::evaluateUnaryTests)));
+                if (indexed) {
+                    rule.getInputEntryText().add(text);
+                }
+            }
+            rule.getOutputEntry().add(output);
+            rules.add(rule);
+        }
+        decisionTable = new DecisionTableImpl("table", Collections.emptyList(), inputs, outputs, rules, HitPolicy.UNIQUE, feel);
+
+        Random random = new Random(0);
+        contexts = new EvaluationContext[1024];
+        for (int i = 0; i < contexts.length; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("amount", BigDecimal.valueOf(random.nextInt(slices * 10)));
+            variables.put("category", "category" + random.nextInt(Math.min(CATEGORIES, rulesNumber)));
+            contexts[i] = ((FEELImpl) feel).newEvaluationContext(Collections.emptyList(), variables);
+        }
+    }
+
+    private static UnaryTest toUnaryTest(List<UnaryTest> tests) {
+        return tests.size() == 1 ? tests.get(0) : (c, o) -> tests.stream().anyMatch(t -> Boolean.TRUE.equals(t.apply(c, o)));
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        EvaluationContext ctx = contexts[counter++ & (contexts.length - 1)];
+        return decisionTable.evaluate(ctx, null).getOrElse(null);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.dmn;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.CompiledExpression;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.impl.FEELBuilder;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation of a compiled FEEL arithmetic expression over integer or decimal inputs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FEELArithmeticBenchmark {
+
+    @Param({"a + b * 2", "(a - b) * c / 4"})
+    private String expression;
+
+    @Param({"true", "false"})
+    private boolean integers;
+
+    private FEEL feel;
+
+    private CompiledExpression compiledExpression;
+
+    private Map<String, Object>[] inputs;
+
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        feel = FEELBuilder.builder().build();
+        CompilerContext compilerContext = feel.newCompilerContext()
+                .addInputVariableType("a", BuiltInType.NUMBER)
+                .addInputVariableType("b", BuiltInType.NUMBER)
+                .addInputVariableType("c", BuiltInType.NUMBER);
+        compiledExpression = feel.compile(expression, compilerContext);
+
+        Random random = new Random(0);
+        inputs = new Map[1024];
+        for (int i = 0; i < inputs.length; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            for (String name : new String[]{"a", "b", "c"}) {
+                int value = random.nextInt(100_000);
+                variables.put(name, integers ? BigDecimal.valueOf(value) : BigDecimal.valueOf(value, 2));
+            }
+            inputs[i] = variables;
+        }
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        return feel.evaluate(compiledExpression, inputs[counter++ & (inputs.length - 1)]);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.marshalling;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.RuleBuild;
+import org.drools.benchmarks.model.Child;
+import org.drools.benchmarks.model.Person;
+import org.drools.core.marshalling.ClassObjectMarshallingStrategyAcceptor;
+import org.drools.core.marshalling.SerializablePlaceholderResolverStrategy;
+import org.drools.serialization.protobuf.ProtobufMarshaller;
+import org.drools.serialization.protobuf.marshalling.MarshallingConfigurationImpl;
+import org.kie.api.KieBase;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.marshalling.ObjectMarshallingStrategy;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the standard protobuf marshalling, that materializes the whole session before writing it, with the
+ * streaming one. Besides the time, the peakHeapMb secondary metric reports the highest heap occupation observed
+ * while marshalling, which is more meaningful when running with -prof gc and a fixed heap size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarshallingBenchmark {
+
+    @Param({"10000", "100000"})
+    private int factsNumber;
+
+    @Param({"false", "true"})
+    private boolean streaming;
+
+    private KieSession kieSession;
+    private ProtobufMarshaller marshaller;
+    private byte[] serialized;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+
+        public long peakHeapMb;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakHeapMb = 0;
+        }
+
+        void record() {
+            long peak = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    peak += pool.getPeakUsage().getUsed();
+                    pool.resetPeakUsage();
+                }
+            }
+            peakHeapMb = Math.max(peakHeapMb, peak / (1024 * 1024));
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        KieBase kieBase = RuleBuild.EXEC_MODEL.buildKieBase(getDrl(), EventProcessingOption.CLOUD);
+        kieSession = kieBase.newKieSession();
+        for (int i = 0; i < factsNumber; i++) {
+            Person person = new Person(i, "name" + i, i % 100, "city" + (i % 10));
+            person.addChild(new Child("child" + i, i % 18));
+            kieSession.insert(person);
+        }
+        kieSession.fireAllRules();
+
+        MarshallingConfigurationImpl config = new MarshallingConfigurationImpl(
+                new ObjectMarshallingStrategy[] { new SerializablePlaceholderResolverStrategy(ClassObjectMarshallingStrategyAcceptor.DEFAULT) },
+                true, true);
+        config.setStreaming(streaming);
+        marshaller = new ProtobufMarshaller(kieBase, config);
+        serialized = marshall();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public byte[] marshallSession(HeapCounters counters) throws IOException {
+        byte[] bytes = marshall();
+        counters.record();
+        return bytes;
+    }
+
+    @Benchmark
+    public long unmarshallSession(HeapCounters counters) throws IOException, ClassNotFoundException {
+        KieSession restored = marshaller.unmarshall(new ByteArrayInputStream(serialized), null, kieSession.getEnvironment());
+        counters.record();
+        long count = restored.getFactCount();
+        restored.dispose();
+        return count;
+    }
+
+    private byte[] marshall() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshall(baos, kieSession);
+        return baos.toByteArray();
+    }
+
+    private static String getDrl() {
+        return "import " + Person.class.getCanonicalName() + ";\n" +
+               "rule R when\n" +
+               "    $p : Person( age > 50 )\n" +
+               "then end\n";
+    }
+}
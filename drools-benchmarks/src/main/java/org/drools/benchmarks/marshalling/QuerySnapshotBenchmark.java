@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.marshalling;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.RuleBuild;
+import org.drools.benchmarks.model.Child;
+import org.drools.benchmarks.model.Person;
+import org.drools.core.marshalling.ClassObjectMarshallingStrategyAcceptor;
+import org.drools.core.marshalling.SerializablePlaceholderResolverStrategy;
+import org.drools.serialization.protobuf.ProtobufMarshaller;
+import org.drools.serialization.protobuf.QuerySnapshot;
+import org.drools.serialization.protobuf.marshalling.MarshallingConfigurationImpl;
+import org.kie.api.KieBase;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.marshalling.ObjectMarshallingStrategy;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of a QuerySnapshot: takeSnapshot is the time for which the live session can't fire nor accept
+ * inserts, to be compared with marshallWholeSession, while takeSnapshotAndQuery also includes the creation of the
+ * replica that runs the first query. Only half of the facts, the Persons, can be returned by the query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuerySnapshotBenchmark {
+
+    @Param({"10000", "100000"})
+    private int factsNumber;
+
+    private KieSession kieSession;
+    private ObjectMarshallingStrategy[] strategies;
+    private ProtobufMarshaller marshaller;
+
+    @Setup
+    public void setup() {
+        KieBase kieBase = RuleBuild.EXEC_MODEL.buildKieBase(getDrl(), EventProcessingOption.CLOUD);
+        kieSession = kieBase.newKieSession();
+        for (int i = 0; i < factsNumber / 2; i++) {
+            kieSession.insert(new Person(i, "name" + i, i % 100, "city" + (i % 10)));
+            kieSession.insert(new Child("child" + i, i % 18));
+        }
+        kieSession.fireAllRules();
+
+        strategies = new ObjectMarshallingStrategy[] { new SerializablePlaceholderResolverStrategy(ClassObjectMarshallingStrategyAcceptor.DEFAULT) };
+        marshaller = new ProtobufMarshaller(kieBase, new MarshallingConfigurationImpl(strategies, true, true));
+    }
+
+    @TearDown
+    public void tearDown() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int takeSnapshot() {
+        QuerySnapshot snapshot = QuerySnapshot.take(kieSession, strategies);
+        snapshot.dispose();
+        return snapshot.getSize();
+    }
+
+    @Benchmark
+    public int takeSnapshotAndQuery() {
+        QuerySnapshot snapshot = QuerySnapshot.take(kieSession, strategies);
+        try {
+            return snapshot.getQueryResults("olderThan", 90).size();
+        } finally {
+            snapshot.dispose();
+        }
+    }
+
+    @Benchmark
+    public int marshallWholeSession() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshall(baos, kieSession);
+        return baos.size();
+    }
+
+    private static String getDrl() {
+        return "import " + Person.class.getCanonicalName() + ";\n" +
+               "import " + Child.class.getCanonicalName() + ";\n" +
+               "query olderThan( int $age )\n" +
+               "    $p : Person( age > $age )\n" +
+               "end\n" +
+               "rule R when\n" +
+               "    $c : Child( age > 10 )\n" +
+               "then end\n";
+    }
+}
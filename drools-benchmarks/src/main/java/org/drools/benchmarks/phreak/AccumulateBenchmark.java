@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.phreak;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.benchmarks.common.AbstractPhreakBenchmark;
+import org.drools.benchmarks.model.Person;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Accumulates grouped by a key, first built from scratch and then incrementally maintained while the facts are updated.
+ */
+public class AccumulateBenchmark extends AbstractPhreakBenchmark {
+
+    @Param({"10", "100"})
+    private int groupsNumber;
+
+    @Param({"10000"})
+    private int factsNumber;
+
+    private List<Person> persons;
+
+    @Override
+    protected String getDrl() {
+        return "import " + Person.class.getCanonicalName() + ";\n" +
+               "rule GroupByCity when\n" +
+               "    $city : String()\n" +
+               "    accumulate( Person( city == $city, $age : age ); $sum : sum( $age ), $max : max( $age ), $count : count() )\n" +
+               "then end\n";
+    }
+
+    @Override
+    protected void setupFacts() {
+        persons = new ArrayList<>(factsNumber);
+        for (int i = 0; i < factsNumber; i++) {
+            persons.add(new Person(i, "name" + i, i % 100, "city" + (i % groupsNumber)));
+        }
+    }
+
+    @Benchmark
+    public int insertFireAndUpdate() {
+        for (int i = 0; i < groupsNumber; i++) {
+            kieSession.insert("city" + i);
+        }
+        List<FactHandle> handles = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            person.setAge(person.getId() % 100);
+            handles.add(kieSession.insert(person));
+        }
+        int fired = kieSession.fireAllRules();
+        for (int i = 0; i < handles.size(); i += 10) {
+            Person person = persons.get(i);
+            person.setAge(person.getAge() + 1);
+            kieSession.update(handles.get(i), person, "age");
+        }
+        return fired + kieSession.fireAllRules();
+    }
+}
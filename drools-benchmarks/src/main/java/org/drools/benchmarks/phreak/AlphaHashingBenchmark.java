@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.phreak;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.benchmarks.common.AbstractPhreakBenchmark;
+import org.drools.benchmarks.model.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Many alpha constraints on the same property, hashed by the CompositeObjectSinkAdapter of the ObjectTypeNode.
+ */
+public class AlphaHashingBenchmark extends AbstractPhreakBenchmark {
+
+    @Param({"4", "32", "128"})
+    private int rulesNumber;
+
+    @Param({"10000"})
+    private int factsNumber;
+
+    private List<Person> persons;
+
+    @Override
+    protected String getDrl() {
+        StringBuilder drl = new StringBuilder();
+        drl.append("import ").append(Person.class.getCanonicalName()).append(";\n");
+        for (int i = 0; i < rulesNumber; i++) {
+            drl.append("rule R").append(i).append(" when\n")
+               .append("    Person( city == \"city").append(i).append("\" )\n")
+               .append("then end\n");
+        }
+        return drl.toString();
+    }
+
+    @Override
+    protected void setupFacts() {
+        persons = new ArrayList<>(factsNumber);
+        for (int i = 0; i < factsNumber; i++) {
+            persons.add(new Person(i, "name" + i, i % 100, "city" + (i % (rulesNumber * 2))));
+        }
+    }
+
+    @Benchmark
+    public int insertAndFire() {
+        for (Person person : persons) {
+            kieSession.insert(person);
+        }
+        return kieSession.fireAllRules();
+    }
+}
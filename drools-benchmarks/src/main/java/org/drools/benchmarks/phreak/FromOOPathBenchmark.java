@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.phreak;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.benchmarks.common.AbstractPhreakBenchmark;
+import org.drools.benchmarks.model.Child;
+import org.drools.benchmarks.model.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Navigation of the children of a fact, expressed either with a from or with an OOPath.
+ */
+public class FromOOPathBenchmark extends AbstractPhreakBenchmark {
+
+    @Param({"FROM", "OOPATH"})
+    private String navigation;
+
+    @Param({"10000"})
+    private int factsNumber;
+
+    private List<Person> persons;
+
+    @Override
+    protected String getDrl() {
+        String lhs = "FROM".equals(navigation) ?
+                "    $p : Person( age > 20 )\n" +
+                "    Child( age > 10 ) from $p.children\n" :
+                "    Person( age > 20, $c : /children[ age > 10 ] )\n";
+        return "import " + Person.class.getCanonicalName() + ";\n" +
+               "import " + Child.class.getCanonicalName() + ";\n" +
+               "rule R when\n" +
+               lhs +
+               "then end\n";
+    }
+
+    @Override
+    protected void setupFacts() {
+        persons = new ArrayList<>(factsNumber);
+        for (int i = 0; i < factsNumber; i++) {
+            Person person = new Person(i, "name" + i, 20 + i % 50, "city" + (i % 10));
+            for (int j = 0; j < 4; j++) {
+                person.addChild(new Child("child" + i + "_" + j, (i + j * 5) % 20));
+            }
+            persons.add(person);
+        }
+    }
+
+    @Benchmark
+    public int insertAndFire() {
+        for (Person person : persons) {
+            kieSession.insert(person);
+        }
+        return kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.phreak;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.benchmarks.common.AbstractPhreakBenchmark;
+import org.drools.benchmarks.model.Order;
+import org.drools.benchmarks.model.Person;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Not and exists nodes whose blockers are repeatedly added and removed.
+ */
+public class NotExistsBenchmark extends AbstractPhreakBenchmark {
+
+    @Param({"1000", "10000"})
+    private int factsNumber;
+
+    private List<Person> persons;
+    private List<Order> orders;
+
+    @Override
+    protected String getDrl() {
+        return "import " + Person.class.getCanonicalName() + ";\n" +
+               "import " + Order.class.getCanonicalName() + ";\n" +
+               "rule NoOrders when\n" +
+               "    Person( $id : id )\n" +
+               "    not Order( customerId == $id )\n" +
+               "then end\n" +
+               "rule BigOrders when\n" +
+               "    Person( $id : id )\n" +
+               "    exists Order( customerId == $id, amount > 500 )\n" +
+               "then end\n";
+    }
+
+    @Override
+    protected void setupFacts() {
+        persons = new ArrayList<>(factsNumber);
+        orders = new ArrayList<>(factsNumber);
+        for (int i = 0; i < factsNumber; i++) {
+            persons.add(new Person(i, "name" + i, i % 100, "city" + (i % 10)));
+            if (i % 3 != 0) {
+                orders.add(new Order(i, (i * 13) % 1000));
+            }
+        }
+    }
+
+    @Benchmark
+    public int insertFireAndUnblock() {
+        for (Person person : persons) {
+            kieSession.insert(person);
+        }
+        List<FactHandle> orderHandles = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            orderHandles.add(kieSession.insert(order));
+        }
+        int fired = kieSession.fireAllRules();
+        for (int i = 0; i < orderHandles.size(); i += 2) {
+            kieSession.delete(orderHandles.get(i));
+        }
+        return fired + kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.phreak;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.benchmarks.common.AbstractPhreakBenchmark;
+import org.drools.benchmarks.model.Order;
+import org.drools.benchmarks.model.Person;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.RightTuplePoolSizeOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * A steady flow of short-lived facts, inserted and deleted in batches, through a join, a not and an exists node.
+ * The RightTuples deleted in a batch are reused by the insertions of the following one when the pool is enabled:
+ * run it with -prof gc and compare the gc.alloc.rate.norm of the 2 pool sizes.
+ */
+public class RightTupleRecyclingBenchmark extends AbstractPhreakBenchmark {
+
+    @Param({"0", "1000"})
+    private int poolSize;
+
+    @Param({"100"})
+    private int batchSize;
+
+    @Param({"100"})
+    private int batchesNumber;
+
+    private List<Person> persons;
+    private List<Order> orders;
+
+    @Override
+    protected String getDrl() {
+        return "import " + Person.class.getCanonicalName() + ";\n" +
+               "import " + Order.class.getCanonicalName() + ";\n" +
+               "rule Join when\n" +
+               "    $p : Person()\n" +
+               "    Order( customerId == $p.id, amount > 500 )\n" +
+               "then end\n" +
+               "rule NoOrders when\n" +
+               "    Person( $id : id )\n" +
+               "    not Order( customerId == $id )\n" +
+               "then end\n" +
+               "rule AnyOrder when\n" +
+               "    Person( $id : id )\n" +
+               "    exists Order( customerId == $id )\n" +
+               "then end\n";
+    }
+
+    @Override
+    protected KieBaseOption[] getKieBaseOptions() {
+        return new KieBaseOption[] { getEventProcessingOption(), RightTuplePoolSizeOption.get(poolSize) };
+    }
+
+    @Override
+    protected void setupFacts() {
+        persons = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            persons.add(new Person(i, "name" + i, i, "city" + i));
+        }
+        orders = new ArrayList<>(batchSize * batchesNumber);
+        for (int i = 0; i < batchSize * batchesNumber; i++) {
+            orders.add(new Order(i % 10, (i * 13) % 1000));
+        }
+    }
+
+    @Benchmark
+    public int insertAndDeleteBatches() {
+        for (Person person : persons) {
+            kieSession.insert(person);
+        }
+        int fired = kieSession.fireAllRules();
+        List<FactHandle> orderHandles = new ArrayList<>(batchSize);
+        for (int batch = 0; batch < batchesNumber; batch++) {
+            for (int i = batch * batchSize, end = i + batchSize; i < end; i++) {
+                orderHandles.add(kieSession.insert(orders.get(i)));
+            }
+            fired += kieSession.fireAllRules();
+            for (FactHandle orderHandle : orderHandles) {
+                kieSession.delete(orderHandle);
+            }
+            orderHandles.clear();
+            fired += kieSession.fireAllRules();
+        }
+        return fired;
+    }
+}
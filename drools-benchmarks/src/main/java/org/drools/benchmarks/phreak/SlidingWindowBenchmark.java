@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.phreak;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.AbstractPhreakBenchmark;
+import org.drools.benchmarks.model.StockTick;
+import org.kie.api.KieServices;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.time.SessionPseudoClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * A stream of events flowing through time and length based sliding windows, driven by a pseudo clock.
+ */
+public class SlidingWindowBenchmark extends AbstractPhreakBenchmark {
+
+    @Param({"time", "length"})
+    private String windowType;
+
+    @Param({"10000"})
+    private int eventsNumber;
+
+    private List<StockTick> ticks;
+
+    @Override
+    protected EventProcessingOption getEventProcessingOption() {
+        return EventProcessingOption.STREAM;
+    }
+
+    @Override
+    protected KieSession newKieSession() {
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(ClockTypeOption.PSEUDO);
+        return kieBase.newKieSession(conf, null);
+    }
+
+    @Override
+    protected String getDrl() {
+        String window = "time".equals(windowType) ? "window:time( 10s )" : "window:length( 100 )";
+        return "import " + StockTick.class.getCanonicalName() + ";\n" +
+               "declare StockTick @role( event ) end\n" +
+               "rule AveragePrice when\n" +
+               "    accumulate( StockTick( symbol == \"RHT\", $price : price ) over " + window + "; $avg : average( $price ) )\n" +
+               "then end\n";
+    }
+
+    @Override
+    protected void setupFacts() {
+        ticks = new ArrayList<>(eventsNumber);
+        for (int i = 0; i < eventsNumber; i++) {
+            ticks.add(new StockTick(i % 4 == 0 ? "IBM" : "RHT", 100 + (i % 37)));
+        }
+    }
+
+    @Benchmark
+    public int slide() {
+        SessionPseudoClock clock = kieSession.getSessionClock();
+        int fired = 0;
+        for (int i = 0; i < ticks.size(); i++) {
+            kieSession.insert(ticks.get(i));
+            clock.advanceTime(100, TimeUnit.MILLISECONDS);
+            if (i % 10 == 0) {
+                fired += kieSession.fireAllRules();
+            }
+        }
+        return fired + kieSession.fireAllRules();
+    }
+}
@@ -37,6 +37,7 @@ import org.kie.internal.builder.KnowledgeBuilderConfiguration;
 import org.kie.internal.builder.ResultSeverity;
 import org.kie.internal.builder.conf.DefaultDialectOption;
 import org.kie.internal.builder.conf.DefaultPackageNameOption;
+import org.kie.internal.builder.conf.CompiledClassesCacheDirOption;
 import org.kie.internal.builder.conf.DumpDirOption;
 import org.kie.internal.builder.conf.KBuilderSeverityOption;
 import org.kie.internal.builder.conf.KnowledgeBuilderOption;
@@ -59,6 +60,7 @@ import org.slf4j.LoggerFactory;
  * drools.accumulate.function.<function name> = <qualified class>
  * drools.evaluator.<ident> = <qualified class>
  * drools.dump.dir = <String>
+ * drools.compiledClassesCache.dir = <String>
  * drools.classLoaderCacheEnabled = true|false
  * drools.parallelRulesBuildThreshold = <int>
  *
@@ -88,6 +90,7 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
 
     private DefaultDialectOption              defaultDialect = DefaultDialectOption.get("java");
     private File                              dumpDirectory;
+    private File                              compiledClassesCacheDirectory;
 
     private String                            defaultPackageName;
 
@@ -109,6 +112,8 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
 
         buildDumpDirectory();
 
+        buildCompiledClassesCacheDirectory();
+
         buildSeverityMap();
 
         setProperty(DefaultPackageNameOption.PROPERTY_NAME,
@@ -142,6 +147,9 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
             } case DumpDirOption.PROPERTY_NAME: {
                 buildDumpDirectory(value);
                 break;
+            } case CompiledClassesCacheDirOption.PROPERTY_NAME: {
+                buildCompiledClassesCacheDirectory(value);
+                break;
             } case DefaultPackageNameOption.PROPERTY_NAME: {
                 setDefaultPackageName(value);
                 break;
@@ -166,6 +174,8 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
                 return getDefaultPackageName();
             } case DumpDirOption.PROPERTY_NAME: {
                 return this.dumpDirectory != null ? this.dumpDirectory.toString() : null;
+            } case CompiledClassesCacheDirOption.PROPERTY_NAME: {
+                return this.compiledClassesCacheDirectory != null ? this.compiledClassesCacheDirectory.toString() : null;
             } default: {
                 if (name.startsWith(KBuilderSeverityOption.PROPERTY_NAME)) {
                     String key = name.substring(name.lastIndexOf('.') + 1);
@@ -248,6 +258,32 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
         this.dumpDirectory = dumpDir;
     }
 
+    private void buildCompiledClassesCacheDirectory() {
+        String cacheStr = getProperties().getProperty(CompiledClassesCacheDirOption.PROPERTY_NAME,
+                                                      null);
+        buildCompiledClassesCacheDirectory(cacheStr);
+    }
+
+    private void buildCompiledClassesCacheDirectory(String cacheStr) {
+        if (cacheStr != null) {
+            setCompiledClassesCacheDir(new File(cacheStr));
+        }
+    }
+
+    public File getCompiledClassesCacheDir() {
+        return this.compiledClassesCacheDirectory;
+    }
+
+    public void setCompiledClassesCacheDir(File cacheDir) {
+        if (cacheDir != null) {
+            cacheDir.mkdirs();
+            if (!cacheDir.isDirectory() || !cacheDir.canWrite() || !cacheDir.canRead()) {
+                throw new RuntimeException("Drools compiled classes cache directory is not accessible: " + cacheDir.toString());
+            }
+        }
+        this.compiledClassesCacheDirectory = cacheDir;
+    }
+
     public String getDefaultPackageName() {
         return defaultPackageName;
     }
@@ -265,6 +301,9 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
             case DumpDirOption.PROPERTY_NAME: {
                 return (T) DumpDirOption.get(this.dumpDirectory);
             }
+            case CompiledClassesCacheDirOption.PROPERTY_NAME: {
+                return (T) CompiledClassesCacheDirOption.get(this.compiledClassesCacheDirectory);
+            }
             case DefaultPackageNameOption.PROPERTY_NAME: {
                 return (T) DefaultPackageNameOption.get(this.defaultPackageName);
             }
@@ -306,6 +345,10 @@ public class KnowledgeBuilderConfigurationImpl extends BaseConfiguration<Knowled
                 this.dumpDirectory = ((DumpDirOption) option).getDirectory();
                 break;
             }
+            case CompiledClassesCacheDirOption.PROPERTY_NAME: {
+                setCompiledClassesCacheDir(((CompiledClassesCacheDirOption) option).getDirectory());
+                break;
+            }
             case DefaultPackageNameOption.PROPERTY_NAME: {
                 setDefaultPackageName(((DefaultPackageNameOption) option).getPackageName());
                 break;
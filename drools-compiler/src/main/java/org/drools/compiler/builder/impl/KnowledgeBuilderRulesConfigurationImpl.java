@@ -43,6 +43,7 @@ import org.kie.internal.builder.conf.KnowledgeBuilderOption;
 import org.kie.internal.builder.conf.LanguageLevelOption;
 import org.kie.internal.builder.conf.MultiValueKieBuilderOption;
 import org.kie.internal.builder.conf.ParallelLambdaExternalizationOption;
+import org.kie.internal.builder.conf.ParallelPackagesBuildOption;
 import org.kie.internal.builder.conf.ParallelRulesBuildThresholdOption;
 import org.kie.internal.builder.conf.ProcessStringEscapesOption;
 import org.kie.internal.builder.conf.PropertySpecificOption;
@@ -68,6 +69,7 @@ import org.slf4j.LoggerFactory;
  * drools.dump.dir = <String>
  * drools.classLoaderCacheEnabled = true|false
  * drools.parallelRulesBuildThreshold = <int>
+ * drools.parallelPackagesBuild = true|false
  *
  * default dialect is java.
  * Available preconfigured Accumulate functions are:
@@ -104,6 +106,7 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
 
     private boolean                           externaliseCanonicalModelLambda       = true;
     private boolean                           parallelLambdaExternalization         = true;
+    private boolean                           parallelPackagesBuild                 = false;
 
     private AlphaNetworkCompilerOption        alphaNetworkCompilerOption            = AlphaNetworkCompilerOption.DISABLED;
 
@@ -165,6 +168,9 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
         setProperty(ParallelLambdaExternalizationOption.PROPERTY_NAME,
                     getPropertyValue(ParallelLambdaExternalizationOption.PROPERTY_NAME,"true"));
 
+        setProperty(ParallelPackagesBuildOption.PROPERTY_NAME,
+                    getPropertyValue(ParallelPackagesBuildOption.PROPERTY_NAME,"false"));
+
         setProperty(ReproducibleExecutableModelGenerationOption.PROPERTY_NAME,
                     getPropertyValue(ReproducibleExecutableModelGenerationOption.PROPERTY_NAME,"false"));
     }
@@ -211,6 +217,9 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
             } case ParallelLambdaExternalizationOption.PROPERTY_NAME: {
                 setParallelLambdaExternalization(Boolean.parseBoolean(value));
                 break;
+            } case ParallelPackagesBuildOption.PROPERTY_NAME: {
+                setParallelPackagesBuild(Boolean.parseBoolean(value));
+                break;
             } case ReproducibleExecutableModelGenerationOption.PROPERTY_NAME: {
                 setReproducibleExecutableModelGeneration(Boolean.parseBoolean(value));
                 break;
@@ -252,6 +261,8 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
                 return String.valueOf(isExternaliseCanonicalModelLambda());
             } case ParallelLambdaExternalizationOption.PROPERTY_NAME: {
                 return String.valueOf(isParallelLambdaExternalization());
+            } case ParallelPackagesBuildOption.PROPERTY_NAME: {
+                return String.valueOf(isParallelPackagesBuild());
             } case ReproducibleExecutableModelGenerationOption.PROPERTY_NAME: {
                 return String.valueOf(isReproducibleExecutableModelGeneration());
             } default: {
@@ -422,6 +433,14 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
         this.parallelLambdaExternalization = parallelLambdaExternalization;
     }
 
+    public boolean isParallelPackagesBuild() {
+        return parallelPackagesBuild;
+    }
+
+    public void setParallelPackagesBuild(boolean parallelPackagesBuild) {
+        this.parallelPackagesBuild = parallelPackagesBuild;
+    }
+
     public boolean isReproducibleExecutableModelGeneration() {
         return reproducibleExecutableModelGeneration;
     }
@@ -462,6 +481,9 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
             case ParallelLambdaExternalizationOption.PROPERTY_NAME: {
                 return (T) (parallelLambdaExternalization ? ParallelLambdaExternalizationOption.ENABLED : ParallelLambdaExternalizationOption.DISABLED);
             }
+            case ParallelPackagesBuildOption.PROPERTY_NAME: {
+                return (T) (parallelPackagesBuild ? ParallelPackagesBuildOption.ENABLED : ParallelPackagesBuildOption.DISABLED);
+            }
             case ReproducibleExecutableModelGenerationOption.PROPERTY_NAME: {
                 return (T) (reproducibleExecutableModelGeneration ? ReproducibleExecutableModelGenerationOption.ENABLED : ReproducibleExecutableModelGenerationOption.DISABLED);
             }
@@ -545,6 +567,10 @@ public class KnowledgeBuilderRulesConfigurationImpl extends BaseConfiguration<Kn
                 this.parallelLambdaExternalization = ((ParallelLambdaExternalizationOption) option).isLambdaExternalizationParallel();
                 break;
             }
+            case ParallelPackagesBuildOption.PROPERTY_NAME: {
+                this.parallelPackagesBuild = ((ParallelPackagesBuildOption) option).isPackagesBuildParallel();
+                break;
+            }
             case ReproducibleExecutableModelGenerationOption.PROPERTY_NAME: {
                 this.reproducibleExecutableModelGeneration = ((ReproducibleExecutableModelGenerationOption) option).isReproducibleExecutableModelGeneration();
                 break;
@@ -18,12 +18,15 @@
  */
 package org.drools.compiler.builder.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 
+import org.drools.compiler.builder.impl.resources.DrlResourceHandler;
 import org.drools.compiler.builder.impl.resources.ResourceHandler;
 import org.drools.compiler.lang.descr.CompositePackageDescr;
 import org.drools.drl.ast.descr.PackageDescr;
@@ -32,13 +35,18 @@ import org.kie.api.builder.ReleaseId;
 import org.kie.api.io.Resource;
 import org.kie.api.io.ResourceType;
 import org.kie.internal.builder.KnowledgeBuilderResult;
+import org.kie.internal.builder.conf.ParallelPackagesBuildOption;
+
+import static java.util.stream.Collectors.toList;
 
 public class PackageDescrBuilder {
+    private final KnowledgeBuilderConfigurationImpl configuration;
     private final BuildResultCollector buildResultCollector;
     private ResourceHandlerManager handlerManager;
     private RuntimeException buildException;
 
     public PackageDescrBuilder(KnowledgeBuilderConfigurationImpl configuration, ReleaseId releaseId, Supplier<DefaultExpander> dslExpander) {
+        this.configuration = configuration;
         this.buildResultCollector = new BuildResultCollectorImpl();
         this.handlerManager = new ResourceHandlerManager(configuration,releaseId,dslExpander);
     }
@@ -67,7 +75,10 @@ public class PackageDescrBuilder {
             ResourceType resourceType, ResourceHandler mapper,
             Map<ResourceType, List<CompositeKnowledgeBuilderImpl.ResourceDescr>> resourcesByType) {
         List<CompositeKnowledgeBuilderImpl.ResourceDescr> resourceDescrs = resourcesByType.remove(resourceType);
-        if (resourceDescrs != null) {
+        if (resourceDescrs != null && resourceDescrs.size() > 1 && mapper instanceof DrlResourceHandler &&
+                configuration.getOption(ParallelPackagesBuildOption.KEY).isPackagesBuildParallel()) {
+            buildDrlResourcesInParallel(packages, resourceDescrs);
+        } else if (resourceDescrs != null) {
             for (CompositeKnowledgeBuilderImpl.ResourceDescr resourceDescr : resourceDescrs) {
                 try {
                     PackageDescr packageDescr = mapper.process(resourceDescr.resource, resourceDescr.configuration);
@@ -87,6 +98,55 @@ public class PackageDescrBuilder {
     }
 
 
+    private void buildDrlResourcesInParallel(Map<String, CompositePackageDescr> packages, List<CompositeKnowledgeBuilderImpl.ResourceDescr> resourceDescrs) {
+        List<ParsedResource> parsedResources;
+        try {
+            parsedResources = KnowledgeBuilderImpl.ForkJoinPoolHolder.COMPILER_POOL.submit(() ->
+                    resourceDescrs.parallelStream().map(this::parseDrlResource).collect(toList())
+            ).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Resources parsing failed or interrupted", e);
+        }
+
+        // the parsed resources are registered in their original order, so the outcome doesn't depend on the parallelism
+        for (ParsedResource parsedResource : parsedResources) {
+            parsedResource.results.forEach(buildResultCollector::addBuilderResult);
+            if (parsedResource.exception != null) {
+                if (buildException == null) {
+                    buildException = parsedResource.exception;
+                }
+            } else {
+                registerPackageDescr(parsedResource.resourceDescr, packages, parsedResource.resourceDescr.resource, parsedResource.packageDescr);
+            }
+        }
+    }
+
+    private ParsedResource parseDrlResource(CompositeKnowledgeBuilderImpl.ResourceDescr resourceDescr) {
+        // the handlers collect their results, so each parsing task needs its own one
+        DrlResourceHandler handler = new DrlResourceHandler(configuration);
+        ParsedResource parsedResource = new ParsedResource(resourceDescr);
+        try {
+            parsedResource.packageDescr = handler.process(resourceDescr.resource, resourceDescr.configuration);
+        } catch (RuntimeException e) {
+            parsedResource.exception = e;
+        } catch (Exception e) {
+            parsedResource.exception = new RuntimeException( e );
+        }
+        parsedResource.results.addAll(handler.getResults());
+        return parsedResource;
+    }
+
+    private static class ParsedResource {
+        private final CompositeKnowledgeBuilderImpl.ResourceDescr resourceDescr;
+        private final List<KnowledgeBuilderResult> results = new ArrayList<>();
+        private PackageDescr packageDescr;
+        private RuntimeException exception;
+
+        private ParsedResource(CompositeKnowledgeBuilderImpl.ResourceDescr resourceDescr) {
+            this.resourceDescr = resourceDescr;
+        }
+    }
+
     private void registerPackageDescr(
             CompositeKnowledgeBuilderImpl.ResourceDescr resourceDescr, Map<String, CompositePackageDescr> packages, Resource resource, PackageDescr packageDescr) {
         if (packageDescr == null) { return; }
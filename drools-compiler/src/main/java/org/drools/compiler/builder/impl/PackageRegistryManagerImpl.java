@@ -41,6 +41,7 @@ import org.kie.internal.builder.KnowledgeBuilderConfiguration;
 import org.kie.internal.builder.KnowledgeBuilderResult;
 import org.kie.internal.builder.conf.DefaultDialectOption;
 import org.kie.internal.builder.conf.DefaultPackageNameOption;
+import org.kie.internal.builder.conf.ParallelPackagesBuildOption;
 
 import static org.drools.util.StringUtils.isEmpty;
 
@@ -195,6 +196,17 @@ public class PackageRegistryManagerImpl implements PackageRegistryManager, Packa
 
     @Override
     public void compileAll() {
+        if (this.pkgRegistryMap.size() > 1 && this.configuration.getOption(ParallelPackagesBuildOption.KEY).isPackagesBuildParallel()) {
+            // each package has its own dialects, compiler and class store, so they can be compiled independently
+            try {
+                KnowledgeBuilderImpl.ForkJoinPoolHolder.COMPILER_POOL.submit(() ->
+                        this.pkgRegistryMap.values().parallelStream().forEach(PackageRegistry::compileAll)
+                ).get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException("Packages compilation failed or interrupted", e);
+            }
+            return;
+        }
         for (PackageRegistry pkgRegistry : this.pkgRegistryMap.values()) {
             pkgRegistry.compileAll();
         }
@@ -304,7 +304,10 @@ public class KieContainerImpl
         }
 
         for (String kbaseToRemove : kbasesToRemove) {
-            kBases.remove(kbaseToRemove);
+            KieBase removed = kBases.remove(kbaseToRemove);
+            if (removed != null) {
+                ((InternalKnowledgeBase) removed).dispose();
+            }
         }
 
         // remove sessions that no longer exist
@@ -758,6 +761,8 @@ public class KieContainerImpl
             DroolsManagementAgent.getInstance().unregisterMBeansFromOwner(this);
         }
 
+        kBases.values().forEach( kb -> ( (InternalKnowledgeBase) kb ).dispose() );
+
         ((InternalKieServices) KieServices.Factory.get()).clearRefToContainerId(this.containerId, this);
     }
 
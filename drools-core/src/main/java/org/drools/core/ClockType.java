@@ -21,6 +21,7 @@ package org.drools.core;
 import org.drools.core.time.TimerService;
 import org.drools.core.time.impl.JDKTimerService;
 import org.drools.core.time.impl.PseudoClockScheduler;
+import org.drools.core.time.impl.TimingWheelTimerService;
 
 /**
  * This enum represents all engine supported clocks
@@ -41,6 +42,17 @@ public enum ClockType {
         public PseudoClockScheduler createInstance() {
             return new PseudoClockScheduler();
         }
+    },
+
+    /**
+     * A realtime clock whose jobs are scheduled on a hierarchical timing wheel.
+     * It is suited for sessions with a very large number of pending jobs, like
+     * the expirations of the events in a stream
+     */
+    TIMING_WHEEL_CLOCK("timingwheel") {
+        public TimingWheelTimerService createInstance() {
+            return new TimingWheelTimerService();
+        }
     };
 
     public abstract TimerService createInstance();
@@ -67,6 +79,8 @@ public enum ClockType {
             return PSEUDO_CLOCK;
         } else if( REALTIME_CLOCK.getId().equalsIgnoreCase( id ) ) {
             return REALTIME_CLOCK;
+        } else if( TIMING_WHEEL_CLOCK.getId().equalsIgnoreCase( id ) ) {
+            return TIMING_WHEEL_CLOCK;
         }
         throw new IllegalArgumentException( "Illegal enum value '" + id + "' for ClockType" );
     }
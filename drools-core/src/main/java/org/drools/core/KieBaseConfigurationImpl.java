@@ -62,7 +62,11 @@ import org.slf4j.LoggerFactory;
  * drools.shareBetaNodes = &lt;true|false&gt;
  * drools.alphaNodeHashingThreshold = &lt;1...n&gt;
  * drools.alphaNodeRangeIndexThreshold = &lt;1...n&gt;
+ * drools.alphaNodeAdaptiveIndexing = &lt;0...n&gt;
+ * drools.rightTuplePoolSize = &lt;0...n&gt;
+ * drools.segmentMemoryReclaimTimeout = &lt;0...n&gt;
  * drools.betaNodeRangeIndexEnabled = &lt;true|false&gt;
+ * drools.betaNodeCompositeRangeIndexEnabled = &lt;true|false&gt;
  * drools.sessionPool = &lt;1...n&gt;
  * drools.compositeKeyDepth = &lt;1..3&gt;
  * drools.indexLeftBetaMemory = &lt;true/false&gt;
@@ -43,8 +43,10 @@ import org.kie.api.conf.SequentialOption;
 import org.kie.api.conf.SessionsPoolOption;
 import org.kie.api.conf.SingleValueKieBaseOption;
 import org.kie.api.runtime.rule.ConsequenceExceptionHandler;
+import org.kie.internal.conf.AlphaAdaptiveIndexingOption;
 import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
 import org.kie.internal.conf.AlphaThresholdOption;
+import org.kie.internal.conf.BetaCompositeRangeIndexOption;
 import org.kie.internal.conf.CompositeConfiguration;
 import org.kie.internal.conf.CompositeKeyDepthOption;
 import org.kie.internal.conf.ConsequenceExceptionHandlerOption;
@@ -53,7 +55,10 @@ import org.kie.internal.conf.IndexLeftBetaMemoryOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import org.kie.internal.conf.IndexRightBetaMemoryOption;
 import org.kie.internal.conf.MaxThreadsOption;
+import org.kie.internal.conf.ParallelEvaluationPoolSizeOption;
 import org.kie.internal.conf.ParallelExecutionOption;
+import org.kie.internal.conf.RightTuplePoolSizeOption;
+import org.kie.internal.conf.SegmentMemoryReclaimTimeoutOption;
 import org.kie.internal.conf.SequentialAgendaOption;
 import org.kie.internal.conf.ShareAlphaNodesOption;
 import org.kie.internal.conf.ShareBetaNodesOption;
@@ -86,7 +91,11 @@ import org.slf4j.LoggerFactory;
  * drools.shareBetaNodes = &lt;true|false&gt;
  * drools.alphaNodeHashingThreshold = &lt;1...n&gt;
  * drools.alphaNodeRangeIndexThreshold = &lt;1...n&gt;
+ * drools.alphaNodeAdaptiveIndexing = &lt;0...n&gt;
+ * drools.rightTuplePoolSize = &lt;0...n&gt;
+ * drools.segmentMemoryReclaimTimeout = &lt;0...n&gt;
  * drools.betaNodeRangeIndexEnabled = &lt;true|false&gt;
+ * drools.betaNodeCompositeRangeIndexEnabled = &lt;true|false&gt;
  * drools.sessionPool = &lt;1...n&gt;
  * drools.compositeKeyDepth = &lt;1..3&gt;
  * drools.indexLeftBetaMemory = &lt;true/false&gt;
@@ -130,7 +139,11 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
     private int             jittingThreshold;
     private int             alphaNodeHashingThreshold;
     private int             alphaNodeRangeIndexThreshold;
+    private int             alphaNodeAdaptiveIndexing;
+    private int             rightTuplePoolSize;
+    private long            segmentMemoryReclaimTimeout;
     private boolean         betaNodeRangeIndexEnabled;
+    private boolean         betaNodeCompositeRangeIndexEnabled;
     private int             compositeKeyDepth;
     private boolean         indexLeftBetaMemory;
     private boolean         indexRightBetaMemory;
@@ -151,6 +164,7 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
     // in parallel by using multiple internal threads
     private ParallelExecutionOption parallelExecution;
     private int     maxThreads;
+    private int     parallelEvaluationPoolSize;
 
     private ConflictResolver conflictResolver;
 
@@ -183,8 +197,16 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
 
         setAlphaNodeRangeIndexThreshold(Integer.parseInt(getPropertyValue(AlphaRangeIndexThresholdOption.PROPERTY_NAME, "" + AlphaRangeIndexThresholdOption.DEFAULT_VALUE)));
 
+        setAlphaNodeAdaptiveIndexing(Integer.parseInt(getPropertyValue(AlphaAdaptiveIndexingOption.PROPERTY_NAME, "" + AlphaAdaptiveIndexingOption.DEFAULT_VALUE)));
+
+        setRightTuplePoolSize(Integer.parseInt(getPropertyValue(RightTuplePoolSizeOption.PROPERTY_NAME, "" + RightTuplePoolSizeOption.DEFAULT_VALUE)));
+
+        setSegmentMemoryReclaimTimeout(Long.parseLong(getPropertyValue(SegmentMemoryReclaimTimeoutOption.PROPERTY_NAME, "" + SegmentMemoryReclaimTimeoutOption.DEFAULT_VALUE)));
+
         setBetaNodeRangeIndexEnabled(Boolean.parseBoolean(getPropertyValue(BetaRangeIndexOption.PROPERTY_NAME, "false")));
 
+        setBetaNodeCompositeRangeIndexEnabled(Boolean.parseBoolean(getPropertyValue(BetaCompositeRangeIndexOption.PROPERTY_NAME, "false")));
+
         setSessionPoolSize(Integer.parseInt(getPropertyValue( SessionsPoolOption.PROPERTY_NAME, "-1")));
 
         setCompositeKeyDepth(Integer.parseInt(getPropertyValue(CompositeKeyDepthOption.PROPERTY_NAME, "3")));
@@ -209,6 +231,8 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
 
         setMaxThreads( Integer.parseInt( getPropertyValue( MaxThreadsOption.PROPERTY_NAME, "3" ) ) );
 
+        setParallelEvaluationPoolSize( Integer.parseInt( getPropertyValue( ParallelEvaluationPoolSizeOption.PROPERTY_NAME, "0" ) ) );
+
         setEventProcessingMode( EventProcessingOption.determineEventProcessingMode( getPropertyValue( EventProcessingOption.PROPERTY_NAME, "cloud" ) ) );
 
         setPrototypesOption( PrototypesOption.determinePrototypesOption( getPropertyValue( PrototypesOption.PROPERTY_NAME, "disabled" ) ) );
@@ -228,7 +252,11 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         out.writeInt(jittingThreshold);
         out.writeInt(alphaNodeHashingThreshold);
         out.writeInt(alphaNodeRangeIndexThreshold);
+        out.writeInt(alphaNodeAdaptiveIndexing);
+        out.writeInt(rightTuplePoolSize);
+        out.writeLong(segmentMemoryReclaimTimeout);
         out.writeBoolean(betaNodeRangeIndexEnabled);
+        out.writeBoolean(betaNodeCompositeRangeIndexEnabled);
         out.writeInt(compositeKeyDepth);
         out.writeBoolean(indexLeftBetaMemory);
         out.writeBoolean(indexRightBetaMemory);
@@ -242,6 +270,7 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         out.writeObject(eventProcessingMode);
         out.writeBoolean(declarativeAgenda);
         out.writeInt(sessionPoolSize);
+        out.writeInt(parallelEvaluationPoolSize);
     }
 
     public void readExternal(ObjectInput in) throws IOException,
@@ -257,7 +286,11 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         jittingThreshold = in.readInt();
         alphaNodeHashingThreshold = in.readInt();
         alphaNodeRangeIndexThreshold = in.readInt();
+        alphaNodeAdaptiveIndexing = in.readInt();
+        rightTuplePoolSize = in.readInt();
+        segmentMemoryReclaimTimeout = in.readLong();
         betaNodeRangeIndexEnabled = in.readBoolean();
+        betaNodeCompositeRangeIndexEnabled = in.readBoolean();
         compositeKeyDepth = in.readInt();
         indexLeftBetaMemory = in.readBoolean();
         indexRightBetaMemory = in.readBoolean();
@@ -271,6 +304,7 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         eventProcessingMode = (EventProcessingOption) in.readObject();
         declarativeAgenda = in.readBoolean();
         sessionPoolSize = in.readInt();
+        parallelEvaluationPoolSize = in.readInt();
     }
 
     @SuppressWarnings("unchecked")
@@ -312,9 +346,21 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
             case AlphaRangeIndexThresholdOption.PROPERTY_NAME: {
                 return (T) AlphaRangeIndexThresholdOption.get(alphaNodeRangeIndexThreshold);
             }
+            case AlphaAdaptiveIndexingOption.PROPERTY_NAME: {
+                return (T) AlphaAdaptiveIndexingOption.get(alphaNodeAdaptiveIndexing);
+            }
+            case RightTuplePoolSizeOption.PROPERTY_NAME: {
+                return (T) RightTuplePoolSizeOption.get(rightTuplePoolSize);
+            }
+            case SegmentMemoryReclaimTimeoutOption.PROPERTY_NAME: {
+                return (T) SegmentMemoryReclaimTimeoutOption.get(segmentMemoryReclaimTimeout);
+            }
             case BetaRangeIndexOption.PROPERTY_NAME: {
                 return (T) (this.betaNodeRangeIndexEnabled ? BetaRangeIndexOption.ENABLED : BetaRangeIndexOption.DISABLED);
             }
+            case BetaCompositeRangeIndexOption.PROPERTY_NAME: {
+                return (T) (this.betaNodeCompositeRangeIndexEnabled ? BetaCompositeRangeIndexOption.ENABLED : BetaCompositeRangeIndexOption.DISABLED);
+            }
             case SessionsPoolOption.PROPERTY_NAME: {
                 return (T) SessionsPoolOption.get(sessionPoolSize);
             }
@@ -340,6 +386,9 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
             case MaxThreadsOption.PROPERTY_NAME: {
                 return (T) MaxThreadsOption.get(getMaxThreads());
             }
+            case ParallelEvaluationPoolSizeOption.PROPERTY_NAME: {
+                return (T) ParallelEvaluationPoolSizeOption.get(getParallelEvaluationPoolSize());
+            }
             case ParallelExecutionOption.PROPERTY_NAME: {
                 return (T) parallelExecution;
             }
@@ -401,10 +450,26 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setAlphaNodeRangeIndexThreshold( ( (AlphaRangeIndexThresholdOption) option ).getThreshold());
                 break;
             }
+            case AlphaAdaptiveIndexingOption.PROPERTY_NAME: {
+                setAlphaNodeAdaptiveIndexing( ( (AlphaAdaptiveIndexingOption) option ).getSampleSize());
+                break;
+            }
+            case RightTuplePoolSizeOption.PROPERTY_NAME: {
+                setRightTuplePoolSize( ( (RightTuplePoolSizeOption) option ).getPoolSize());
+                break;
+            }
+            case SegmentMemoryReclaimTimeoutOption.PROPERTY_NAME: {
+                setSegmentMemoryReclaimTimeout( ( (SegmentMemoryReclaimTimeoutOption) option ).getTimeout());
+                break;
+            }
             case BetaRangeIndexOption.PROPERTY_NAME: {
                 setBetaNodeRangeIndexEnabled( ( (BetaRangeIndexOption) option ).isBetaRangeIndexEnabled());
                 break;
             }
+            case BetaCompositeRangeIndexOption.PROPERTY_NAME: {
+                setBetaNodeCompositeRangeIndexEnabled( ( (BetaCompositeRangeIndexOption) option ).isBetaCompositeRangeIndexEnabled());
+                break;
+            }
             case SessionsPoolOption.PROPERTY_NAME: {
                 setSessionPoolSize( ( ( SessionsPoolOption ) option ).getSize());
                 break;
@@ -429,6 +494,10 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setMaxThreads( ( (MaxThreadsOption) option ).getMaxThreads());
                 break;
             }
+            case ParallelEvaluationPoolSizeOption.PROPERTY_NAME: {
+                setParallelEvaluationPoolSize( ( (ParallelEvaluationPoolSizeOption) option ).getPoolSize());
+                break;
+            }
             case ParallelExecutionOption.PROPERTY_NAME: {
                 setParallelExecution( (ParallelExecutionOption) option );
                 break;
@@ -476,10 +545,26 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setAlphaNodeRangeIndexThreshold(StringUtils.isEmpty(value) ? AlphaRangeIndexThresholdOption.DEFAULT_VALUE : Integer.parseInt(value));
                 break;
             }
+            case AlphaAdaptiveIndexingOption.PROPERTY_NAME: {
+                setAlphaNodeAdaptiveIndexing(StringUtils.isEmpty(value) ? AlphaAdaptiveIndexingOption.DEFAULT_VALUE : Integer.parseInt(value));
+                break;
+            }
+            case RightTuplePoolSizeOption.PROPERTY_NAME: {
+                setRightTuplePoolSize(StringUtils.isEmpty(value) ? RightTuplePoolSizeOption.DEFAULT_VALUE : Integer.parseInt(value));
+                break;
+            }
+            case SegmentMemoryReclaimTimeoutOption.PROPERTY_NAME: {
+                setSegmentMemoryReclaimTimeout(StringUtils.isEmpty(value) ? SegmentMemoryReclaimTimeoutOption.DEFAULT_VALUE : Long.parseLong(value));
+                break;
+            }
             case BetaRangeIndexOption.PROPERTY_NAME: {
                 setBetaNodeRangeIndexEnabled(StringUtils.isEmpty(value) ? false : Boolean.valueOf(value));
                 break;
             }
+            case BetaCompositeRangeIndexOption.PROPERTY_NAME: {
+                setBetaNodeCompositeRangeIndexEnabled(StringUtils.isEmpty(value) ? false : Boolean.valueOf(value));
+                break;
+            }
             case SessionsPoolOption.PROPERTY_NAME: {
                 setSessionPoolSize(StringUtils.isEmpty(value) ? -1 : Integer.parseInt(value));
                 break;
@@ -520,6 +605,10 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
                 setMaxThreads(StringUtils.isEmpty(value) ? 3 : Integer.parseInt(value));
                 break;
             }
+            case ParallelEvaluationPoolSizeOption.PROPERTY_NAME: {
+                setParallelEvaluationPoolSize(StringUtils.isEmpty(value) ? 0 : Integer.parseInt(value));
+                break;
+            }
             case EventProcessingOption.PROPERTY_NAME: {
                 setEventProcessingMode(EventProcessingOption.determineEventProcessingMode(StringUtils.isEmpty(value) ? "cloud" : value));
                 break;
@@ -562,9 +651,21 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
             case AlphaRangeIndexThresholdOption.PROPERTY_NAME: {
                 return Integer.toString(getAlphaNodeRangeIndexThreshold());
             }
+            case AlphaAdaptiveIndexingOption.PROPERTY_NAME: {
+                return Integer.toString(getAlphaNodeAdaptiveIndexing());
+            }
+            case RightTuplePoolSizeOption.PROPERTY_NAME: {
+                return Integer.toString(getRightTuplePoolSize());
+            }
+            case SegmentMemoryReclaimTimeoutOption.PROPERTY_NAME: {
+                return Long.toString(getSegmentMemoryReclaimTimeout());
+            }
             case BetaRangeIndexOption.PROPERTY_NAME: {
                 return Boolean.toString(isBetaNodeRangeIndexEnabled());
             }
+            case BetaCompositeRangeIndexOption.PROPERTY_NAME: {
+                return Boolean.toString(isBetaNodeCompositeRangeIndexEnabled());
+            }
             case SessionsPoolOption.PROPERTY_NAME: {
                 return Integer.toString(getSessionPoolSize());
             }
@@ -595,6 +696,9 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
             case MaxThreadsOption.PROPERTY_NAME: {
                 return Integer.toString(getMaxThreads());
             }
+            case ParallelEvaluationPoolSizeOption.PROPERTY_NAME: {
+                return Integer.toString(getParallelEvaluationPoolSize());
+            }
             case EventProcessingOption.PROPERTY_NAME: {
                 return getEventProcessingMode().getMode();
             }
@@ -677,6 +781,33 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         this.alphaNodeRangeIndexThreshold = alphaNodeRangeIndexThreshold;
     }
 
+    public int getAlphaNodeAdaptiveIndexing() {
+        return this.alphaNodeAdaptiveIndexing;
+    }
+
+    public void setAlphaNodeAdaptiveIndexing(final int alphaNodeAdaptiveIndexing) {
+        checkCanChange();
+        this.alphaNodeAdaptiveIndexing = alphaNodeAdaptiveIndexing;
+    }
+
+    public int getRightTuplePoolSize() {
+        return this.rightTuplePoolSize;
+    }
+
+    public void setRightTuplePoolSize(final int rightTuplePoolSize) {
+        checkCanChange();
+        this.rightTuplePoolSize = rightTuplePoolSize;
+    }
+
+    public long getSegmentMemoryReclaimTimeout() {
+        return this.segmentMemoryReclaimTimeout;
+    }
+
+    public void setSegmentMemoryReclaimTimeout(final long segmentMemoryReclaimTimeout) {
+        checkCanChange();
+        this.segmentMemoryReclaimTimeout = segmentMemoryReclaimTimeout;
+    }
+
     public boolean isBetaNodeRangeIndexEnabled() {
         return this.betaNodeRangeIndexEnabled;
     }
@@ -686,6 +817,15 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         this.betaNodeRangeIndexEnabled = betaNodeRangeIndexEnabled;
     }
 
+    public boolean isBetaNodeCompositeRangeIndexEnabled() {
+        return this.betaNodeCompositeRangeIndexEnabled;
+    }
+
+    public void setBetaNodeCompositeRangeIndexEnabled(final boolean betaNodeCompositeRangeIndexEnabled) {
+        checkCanChange();
+        this.betaNodeCompositeRangeIndexEnabled = betaNodeCompositeRangeIndexEnabled;
+    }
+
     public int getSessionPoolSize() {
         return this.sessionPoolSize;
     }
@@ -835,6 +975,30 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
         return this.maxThreads;
     }
 
+    /**
+     * If multi-thread evaluation is enabled, this parameter configures the
+     * parallelism of the ForkJoinPool owned by this KieBase and used to evaluate
+     * its partitions.
+     *
+     * @param parallelEvaluationPoolSize the parallelism of the pool. If 0 or a
+     *                   negative number is set, the engine will use the pool
+     *                   shared by all the KieBases in the JVM. Default is 0.
+     */
+    public void setParallelEvaluationPoolSize(final int parallelEvaluationPoolSize) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.parallelEvaluationPoolSize = parallelEvaluationPoolSize;
+    }
+
+    /**
+     * Returns the configured parallelism of the pool used by this KieBase to evaluate
+     * its partitions, or 0 if the shared pool is used.
+     *
+     * @return
+     */
+    public int getParallelEvaluationPoolSize() {
+        return this.parallelEvaluationPoolSize;
+    }
+
     public boolean isDeclarativeAgenda() {
         return this.declarativeAgenda;
     }
@@ -42,6 +42,8 @@ import org.kie.internal.conf.CompositeConfiguration;
 import org.kie.internal.conf.InternalPropertiesConfiguration;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
+import org.kie.internal.runtime.conf.ObjectStoreOption;
+import org.kie.internal.runtime.conf.PropagationListOption;
 
 public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption, SingleValueKieSessionOption, MultiValueKieSessionOption> implements KieSessionConfiguration, InternalPropertiesConfiguration, Externalizable {
 
@@ -53,6 +55,10 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
 
     private boolean                        threadSafe;
 
+    private PropagationListOption          propagationList;
+
+    private ObjectStoreOption              objectStore;
+
     private boolean                        accumulateNullPropagation;
 
     private ForceEagerActivationFilter     forceEagerActivationFilter;
@@ -90,6 +96,10 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
 
         setThreadSafe(Boolean.parseBoolean(getPropertyValue(ThreadSafeOption.PROPERTY_NAME, "true")));
 
+        setPropagationList(PropagationListOption.determinePropagationList(getPropertyValue(PropagationListOption.PROPERTY_NAME, PropagationListOption.SYNCHRONIZED.getAsString())));
+
+        setObjectStore(ObjectStoreOption.determineObjectStore(getPropertyValue(ObjectStoreOption.PROPERTY_NAME, ObjectStoreOption.DEFAULT.getAsString())));
+
         setAccumulateNullPropagation(Boolean.parseBoolean(getPropertyValue(AccumulateNullPropagationOption.PROPERTY_NAME, "false")));
 
         setForceEagerActivationFilter(ForceEagerActivationOption.resolve( getPropertyValue( ForceEagerActivationOption.PROPERTY_NAME, "false" ) ).getFilter());
@@ -119,6 +129,24 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
         return this.threadSafe;
     }
 
+    public void setPropagationList(PropagationListOption propagationList) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.propagationList = propagationList;
+    }
+
+    public PropagationListOption getPropagationList() {
+        return this.propagationList;
+    }
+
+    public void setObjectStore(ObjectStoreOption objectStore) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.objectStore = objectStore;
+    }
+
+    public ObjectStoreOption getObjectStore() {
+        return this.objectStore;
+    }
+
     public void setAccumulateNullPropagation(boolean accumulateNullPropagation) {
         checkCanChange(); // throws an exception if a change isn't possible;
         this.accumulateNullPropagation = accumulateNullPropagation;
@@ -175,6 +203,14 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
                 setThreadSafe(((ThreadSafeOption) option).isThreadSafe());
                 break;
             }
+            case PropagationListOption.PROPERTY_NAME: {
+                setPropagationList((PropagationListOption) option);
+                break;
+            }
+            case ObjectStoreOption.PROPERTY_NAME: {
+                setObjectStore((ObjectStoreOption) option);
+                break;
+            }
             case AccumulateNullPropagationOption.PROPERTY_NAME: {
                 setAccumulateNullPropagation(((AccumulateNullPropagationOption) option).isAccumulateNullPropagation());
                 break;
@@ -209,6 +245,12 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
             case ThreadSafeOption.PROPERTY_NAME: {
                 return (T) (isThreadSafe() ? ThreadSafeOption.YES : ThreadSafeOption.NO);
             }
+            case PropagationListOption.PROPERTY_NAME: {
+                return (T) getPropagationList();
+            }
+            case ObjectStoreOption.PROPERTY_NAME: {
+                return (T) getObjectStore();
+            }
             case AccumulateNullPropagationOption.PROPERTY_NAME: {
                 return (T) (isAccumulateNullPropagation() ? AccumulateNullPropagationOption.YES : AccumulateNullPropagationOption.NO);
             }
@@ -243,6 +285,14 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
                 setThreadSafe(StringUtils.isEmpty(value) || Boolean.parseBoolean(value));
                 break;
             }
+            case PropagationListOption.PROPERTY_NAME: {
+                setPropagationList(StringUtils.isEmpty(value) ? PropagationListOption.SYNCHRONIZED : PropagationListOption.determinePropagationList(value));
+                break;
+            }
+            case ObjectStoreOption.PROPERTY_NAME: {
+                setObjectStore(StringUtils.isEmpty(value) ? ObjectStoreOption.DEFAULT : ObjectStoreOption.determineObjectStore(value));
+                break;
+            }
             case AccumulateNullPropagationOption.PROPERTY_NAME: {
                 setAccumulateNullPropagation(!StringUtils.isEmpty(value) && Boolean.parseBoolean(value));
                 break;
@@ -278,6 +328,10 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
                 return Boolean.toString(isDirectFiring());
             } case ThreadSafeOption.PROPERTY_NAME: {
                 return Boolean.toString(isThreadSafe());
+            } case PropagationListOption.PROPERTY_NAME: {
+                return getPropagationList().getAsString();
+            } case ObjectStoreOption.PROPERTY_NAME: {
+                return getObjectStore().getAsString();
             } case AccumulateNullPropagationOption.PROPERTY_NAME: {
                 return Boolean.toString(isAccumulateNullPropagation());
             } case QueryListenerOption.PROPERTY_NAME: {
@@ -39,15 +39,25 @@ public class BigDecimalMaxAccumulateFunction extends AbstractAccumulateFunction<
 
     protected static class MaxData implements Externalizable {
         public BigDecimal max = null;
+        // null until the current max is retracted, see SortedMultiset
+        public SortedMultiset<BigDecimal> values;
 
         public MaxData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
             max = (BigDecimal) in.readObject();
+            if (in.readBoolean()) {
+                values = new SortedMultiset<>();
+                values.readExternal(in);
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
             out.writeObject(max);
+            out.writeBoolean(values != null);
+            if (values != null) {
+                values.writeExternal(out);
+            }
         }
 
         @Override
@@ -62,11 +72,19 @@ public class BigDecimalMaxAccumulateFunction extends AbstractAccumulateFunction<
 
     public void init(MaxData data) {
         data.max = null;
+        if (data.values != null) {
+            data.values.clear();
+        }
     }
 
     public void accumulate(MaxData data,
                            Object value) {
         if (value != null) {
+            if (data.values != null) {
+                data.values.add( (BigDecimal) value );
+                data.max = data.values.last();
+                return;
+            }
             BigDecimal bdValue = (BigDecimal) value;
             data.max = data.max == null || data.max.compareTo(bdValue) < 0 ?
                        bdValue :
@@ -81,7 +99,15 @@ public class BigDecimalMaxAccumulateFunction extends AbstractAccumulateFunction<
     @Override
     public boolean tryReverse( MaxData data, Object value ) {
         if (value != null) {
-            return data.max.compareTo((BigDecimal) value) > 0;
+            if (data.values != null && data.values.remove( (BigDecimal) value )) {
+                data.max = data.values.last();
+                return true;
+            }
+            if (data.max.compareTo((BigDecimal) value) > 0) {
+                return true;
+            }
+            data.values = new SortedMultiset<>();
+            return false;
         }
         return true;
     }
@@ -37,15 +37,25 @@ public class BigDecimalMinAccumulateFunction extends AbstractAccumulateFunction<
 
     protected static class MinData implements Externalizable {
         public BigDecimal min = null;
+        // null until the current min is retracted, see SortedMultiset
+        public SortedMultiset<BigDecimal> values;
 
         public MinData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
             min = (BigDecimal) in.readObject();
+            if (in.readBoolean()) {
+                values = new SortedMultiset<>();
+                values.readExternal(in);
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
             out.writeObject(min);
+            out.writeBoolean(values != null);
+            if (values != null) {
+                values.writeExternal(out);
+            }
         }
 
         @Override
@@ -60,11 +70,19 @@ public class BigDecimalMinAccumulateFunction extends AbstractAccumulateFunction<
 
     public void init(MinData data) {
         data.min = null;
+        if (data.values != null) {
+            data.values.clear();
+        }
     }
 
     public void accumulate(MinData data,
                            Object value) {
         if (value != null) {
+            if (data.values != null) {
+                data.values.add( (BigDecimal) value );
+                data.min = data.values.first();
+                return;
+            }
             BigDecimal bdValue = (BigDecimal) value;
             data.min = data.min == null || data.min.compareTo(bdValue) > 0 ?
                        bdValue :
@@ -75,7 +93,15 @@ public class BigDecimalMinAccumulateFunction extends AbstractAccumulateFunction<
     @Override
     public boolean tryReverse( MinData data, Object value ) {
         if (value != null) {
-            return data.min.compareTo((BigDecimal) value) < 0;
+            if (data.values != null && data.values.remove( (BigDecimal) value )) {
+                data.min = data.values.first();
+                return true;
+            }
+            if (data.min.compareTo((BigDecimal) value) < 0) {
+                return true;
+            }
+            data.values = new SortedMultiset<>();
+            return false;
         }
         return true;
     }
@@ -37,15 +37,25 @@ public class BigIntegerMinAccumulateFunction extends AbstractAccumulateFunction<
 
     protected static class MinData implements Externalizable {
         public BigInteger min = null;
+        // null until the current min is retracted, see SortedMultiset
+        public SortedMultiset<BigInteger> values;
 
         public MinData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
             min = (BigInteger) in.readObject();
+            if (in.readBoolean()) {
+                values = new SortedMultiset<>();
+                values.readExternal(in);
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
             out.writeObject(min);
+            out.writeBoolean(values != null);
+            if (values != null) {
+                values.writeExternal(out);
+            }
         }
 
         @Override
@@ -60,11 +70,19 @@ public class BigIntegerMinAccumulateFunction extends AbstractAccumulateFunction<
 
     public void init(MinData data) {
         data.min = null;
+        if (data.values != null) {
+            data.values.clear();
+        }
     }
 
     public void accumulate(MinData data,
                            Object value) {
         if (value != null) {
+            if (data.values != null) {
+                data.values.add( (BigInteger) value );
+                data.min = data.values.first();
+                return;
+            }
             BigInteger biValue = (BigInteger) value;
             data.min = data.min == null || data.min.compareTo(biValue) > 0 ?
                        biValue :
@@ -75,7 +93,15 @@ public class BigIntegerMinAccumulateFunction extends AbstractAccumulateFunction<
     @Override
     public boolean tryReverse( MinData data, Object value ) {
         if (value != null) {
-            return data.min.compareTo((BigInteger) value) < 0;
+            if (data.values != null && data.values.remove( (BigInteger) value )) {
+                data.min = data.values.first();
+                return true;
+            }
+            if (data.min.compareTo((BigInteger) value) < 0) {
+                return true;
+            }
+            data.values = new SortedMultiset<>();
+            return false;
         }
         return true;
     }
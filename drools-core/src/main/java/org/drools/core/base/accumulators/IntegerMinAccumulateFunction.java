@@ -38,15 +38,25 @@ public class IntegerMinAccumulateFunction extends AbstractAccumulateFunction<Int
 
     protected static class MinData implements Externalizable {
         public Integer min = null;
+        // null until the current min is retracted, see SortedMultiset
+        public SortedMultiset<Integer> values;
 
         public MinData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
             min = (Integer) in.readObject();
+            if (in.readBoolean()) {
+                values = new SortedMultiset<>();
+                values.readExternal(in);
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
             out.writeObject(min);
+            out.writeBoolean(values != null);
+            if (values != null) {
+                values.writeExternal(out);
+            }
         }
 
         @Override
@@ -61,11 +71,19 @@ public class IntegerMinAccumulateFunction extends AbstractAccumulateFunction<Int
 
     public void init( MinData data) {
         data.min = null;
+        if (data.values != null) {
+            data.values.clear();
+        }
     }
 
     public void accumulate( MinData data,
                             Object value) {
         if (value != null) {
+            if (data.values != null) {
+                data.values.add( (Integer) value );
+                data.min = data.values.first();
+                return;
+            }
             Integer number = (Integer)value;
             data.min = data.min == null || data.min > number ? number : data.min;
         }
@@ -78,8 +96,16 @@ public class IntegerMinAccumulateFunction extends AbstractAccumulateFunction<Int
     @Override
     public boolean tryReverse( MinData data, Object value ) {
         if (value != null) {
+            if (data.values != null && data.values.remove( (Integer) value )) {
+                data.min = data.values.first();
+                return true;
+            }
             Integer number = (Integer)value;
-            return data.min < number;
+            if (data.min < number) {
+                return true;
+            }
+            data.values = new SortedMultiset<>();
+            return false;
         }
         return true;
     }
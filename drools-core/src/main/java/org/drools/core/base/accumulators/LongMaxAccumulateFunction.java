@@ -38,15 +38,25 @@ public class LongMaxAccumulateFunction extends AbstractAccumulateFunction<LongMa
 
     protected static class MaxData implements Externalizable {
         public Long max = null;
+        // null until the current max is retracted, see SortedMultiset
+        public SortedMultiset<Long> values;
 
         public MaxData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
             max = (Long) in.readObject();
+            if (in.readBoolean()) {
+                values = new SortedMultiset<>();
+                values.readExternal(in);
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
             out.writeObject(max);
+            out.writeBoolean(values != null);
+            if (values != null) {
+                values.writeExternal(out);
+            }
         }
 
         @Override
@@ -61,11 +71,19 @@ public class LongMaxAccumulateFunction extends AbstractAccumulateFunction<LongMa
 
     public void init(MaxData data) {
         data.max = null;
+        if (data.values != null) {
+            data.values.clear();
+        }
     }
 
     public void accumulate(MaxData data,
                            Object value) {
         if (value != null) {
+            if (data.values != null) {
+                data.values.add( (Long) value );
+                data.max = data.values.last();
+                return;
+            }
             Long number = (Long)value;
             data.max = data.max == null || data.max < number ? number : data.max;
         }
@@ -78,8 +96,16 @@ public class LongMaxAccumulateFunction extends AbstractAccumulateFunction<LongMa
     @Override
     public boolean tryReverse( MaxData data, Object value ) {
         if (value != null) {
+            if (data.values != null && data.values.remove( (Long) value )) {
+                data.max = data.values.last();
+                return true;
+            }
             Long number = (Long)value;
-            return data.max > number;
+            if (data.max > number) {
+                return true;
+            }
+            data.values = new SortedMultiset<>();
+            return false;
         }
         return true;
     }
@@ -38,15 +38,25 @@ public class MaxAccumulateFunction extends AbstractAccumulateFunction<MaxAccumul
 
     protected static class MaxData implements Externalizable {
         public Comparable max = null;
+        // null until the current max is retracted, see SortedMultiset
+        public SortedMultiset<Comparable> values;
 
         public MaxData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
             max = (Comparable) in.readObject();
+            if (in.readBoolean()) {
+                values = new SortedMultiset<>();
+                values.readExternal(in);
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
             out.writeObject(max);
+            out.writeBoolean(values != null);
+            if (values != null) {
+                values.writeExternal(out);
+            }
         }
 
         @Override
@@ -61,11 +71,19 @@ public class MaxAccumulateFunction extends AbstractAccumulateFunction<MaxAccumul
 
     public void init(MaxData data) {
         data.max = null;
+        if (data.values != null) {
+            data.values.clear();
+        }
     }
 
     public void accumulate(MaxData data,
                            Object value) {
         if (value != null) {
+            if (data.values != null) {
+                data.values.add( (Comparable) value );
+                data.max = data.values.last();
+                return;
+            }
             data.max = data.max == null || data.max.compareTo( value ) < 0 ?
                        (Comparable) value :
                        data.max;
@@ -79,7 +97,15 @@ public class MaxAccumulateFunction extends AbstractAccumulateFunction<MaxAccumul
     @Override
     public boolean tryReverse( MaxData data, Object value ) {
         if (value != null) {
-            return data.max.compareTo( value ) > 0;
+            if (data.values != null && data.values.remove( (Comparable) value )) {
+                data.max = data.values.last();
+                return true;
+            }
+            if (data.max.compareTo( value ) > 0) {
+                return true;
+            }
+            data.values = new SortedMultiset<>();
+            return false;
         }
         return true;
     }
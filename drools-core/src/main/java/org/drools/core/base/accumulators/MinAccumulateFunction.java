@@ -38,15 +38,25 @@ public class MinAccumulateFunction extends AbstractAccumulateFunction<MinAccumul
 
     protected static class MinData implements Externalizable {
         public Comparable min = null;
+        // null until the current min is retracted, see SortedMultiset
+        public SortedMultiset<Comparable> values;
         
         public MinData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
             min = (Comparable) in.readObject();
+            if (in.readBoolean()) {
+                values = new SortedMultiset<>();
+                values.readExternal(in);
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
             out.writeObject(min);
+            out.writeBoolean(values != null);
+            if (values != null) {
+                values.writeExternal(out);
+            }
         }
 
         @Override
@@ -61,11 +71,19 @@ public class MinAccumulateFunction extends AbstractAccumulateFunction<MinAccumul
 
     public void init(MinData data) {
         data.min = null;
+        if (data.values != null) {
+            data.values.clear();
+        }
     }
 
     public void accumulate(MinData data,
                            Object value) {
         if (value != null) {
+            if (data.values != null) {
+                data.values.add( (Comparable) value );
+                data.min = data.values.first();
+                return;
+            }
             data.min = data.min == null || data.min.compareTo( value ) > 0 ?
                        (Comparable) value :
                        data.min;
@@ -75,7 +93,15 @@ public class MinAccumulateFunction extends AbstractAccumulateFunction<MinAccumul
     @Override
     public boolean tryReverse( MinData data, Object value ) {
         if (value != null) {
-            return data.min.compareTo( value ) < 0;
+            if (data.values != null && data.values.remove( (Comparable) value )) {
+                data.min = data.values.first();
+                return true;
+            }
+            if (data.min.compareTo( value ) < 0) {
+                return true;
+            }
+            data.values = new SortedMultiset<>();
+            return false;
         }
         return true;
     }
@@ -22,12 +22,15 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.Comparator;
 
 /**
  * An implementation of an accumulator capable of calculating maximum values
  */
 public class NumericMaxAccumulateFunction extends AbstractAccumulateFunction<NumericMaxAccumulateFunction.MaxData> {
 
+    private static final Comparator<Number> NUMBER_COMPARATOR = Comparator.comparingDouble( Number::doubleValue );
+
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 
     }
@@ -38,15 +41,25 @@ public class NumericMaxAccumulateFunction extends AbstractAccumulateFunction<Num
 
     protected static class MaxData implements Externalizable {
         public Number max = null;
+        // null until the current max is retracted, see SortedMultiset
+        public SortedMultiset<Number> values;
 
         public MaxData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
             max = (Number) in.readObject();
+            if (in.readBoolean()) {
+                values = new SortedMultiset<>( NUMBER_COMPARATOR );
+                values.readExternal(in);
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
             out.writeObject(max);
+            out.writeBoolean(values != null);
+            if (values != null) {
+                values.writeExternal(out);
+            }
         }
 
         @Override
@@ -61,11 +74,19 @@ public class NumericMaxAccumulateFunction extends AbstractAccumulateFunction<Num
 
     public void init(MaxData data) {
         data.max = null;
+        if (data.values != null) {
+            data.values.clear();
+        }
     }
 
     public void accumulate(MaxData data,
                            Object value) {
         if (value != null) {
+            if (data.values != null) {
+                data.values.add( (Number) value );
+                data.max = data.values.last();
+                return;
+            }
             Number number = (Number)value;
             data.max = data.max == null || data.max.doubleValue() < number.doubleValue() ? number : data.max;
         }
@@ -78,8 +99,16 @@ public class NumericMaxAccumulateFunction extends AbstractAccumulateFunction<Num
     @Override
     public boolean tryReverse( MaxData data, Object value ) {
         if (value != null) {
+            if (data.values != null && data.values.remove( (Number) value )) {
+                data.max = data.values.last();
+                return true;
+            }
             Number number = (Number)value;
-            return data.max.doubleValue() > number.doubleValue();
+            if (data.max.doubleValue() > number.doubleValue()) {
+                return true;
+            }
+            data.values = new SortedMultiset<>( NUMBER_COMPARATOR );
+            return false;
         }
         return true;
     }
@@ -22,12 +22,15 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.Comparator;
 
 /**
  * An implementation of an accumulator capable of calculating maximum values
  */
 public class NumericMinAccumulateFunction extends AbstractAccumulateFunction<NumericMinAccumulateFunction.MinData> {
 
+    private static final Comparator<Number> NUMBER_COMPARATOR = Comparator.comparingDouble( Number::doubleValue );
+
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 
     }
@@ -38,15 +41,25 @@ public class NumericMinAccumulateFunction extends AbstractAccumulateFunction<Num
 
     protected static class MinData implements Externalizable {
         public Number min = null;
+        // null until the current min is retracted, see SortedMultiset
+        public SortedMultiset<Number> values;
 
         public MinData() {}
 
         public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-            min = (Double) in.readObject();
+            min = (Number) in.readObject();
+            if (in.readBoolean()) {
+                values = new SortedMultiset<>( NUMBER_COMPARATOR );
+                values.readExternal(in);
+            }
         }
 
         public void writeExternal(ObjectOutput out) throws IOException {
             out.writeObject(min);
+            out.writeBoolean(values != null);
+            if (values != null) {
+                values.writeExternal(out);
+            }
         }
 
         @Override
@@ -61,11 +74,19 @@ public class NumericMinAccumulateFunction extends AbstractAccumulateFunction<Num
 
     public void init( MinData data) {
         data.min = null;
+        if (data.values != null) {
+            data.values.clear();
+        }
     }
 
     public void accumulate( MinData data,
                             Object value) {
         if (value != null) {
+            if (data.values != null) {
+                data.values.add( (Number) value );
+                data.min = data.values.first();
+                return;
+            }
             Number number = (Number)value;
             data.min = data.min == null || data.min.doubleValue() > number.doubleValue() ? number : data.min;
         }
@@ -74,8 +95,16 @@ public class NumericMinAccumulateFunction extends AbstractAccumulateFunction<Num
     @Override
     public boolean tryReverse( MinData data, Object value ) {
         if (value != null) {
+            if (data.values != null && data.values.remove( (Number) value )) {
+                data.min = data.values.first();
+                return true;
+            }
             Number number = (Number)value;
-            return data.min.doubleValue() < number.doubleValue();
+            if (data.min.doubleValue() < number.doubleValue()) {
+                return true;
+            }
+            data.values = new SortedMultiset<>( NUMBER_COMPARATOR );
+            return false;
         }
         return true;
     }
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.base.accumulators;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A sorted bag of the values accumulated by a min or max function. It allows to retract any of them in O(log n),
+ * so the retraction of the current min or max doesn't require to reaccumulate the whole group.
+ * The min and max functions only keep their current result until it gets retracted for the first time: at that
+ * point tryReverse() fails, letting the engine reaccumulate the group into a newly created multiset, and any further
+ * retraction of that group is incremental. Groups that never lose their min or max, like in insert only sessions,
+ * keep a constant space state.
+ * Values that are equal for the comparator but not for equals() (like 1.0 and 1.00) are kept as distinct
+ * elements of the same bucket, in insertion order, so that first() and last() return the first accumulated of them.
+ */
+public class SortedMultiset<T> implements Externalizable {
+
+    private final TreeMap<T, Object> values;
+
+    private int size;
+
+    public SortedMultiset() {
+        this( null );
+    }
+
+    public SortedMultiset( Comparator<? super T> comparator ) {
+        this.values = new TreeMap<>( comparator );
+    }
+
+    public void add( T value ) {
+        Object bucket = values.get( value );
+        if (bucket == null) {
+            values.put( value, value );
+        } else if (bucket instanceof Bucket) {
+            ((Bucket) bucket).add( value );
+        } else {
+            Bucket newBucket = new Bucket();
+            newBucket.add( bucket );
+            newBucket.add( value );
+            values.put( value, newBucket );
+        }
+        size++;
+    }
+
+    public boolean remove( T value ) {
+        Object bucket = values.get( value );
+        if (bucket == null) {
+            return false;
+        }
+        if (bucket instanceof Bucket) {
+            Bucket elements = (Bucket) bucket;
+            if (!elements.remove( value )) {
+                return false;
+            }
+            if (elements.size() == 1) {
+                values.put( value, elements.get( 0 ) );
+            }
+        } else if (bucket.equals( value )) {
+            values.remove( value );
+        } else {
+            return false;
+        }
+        size--;
+        return true;
+    }
+
+    public T first() {
+        return values.isEmpty() ? null : head( values.firstEntry().getValue() );
+    }
+
+    public T last() {
+        return values.isEmpty() ? null : head( values.lastEntry().getValue() );
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        values.clear();
+        size = 0;
+    }
+
+    private T head( Object bucket ) {
+        return (T) (bucket instanceof Bucket ? ((Bucket) bucket).get( 0 ) : bucket);
+    }
+
+    @Override
+    public void writeExternal( ObjectOutput out ) throws IOException {
+        out.writeInt( size );
+        for (Object bucket : values.values()) {
+            if (bucket instanceof Bucket) {
+                for (Object value : (Bucket) bucket) {
+                    out.writeObject( value );
+                }
+            } else {
+                out.writeObject( bucket );
+            }
+        }
+    }
+
+    @Override
+    public void readExternal( ObjectInput in ) throws IOException, ClassNotFoundException {
+        clear();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            add( (T) in.readObject() );
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder( "[" );
+        for (Object bucket : values.values()) {
+            if (sb.length() > 1) {
+                sb.append( ", " );
+            }
+            sb.append( bucket );
+        }
+        return sb.append( "]" ).toString();
+    }
+
+    private static class Bucket extends ArrayList<Object> {
+        private Bucket() {
+            super( 2 );
+        }
+    }
+}
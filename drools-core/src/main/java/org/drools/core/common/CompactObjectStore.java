@@ -0,0 +1,432 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Predicate;
+
+import org.kie.api.runtime.ClassObjectFilter;
+import org.kie.api.runtime.ObjectFilter;
+
+/**
+ * An identity based ObjectStore minimizing the memory required for each stored fact.
+ *
+ * The fact handles are kept in 2 open addressing tables without any entry object: the first one is
+ * probed with the identity hash code of the fact and used to find the handle of a given object, the second
+ * one is probed with the id of the fact handle and used to reconnect a handle in constant time.
+ * The handles of negated facts, only used by the truth maintenance system, are kept in a side table
+ * created on demand. Conversely to the ClassAwareObjectStore no index is kept per class, so iterating
+ * the facts of a given class requires to scan the whole store.
+ * As a removal may shift back the handles of a cluster, the iterators are fail-fast: adding or removing
+ * a fact while iterating throws a ConcurrentModificationException, as it happens with the ClassAwareObjectStore.
+ */
+public class CompactObjectStore implements Externalizable, ObjectStore {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final int MAX_LOAD_PERCENTAGE = 60;
+
+    private Lock lock;
+
+    private InternalFactHandle[] byObject;
+
+    private InternalFactHandle[] byId;
+
+    private int assertedSize;
+
+    // number of structural changes of the tables, used to make the iterators fail-fast
+    private int modCount;
+
+    private Map<Object, InternalFactHandle> negatedHandles;
+
+    public CompactObjectStore() {
+        this( null );
+    }
+
+    public CompactObjectStore( Lock lock ) {
+        this.lock = lock;
+        this.byObject = new InternalFactHandle[DEFAULT_CAPACITY];
+        this.byId = new InternalFactHandle[DEFAULT_CAPACITY];
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeInt(assertedSize);
+        for (InternalFactHandle handle : byObject) {
+            if (handle != null) {
+                out.writeObject(handle);
+            }
+        }
+        out.writeObject(negatedHandles);
+        out.writeObject(lock);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        int size = in.readInt();
+        int capacity = capacityFor(size);
+        byObject = new InternalFactHandle[capacity];
+        byId = new InternalFactHandle[capacity];
+        for (int i = 0; i < size; i++) {
+            InternalFactHandle handle = (InternalFactHandle) in.readObject();
+            putInTables(handle);
+        }
+        assertedSize = size;
+        negatedHandles = (Map<Object, InternalFactHandle>) in.readObject();
+        lock = (Lock) in.readObject();
+    }
+
+    @Override
+    public int size() {
+        return assertedSize + (negatedHandles != null ? negatedHandles.size() : 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        byObject = new InternalFactHandle[DEFAULT_CAPACITY];
+        byId = new InternalFactHandle[DEFAULT_CAPACITY];
+        assertedSize = 0;
+        negatedHandles = null;
+        modCount++;
+    }
+
+    @Override
+    public Object getObjectForHandle(InternalFactHandle handle) {
+        if (lock == null) {
+            InternalFactHandle reconnectedHandle = reconnect(handle);
+            return reconnectedHandle != null ? reconnectedHandle.getObject() : null;
+        }
+        try {
+            this.lock.lock();
+            InternalFactHandle reconnectedHandle = reconnect(handle);
+            return reconnectedHandle != null ? reconnectedHandle.getObject() : null;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public InternalFactHandle reconnect(InternalFactHandle handle) {
+        if (handle == null) {
+            return null;
+        }
+        InternalFactHandle reconnectedHandle = handle.isNegated() ? findNegatedById(handle.getId()) : findById(handle.getId());
+        return reconnectedHandle != null && handle.getIdentityHashCode() == reconnectedHandle.getIdentityHashCode() ? reconnectedHandle : null;
+    }
+
+    @Override
+    public InternalFactHandle getHandleForObject(Object object) {
+        if (object == null) {
+            return null;
+        }
+        InternalFactHandle[] table = byObject;
+        int mask = table.length - 1;
+        for (int i = objectSlot(object, mask); table[i] != null; i = (i + 1) & mask) {
+            if (table[i].getObject() == object) {
+                return table[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void updateHandle(InternalFactHandle handle, Object object) {
+        removeHandle(handle);
+        handle.setObject(object);
+        addHandle(handle, object);
+    }
+
+    @Override
+    public void addHandle(InternalFactHandle handle, Object object) {
+        if (handle.isNegated()) {
+            if (negatedHandles == null) {
+                negatedHandles = new IdentityHashMap<>();
+            }
+            negatedHandles.put(object, handle);
+            return;
+        }
+        if (getHandleForObject(object) != null) {
+            return;
+        }
+        if ((assertedSize + 1) * 100L > byObject.length * (long) MAX_LOAD_PERCENTAGE) {
+            resize(byObject.length * 2);
+        }
+        putInTables(handle);
+        assertedSize++;
+        modCount++;
+    }
+
+    @Override
+    public void removeHandle(InternalFactHandle handle) {
+        if (handle.isNegated()) {
+            if (negatedHandles != null) {
+                negatedHandles.remove(handle.getObject());
+            }
+            return;
+        }
+
+        Object object = handle.getObject();
+        InternalFactHandle[] table = byObject;
+        int mask = table.length - 1;
+        for (int i = objectSlot(object, mask); table[i] != null; i = (i + 1) & mask) {
+            if (table[i].getObject() == object) {
+                InternalFactHandle removed = table[i];
+                deleteSlot(byObject, i, true);
+                deleteSlot(byId, idSlotOf(removed), false);
+                assertedSize--;
+                modCount++;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Iterator<Object> iterateObjects() {
+        return new ObjectIterator(iterateFactHandles());
+    }
+
+    @Override
+    public Iterator<Object> iterateObjects(ObjectFilter filter) {
+        return new ObjectIterator(iterateFactHandles(filter));
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateFactHandles() {
+        return new TableIterator(fh -> true);
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateFactHandles(ObjectFilter filter) {
+        return new TableIterator(fh -> filter.accept(fh.getObject()));
+    }
+
+    @Override
+    public Iterator<Object> iterateNegObjects(ObjectFilter filter) {
+        return new ObjectIterator(iterateNegFactHandles(filter));
+    }
+
+    @Override
+    public Iterator<InternalFactHandle> iterateNegFactHandles(ObjectFilter filter) {
+        if (negatedHandles == null) {
+            return Collections.emptyIterator();
+        }
+        return negatedHandles.values().stream().filter(fh -> filter == null || filter.accept(fh.getObject())).iterator();
+    }
+
+    @Override
+    public FactHandleClassStore getStoreForClass(Class<?> clazz) {
+        ObjectFilter filter = new ClassObjectFilter(clazz);
+        return () -> iterateFactHandles(filter);
+    }
+
+    @Override
+    public boolean clearClassStore(Class<?> clazz) {
+        ObjectFilter filter = new ClassObjectFilter(clazz);
+        boolean removed = false;
+        int i = 0;
+        while (i < byObject.length) {
+            InternalFactHandle handle = byObject[i];
+            if (handle != null && filter.accept(handle.getObject())) {
+                removeHandle(handle);
+                removed = true;
+                // the deletion could have shifted back another handle in this same slot
+                continue;
+            }
+            i++;
+        }
+        return removed;
+    }
+
+    // /////////////////////
+    // /// Internal Tables
+    // /////////////////////
+
+    private InternalFactHandle findById(long id) {
+        InternalFactHandle[] table = byId;
+        int mask = table.length - 1;
+        for (int i = idSlot(id, mask); table[i] != null; i = (i + 1) & mask) {
+            if (table[i].getId() == id) {
+                return table[i];
+            }
+        }
+        return null;
+    }
+
+    private InternalFactHandle findNegatedById(long id) {
+        if (negatedHandles == null) {
+            return null;
+        }
+        for (InternalFactHandle handle : negatedHandles.values()) {
+            if (handle.getId() == id) {
+                return handle;
+            }
+        }
+        return null;
+    }
+
+    private int idSlotOf(InternalFactHandle handle) {
+        InternalFactHandle[] table = byId;
+        int mask = table.length - 1;
+        int i = idSlot(handle.getId(), mask);
+        while (table[i] != handle) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void putInTables(InternalFactHandle handle) {
+        insertInto(byObject, handle, objectSlot(handle.getObject(), byObject.length - 1));
+        insertInto(byId, handle, idSlot(handle.getId(), byId.length - 1));
+    }
+
+    private static void insertInto(InternalFactHandle[] table, InternalFactHandle handle, int slot) {
+        int mask = table.length - 1;
+        int i = slot;
+        while (table[i] != null) {
+            i = (i + 1) & mask;
+        }
+        table[i] = handle;
+    }
+
+    /**
+     * Empties the given slot and shifts back the following handles of the same cluster when needed, so the
+     * linear probing never finds a hole before reaching the handle it is looking for.
+     */
+    private static void deleteSlot(InternalFactHandle[] table, int slot, boolean byObject) {
+        int mask = table.length - 1;
+        int gap = slot;
+        for (int i = (gap + 1) & mask; table[i] != null; i = (i + 1) & mask) {
+            InternalFactHandle handle = table[i];
+            int home = byObject ? objectSlot(handle.getObject(), mask) : idSlot(handle.getId(), mask);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                table[gap] = handle;
+                gap = i;
+            }
+        }
+        table[gap] = null;
+    }
+
+    private void resize(int capacity) {
+        InternalFactHandle[] oldTable = byObject;
+        byObject = new InternalFactHandle[capacity];
+        byId = new InternalFactHandle[capacity];
+        for (InternalFactHandle handle : oldTable) {
+            if (handle != null) {
+                putInTables(handle);
+            }
+        }
+    }
+
+    private static int capacityFor(int size) {
+        int capacity = DEFAULT_CAPACITY;
+        while (size * 100L > capacity * (long) MAX_LOAD_PERCENTAGE) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    private static int objectSlot(Object object, int mask) {
+        return spread(System.identityHashCode(object)) & mask;
+    }
+
+    private static int idSlot(long id, int mask) {
+        return spread(Long.hashCode(id)) & mask;
+    }
+
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private class TableIterator implements Iterator<InternalFactHandle> {
+        private final InternalFactHandle[] table;
+        private final Predicate<InternalFactHandle> filter;
+        private final int expectedModCount;
+        private int index = -1;
+        private InternalFactHandle next;
+
+        private TableIterator(Predicate<InternalFactHandle> filter) {
+            this.table = byObject;
+            this.filter = filter;
+            this.expectedModCount = modCount;
+            this.next = fetchNext();
+        }
+
+        private InternalFactHandle fetchNext() {
+            while (++index < table.length) {
+                InternalFactHandle handle = table[index];
+                if (handle != null && filter.test(handle)) {
+                    return handle;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public InternalFactHandle next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            InternalFactHandle current = next;
+            next = fetchNext();
+            return current;
+        }
+    }
+
+    private static class ObjectIterator implements Iterator<Object> {
+        private final Iterator<InternalFactHandle> handles;
+
+        private ObjectIterator(Iterator<InternalFactHandle> handles) {
+            this.handles = handles;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return handles.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            return handles.next().getObject();
+        }
+    }
+}
@@ -40,6 +40,10 @@ public interface Storage<K, V> {
 
     V remove(K key);
 
+    default void removeAll(Collection<? extends K> keys) {
+        keys.forEach(this::remove);
+    }
+
     Set<K> keySet();
 
     Collection<V> values();
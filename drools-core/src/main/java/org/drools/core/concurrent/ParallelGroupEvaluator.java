@@ -21,8 +21,10 @@ package org.drools.core.concurrent;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
+import org.drools.base.common.PartitionsManager;
 import org.drools.base.common.RuleBasePartitionId;
 import org.drools.core.common.ActivationsManager;
 import org.drools.core.common.InternalAgendaGroup;
@@ -31,12 +33,14 @@ import org.drools.core.impl.InternalRuleBase;
 import org.drools.core.phreak.RuleAgendaItem;
 
 import static org.drools.base.common.PartitionsManager.MIN_PARALLEL_THRESHOLD;
-import static org.drools.base.common.PartitionsManager.doOnForkJoinPool;
 
 public class ParallelGroupEvaluator extends AbstractGroupEvaluator {
 
+    private final PartitionsManager partitionsManager;
+
     public ParallelGroupEvaluator(InternalRuleBase ruleBase, ReteEvaluator reteEvaluator, ActivationsManager activationsManager ) {
         super(ruleBase, reteEvaluator, activationsManager);
+        this.partitionsManager = ruleBase.getPartitionsManager();
     }
 
     protected void startEvaluation(InternalAgendaGroup group) {
@@ -51,6 +55,11 @@ public class ParallelGroupEvaluator extends AbstractGroupEvaluator {
             return;
         }
 
+        if (!partitionsManager.isWorthParallelEvaluation(activations.size())) {
+            // ... or they have been measured to be too cheap to evaluate ...
+            return;
+        }
+
         Map<RuleBasePartitionId, List<RuleAgendaItem>> partitionedActivations = activations.stream().collect(Collectors.groupingBy(RuleAgendaItem::getPartition));
         if (partitionedActivations.size() < MIN_PARALLEL_THRESHOLD) {
             // ... or partitions
@@ -60,10 +69,15 @@ public class ParallelGroupEvaluator extends AbstractGroupEvaluator {
         // This will evaluate all the RuleAgendaItem (grouped by partitions) in parallel, also resetting
         // their dirty flag. After this AbstractGroupEvaluator#evaluateAndFire loop will attempt re-evaluating
         // those items again, but finding them not dirty it won't have any performance impact allowing a direct firing.
-        doOnForkJoinPool(() ->
+        LongAdder evaluationNanos = new LongAdder();
+        partitionsManager.doOnEvaluationPool(() ->
                 partitionedActivations.values().parallelStream()
-                        .forEach( items -> items
-                                .forEach( item -> item.getRuleExecutor().evaluateNetworkIfDirty(reteEvaluator, activationsManager) ) )
+                        .forEach( items -> {
+                            long start = System.nanoTime();
+                            items.forEach( item -> item.getRuleExecutor().evaluateNetworkIfDirty(reteEvaluator, activationsManager) );
+                            evaluationNanos.add(System.nanoTime() - start);
+                        } )
         );
+        partitionsManager.recordEvaluationCost(evaluationNanos.sum(), activations.size());
     }
 }
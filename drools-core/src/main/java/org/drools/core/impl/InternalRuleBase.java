@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.drools.base.RuleBase;
+import org.drools.base.common.PartitionsManager;
 import org.drools.base.common.RuleBasePartitionId;
 import org.drools.base.definitions.InternalKnowledgePackage;
 import org.drools.base.rule.TypeDeclaration;
@@ -81,6 +82,14 @@ public interface InternalRuleBase extends RuleBase {
     RuleBasePartitionId createNewPartitionId();
     boolean isPartitioned();
     int getParallelEvaluationSlotsCount();
+    PartitionsManager getPartitionsManager();
+
+    /**
+     * Releases the resources owned by this rule base, like its own parallel evaluation pool
+     */
+    default void dispose() {
+        getPartitionsManager().shutdown();
+    }
 
     RuleBaseConfiguration getRuleBaseConfiguration();
 
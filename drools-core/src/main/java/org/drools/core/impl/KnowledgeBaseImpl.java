@@ -473,7 +473,7 @@ public class KnowledgeBaseImpl implements InternalRuleBase {
             disableParallelEvaluation("The rete network cannot be partitioned: disabling multithread evaluation");
             return;
         }
-        partitionsManager.init();
+        partitionsManager.init(ruleBaseConfig.getParallelEvaluationPoolSize());
         this.partitioned = true;
 
         if (ruleBaseConfig.isParallelExecution()) {
@@ -1215,6 +1215,11 @@ public class KnowledgeBaseImpl implements InternalRuleBase {
         return partitionsManager.getParallelEvaluationSlotsCount();
     }
 
+    @Override
+    public PartitionsManager getPartitionsManager() {
+        return partitionsManager;
+    }
+
     public FactType getFactType(String packageName, String typeName) {
         String name = packageName + "." + typeName;
         readLock();
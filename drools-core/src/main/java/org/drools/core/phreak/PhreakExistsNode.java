@@ -506,6 +506,7 @@ public class PhreakExistsNode {
             }
             rightTuple.setBlocked(null);
             rightTuple.clearStaged();
+            bm.recycleRightTuple(rightTuple);
             rightTuple = next;
         }
     }
@@ -448,6 +448,7 @@ public class PhreakJoinNode {
                 }
             }
             rightTuple.clearStaged();
+            bm.recycleRightTuple(rightTuple);
             rightTuple = next;
         }
     }
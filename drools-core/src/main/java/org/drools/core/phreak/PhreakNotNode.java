@@ -518,6 +518,7 @@ public class PhreakNotNode {
 
             rightTuple.setBlocked(null);
             rightTuple.clearStaged();
+            bm.recycleRightTuple(rightTuple);
             rightTuple = next;
         }
 
@@ -22,6 +22,9 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import org.drools.base.reteoo.NodeTypeEnums;
@@ -322,6 +325,79 @@ public interface PropagationEntry {
         }
     }
 
+    /**
+     * The insertion of a group of facts enqueued as a single entry. Each fact is still propagated through the
+     * alpha network on its own, exactly as a single Insert would do, but the facts share the same entry of the
+     * propagation list.
+     */
+    class InsertAll extends AbstractPropagationEntry implements Externalizable {
+
+        private List<InternalFactHandle> handles;
+        private List<PropagationContext> contexts;
+        private List<ObjectTypeConf> objectTypeConfs;
+
+        public InsertAll() { }
+
+        public InsertAll(int expectedSize) {
+            this.handles = new ArrayList<>(expectedSize);
+            this.contexts = new ArrayList<>(expectedSize);
+            this.objectTypeConfs = new ArrayList<>(expectedSize);
+        }
+
+        public void add( InternalFactHandle handle, PropagationContext context, ReteEvaluator reteEvaluator, ObjectTypeConf objectTypeConf ) {
+            handles.add( handle );
+            contexts.add( context );
+            objectTypeConfs.add( objectTypeConf );
+
+            if ( handle.isEvent() ) {
+                Insert.scheduleExpiration(reteEvaluator, handle, context, objectTypeConf, reteEvaluator.getTimerService().getCurrentTime());
+            }
+        }
+
+        public boolean isEmpty() {
+            return handles.isEmpty();
+        }
+
+        public int size() {
+            return handles.size();
+        }
+
+        public List<InternalFactHandle> getHandles() {
+            return handles;
+        }
+
+        public PropagationContext getContext(int i) {
+            return contexts.get(i);
+        }
+
+        public void internalExecute(ReteEvaluator reteEvaluator ) {
+            for (int i = 0; i < handles.size(); i++) {
+                Insert.propagate( handles.get(i), contexts.get(i), reteEvaluator, objectTypeConfs.get(i) );
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Insert of " + handles.size() + " facts";
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeObject(next);
+            out.writeObject(handles);
+            out.writeObject(contexts);
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            this.next = (PropagationEntry) in.readObject();
+            this.handles = (List<InternalFactHandle>) in.readObject();
+            this.contexts = (List<PropagationContext>) in.readObject();
+            // as for a single Insert, the ObjectTypeConfs are looked up again when propagating
+            this.objectTypeConfs = new ArrayList<>(Collections.nCopies(handles.size(), null));
+        }
+    }
+
     class Update extends AbstractPropagationEntry implements Externalizable {
         private InternalFactHandle handle;
         private PropagationContext context;
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.phreak;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.base.reteoo.NodeTypeEnums;
+import org.drools.core.common.Memory;
+import org.drools.core.common.MemoryFactory;
+import org.drools.core.common.NodeMemories;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.reteoo.AccumulateNode.AccumulateMemory;
+import org.drools.core.reteoo.BetaMemory;
+import org.drools.core.reteoo.BetaNode;
+import org.drools.core.reteoo.FromNode.FromMemory;
+import org.drools.core.reteoo.LeftInputAdapterNode;
+import org.drools.core.reteoo.LeftInputAdapterNode.LiaNodeMemory;
+import org.drools.core.reteoo.LeftTupleNode;
+import org.drools.core.reteoo.LeftTupleSink;
+import org.drools.core.reteoo.LeftTupleSource;
+import org.drools.core.reteoo.PathMemory;
+import org.drools.core.reteoo.SegmentMemory;
+
+/**
+ * Discards the memories of the parts of the network that have stayed unlinked and empty for a given time.
+ *
+ * The unit of reclaiming is the whole tree of nodes starting from a LeftInputAdapterNode, i.e. all the segments
+ * and the paths that can receive tuples only from that LeftInputAdapterNode: only in this case no memory outside
+ * the tree can still reference the discarded ones. A tree is empty when its LeftInputAdapterNode has no tuples,
+ * all its beta memories have empty left and right memories, no segment has staged tuples and no rule is on the agenda.
+ * All the memories of an empty tree are removed from the NodeMemories, and they will be lazily created again,
+ * from the segment prototypes, the next time a fact reaches any node of the tree, exactly as in a new session.
+ *
+ * The check runs only at the rest points of the engine, at most once per timeout period, and a tree is
+ * reclaimed when it has been found empty by two consecutive checks at least the timeout apart.
+ * Trees containing subnetworks, queries, timers, async or reactive nodes are never reclaimed.
+ */
+public class SegmentMemoryReclaimer {
+
+    private final ReteEvaluator reteEvaluator;
+    private final long timeout;
+
+    private Map<LiaNodeMemory, Long> emptySince = new IdentityHashMap<>();
+    private long lastCheck;
+
+    public SegmentMemoryReclaimer(ReteEvaluator reteEvaluator, long timeout) {
+        this.reteEvaluator = reteEvaluator;
+        this.timeout = timeout;
+        this.lastCheck = reteEvaluator.getSessionClock().getCurrentTime();
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Reclaims the expired trees if at least the timeout has elapsed since the last check.
+     * This has to be invoked only when the engine is at rest, by the thread owning it.
+     * @return the number of reclaimed trees
+     */
+    public int reclaimIfDue() {
+        long now = reteEvaluator.getSessionClock().getCurrentTime();
+        if (now - lastCheck < timeout) {
+            return 0;
+        }
+        lastCheck = now;
+        return reclaim(now);
+    }
+
+    private int reclaim(long now) {
+        NodeMemories nodeMemories = reteEvaluator.getNodeMemories();
+        Map<LiaNodeMemory, Long> stillEmpty = new IdentityHashMap<>();
+        List<LeftTupleNode> nodes = new ArrayList<>();
+        int reclaimed = 0;
+
+        for (int i = 0; i < nodeMemories.length(); i++) {
+            Memory memory = nodeMemories.peekNodeMemory(i);
+            if (!(memory instanceof LiaNodeMemory) || memory.getSegmentMemory() == null) {
+                continue;
+            }
+            LiaNodeMemory liaMemory = (LiaNodeMemory) memory;
+            LeftTupleNode lia = memory.getSegmentMemory().getRootNode();
+            nodes.clear();
+            if (liaMemory.getCounter() != 0 || !NodeTypeEnums.isLeftInputAdapterNode(lia) ||
+                !isEmptyTree((LeftInputAdapterNode) lia, nodeMemories, nodes)) {
+                continue;
+            }
+
+            Long since = emptySince.get(liaMemory);
+            if (since != null && now - since >= timeout) {
+                for (LeftTupleNode node : nodes) {
+                    nodeMemories.clearNodeMemory((MemoryFactory) node);
+                }
+                reclaimed++;
+            } else {
+                stillEmpty.put(liaMemory, since != null ? since : now);
+            }
+        }
+
+        emptySince = stillEmpty;
+        return reclaimed;
+    }
+
+    private static boolean isEmptyTree(LeftTupleSource source, NodeMemories nodeMemories, List<LeftTupleNode> nodes) {
+        if (!isEmptyNode(source, nodeMemories, nodes)) {
+            return false;
+        }
+        for (LeftTupleSink sink : source.getSinkPropagator().getSinks()) {
+            if (NodeTypeEnums.isLeftTupleSource(sink)) {
+                if (!isEmptyTree((LeftTupleSource) sink, nodeMemories, nodes)) {
+                    return false;
+                }
+            } else if (sink.getType() != NodeTypeEnums.RuleTerminalNode || !isEmptyNode(sink, nodeMemories, nodes)) {
+                // query terminal nodes and subnetworks are not reclaimable
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEmptyNode(LeftTupleNode node, NodeMemories nodeMemories, List<LeftTupleNode> nodes) {
+        Memory memory = nodeMemories.peekNodeMemory(((MemoryFactory) node).getMemoryId());
+        if (memory == null) {
+            return true;
+        }
+        if (memory.getSegmentMemory() != null && !memory.getSegmentMemory().getStagedLeftTuples().isEmpty()) {
+            return false;
+        }
+
+        boolean empty;
+        switch (node.getType()) {
+            case NodeTypeEnums.LeftInputAdapterNode:
+            case NodeTypeEnums.AlphaTerminalNode:
+            case NodeTypeEnums.EvalConditionNode:
+                empty = true;
+                break;
+            case NodeTypeEnums.JoinNode:
+            case NodeTypeEnums.NotNode:
+            case NodeTypeEnums.ExistsNode:
+                empty = !((BetaNode) node).inputIsTupleToObjectNode() && isEmptyBetaMemory((BetaMemory) memory);
+                break;
+            case NodeTypeEnums.AccumulateNode:
+                empty = !((BetaNode) node).inputIsTupleToObjectNode() && isEmptyBetaMemory(((AccumulateMemory) memory).getBetaMemory());
+                break;
+            case NodeTypeEnums.FromNode:
+                empty = isEmptyBetaMemory(((FromMemory) memory).getBetaMemory());
+                break;
+            case NodeTypeEnums.RuleTerminalNode:
+                empty = isIdlePath((PathMemory) memory);
+                break;
+            default:
+                empty = false;
+        }
+
+        if (empty) {
+            nodes.add(node);
+        }
+        return empty;
+    }
+
+    private static boolean isEmptyBetaMemory(BetaMemory<?> bm) {
+        return bm.getLeftTupleMemory().size() == 0 && bm.getRightTupleMemory().size() == 0 && bm.getStagedRightTuples().isEmpty();
+    }
+
+    private static boolean isIdlePath(PathMemory pmem) {
+        RuleAgendaItem item = pmem.getRuleAgendaItem();
+        if (item == null) {
+            return true;
+        }
+        RuleExecutor executor = item.getRuleExecutor();
+        return !item.isQueued() && !item.getRule().isEager() && !executor.isDirty() &&
+               executor.getActiveMatches().isEmpty() && executor.getDormantMatches().isEmpty();
+    }
+}
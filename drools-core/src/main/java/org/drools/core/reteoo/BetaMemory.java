@@ -38,6 +38,11 @@ public class BetaMemory<C> extends AbstractLinkedListNode<Memory> implements Seg
     private int                      counter;
     private SubnetworkPathMemory     subnetworkPathMemory;
 
+    // the RightTuples deleted from this memory and kept to be reused, linked through their next field
+    private int                      rightTuplePoolSize;
+    private RightTuple               recycledRightTuples;
+    private int                      recycledRightTuplesSize;
+
     public BetaMemory() {
     }
 
@@ -161,6 +166,40 @@ public class BetaMemory<C> extends AbstractLinkedListNode<Memory> implements Seg
         }
     }
 
+    public int getRightTuplePoolSize() {
+        return rightTuplePoolSize;
+    }
+
+    public void setRightTuplePoolSize(int rightTuplePoolSize) {
+        this.rightTuplePoolSize = rightTuplePoolSize;
+    }
+
+    /**
+     * Returns a RightTuple previously recycled by this memory, or null if there isn't any.
+     * The returned tuple has to be reinitialized before being used.
+     */
+    public RightTuple pollRecycledRightTuple() {
+        RightTuple rightTuple = recycledRightTuples;
+        if (rightTuple != null) {
+            recycledRightTuples = (RightTuple) rightTuple.getNext();
+            rightTuple.setNext(null);
+            recycledRightTuplesSize--;
+        }
+        return rightTuple;
+    }
+
+    /**
+     * Keeps a RightTuple, whose deletion has been completely processed by the node of this memory, to reuse it
+     * for a following insertion. The tuple is simply discarded when the pool is disabled or already full.
+     */
+    public void recycleRightTuple(TupleImpl rightTuple) {
+        if (recycledRightTuplesSize < rightTuplePoolSize && rightTuple.getClass() == RightTuple.class) {
+            rightTuple.setNext(recycledRightTuples);
+            recycledRightTuples = (RightTuple) rightTuple;
+            recycledRightTuplesSize++;
+        }
+    }
+
     @Override
     public void reset() {
         if (leftTupleMemory != null) {
@@ -170,6 +209,8 @@ public class BetaMemory<C> extends AbstractLinkedListNode<Memory> implements Seg
             rightTupleMemory.clear();
         }
         stagedRightTuples.resetAll();
+        recycledRightTuples = null;
+        recycledRightTuplesSize = 0;
         counter = 0;
     }
 }
@@ -333,7 +333,9 @@ public abstract class BetaNode extends LeftTupleSource
     }
 
     public Memory createMemory(RuleBaseConfiguration config, ReteEvaluator reteEvaluator) {
-        return (Memory) constraints.createBetaMemory(config, getType());
+        BetaMemory memory = constraints.createBetaMemory(config, getType());
+        memory.setRightTuplePoolSize(config.getRightTuplePoolSize());
+        return (Memory) memory;
     }
 
     public String toString() {
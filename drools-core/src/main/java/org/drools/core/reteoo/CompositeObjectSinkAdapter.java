@@ -23,9 +23,12 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -74,6 +77,11 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
     private Map<NetworkNode, NetworkNode> sinksMap;
 
+    // the number of propagations to be sampled before the adaptive indexing takes place, -1 if not resolved yet
+    private transient int                   adaptiveSampleSize = -1;
+    private transient int                   sampledPropagations;
+    private transient volatile AdaptiveIndex adaptiveIndex;
+
     public CompositeObjectSinkAdapter() {
         this( 3, 3 );
     }
@@ -134,6 +142,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
     public ObjectSinkPropagator addObjectSink(ObjectSink sink, int alphaNodeHashingThreshold, int alphaNodeRangeIndexThreshold) {
         this.sinks = null; // dirty it, so it'll rebuild on next get
+        resetAdaptiveIndex();
         if (this.sinksMap != null) {
             this.sinksMap.put( sink, sink );
         }
@@ -218,6 +227,7 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
 
     public ObjectSinkPropagator removeObjectSink(final ObjectSink sink) {
         this.sinks = null; // dirty it, so it'll rebuild on next get
+        resetAdaptiveIndex();
         if (this.sinksMap != null) {
             this.sinksMap.remove( sink );
         }
@@ -543,6 +553,47 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         return null;
     }
 
+    /**
+     * Counts the propagations through this node when the adaptive indexing is enabled and, once the sample size
+     * has been reached, builds the adaptive indexes for the alpha nodes that are neither hashed nor range indexed.
+     * Returns null when the unhashed and un-rangeindexed sinks have to be evaluated one by one.
+     */
+    private AdaptiveIndex sampleAdaptiveIndex(ReteEvaluator reteEvaluator) {
+        AdaptiveIndex adaptive = this.adaptiveIndex;
+        if ( adaptive != null ) {
+            return adaptive.isIndexing() ? adaptive : null;
+        }
+        if ( this.hashableSinks == null && this.rangeIndexableSinks == null ) {
+            return null;
+        }
+        if ( this.adaptiveSampleSize < 0 ) {
+            this.adaptiveSampleSize = reteEvaluator.getKnowledgeBase().getRuleBaseConfiguration().getAlphaNodeAdaptiveIndexing();
+        }
+        // the counter is intentionally not synchronized: losing a few samples only delays the indexing
+        if ( this.adaptiveSampleSize > 0 && ++this.sampledPropagations >= this.adaptiveSampleSize ) {
+            adaptive = buildAdaptiveIndex();
+            return adaptive.isIndexing() ? adaptive : null;
+        }
+        return null;
+    }
+
+    private synchronized AdaptiveIndex buildAdaptiveIndex() {
+        if ( this.adaptiveIndex == null ) {
+            this.adaptiveIndex = AdaptiveIndex.build( this.hashableSinks, this.rangeIndexableSinks );
+        }
+        return this.adaptiveIndex;
+    }
+
+    private void resetAdaptiveIndex() {
+        this.adaptiveIndex = null;
+        this.sampledPropagations = 0;
+    }
+
+    public boolean isAdaptivelyIndexed() {
+        AdaptiveIndex adaptive = this.adaptiveIndex;
+        return adaptive != null && adaptive.isIndexing();
+    }
+
     public void propagateAssertObject(final InternalFactHandle factHandle,
                                       final PropagationContext context,
                                       final ReteEvaluator reteEvaluator) {
@@ -580,23 +631,41 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
             }
         }
 
-        // propagate unhashed
-        if ( this.hashableSinks != null ) {
-            for ( ObjectSinkNode sink : this.hashableSinks ) {
-                doPropagateAssertObject( factHandle,
-                                         context,
-                                         reteEvaluator,
-                                         sink );
+        final AdaptiveIndex adaptive = sampleAdaptiveIndex( reteEvaluator );
+        if ( adaptive != null ) {
+            // propagate the unhashed and un-rangeindexed sinks selected by the adaptive indexes
+            final int[] positions = adaptive.getMatchingPositions( object );
+            for ( int position : positions ) {
+                final AlphaNode sink = adaptive.getSink( position );
+                if ( adaptive.isIndexed( position ) ) {
+                    // go straight to the AlphaNode's propagator, as we know it's true and no need to retest
+                    sink.getObjectSinkPropagator().propagateAssertObject( factHandle, context, reteEvaluator );
+                } else {
+                    doPropagateAssertObject( factHandle,
+                                             context,
+                                             reteEvaluator,
+                                             sink );
+                }
+            }
+        } else {
+            // propagate unhashed
+            if ( this.hashableSinks != null ) {
+                for ( ObjectSinkNode sink : this.hashableSinks ) {
+                    doPropagateAssertObject( factHandle,
+                                             context,
+                                             reteEvaluator,
+                                             sink );
+                }
             }
-        }
 
-        // propagate un-rangeindexed
-        if ( this.rangeIndexableSinks != null ) {
-            for ( ObjectSinkNode sink : this.rangeIndexableSinks ) {
-                doPropagateAssertObject( factHandle,
-                                         context,
-                                         reteEvaluator,
-                                         sink );
+            // propagate un-rangeindexed
+            if ( this.rangeIndexableSinks != null ) {
+                for ( ObjectSinkNode sink : this.rangeIndexableSinks ) {
+                    doPropagateAssertObject( factHandle,
+                                             context,
+                                             reteEvaluator,
+                                             sink );
+                }
             }
         }
 
@@ -649,25 +718,38 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
             }
         }
 
-        // propagate unhashed
-        if ( this.hashableSinks != null ) {
-            for ( ObjectSinkNode sink : this.hashableSinks ) {
+        final AdaptiveIndex adaptive = sampleAdaptiveIndex( reteEvaluator );
+        if ( adaptive != null ) {
+            // propagate the unhashed and un-rangeindexed sinks selected by the adaptive indexes,
+            // letting the AlphaNode check the modification mask as it would do without indexing
+            for ( int position : adaptive.getMatchingPositions( object ) ) {
                 doPropagateModifyObject( factHandle,
                                          modifyPreviousTuples,
                                          context,
                                          reteEvaluator,
-                                         sink );
+                                         adaptive.getSink( position ) );
+            }
+        } else {
+            // propagate unhashed
+            if ( this.hashableSinks != null ) {
+                for ( ObjectSinkNode sink : this.hashableSinks ) {
+                    doPropagateModifyObject( factHandle,
+                                             modifyPreviousTuples,
+                                             context,
+                                             reteEvaluator,
+                                             sink );
+                }
             }
-        }
 
-        // propagate un-rangeindexed
-        if ( this.rangeIndexableSinks != null ) {
-            for ( ObjectSinkNode sink : this.rangeIndexableSinks ) {
-                doPropagateModifyObject( factHandle,
-                                         modifyPreviousTuples,
-                                         context,
-                                         reteEvaluator,
-                                         sink );
+            // propagate un-rangeindexed
+            if ( this.rangeIndexableSinks != null ) {
+                for ( ObjectSinkNode sink : this.rangeIndexableSinks ) {
+                    doPropagateModifyObject( factHandle,
+                                             modifyPreviousTuples,
+                                             context,
+                                             reteEvaluator,
+                                             sink );
+                }
             }
         }
 
@@ -718,18 +800,26 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
             }
         }
 
-        // propagate unhashed
-        if ( this.hashableSinks != null ) {
-            for ( AlphaNode sink : this.hashableSinks ) {
-                // only alpha nodes are hashable
-                sink.getObjectSinkPropagator().byPassModifyToBetaNode( factHandle, modifyPreviousTuples, context, reteEvaluator );
+        final AdaptiveIndex adaptive = this.adaptiveIndex;
+        if ( adaptive != null && adaptive.isIndexing() ) {
+            // the indexed fields are not modified, so the adaptive indexes select the same sinks of the last propagation
+            for ( int position : adaptive.getMatchingPositions( object ) ) {
+                adaptive.getSink( position ).getObjectSinkPropagator().byPassModifyToBetaNode( factHandle, modifyPreviousTuples, context, reteEvaluator );
+            }
+        } else {
+            // propagate unhashed
+            if ( this.hashableSinks != null ) {
+                for ( AlphaNode sink : this.hashableSinks ) {
+                    // only alpha nodes are hashable
+                    sink.getObjectSinkPropagator().byPassModifyToBetaNode( factHandle, modifyPreviousTuples, context, reteEvaluator );
+                }
             }
-        }
 
-        // propagate un-rangeindexed
-        if ( this.rangeIndexableSinks != null ) {
-            for ( AlphaNode sink : this.rangeIndexableSinks ) {
-                sink.getObjectSinkPropagator().byPassModifyToBetaNode( factHandle, modifyPreviousTuples, context, reteEvaluator );
+            // propagate un-rangeindexed
+            if ( this.rangeIndexableSinks != null ) {
+                for ( AlphaNode sink : this.rangeIndexableSinks ) {
+                    sink.getObjectSinkPropagator().byPassModifyToBetaNode( factHandle, modifyPreviousTuples, context, reteEvaluator );
+                }
             }
         }
 
@@ -905,6 +995,175 @@ public class CompositeObjectSinkAdapter implements ObjectSinkPropagator {
         return rangeIndexedFieldIndexes;
     }
 
+    /**
+     * An immutable snapshot of the hash and range indexes built at runtime by the adaptive indexing on the alpha nodes
+     * that didn't reach the hashing and range index thresholds. Since the ObjectTypeNodeIds of the tuples are assigned
+     * following the order of getSinks(), the matching sinks are always returned in that same relative order, so that
+     * the modify of a fact asserted before the indexing still finds its previous tuples.
+     */
+    private static class AdaptiveIndex {
+
+        private static final int MIN_HASHED_SINKS = 2;
+        private static final int MIN_RANGE_INDEXED_SINKS = 3;
+
+        private static final AdaptiveIndex NONE = new AdaptiveIndex( new AlphaNode[0], new boolean[0], new int[0],
+                                                                     new FieldIndex[0], null, new AlphaRangeIndex[0], null );
+
+        // the hashable sinks followed by the range indexable ones, as returned by getSinks()
+        private final AlphaNode[] sinks;
+        private final boolean[] indexed;
+        private final int[] residualPositions;
+
+        private final FieldIndex[] hashedFieldIndexes;
+        private final Map<HashKey, Integer> hashedPositions;
+
+        private final AlphaRangeIndex[] rangeIndexes;
+        private final Map<AlphaNode, Integer> rangeIndexedPositions;
+
+        private AdaptiveIndex(AlphaNode[] sinks, boolean[] indexed, int[] residualPositions,
+                              FieldIndex[] hashedFieldIndexes, Map<HashKey, Integer> hashedPositions,
+                              AlphaRangeIndex[] rangeIndexes, Map<AlphaNode, Integer> rangeIndexedPositions) {
+            this.sinks = sinks;
+            this.indexed = indexed;
+            this.residualPositions = residualPositions;
+            this.hashedFieldIndexes = hashedFieldIndexes;
+            this.hashedPositions = hashedPositions;
+            this.rangeIndexes = rangeIndexes;
+            this.rangeIndexedPositions = rangeIndexedPositions;
+        }
+
+        static AdaptiveIndex build(List<AlphaNode> hashableSinks, List<AlphaNode> rangeIndexableSinks) {
+            List<AlphaNode> candidates = new ArrayList<>();
+            if ( hashableSinks != null ) {
+                candidates.addAll( hashableSinks );
+            }
+            int firstRangeIndexable = candidates.size();
+            if ( rangeIndexableSinks != null ) {
+                candidates.addAll( rangeIndexableSinks );
+            }
+
+            // group the candidates by the field they constrain
+            Map<Integer, List<Integer>> equalityPositions = new LinkedHashMap<>();
+            Map<Integer, List<Integer>> rangePositions = new LinkedHashMap<>();
+            for ( int i = 0; i < candidates.size(); i++ ) {
+                IndexableConstraint constraint = (IndexableConstraint) candidates.get( i ).getConstraint();
+                if ( i < firstRangeIndexable ) {
+                    if ( !constraint.getField().isNull() ) {
+                        equalityPositions.computeIfAbsent( constraint.getFieldExtractor().getIndex(), k -> new ArrayList<>() ).add( i );
+                    }
+                } else {
+                    rangePositions.computeIfAbsent( constraint.getFieldExtractor().getIndex(), k -> new ArrayList<>() ).add( i );
+                }
+            }
+
+            AlphaNode[] sinks = candidates.toArray( new AlphaNode[candidates.size()] );
+            boolean[] indexed = new boolean[sinks.length];
+
+            List<FieldIndex> hashedFieldIndexes = new ArrayList<>();
+            Map<HashKey, Integer> hashedPositions = new HashMap<>();
+            for ( Map.Entry<Integer, List<Integer>> entry : equalityPositions.entrySet() ) {
+                if ( entry.getValue().size() < MIN_HASHED_SINKS ) {
+                    continue;
+                }
+                int index = entry.getKey();
+                ReadAccessor fieldExtractor = ((IndexableConstraint) sinks[entry.getValue().get( 0 )].getConstraint()).getFieldExtractor();
+                boolean hashed = false;
+                for ( int position : entry.getValue() ) {
+                    HashKey hashKey = new HashKey( index, ((IndexableConstraint) sinks[position].getConstraint()).getField(), fieldExtractor );
+                    // a sink with the same value of an already hashed one is left to be evaluated
+                    if ( hashedPositions.putIfAbsent( hashKey, position ) == null ) {
+                        indexed[position] = true;
+                        hashed = true;
+                    }
+                }
+                if ( hashed ) {
+                    hashedFieldIndexes.add( new FieldIndex( index, fieldExtractor ) );
+                }
+            }
+
+            List<AlphaRangeIndex> rangeIndexes = new ArrayList<>();
+            Map<AlphaNode, Integer> rangeIndexedPositions = new IdentityHashMap<>();
+            for ( Map.Entry<Integer, List<Integer>> entry : rangePositions.entrySet() ) {
+                if ( entry.getValue().size() < MIN_RANGE_INDEXED_SINKS ) {
+                    continue;
+                }
+                ReadAccessor fieldExtractor = ((IndexableConstraint) sinks[entry.getValue().get( 0 )].getConstraint()).getFieldExtractor();
+                AlphaRangeIndex rangeIndex = new AlphaRangeIndex( new FieldIndex( entry.getKey(), fieldExtractor ) );
+                try {
+                    for ( int position : entry.getValue() ) {
+                        rangeIndex.add( sinks[position] );
+                    }
+                } catch (IllegalStateException e) {
+                    // conflicting (not shared) alpha nodes, leave this field to be evaluated
+                    continue;
+                }
+                for ( int position : entry.getValue() ) {
+                    indexed[position] = true;
+                    rangeIndexedPositions.put( sinks[position], position );
+                }
+                rangeIndexes.add( rangeIndex );
+            }
+
+            if ( hashedFieldIndexes.isEmpty() && rangeIndexes.isEmpty() ) {
+                return NONE;
+            }
+
+            int[] residualPositions = new int[sinks.length];
+            int residualSize = 0;
+            for ( int i = 0; i < sinks.length; i++ ) {
+                if ( !indexed[i] ) {
+                    residualPositions[residualSize++] = i;
+                }
+            }
+
+            return new AdaptiveIndex( sinks, indexed, Arrays.copyOf( residualPositions, residualSize ),
+                                      hashedFieldIndexes.toArray( new FieldIndex[hashedFieldIndexes.size()] ), hashedPositions,
+                                      rangeIndexes.toArray( new AlphaRangeIndex[rangeIndexes.size()] ), rangeIndexedPositions );
+        }
+
+        boolean isIndexing() {
+            return this != NONE;
+        }
+
+        AlphaNode getSink(int position) {
+            return sinks[position];
+        }
+
+        boolean isIndexed(int position) {
+            return indexed[position];
+        }
+
+        int[] getMatchingPositions(Object object) {
+            int[] positions = Arrays.copyOf( residualPositions, residualPositions.length + hashedFieldIndexes.length );
+            int size = residualPositions.length;
+
+            for ( FieldIndex fieldIndex : hashedFieldIndexes ) {
+                Integer position = hashedPositions.get( new HashKey( fieldIndex, object ) );
+                if ( position != null ) {
+                    positions[size++] = position;
+                }
+            }
+
+            for ( AlphaRangeIndex rangeIndex : rangeIndexes ) {
+                Collection<AlphaNode> matching = rangeIndex.getMatchingAlphaNodes( object );
+                if ( matching.isEmpty() ) {
+                    continue;
+                }
+                if ( size + matching.size() > positions.length ) {
+                    positions = Arrays.copyOf( positions, size + matching.size() );
+                }
+                for ( AlphaNode sink : matching ) {
+                    positions[size++] = rangeIndexedPositions.get( sink );
+                }
+            }
+
+            if ( size > residualPositions.length ) {
+                Arrays.sort( positions, 0, size );
+            }
+            return size == positions.length ? positions : Arrays.copyOf( positions, size );
+        }
+    }
+
     public static class HashKey implements Externalizable {
 
         private int index;
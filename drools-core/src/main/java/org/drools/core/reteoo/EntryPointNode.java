@@ -205,6 +205,19 @@ public class EntryPointNode extends ObjectSource implements ObjectSink {
     }
 
 
+    public void assertObjects(final PropagationEntry.InsertAll insertAll,
+                              final ReteEvaluator reteEvaluator) {
+        if ( log.isTraceEnabled() ) {
+            log.trace("Insert {} facts", insertAll.size());
+        }
+
+        if ( parallelExecution || !reteEvaluator.isThreadSafe() ) {
+            insertAll.internalExecute( reteEvaluator );
+        } else {
+            reteEvaluator.addPropagation( insertAll );
+        }
+    }
+
     public void modifyObject(final InternalFactHandle handle,
                              final PropagationContext pctx,
                              final ObjectTypeConf objectTypeConf,
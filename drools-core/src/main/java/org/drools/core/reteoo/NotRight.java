@@ -47,7 +47,8 @@ public class NotRight extends RightInputAdapterNode<NotNode> {
 
         TupleImpl rightTuple = createRightTuple( factHandle,
                                                  this,
-                                                 pctx);
+                                                 pctx,
+                                                 memory);
 
         rightTuple.setPropagationContext(pctx);
 
@@ -102,7 +102,7 @@ public abstract class RightInputAdapterNode<T extends  BetaNode> extends BaseNod
     public void assertObject( InternalFactHandle factHandle, PropagationContext pctx, ReteEvaluator reteEvaluator ) {
         final BetaMemory memory = getBetaMemoryFromRightInput(betaNode, reteEvaluator);
 
-        RightTuple rightTuple = createRightTuple(factHandle, this, pctx);
+        RightTuple rightTuple = createRightTuple(factHandle, this, pctx, memory);
 
         boolean stagedInsertWasEmpty = memory.getStagedRightTuples().addInsert(rightTuple);
         if ( isLogTraceEnabled ) {
@@ -211,6 +211,22 @@ public abstract class RightInputAdapterNode<T extends  BetaNode> extends BaseNod
     }
 
 
+    /**
+     * Creates the RightTuple for the given handle, reusing one recycled by the memory of the beta node when available.
+     */
+    public RightTuple createRightTuple(InternalFactHandle handle,
+                                       RightTupleSink sink,
+                                       PropagationContext context,
+                                       BetaMemory memory) {
+        RightTuple rightTuple = memory.pollRecycledRightTuple();
+        if (rightTuple == null) {
+            return createRightTuple(handle, sink, context);
+        }
+        rightTuple.reinit(handle, sink);
+        rightTuple.setPropagationContext( context );
+        return rightTuple;
+    }
+
     public RightTuple createRightTuple(InternalFactHandle handle,
                                        RightTupleSink sink,
                                        PropagationContext context) {
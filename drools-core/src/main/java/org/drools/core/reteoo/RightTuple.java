@@ -96,6 +96,21 @@ public class RightTuple extends TupleImpl {
         super(leftTuple, rightTuple, currentLeftChild, currentRightChild, sink, leftTupleMemoryEnabled);
     }
 
+    /**
+     * Reinitializes a RightTuple recycled by a node memory, as if it had just been created for the given handle.
+     */
+    public void reinit(InternalFactHandle handle,
+                       RightTupleSink sink) {
+        resetTuple();
+        this.blocked = null;
+        this.tempNextRightTuple = null;
+        this.tempBlocked = null;
+        this.retracted = false;
+        setSink(sink);
+        this.handle = handle;
+        handle.addLastRightTuple( this );
+    }
+
     public void reAdd() {
         getFactHandle().addLastRightTuple( this );
     }
@@ -452,6 +452,33 @@ public abstract class TupleImpl implements Tuple<TupleImpl> {
         this.memory = null;
     }
 
+    /**
+     * Clears all the state of this tuple, so that it can be recycled for a new propagation.
+     */
+    protected void resetTuple() {
+        clear();
+        this.index = 0;
+        this.parent = null;
+        this.rightParent = null;
+        this.rightParentPrevious = null;
+        this.rightParentNext = null;
+        this.stagedType = NONE;
+        this.contextObject = null;
+        this.handle = null;
+        this.propagationContext = null;
+        this.stagedNext = null;
+        this.stagedPrevious = null;
+        this.leftParent = null;
+        this.handlePrevious = null;
+        this.handleNext = null;
+        this.sink = null;
+        this.expired = false;
+        this.firstChild = null;
+        this.lastChild = null;
+        this.peer = null;
+        this.stagedTypeForQueries = NONE;
+    }
+
     public InternalFactHandle getFactHandle() {
         return handle;
     }
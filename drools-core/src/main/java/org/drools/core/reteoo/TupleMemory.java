@@ -28,10 +28,10 @@ public interface TupleMemory {
     }
 
     enum IndexType {
-        NONE, EQUAL, COMPARISON, RANGE;
+        NONE, EQUAL, COMPARISON, RANGE, EQUAL_COMPARISON;
 
         public boolean isComparison() {
-            return this == COMPARISON || this == RANGE;
+            return this == COMPARISON || this == RANGE || this == EQUAL_COMPARISON;
         }
     }
 
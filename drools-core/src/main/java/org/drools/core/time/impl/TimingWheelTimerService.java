@@ -0,0 +1,543 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.drools.base.time.JobHandle;
+import org.drools.base.time.Trigger;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.reteoo.ObjectTypeNode.ExpireJobContext;
+import org.drools.core.time.InternalSchedulerService;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.SelfRemovalJobContext;
+import org.drools.core.time.TimerService;
+import org.kie.api.time.SessionClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A realtime Scheduler implementation backed by a hierarchical timing wheel.
+ *
+ * Scheduling and cancelling a job are O(1) operations, regardless of the number of pending jobs, because each
+ * job is simply linked into the bucket covering its fire time. Only the buckets, and not the single jobs, are kept
+ * in a DelayQueue, so a large number of pending jobs, like the expirations of millions of events, doesn't
+ * cause any O(log n) reordering. All the jobs falling in the same tick are executed together by the wheel's thread
+ * once their bucket expires, and the expirations of the events of a session among them are enqueued as a single
+ * propagation entry, so that the engine processes them in one go.
+ */
+public class TimingWheelTimerService implements TimerService, SessionClock, InternalSchedulerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimingWheelTimerService.class);
+
+    public static final long DEFAULT_TICK_MILLIS = 1L;
+
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+
+    private final long tickMillis;
+
+    private final int wheelSize;
+
+    private final AtomicLong idCounter = new AtomicLong(0L);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final DelayQueue<Bucket> queue = new DelayQueue<>();
+
+    // bucket collecting the jobs which are already due when scheduled
+    private final Bucket dueBucket = new Bucket();
+
+    private Wheel wheel;
+
+    private volatile Thread worker;
+
+    private volatile boolean shutdown = false;
+
+    protected TimerJobFactoryManager jobFactoryManager = DefaultTimerJobFactoryManager.INSTANCE;
+
+    public TimingWheelTimerService() {
+        this(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    public TimingWheelTimerService(long tickMillis, int wheelSize) {
+        if (tickMillis < 1 || wheelSize < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel with tick " + tickMillis + "ms and size " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.wheel = new Wheel(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    public void setTimerJobFactoryManager(TimerJobFactoryManager timerJobFactoryManager) {
+        this.jobFactoryManager = timerJobFactoryManager;
+    }
+
+    public TimerJobFactoryManager getTimerJobFactoryManager() {
+        return this.jobFactoryManager;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    public void reset() {
+        if (idCounter.get() != 0L) {
+            lock.lock();
+            try {
+                wheel.clear();
+                dueBucket.flush(entry -> { });
+                queue.clear();
+                wheel = new Wheel(tickMillis, wheelSize, System.currentTimeMillis());
+                idCounter.set(0L);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        Thread currentWorker = worker;
+        if (currentWorker != null) {
+            currentWorker.interrupt();
+        }
+        lock.lock();
+        try {
+            wheel.clear();
+            dueBucket.flush(entry -> { });
+            queue.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public JobHandle scheduleJob(Job job, JobContext ctx, Trigger trigger) {
+        Date date = trigger.hasNextFireTime();
+        if (date != null) {
+            TimingWheelJobHandle jobHandle = new TimingWheelJobHandle(idCounter.getAndIncrement());
+
+            TimerJobInstance jobInstance = jobFactoryManager.createTimerJobInstance(job,
+                    ctx,
+                    trigger,
+                    jobHandle,
+                    this);
+            jobHandle.setTimerJobInstance(jobInstance);
+            internalSchedule(jobInstance);
+
+            return jobHandle;
+        } else {
+            return null;
+        }
+    }
+
+    public void internalSchedule(TimerJobInstance timerJobInstance) {
+        if (shutdown) {
+            return;
+        }
+        Date date = timerJobInstance.getTrigger().hasNextFireTime();
+        TimingWheelJobHandle jobHandle = (TimingWheelJobHandle) timerJobInstance.getJobHandle();
+        TimerEntry entry = new TimerEntry(timerJobInstance, date.getTime());
+
+        lock.lock();
+        try {
+            jobHandle.setEntry(entry);
+            if (!wheel.add(entry)) {
+                dueBucket.add(entry);
+                if (dueBucket.setExpiration(0L)) {
+                    queue.offer(dueBucket);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        jobFactoryManager.addTimerJobInstance(timerJobInstance);
+        ensureWorkerStarted();
+    }
+
+    public void removeJob(JobHandle jobHandle) {
+        jobHandle.cancel();
+        jobFactoryManager.removeTimerJobInstance(jobHandle);
+
+        TimingWheelJobHandle wheelJobHandle = (TimingWheelJobHandle) jobHandle;
+        lock.lock();
+        try {
+            TimerEntry entry = wheelJobHandle.getEntry();
+            if (entry != null && entry.bucket != null) {
+                entry.bucket.remove(entry);
+            }
+            wheelJobHandle.setEntry(null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getTimeToNextJob() {
+        return 0;
+    }
+
+    public Collection<TimerJobInstance> getTimerJobInstances(long id) {
+        return jobFactoryManager.getTimerJobInstances();
+    }
+
+    private void ensureWorkerStarted() {
+        if (worker == null) {
+            synchronized (this) {
+                if (worker == null && !shutdown) {
+                    Thread thread = new Thread(this::runWorker, "drools-timing-wheel-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.start();
+                    worker = thread;
+                }
+            }
+        }
+    }
+
+    private void runWorker() {
+        List<TimerJobInstance> expired = new ArrayList<>();
+        while (!shutdown) {
+            try {
+                Bucket bucket = queue.take();
+                lock.lock();
+                try {
+                    while (bucket != null) {
+                        wheel.advanceClock(bucket.getExpiration());
+                        // jobs still far in the future are moved down to a finer-grained wheel
+                        bucket.flush(entry -> {
+                            if (!wheel.add(entry)) {
+                                expired.add(entry.jobInstance);
+                            }
+                        });
+                        bucket = queue.poll();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                executeJobs(expired);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                expired.clear();
+            }
+        }
+    }
+
+    private void executeJobs(List<TimerJobInstance> jobs) {
+        ExpirationBatch batch = null;
+        for (TimerJobInstance jobInstance : jobs) {
+            if (shutdown) {
+                return;
+            }
+            if (jobInstance.getJobHandle().isCancel()) {
+                continue;
+            }
+            ExpireJobContext expireContext = getExpireJobContext(jobInstance);
+            if (expireContext != null) {
+                if (batch != null && batch.reteEvaluator != expireContext.getReteEvaluator()) {
+                    batch.enqueue();
+                    batch = null;
+                }
+                if (batch == null) {
+                    batch = new ExpirationBatch(expireContext.getReteEvaluator(), jobFactoryManager);
+                }
+                batch.add(jobInstance, expireContext);
+                continue;
+            }
+            // keep the relative order of the expirations and of the other jobs falling in the same tick
+            if (batch != null) {
+                batch.enqueue();
+                batch = null;
+            }
+            try {
+                ((Callable<Void>) jobInstance).call();
+            } catch (Exception e) {
+                logger.error("Unable to execute timer job " + jobInstance.getJobHandle(), e);
+            }
+        }
+        if (batch != null) {
+            batch.enqueue();
+        }
+    }
+
+    /**
+     * Returns the context of the job if it is the expiration of an event that can be batched with the other
+     * expirations of the same tick, null otherwise.
+     */
+    private static ExpireJobContext getExpireJobContext(TimerJobInstance jobInstance) {
+        if (jobInstance.getClass() != DefaultTimerJobInstance.class) {
+            return null;
+        }
+        JobContext ctx = jobInstance.getJobContext();
+        if (ctx instanceof SelfRemovalJobContext) {
+            ctx = ((SelfRemovalJobContext) ctx).getJobContext();
+        }
+        return ctx instanceof ExpireJobContext && ctx.getReteEvaluator() != null ? (ExpireJobContext) ctx : null;
+    }
+
+    /**
+     * All the event expirations of a session falling in the same tick, enqueued as a single propagation entry
+     * instead of one entry for the expiration plus one for the removal of the timer job instance for each event.
+     */
+    private static final class ExpirationBatch extends PropagationEntry.AbstractPropagationEntry {
+
+        private final ReteEvaluator reteEvaluator;
+        private final TimerJobFactoryManager jobFactoryManager;
+        private final List<PropagationEntry> expireActions;
+        private final List<TimerJobInstance> jobInstances;
+
+        private ExpirationBatch(ReteEvaluator reteEvaluator, TimerJobFactoryManager jobFactoryManager) {
+            this(reteEvaluator, jobFactoryManager, new ArrayList<>(), new ArrayList<>());
+        }
+
+        private ExpirationBatch(ReteEvaluator reteEvaluator, TimerJobFactoryManager jobFactoryManager,
+                                List<PropagationEntry> expireActions, List<TimerJobInstance> jobInstances) {
+            this.reteEvaluator = reteEvaluator;
+            this.jobFactoryManager = jobFactoryManager;
+            this.expireActions = expireActions;
+            this.jobInstances = jobInstances;
+        }
+
+        private void add(TimerJobInstance jobInstance, ExpireJobContext ctx) {
+            // what ObjectTypeNode.ExpireJob does, except for the propagation which is deferred to the whole batch
+            ctx.getExpireAction().getFactHandle().removeJob((DefaultJobHandle) jobInstance.getJobHandle());
+            expireActions.add(ctx.getExpireAction());
+            jobInstances.add(jobInstance);
+        }
+
+        private void enqueue() {
+            reteEvaluator.addPropagation(this);
+        }
+
+        @Override
+        public void internalExecute(ReteEvaluator reteEvaluator) {
+            for (PropagationEntry expireAction : expireActions) {
+                expireAction.execute(reteEvaluator);
+            }
+            for (TimerJobInstance jobInstance : jobInstances) {
+                jobFactoryManager.removeTimerJobInstance(jobInstance);
+            }
+        }
+
+        @Override
+        public boolean isPartitionSplittable() {
+            return true;
+        }
+
+        @Override
+        public PropagationEntry getSplitForPartition(int partitionNr) {
+            List<PropagationEntry> splits = new ArrayList<>(expireActions.size());
+            for (PropagationEntry expireAction : expireActions) {
+                splits.add(expireAction.getSplitForPartition(partitionNr));
+            }
+            // the timer job instances have to be removed only once
+            return new ExpirationBatch(reteEvaluator, jobFactoryManager, splits,
+                                       partitionNr == 0 ? jobInstances : Collections.emptyList());
+        }
+
+        @Override
+        public String toString() {
+            return "Expiration of " + expireActions.size() + " events";
+        }
+    }
+
+    public static class TimingWheelJobHandle extends DefaultJobHandle
+            implements
+            JobHandle {
+
+        private static final long serialVersionUID = 510l;
+
+        private transient TimerEntry entry;
+
+        public TimingWheelJobHandle(long id) {
+            super(id);
+        }
+
+        TimerEntry getEntry() {
+            return entry;
+        }
+
+        void setEntry(TimerEntry entry) {
+            this.entry = entry;
+        }
+    }
+
+    private final class Wheel {
+
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket[] buckets;
+
+        private long currentTime;
+        private Wheel overflowWheel;
+
+        private Wheel(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickMillis * wheelSize;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket();
+            }
+            this.currentTime = startMillis - (startMillis % tickMillis);
+        }
+
+        /**
+         * Adds the entry to the bucket of this wheel, or of one of its overflow wheels, covering its expiration.
+         * Returns false if the entry is already due and then has to be executed immediately.
+         */
+        private boolean add(TimerEntry entry) {
+            long expiration = entry.expiration;
+            if (expiration < currentTime + tickMillis) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                long virtualId = expiration / tickMillis;
+                Bucket bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(entry);
+                // the bucket has to be (re)enqueued only when it's reused for a new round of the wheel
+                if (bucket.setExpiration(virtualId * tickMillis)) {
+                    queue.offer(bucket);
+                }
+                return true;
+            }
+            if (overflowWheel == null) {
+                overflowWheel = new Wheel(interval, wheelSize, currentTime);
+            }
+            return overflowWheel.add(entry);
+        }
+
+        private void advanceClock(long timeMillis) {
+            if (timeMillis >= currentTime + tickMillis) {
+                currentTime = timeMillis - (timeMillis % tickMillis);
+                if (overflowWheel != null) {
+                    overflowWheel.advanceClock(currentTime);
+                }
+            }
+        }
+
+        private void clear() {
+            for (Bucket bucket : buckets) {
+                bucket.flush(entry -> { });
+            }
+            if (overflowWheel != null) {
+                overflowWheel.clear();
+            }
+        }
+    }
+
+    private static final class Bucket implements Delayed {
+
+        private final TimerEntry root = new TimerEntry(null, -1L);
+
+        private volatile long expiration = -1L;
+
+        private Bucket() {
+            root.prev = root;
+            root.next = root;
+        }
+
+        private void add(TimerEntry entry) {
+            TimerEntry tail = root.prev;
+            entry.next = root;
+            entry.prev = tail;
+            entry.bucket = this;
+            tail.next = entry;
+            root.prev = entry;
+        }
+
+        private void remove(TimerEntry entry) {
+            entry.next.prev = entry.prev;
+            entry.prev.next = entry.next;
+            entry.next = null;
+            entry.prev = null;
+            entry.bucket = null;
+        }
+
+        private void flush(Consumer<TimerEntry> consumer) {
+            expiration = -1L;
+            TimerEntry entry = root.next;
+            while (entry != root) {
+                TimerEntry next = entry.next;
+                remove(entry);
+                consumer.accept(entry);
+                entry = next;
+            }
+        }
+
+        private long getExpiration() {
+            return expiration;
+        }
+
+        /**
+         * Returns true if the expiration has been changed
+         */
+        private boolean setExpiration(long expiration) {
+            long previous = this.expiration;
+            this.expiration = expiration;
+            return previous != expiration;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(expiration - System.currentTimeMillis(), 0L), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiration, ((Bucket) other).expiration);
+        }
+    }
+
+    static final class TimerEntry {
+
+        private final TimerJobInstance jobInstance;
+        private final long expiration;
+
+        private Bucket bucket;
+        private TimerEntry prev;
+        private TimerEntry next;
+
+        private TimerEntry(TimerJobInstance jobInstance, long expiration) {
+            this.jobInstance = jobInstance;
+            this.expiration = expiration;
+        }
+    }
+}
@@ -237,6 +237,56 @@ public abstract class AbstractHashTable
         }
     }
 
+    /**
+     * Index on a single int, long, short or byte key: the key is read as a primitive long and never boxed.
+     */
+    public static class SingleLongIndex implements Index {
+
+        private static final long    serialVersionUID = 510l;
+
+        private IndexedValueReader index;
+
+        private int startResult;
+
+        private final LongHashEntry hashEntry = new LongHashEntry();
+
+        public SingleLongIndex() {
+
+        }
+
+        public SingleLongIndex(final IndexedValueReader[] indexes,
+                               final int startResult) {
+            this.startResult = startResult;
+            this.index = indexes[0];
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException,
+                                                ClassNotFoundException {
+            index = (IndexedValueReader) in.readObject();
+            startResult = in.readInt();
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeObject( index );
+            out.writeInt( startResult );
+        }
+
+        @Override
+        public IndexedValueReader getFieldIndex(int index) {
+            if ( index > 0 ) {
+                throw new IllegalArgumentException( "IndexUtil position " + index + " does not exist" );
+            }
+            return this.index;
+        }
+
+        @Override
+        public HashEntry hashCodeOf(TupleImpl tuple, boolean left) {
+            return hashEntry.set(startResult, index.wholeNumberIndexedValueOf( tuple, left ) );
+        }
+    }
+
     public static class IndexTupleList extends TupleList implements HashEntry {
         private HashEntry hashEntry;
         private Index index;
@@ -461,6 +511,57 @@ public abstract class AbstractHashTable
         }
     }
 
+    public static class LongHashEntry implements HashEntry {
+
+        private int hashCode;
+        private long value;
+
+        public LongHashEntry() {
+        }
+
+        public LongHashEntry(int hashSeed, long value) {
+            set(hashSeed, value);
+        }
+
+        public HashEntry set(int hashSeed, long value) {
+            this.value = value;
+            this.hashCode = rehash( PRIME * hashSeed + Long.hashCode( value ) );
+            return this;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals( Object o ) {
+            if ( this == o ) {
+                return true;
+            }
+            if ( o == null || getClass() != o.getClass() ) {
+                return false;
+            }
+            LongHashEntry that = ( LongHashEntry ) o;
+            return value == that.value;
+        }
+
+        public HashEntry clone() {
+            LongHashEntry longEntry = new LongHashEntry();
+            longEntry.hashCode = hashCode;
+            longEntry.value = value;
+            return longEntry;
+        }
+
+        @Override
+        public String toString() {
+            return "LongHashEntry{" +
+                   "hashCode=" + hashCode +
+                   ", value=" + value +
+                   '}';
+        }
+    }
+
     public static class DoubleHashEntry implements HashEntry {
 
         private int hashCode;
@@ -18,55 +18,258 @@
  */
 package org.drools.core.util;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+/**
+ * A pool of reusable resources. By default it is unbounded and never shrinks, but it can be limited to a maximum
+ * number of resources, in which case a request that finds all of them in use waits for one to be released, and
+ * the resources remaining unused for too long can be evicted, without ever going below the initial size.
+ *
+ * The idle resources are reused in LIFO order, so the ones that are not needed anymore end up at the tail of the
+ * queue and are the first candidates for eviction. The eviction is performed when a resource is acquired or released
+ * and also periodically in background, so that the resources left idle after a load spike are disposed even if
+ * the pool isn't used anymore.
+ */
 public class ScalablePool<T> {
 
-    private final java.util.Queue<T> pool = new ConcurrentLinkedQueue<>();
-    private final List<T> resources = Collections.synchronizedList( new ArrayList<>() );
+    private final LinkedBlockingDeque<IdleResource<T>> pool = new LinkedBlockingDeque<>();
+    private final Set<T> resources = Collections.newSetFromMap( new ConcurrentHashMap<>() );
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final int initialSize;
 
     private final Supplier<? extends T> supplier;
     private final Consumer<? super T> resetter;
     private final Consumer<? super T> disposer;
 
+    private volatile int maxSize = -1;
+    private volatile long acquireTimeoutNanos = 0;
+    private volatile long maxIdleNanos = -1;
+
+    private ScheduledFuture<?> evictionTask;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder creationNanos = new LongAdder();
+
     public ScalablePool( int initialSize, Supplier<? extends T> supplier, Consumer<? super T> resetter, Consumer<? super T> disposer ) {
+        this.initialSize = initialSize;
         this.supplier = supplier;
         this.resetter = resetter;
         this.disposer = disposer;
 
         for (int i = 0; i < initialSize; i++) {
-            T t = this.supplier.get();
-            pool.offer( t );
-            resources.add( t );
+            size.incrementAndGet();
+            pool.offerLast( new IdleResource<>( create() ) );
+        }
+    }
+
+    /**
+     * Limits the number of resources of this pool to maxSize: a negative value makes it unbounded. When all the resources
+     * are in use, a further request waits up to the given timeout for one of them to be released and then fails with an
+     * IllegalStateException. A timeout of 0 makes the request fail immediately.
+     */
+    public void setMaxSize( int maxSize, long acquireTimeout, TimeUnit unit ) {
+        if (maxSize >= 0 && maxSize < initialSize) {
+            throw new IllegalArgumentException( "The max size of the pool (" + maxSize + ") cannot be lower than its initial size (" + initialSize + ")" );
+        }
+        this.maxSize = maxSize;
+        this.acquireTimeoutNanos = unit.toNanos( acquireTimeout );
+    }
+
+    /**
+     * Disposes the resources remaining in the pool without being used for longer than the given time. A negative value disables the eviction.
+     */
+    public synchronized void setMaxIdleTime( long maxIdleTime, TimeUnit unit ) {
+        this.maxIdleNanos = maxIdleTime < 0 ? -1 : unit.toNanos( maxIdleTime );
+        cancelEvictionTask();
+        if (maxIdleNanos >= 0) {
+            long period = Math.max( maxIdleNanos, TimeUnit.MILLISECONDS.toNanos( 1 ) );
+            // the task only weakly references this pool, so it doesn't prevent an abandoned pool from being collected
+            WeakReference<ScalablePool<T>> poolRef = new WeakReference<>( this );
+            evictionTask = EvictionSchedulerHolder.SCHEDULER.scheduleWithFixedDelay( () -> {
+                ScalablePool<T> pool = poolRef.get();
+                if (pool == null) {
+                    // an exception suppresses the subsequent executions of the task
+                    throw new CancellationException();
+                }
+                pool.evictIdle();
+            }, period, period, TimeUnit.NANOSECONDS );
+        }
+    }
+
+    private synchronized void cancelEvictionTask() {
+        if (evictionTask != null) {
+            evictionTask.cancel( false );
+            evictionTask = null;
         }
     }
 
     public T get() {
-        T t = pool.poll();
-        if (t != null) {
-            return t;
+        IdleResource<T> idle = pool.pollFirst();
+        if (idle != null) {
+            hitCount.increment();
+            evictIdle();
+            return idle.resource;
         }
 
-        t = this.supplier.get();
-        resources.add( t );
-        return t;
+        missCount.increment();
+        if (reserve()) {
+            return create();
+        }
+
+        try {
+            idle = acquireTimeoutNanos > 0 ? pool.pollFirst( acquireTimeoutNanos, TimeUnit.NANOSECONDS ) : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( "Interrupted while waiting for a resource of the pool", e );
+        }
+        if (idle != null) {
+            return idle.resource;
+        }
+
+        // a resource could have been evicted in the meanwhile
+        if (reserve()) {
+            return create();
+        }
+        throw new IllegalStateException( "Unable to obtain a resource from the pool: all the " + maxSize + " resources are in use" );
     }
 
     public void release(T t) {
         resetter.accept( t );
-        pool.offer( t );
+        pool.offerFirst( new IdleResource<>( t ) );
+        evictIdle();
+    }
+
+    /**
+     * Creates in background the resources needed to bring the idle ones back to the initial size of the pool.
+     */
+    public CompletableFuture<Void> warmUp() {
+        return CompletableFuture.runAsync( () -> {
+            while (pool.size() < initialSize && reserve()) {
+                pool.offerLast( new IdleResource<>( create() ) );
+            }
+        } );
+    }
+
+    public void evictIdle() {
+        long maxIdle = maxIdleNanos;
+        if (maxIdle < 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (IdleResource<T> idle = pool.peekLast(); idle != null && now - idle.idleSince > maxIdle && size.get() > initialSize; idle = pool.peekLast()) {
+            if (pool.removeLastOccurrence( idle )) {
+                size.decrementAndGet();
+                resources.remove( idle.resource );
+                disposer.accept( idle.resource );
+            }
+        }
+    }
+
+    private boolean reserve() {
+        while (true) {
+            int current = size.get();
+            int max = maxSize;
+            if (max >= 0 && current >= max) {
+                return false;
+            }
+            if (size.compareAndSet( current, current + 1 )) {
+                return true;
+            }
+        }
+    }
+
+    private T create() {
+        long start = System.nanoTime();
+        T t;
+        try {
+            t = this.supplier.get();
+        } catch (RuntimeException e) {
+            size.decrementAndGet();
+            throw e;
+        }
+        creationNanos.add( System.nanoTime() - start );
+        createdCount.increment();
+        resources.add( t );
+        return t;
     }
 
     public void shutdown() {
+        cancelEvictionTask();
         for (T t : resources) {
             disposer.accept( t );
         }
         pool.clear();
         resources.clear();
+        size.set( 0 );
+    }
+
+    /**
+     * Returns the number of requests served with an idle resource
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of requests that didn't find any idle resource
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of resources created by this pool, including the evicted ones
+     */
+    public long getCreatedCount() {
+        return createdCount.sum();
+    }
+
+    public long getAverageCreationNanos() {
+        long created = createdCount.sum();
+        return created == 0 ? 0 : creationNanos.sum() / created;
+    }
+
+    public int getIdleCount() {
+        return pool.size();
+    }
+
+    public int getSize() {
+        return size.get();
+    }
+
+    private static class EvictionSchedulerHolder {
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor( r -> {
+            Thread t = new Thread( r, "drools-pool-evictor" );
+            t.setDaemon( true );
+            return t;
+        } );
+    }
+
+    private static class IdleResource<T> {
+        private final T resource;
+        private final long idleSince;
+
+        private IdleResource( T resource ) {
+            this.resource = resource;
+            this.idleSince = System.nanoTime();
+        }
     }
 }
@@ -48,7 +48,9 @@ public interface IndexFactory {
         }
 
         if (indexSpec.getConstraintType() == ConstraintTypeOperator.EQUAL) {
-            return IndexMemory.createEqualityMemory(indexSpec, false);
+            return indexSpec.hasRangeIndex() ?
+                    IndexMemory.createCompositeRangeMemory(indexSpec, false) :
+                    IndexMemory.createEqualityMemory(indexSpec, false);
         }
 
         if (indexSpec.getConstraintType().isComparison()) {
@@ -67,7 +69,9 @@ public interface IndexFactory {
         }
 
         if (indexSpec.getConstraintType() == ConstraintTypeOperator.EQUAL) {
-            return IndexMemory.createEqualityMemory(indexSpec, true);
+            return indexSpec.hasRangeIndex() ?
+                    IndexMemory.createCompositeRangeMemory(indexSpec, true) :
+                    IndexMemory.createEqualityMemory(indexSpec, true);
         }
 
         if (indexSpec.getConstraintType().isComparison()) {
@@ -110,6 +110,10 @@ public class IndexMemory {
         return ComparisonMemoryFactoryHolder.INSTANCE.createMemory(indexSpec, isLeft);
     }
 
+    public static TupleMemory createCompositeRangeMemory(IndexSpec indexSpec, boolean isLeft) {
+        return new TupleIndexHashRBTree(indexSpec.getIndex(), indexSpec.getRangeConstraintType(), indexSpec.getRangeIndex(), isLeft);
+    }
+
     public interface Factory {
         TupleMemory createMemory(IndexSpec indexSpec, boolean isLeft);
     }
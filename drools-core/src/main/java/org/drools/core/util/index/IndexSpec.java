@@ -26,17 +26,23 @@ import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.util.AbstractHashTable.DoubleCompositeIndex;
 import org.drools.core.util.AbstractHashTable.Index;
 import org.drools.core.util.AbstractHashTable.SingleIndex;
+import org.drools.core.util.AbstractHashTable.SingleLongIndex;
 import org.drools.core.util.AbstractHashTable.TripleCompositeIndex;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.drools.base.util.index.IndexUtil.isCompositeRangeIndexable;
 import static org.drools.base.util.index.IndexUtil.isEqualIndexable;
 
 public class IndexSpec {
     private ConstraintTypeOperator constraintType = ConstraintTypeOperator.UNKNOWN;
     private IndexedValueReader[]   indexes;
 
+    // the comparison constraint sorting the tuples of each bucket when the equality index is composite with a range one
+    private ConstraintTypeOperator rangeConstraintType = ConstraintTypeOperator.UNKNOWN;
+    private IndexedValueReader     rangeIndex;
+
     public IndexSpec(int nodeType, BetaConstraint[] constraints, RuleBaseConfiguration config) {
         init(nodeType, constraints, config);
     }
@@ -73,8 +79,13 @@ public class IndexSpec {
             case 0 :
                 throw new IllegalArgumentException( "FieldIndexHashTable cannot use an index[] of length  0" );
             case 1 :
-                index = new SingleIndex(indexes,
-                                        startResult );
+                if ( indexes[0].isPrimitiveIndexable() ) {
+                    // avoid boxing the key on each probe when joining on a primitive whole number
+                    index = new SingleLongIndex(indexes, startResult );
+                } else {
+                    index = new SingleIndex(indexes,
+                                            startResult );
+                }
                 break;
             case 2 :
                 index = new DoubleCompositeIndex(indexes,
@@ -95,6 +106,18 @@ public class IndexSpec {
         return indexes[pos];
     }
 
+    public boolean hasRangeIndex() {
+        return rangeIndex != null;
+    }
+
+    public ConstraintTypeOperator getRangeConstraintType() {
+        return rangeConstraintType;
+    }
+
+    public IndexedValueReader getRangeIndex() {
+        return rangeIndex;
+    }
+
     public void init(int nodeType, BetaConstraint[] constraints, RuleBaseConfiguration config) {
         int keyDepth = config.getCompositeKeyDepth();
         IndexPrecedenceOption indexPrecedenceOption = config.getIndexPrecedenceOption();
@@ -116,12 +139,31 @@ public class IndexSpec {
             }
             indexes = indexList.toArray(new IndexedValueReader[indexList.size()]);
 
+            if (indexes.length > 0) {
+                initCompositeRangeIndex(nodeType, constraints, firstIndexableConstraint, config);
+            }
+
         } else if (constraintType.isComparison()) {
             // look for a dual constraint to create a range index
             indexes = new IndexedValueReader[]{((IndexableConstraint)constraints[firstIndexableConstraint]).getFieldIndex() };
         }
     }
 
+    private void initCompositeRangeIndex(int nodeType, BetaConstraint[] constraints, int firstIndexableConstraint, RuleBaseConfiguration config) {
+        // UnificationRestrictions cannot be allowed in composite indexes
+        if (((IndexableConstraint) constraints[firstIndexableConstraint]).isUnification()) {
+            return;
+        }
+        // IndexUtil already moved the comparison constraint to be indexed right after the equality ones
+        for (int i = firstIndexableConstraint+1; i < constraints.length; i++) {
+            if (isCompositeRangeIndexable(nodeType, constraints[i], config)) {
+                rangeIndex = ((IndexableConstraint) constraints[i]).getFieldIndex();
+                rangeConstraintType = ((IndexableConstraint) constraints[i]).getConstraintType();
+                return;
+            }
+        }
+    }
+
     public int determineTypeWithEqualityPriority(int nodeType, BetaConstraint[] constraints, RuleBaseConfiguration config) {
         int indexedConstraintPos = 0;
         for (int i = 0; i < constraints.length; i++) {
@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util.index;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.drools.base.util.IndexedValueReader;
+import org.drools.base.util.index.ConstraintTypeOperator;
+import org.drools.core.reteoo.TupleImpl;
+import org.drools.core.reteoo.TupleMemory;
+import org.drools.core.util.AbstractHashTable.HashEntry;
+import org.drools.core.util.AbstractHashTable.Index;
+import org.drools.core.util.FastIterator;
+import org.drools.core.util.TupleRBTree;
+import org.drools.core.util.TupleRBTree.Boundary;
+import org.drools.core.util.TupleRBTree.Node;
+
+/**
+ * A TupleMemory for the joins having both equality and comparison constraints. The tuples are hashed on the values
+ * of the equality constraints, as in the TupleIndexHashTable, and each bucket keeps them sorted in a TupleRBTree
+ * on the value of the comparison constraint, as in the TupleIndexRBTree, so that the matching tuples are found with
+ * a hash lookup followed by a search in the tree of the bucket.
+ */
+public class TupleIndexHashRBTree extends AbstractTupleIndexTree implements TupleMemory {
+
+    private Index equalityIndex;
+
+    private final Map<HashEntry, Bucket> buckets = new HashMap<>();
+
+    // the buckets are also linked to allow a full iteration of the memory
+    private Bucket firstBucket;
+
+    public TupleIndexHashRBTree(Index equalityIndex, ConstraintTypeOperator constraintType, IndexedValueReader rangeIndex, boolean left) {
+        this.equalityIndex = equalityIndex;
+        this.constraintType = constraintType;
+        this.index = rangeIndex;
+        this.left = left;
+    }
+
+    public void add(TupleImpl tuple) {
+        HashEntry hashEntry;
+        try {
+            hashEntry = equalityIndex.hashCodeOf(tuple, left);
+        } catch (UnsupportedOperationException e) {
+            return;
+        }
+
+        Bucket bucket = buckets.get(hashEntry);
+        if (bucket == null) {
+            bucket = new Bucket(hashEntry.clone());
+            buckets.put(bucket.hashEntry, bucket);
+            bucket.next = firstBucket;
+            if (firstBucket != null) {
+                firstBucket.previous = bucket;
+            }
+            firstBucket = bucket;
+        }
+
+        Comparable key = getIndexedValue(tuple, left);
+        TupleList list = key == null ? bucket.nullKeyTuples : bucket.tree.insert(new RangeKey(bucket, key));
+        list.add(tuple);
+        bucket.size++;
+        factSize++;
+    }
+
+    public void remove(TupleImpl tuple) {
+        TupleList list = tuple.getMemory();
+        Bucket bucket = getBucket(list);
+        list.remove(tuple);
+        if (list.getFirst() == null && list != bucket.nullKeyTuples) {
+            bucket.tree.delete(((Node<RangeKey>) list).key);
+        }
+        if (--bucket.size == 0) {
+            removeBucket(bucket);
+        }
+        factSize--;
+    }
+
+    private void removeBucket(Bucket bucket) {
+        buckets.remove(bucket.hashEntry);
+        if (bucket.previous != null) {
+            bucket.previous.next = bucket.next;
+        } else {
+            firstBucket = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.previous = bucket.previous;
+        }
+    }
+
+    private static Bucket getBucket(TupleList list) {
+        return list instanceof NullKeyTupleList ? ((NullKeyTupleList) list).bucket : ((Node<RangeKey>) list).key.bucket;
+    }
+
+    public void removeAdd(TupleImpl tuple) {
+        remove(tuple);
+        add(tuple);
+    }
+
+    public int size() {
+        return factSize;
+    }
+
+    public TupleImpl getFirst(TupleImpl tuple) {
+        HashEntry hashEntry;
+        try {
+            hashEntry = equalityIndex.hashCodeOf(tuple, !left);
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+
+        Bucket bucket = buckets.get(hashEntry);
+        return bucket != null ? getNext(bucket, getIndexedValue(tuple, !left), true) : null;
+    }
+
+    public Index getIndex() {
+        return equalityIndex;
+    }
+
+    public FastIterator<TupleImpl> fastIterator() {
+        return new TupleFastIterator();
+    }
+
+    public FastIterator<TupleImpl> fullFastIterator() {
+        return new FullFastIterator();
+    }
+
+    public FastIterator<TupleImpl> fullFastIterator(TupleImpl tuple) {
+        // the iterator doesn't keep any state, so it can resume from any tuple
+        return new FullFastIterator();
+    }
+
+    private TupleImpl getNext(Bucket bucket, Comparable key, boolean first) {
+        if (key == null) {
+            // same semantic of the TupleRBTree lookup of a null key
+            return left && first && (constraintType == ConstraintTypeOperator.LESS_OR_EQUAL || constraintType == ConstraintTypeOperator.GREATER_OR_EQUAL) ?
+                    bucket.nullKeyTuples.getFirst() : null;
+        }
+        TupleRBTree<RangeKey> tree = bucket.tree;
+        RangeKey rangeKey = new RangeKey(bucket, TupleIndexRBTree.coerceType(index, tree.root != null ? tree.root.key.value : null, key));
+        Node<RangeKey> firstNode;
+        switch (constraintType) {
+            case LESS_THAN:
+                firstNode = tree.findNearestNode(rangeKey, false, left ? Boundary.LOWER : Boundary.UPPER);
+                break;
+            case LESS_OR_EQUAL:
+                firstNode = tree.findNearestNode(rangeKey, first, left ? Boundary.LOWER : Boundary.UPPER);
+                break;
+            case GREATER_THAN:
+                firstNode = tree.findNearestNode(rangeKey, false, left ? Boundary.UPPER : Boundary.LOWER);
+                break;
+            case GREATER_OR_EQUAL:
+                firstNode = tree.findNearestNode(rangeKey, first, left ? Boundary.UPPER : Boundary.LOWER);
+                break;
+            default:
+                throw new UnsupportedOperationException("Cannot call remove constraint of type: " + constraintType);
+        }
+        return firstNode == null ? null : firstNode.getFirst();
+    }
+
+    public class TupleFastIterator implements FastIterator<TupleImpl> {
+        public TupleImpl next(TupleImpl tuple) {
+            if (tuple == null) {
+                return firstTupleFrom(firstBucket);
+            }
+            TupleImpl next = tuple.getNext();
+            if (next != null) {
+                return next;
+            }
+            TupleList list = tuple.getMemory();
+            if (list instanceof NullKeyTupleList) {
+                return null;
+            }
+            // keep on walking the tree of the bucket in the direction of the comparison
+            RangeKey key = ((Node<RangeKey>) list).key;
+            return getNext(key.bucket, key.value, false);
+        }
+
+        public boolean isFullIterator() {
+            return false;
+        }
+    }
+
+    public class FullFastIterator implements FastIterator<TupleImpl> {
+        public TupleImpl next(TupleImpl tuple) {
+            if (tuple == null) {
+                return firstTupleFrom(firstBucket);
+            }
+            TupleImpl next = tuple.getNext();
+            if (next != null) {
+                return next;
+            }
+            TupleList list = tuple.getMemory();
+            Bucket bucket = getBucket(list);
+            if (list != bucket.nullKeyTuples) {
+                Node<RangeKey> nextNode = bucket.tree.findNearestNode(((Node<RangeKey>) list).key, false, Boundary.LOWER);
+                if (nextNode != null) {
+                    return nextNode.getFirst();
+                }
+                if (bucket.nullKeyTuples.getFirst() != null) {
+                    return bucket.nullKeyTuples.getFirst();
+                }
+            }
+            return firstTupleFrom(bucket.next);
+        }
+
+        public boolean isFullIterator() {
+            return true;
+        }
+    }
+
+    private static TupleImpl firstTupleFrom(Bucket bucket) {
+        for (; bucket != null; bucket = bucket.next) {
+            Node<RangeKey> firstNode = bucket.tree.first();
+            if (firstNode != null) {
+                return firstNode.getFirst();
+            }
+            if (bucket.nullKeyTuples.getFirst() != null) {
+                return bucket.nullKeyTuples.getFirst();
+            }
+        }
+        return null;
+    }
+
+    public void clear() {
+        buckets.clear();
+        firstBucket = null;
+        factSize = 0;
+    }
+
+    public IndexType getIndexType() {
+        return IndexType.EQUAL_COMPARISON;
+    }
+
+    private static class Bucket {
+        private final HashEntry hashEntry;
+        private final TupleRBTree<RangeKey> tree = new TupleRBTree<>();
+        private final NullKeyTupleList nullKeyTuples = new NullKeyTupleList(this);
+        private int size;
+
+        private Bucket previous;
+        private Bucket next;
+
+        private Bucket(HashEntry hashEntry) {
+            this.hashEntry = hashEntry;
+        }
+    }
+
+    /**
+     * The key of the nodes of the tree of a bucket: it refers the bucket, so that a tuple can be removed from it
+     * without computing again its hash that could have been changed by a modify.
+     */
+    private static class RangeKey implements Comparable<RangeKey> {
+        private final Bucket bucket;
+        private final Comparable value;
+
+        private RangeKey(Bucket bucket, Comparable value) {
+            this.bucket = bucket;
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(RangeKey other) {
+            return value.compareTo(other.value);
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
+        }
+    }
+
+    /**
+     * The tuples of a bucket having a null value for the comparison, which is never satisfied by a range lookup.
+     */
+    private static class NullKeyTupleList extends TupleList {
+        private final Bucket bucket;
+
+        private NullKeyTupleList(Bucket bucket) {
+            this.bucket = bucket;
+        }
+    }
+}
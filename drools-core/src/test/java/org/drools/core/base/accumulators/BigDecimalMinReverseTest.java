@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.base.accumulators;
+
+import java.math.BigDecimal;
+
+import org.drools.core.base.accumulators.BigDecimalMinAccumulateFunction.MinData;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BigDecimalMinReverseTest {
+
+    @Test
+    public void shouldTrackValuesOnlyAfterRetractingTheMin() {
+        BigDecimalMinAccumulateFunction minFunction = new BigDecimalMinAccumulateFunction();
+        MinData data = minFunction.createContext();
+        minFunction.init(data);
+
+        BigDecimal one = new BigDecimal("1.0");
+        BigDecimal sameOne = new BigDecimal("1.00");
+        BigDecimal two = new BigDecimal("2");
+        BigDecimal three = new BigDecimal("3");
+        minFunction.accumulate(data, two);
+        minFunction.accumulate(data, three);
+        minFunction.accumulate(data, one);
+        minFunction.accumulate(data, sameOne);
+        assertThat(data.values).isNull();
+        assertThat(minFunction.getResult(data)).isSameAs(one);
+
+        // retracting a value that isn't the min doesn't need to track the values
+        assertThat(minFunction.tryReverse(data, three)).isTrue();
+        assertThat(data.values).isNull();
+
+        // retracting the min requires a reaccumulation, after which all the values are tracked
+        assertThat(minFunction.tryReverse(data, one)).isFalse();
+        minFunction.init(data);
+        minFunction.accumulate(data, two);
+        minFunction.accumulate(data, sameOne);
+        assertThat(data.values.size()).isEqualTo(2);
+        assertThat(minFunction.getResult(data)).isSameAs(sameOne);
+
+        minFunction.accumulate(data, one);
+        assertThat(minFunction.tryReverse(data, sameOne)).isTrue();
+        assertThat(minFunction.getResult(data)).isSameAs(one);
+
+        assertThat(minFunction.tryReverse(data, one)).isTrue();
+        assertThat(minFunction.getResult(data)).isSameAs(two);
+    }
+}
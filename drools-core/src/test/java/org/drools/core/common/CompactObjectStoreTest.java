@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.ClassObjectFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CompactObjectStoreTest {
+
+    private static final AtomicInteger factCounter = new AtomicInteger(0);
+
+    @Test
+    public void addFindAndRemoveManyHandles() {
+        CompactObjectStore underTest = new CompactObjectStore();
+        List<InternalFactHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Object object = new SimpleClass();
+            InternalFactHandle handle = handleFor(object);
+            underTest.addHandle(handle, object);
+            handles.add(handle);
+        }
+        assertThat(underTest.size()).isEqualTo(10_000);
+
+        for (InternalFactHandle handle : handles) {
+            assertThat(underTest.getHandleForObject(handle.getObject())).isSameAs(handle);
+            assertThat(underTest.reconnect(handle)).isSameAs(handle);
+        }
+
+        // removing every other handle exercises the back shifting of the probing sequences
+        for (int i = 0; i < handles.size(); i += 2) {
+            underTest.removeHandle(handles.get(i));
+        }
+        assertThat(underTest.size()).isEqualTo(5_000);
+        for (int i = 0; i < handles.size(); i++) {
+            InternalFactHandle handle = handles.get(i);
+            if (i % 2 == 0) {
+                assertThat(underTest.getHandleForObject(handle.getObject())).isNull();
+                assertThat(underTest.getObjectForHandle(handle)).isNull();
+            } else {
+                assertThat(underTest.getHandleForObject(handle.getObject())).isSameAs(handle);
+                assertThat(underTest.getObjectForHandle(handle)).isSameAs(handle.getObject());
+            }
+        }
+        assertThat(collect(underTest.iterateFactHandles())).hasSize(5_000);
+    }
+
+    @Test
+    public void removingWhileIteratingFailsFast() {
+        CompactObjectStore underTest = new CompactObjectStore();
+        for (int i = 0; i < 1_000; i++) {
+            Object object = new SimpleClass();
+            underTest.addHandle(handleFor(object), object);
+        }
+
+        // the back shifting of a removal would otherwise make the iterator skip some handles
+        Iterator<InternalFactHandle> iterator = underTest.iterateFactHandles();
+        underTest.removeHandle(iterator.next());
+        assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+
+        Iterator<Object> objects = underTest.iterateObjects(new ClassObjectFilter(SimpleClass.class));
+        Object object = new SimpleClass();
+        objects.next();
+        underTest.addHandle(handleFor(object), object);
+        assertThatThrownBy(objects::next).isInstanceOf(ConcurrentModificationException.class);
+
+        // removing the handles collected in advance is allowed
+        for (InternalFactHandle handle : collect(underTest.iterateFactHandles())) {
+            underTest.removeHandle(handle);
+        }
+        assertThat(underTest.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void isIdentityBased() {
+        CompactObjectStore underTest = new CompactObjectStore();
+        String s1 = new String("test");
+        String s2 = new String("test");
+        underTest.addHandle(handleFor(s1), s1);
+
+        assertThat(underTest.getHandleForObject(s1)).isNotNull();
+        assertThat(underTest.getHandleForObject(s2)).isNull();
+    }
+
+    @Test
+    public void updateHandleReplacesTheObject() {
+        CompactObjectStore underTest = new CompactObjectStore();
+        SimpleClass oldObject = new SimpleClass();
+        SimpleClass newObject = new SimpleClass();
+        InternalFactHandle handle = handleFor(oldObject);
+        underTest.addHandle(handle, oldObject);
+
+        underTest.updateHandle(handle, newObject);
+
+        assertThat(underTest.size()).isEqualTo(1);
+        assertThat(underTest.getHandleForObject(oldObject)).isNull();
+        assertThat(underTest.getHandleForObject(newObject)).isSameAs(handle);
+        assertThat(underTest.reconnect(handle)).isSameAs(handle);
+    }
+
+    @Test
+    public void iterateByClassAndClearClassStore() {
+        CompactObjectStore underTest = new CompactObjectStore();
+        for (int i = 0; i < 100; i++) {
+            Object object = i % 2 == 0 ? new SuperClass() : new SubClass();
+            underTest.addHandle(handleFor(object), object);
+        }
+        underTest.addHandle(handleFor("a string"), "a string");
+
+        assertThat(collect(underTest.getStoreForClass(SuperClass.class).iterator())).hasSize(100);
+        assertThat(collect(underTest.iterateObjects(new ClassObjectFilter(SubClass.class)))).hasSize(50);
+
+        assertThat(underTest.clearClassStore(SubClass.class)).isTrue();
+        assertThat(underTest.size()).isEqualTo(51);
+        assertThat(collect(underTest.iterateObjects(new ClassObjectFilter(SubClass.class)))).isEmpty();
+        assertThat(underTest.clearClassStore(SubClass.class)).isFalse();
+    }
+
+    @Test
+    public void negatedHandlesAreKeptApart() {
+        CompactObjectStore underTest = new CompactObjectStore();
+        Object asserted = new SimpleClass();
+        Object negated = new SimpleClass();
+        underTest.addHandle(handleFor(asserted), asserted);
+        DefaultFactHandle negatedHandle = (DefaultFactHandle) handleFor(negated);
+        negatedHandle.setNegated(true);
+        underTest.addHandle(negatedHandle, negated);
+
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(collect(underTest.iterateObjects())).containsExactly(asserted);
+        assertThat(collect(underTest.iterateNegObjects(null))).containsExactly(negated);
+        assertThat(underTest.reconnect(negatedHandle)).isSameAs(negatedHandle);
+
+        underTest.removeHandle(negatedHandle);
+        assertThat(underTest.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void serialization() throws Exception {
+        CompactObjectStore underTest = new CompactObjectStore();
+        for (int i = 0; i < 100; i++) {
+            Integer object = i;
+            underTest.addHandle(handleFor(object), object);
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(underTest);
+        }
+        CompactObjectStore deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            deserialized = (CompactObjectStore) in.readObject();
+        }
+
+        assertThat(deserialized.size()).isEqualTo(100);
+        Iterator<InternalFactHandle> it = deserialized.iterateFactHandles();
+        while (it.hasNext()) {
+            InternalFactHandle handle = it.next();
+            assertThat(deserialized.getHandleForObject(handle.getObject())).isSameAs(handle);
+        }
+    }
+
+    private static <T> Collection<T> collect(Iterator<T> objects) {
+        List<T> result = new ArrayList<T>();
+        while (objects.hasNext()) {
+            result.add(objects.next());
+        }
+        return result;
+    }
+
+    private InternalFactHandle handleFor(Object object) {
+        return new DefaultFactHandle(factCounter.getAndIncrement(), object);
+    }
+
+    private static class SimpleClass {
+    }
+
+    private static class SuperClass {
+    }
+
+    private static class SubClass extends SuperClass {
+    }
+}
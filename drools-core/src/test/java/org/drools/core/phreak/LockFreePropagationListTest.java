@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.phreak;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.common.ReteEvaluator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class LockFreePropagationListTest {
+
+    @Test
+    public void entriesAreFlushedInInsertionOrder() {
+        LockFreePropagationList propagationList = new LockFreePropagationList(mock(ReteEvaluator.class));
+        List<Integer> executed = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            propagationList.addEntry(new RecordingEntry(executed, i));
+        }
+        assertThat(propagationList.isEmpty()).isFalse();
+
+        List<Integer> iterated = new ArrayList<>();
+        propagationList.iterator().forEachRemaining(e -> iterated.add(((RecordingEntry) e).value));
+        assertThat(iterated).containsExactly(0, 1, 2, 3, 4);
+
+        propagationList.flush();
+        assertThat(executed).containsExactly(0, 1, 2, 3, 4);
+        assertThat(propagationList.isEmpty()).isTrue();
+        assertThat(propagationList.takeAll()).isNull();
+    }
+
+    @Test
+    public void disposedListDoesNotExecuteEntries() {
+        LockFreePropagationList propagationList = new LockFreePropagationList(mock(ReteEvaluator.class));
+        List<Integer> executed = new ArrayList<>();
+
+        propagationList.addEntry(new RecordingEntry(executed, 1));
+        propagationList.dispose();
+        propagationList.flush();
+        assertThat(executed).isEmpty();
+
+        propagationList.reset();
+        propagationList.addEntry(new RecordingEntry(executed, 2));
+        propagationList.flush();
+        assertThat(executed).containsExactly(2);
+    }
+
+    @Test
+    @Timeout(30)
+    public void concurrentProducersKeepTheirOrder() throws Exception {
+        final int threadNr = 4;
+        final int entryNr = 100_000;
+
+        LockFreePropagationList propagationList = new LockFreePropagationList(mock(ReteEvaluator.class));
+        int[] counters = new int[threadNr];
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadNr);
+        try {
+            List<Future<?>> producers = new ArrayList<>();
+            for (int i = 0; i < threadNr; i++) {
+                final int producer = i;
+                producers.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < entryNr; j++) {
+                        propagationList.addEntry(new OrderCheckingEntry(counters, producer, j));
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            while (!allDone(producers)) {
+                propagationList.flush();
+            }
+            for (Future<?> producer : producers) {
+                producer.get();
+            }
+            propagationList.flush();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < threadNr; i++) {
+            assertThat(counters[i]).isEqualTo(entryNr);
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    public void waitingThreadIsWokenUpByInsertion() throws Exception {
+        LockFreePropagationList propagationList = new LockFreePropagationList(mock(ReteEvaluator.class));
+        propagationList.setFiringUntilHalt(true);
+
+        CountDownLatch woken = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            while (propagationList.isEmpty()) {
+                propagationList.waitOnRest();
+            }
+            woken.countDown();
+        });
+        waiter.start();
+
+        propagationList.addEntry(new RecordingEntry(new ArrayList<>(), 1));
+        assertThat(woken.await(10, TimeUnit.SECONDS)).isTrue();
+        waiter.join();
+    }
+
+    @Test
+    public void notificationBeforeWaitIsNotLost() {
+        LockFreePropagationList propagationList = new LockFreePropagationList(mock(ReteEvaluator.class));
+        propagationList.notifyWaitOnRest();
+        // it would block forever if the former notification had been lost
+        propagationList.waitOnRest();
+    }
+
+    private static boolean allDone(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            if (!future.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class RecordingEntry extends PropagationEntry.AbstractPropagationEntry {
+        private final List<Integer> executed;
+        private final int value;
+
+        private RecordingEntry(List<Integer> executed, int value) {
+            this.executed = executed;
+            this.value = value;
+        }
+
+        @Override
+        public void internalExecute(ReteEvaluator reteEvaluator) {
+            executed.add(value);
+        }
+    }
+
+    private static class OrderCheckingEntry extends PropagationEntry.AbstractPropagationEntry {
+        private final int[] counters;
+        private final int producer;
+        private final int value;
+
+        private OrderCheckingEntry(int[] counters, int producer, int value) {
+            this.counters = counters;
+            this.producer = producer;
+            this.value = value;
+        }
+
+        @Override
+        public void internalExecute(ReteEvaluator reteEvaluator) {
+            if (counters[producer] != value) {
+                throw new IllegalStateException("Producer " + producer + " expected " + counters[producer] + " but was " + value);
+            }
+            counters[producer]++;
+        }
+    }
+}
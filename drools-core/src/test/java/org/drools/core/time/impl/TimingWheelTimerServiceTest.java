@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.drools.base.time.JobHandle;
+import org.drools.core.ClockType;
+import org.drools.core.SessionConfiguration;
+import org.drools.core.common.DefaultEventHandle;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.impl.RuleBaseFactory;
+import org.drools.core.impl.WorkingMemoryReteExpireAction;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.reteoo.ObjectTypeNode.ExpireJob;
+import org.drools.core.reteoo.ObjectTypeNode.ExpireJobContext;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.TimerService;
+import org.drools.core.time.impl.JDKTimerServiceTest.DelayedTrigger;
+import org.drools.core.time.impl.JDKTimerServiceTest.HelloWorldJob;
+import org.drools.core.time.impl.JDKTimerServiceTest.HelloWorldJobContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class TimingWheelTimerServiceTest {
+
+    @Test
+    public void testCreateFromClockType() {
+        SessionConfiguration config = RuleBaseFactory.newKnowledgeSessionConfiguration().as(SessionConfiguration.KEY);
+        config.setClockType(ClockType.resolveClockType("timingwheel"));
+        TimerService timeService = config.createTimerService();
+        try {
+            assertThat(timeService).isInstanceOf(TimingWheelTimerService.class);
+        } finally {
+            timeService.shutdown();
+        }
+    }
+
+    @Test
+    public void testSingleExecutionJob() throws Exception {
+        TimerService timeService = new TimingWheelTimerService();
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        timeService.scheduleJob( new HelloWorldJob(), ctx, new DelayedTrigger( 100 ) );
+        Thread.sleep( 500 );
+        timeService.shutdown();
+        assertThat(ctx.getList()).hasSize(1);
+    }
+
+    @Test
+    public void testRepeatedExecutionJobWithRemove() throws Exception {
+        TimerService timeService = new TimingWheelTimerService();
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        ctx.setLimit( 3 );
+        timeService.scheduleJob( new HelloWorldJob(), ctx, new DelayedTrigger( new long[] {100, 100, 100, 100, 100, 100, 100, 100} ) );
+        Thread.sleep( 1000 );
+        timeService.shutdown();
+        assertThat(ctx.getList()).hasSize(5);
+    }
+
+    @Test
+    public void testJobsCascadingThroughOverflowWheels() throws Exception {
+        // with a 4ms wide wheel almost all the jobs are initially placed on an overflow wheel
+        TimerService timeService = new TimingWheelTimerService(1, 4);
+        List<Long> fired = new CopyOnWriteArrayList<>();
+        long[] delays = new long[] { 300, 10, 150, 0, 3, 70, 150 };
+        for (long delay : delays) {
+            timeService.scheduleJob( new RecordingJob( fired, delay ), new RecordingJobContext(), new DelayedTrigger( delay ) );
+        }
+        Thread.sleep( 600 );
+        timeService.shutdown();
+        assertThat(fired).containsExactly(0L, 3L, 10L, 70L, 150L, 150L, 300L);
+    }
+
+    @Test
+    public void testRemovedJobsAreNotExecuted() throws Exception {
+        TimerService timeService = new TimingWheelTimerService();
+        List<Long> fired = new CopyOnWriteArrayList<>();
+        List<JobHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            handles.add( timeService.scheduleJob( new RecordingJob( fired, i ), new RecordingJobContext(), new DelayedTrigger( 100 + (i % 10) ) ) );
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            timeService.removeJob( handles.get( i ) );
+        }
+        Thread.sleep( 500 );
+        timeService.shutdown();
+        assertThat(fired).hasSize(500).allMatch( i -> i % 2 == 1 );
+    }
+
+    @Test
+    public void testExpirationsOfSameTickAreEnqueuedAsOnePropagation() throws Exception {
+        TimingWheelTimerService timeService = new TimingWheelTimerService();
+        TrackableTimeJobFactoryManager jobFactoryManager = new TrackableTimeJobFactoryManager();
+        timeService.setTimerJobFactoryManager( jobFactoryManager );
+        ReteEvaluator reteEvaluator = mock( ReteEvaluator.class );
+
+        List<WorkingMemoryReteExpireAction> expireActions = new ArrayList<>();
+        long expiration = timeService.getCurrentTime() + 100;
+        for (int i = 0; i < 100; i++) {
+            DefaultEventHandle factHandle = new DefaultEventHandle();
+            ExpireJobContext ctx = new ExpireJobContext( new WorkingMemoryReteExpireAction( factHandle ), reteEvaluator );
+            expireActions.add( ctx.getExpireAction() );
+            JobHandle jobHandle = timeService.scheduleJob( new ExpireJob(), ctx, PointInTimeTrigger.createPointInTimeTrigger( expiration, null ) );
+            factHandle.addJob( (DefaultJobHandle) jobHandle );
+        }
+        assertThat(jobFactoryManager.getTimerJobInstances()).hasSize(100);
+
+        ArgumentCaptor<PropagationEntry> propagation = ArgumentCaptor.forClass( PropagationEntry.class );
+        verify( reteEvaluator, timeout( 1000 ) ).addPropagation( propagation.capture() );
+        Thread.sleep( 100 );
+        timeService.shutdown();
+
+        assertThat(propagation.getAllValues()).hasSize(1);
+        assertThat(propagation.getValue()).isNotInstanceOf(WorkingMemoryReteExpireAction.class);
+
+        // the timer job instances are removed by the engine when it executes the batch,
+        // the events are invalidated as if they had been deleted in the meanwhile to not require a real session
+        for (int i = 0; i < 100; i++) {
+            expireActions.get( i ).getFactHandle().invalidate();
+        }
+        propagation.getValue().execute( reteEvaluator );
+        assertThat(jobFactoryManager.getTimerJobInstances()).isEmpty();
+    }
+
+    public static class RecordingJob implements Job {
+        private final List<Long> fired;
+        private final long id;
+
+        public RecordingJob(List<Long> fired, long id) {
+            this.fired = fired;
+            this.id = id;
+        }
+
+        public void execute(JobContext ctx) {
+            fired.add( id );
+        }
+    }
+
+    public static class RecordingJobContext implements JobContext {
+        private JobHandle jobHandle;
+
+        public JobHandle getJobHandle() {
+            return this.jobHandle;
+        }
+
+        public void setJobHandle(JobHandle jobHandle) {
+            this.jobHandle = jobHandle;
+        }
+
+        @Override
+        public ReteEvaluator getReteEvaluator() {
+            return null;
+        }
+    }
+}
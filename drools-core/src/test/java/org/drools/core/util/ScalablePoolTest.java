@@ -18,16 +18,19 @@
  */
 package org.drools.core.util;
 
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class ScalablePoolTest {
 
     public static class Monitor {
-        private int newCounter;
-        private int resetCounter;
-        private int disposeCounter;
+        private volatile int newCounter;
+        private volatile int resetCounter;
+        private volatile int disposeCounter;
     }
 
     public static class PooledResource {
@@ -109,6 +112,122 @@ public class ScalablePoolTest {
         check( monitor, 5, 2, 5 );
     }
 
+    @Test
+    public void testBoundedPool() {
+        Monitor monitor = new Monitor();
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 1, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+        pool.setMaxSize( 2, 0, TimeUnit.MILLISECONDS );
+
+        PooledResource resource1 = pool.get();
+        PooledResource resource2 = pool.get();
+        check( monitor, 2, 0, 0 );
+        assertThat(pool.getHitCount()).isEqualTo(1);
+        assertThat(pool.getMissCount()).isEqualTo(1);
+        assertThat(pool.getCreatedCount()).isEqualTo(2);
+
+        // the pool is exhausted and doesn't wait
+        assertThatThrownBy( pool::get ).isInstanceOf( IllegalStateException.class );
+        check( monitor, 2, 0, 0 );
+
+        pool.release( resource2 );
+        assertThat(pool.get()).isSameAs(resource2);
+
+        pool.shutdown();
+        check( monitor, 2, 1, 2 );
+    }
+
+    @Test
+    public void testBoundedPoolWaitsForRelease() throws InterruptedException {
+        Monitor monitor = new Monitor();
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 1, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+        pool.setMaxSize( 1, 10, TimeUnit.SECONDS );
+
+        PooledResource resource = pool.get();
+        Thread releaser = new Thread( () -> {
+            try {
+                Thread.sleep( 100 );
+            } catch (InterruptedException e) {
+                throw new RuntimeException( e );
+            }
+            pool.release( resource );
+        } );
+        releaser.start();
+
+        assertThat(pool.get()).isSameAs(resource);
+        releaser.join();
+        check( monitor, 1, 1, 0 );
+    }
+
+    @Test
+    public void testIdleEviction() throws InterruptedException {
+        Monitor monitor = new Monitor();
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 1, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+
+        PooledResource resource1 = pool.get();
+        PooledResource resource2 = pool.get();
+        PooledResource resource3 = pool.get();
+        check( monitor, 3, 0, 0 );
+
+        pool.release( resource1 );
+        pool.release( resource2 );
+        Thread.sleep( 20 );
+
+        pool.setMaxIdleTime( 10, TimeUnit.MILLISECONDS );
+        pool.release( resource3 );
+
+        // the 2 resources idle for longer than 10 ms are evicted, while the one just released is kept
+        check( monitor, 3, 3, 2 );
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+        assertThat(pool.getSize()).isEqualTo(1);
+
+        Thread.sleep( 20 );
+        pool.evictIdle();
+
+        // the pool never shrinks below its initial size
+        check( monitor, 3, 3, 2 );
+        assertThat(pool.getSize()).isEqualTo(1);
+        assertThat(pool.get()).isSameAs(resource3);
+    }
+
+    @Test
+    public void testBackgroundIdleEviction() throws InterruptedException {
+        Monitor monitor = new Monitor();
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 1, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+        pool.setMaxIdleTime( 10, TimeUnit.MILLISECONDS );
+
+        PooledResource resource1 = pool.get();
+        PooledResource resource2 = pool.get();
+        PooledResource resource3 = pool.get();
+        pool.release( resource1 );
+        pool.release( resource2 );
+        pool.release( resource3 );
+
+        // after the load spike the pool isn't used anymore, but the idle resources are evicted anyway
+        long deadline = System.currentTimeMillis() + 5000;
+        while (monitor.disposeCounter < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep( 10 );
+        }
+        assertThat(pool.getSize()).isEqualTo(1);
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+        check( monitor, 3, 3, 2 );
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void testWarmUp() {
+        Monitor monitor = new Monitor();
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 2, () -> new PooledResource( monitor ), PooledResource::reset, PooledResource::dispose );
+
+        PooledResource resource1 = pool.get();
+        PooledResource resource2 = pool.get();
+        check( monitor, 2, 0, 0 );
+
+        pool.warmUp().join();
+        check( monitor, 4, 0, 0 );
+        assertThat(pool.getIdleCount()).isEqualTo(2);
+    }
+
     private void check( Monitor monitor, int expectedNew, int expectedReset, int expectedDispose ) {
         assertThat(monitor.newCounter).isEqualTo(expectedNew);
         assertThat(monitor.resetCounter).isEqualTo(expectedReset);
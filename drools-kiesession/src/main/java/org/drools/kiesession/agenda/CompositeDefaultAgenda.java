@@ -57,7 +57,6 @@ import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
 import static java.util.concurrent.CompletableFuture.runAsync;
-import static org.drools.base.common.PartitionsManager.doOnForkJoinPool;
 
 public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
 
@@ -69,6 +68,8 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
 
     private PropagationList propagationList;
 
+    private PartitionsManager partitionsManager;
+
     public CompositeDefaultAgenda() { }
 
     public CompositeDefaultAgenda(InternalRuleBase kieBase, InternalWorkingMemory workingMemory, FactHandleFactory factHandleFactory) {
@@ -78,6 +79,7 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
         }
         // this composite agenda and the first partitioned one share the same propagation list
         this.propagationList = agendas[0].getPropagationList();
+        this.partitionsManager = kieBase.getPartitionsManager();
     }
 
     @Override
@@ -154,7 +156,7 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
     }
 
     private int parallelFire( AgendaFilter agendaFilter, int fireLimit ) {
-        return doOnForkJoinPool(() -> Stream.of(agendas).parallel().mapToInt(a -> a.internalFireAllRules( agendaFilter, fireLimit, false )).sum() );
+        return partitionsManager.doOnEvaluationPool(() -> Stream.of(agendas).parallel().mapToInt(a -> a.internalFireAllRules( agendaFilter, fireLimit, false )).sum() );
     }
 
     @Override
@@ -49,10 +49,12 @@ import org.drools.core.concurrent.SequentialGroupEvaluator;
 import org.drools.core.event.AgendaEventSupport;
 import org.drools.core.impl.InternalRuleBase;
 import org.drools.core.phreak.ExecutableEntry;
+import org.drools.core.phreak.LockFreePropagationList;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.PropagationList;
 import org.drools.core.phreak.RuleAgendaItem;
 import org.drools.core.phreak.RuleExecutor;
+import org.drools.core.phreak.SegmentMemoryReclaimer;
 import org.drools.core.phreak.SynchronizedBypassPropagationList;
 import org.drools.core.phreak.SynchronizedPropagationList;
 import org.drools.core.phreak.ThreadUnsafePropagationList;
@@ -72,6 +74,7 @@ import org.kie.api.conf.EventProcessingOption;
 import org.kie.api.event.rule.MatchCancelledCause;
 import org.kie.api.runtime.rule.AgendaFilter;
 import org.kie.api.runtime.rule.AgendaGroup;
+import org.kie.internal.runtime.conf.PropagationListOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -124,6 +127,10 @@ public class DefaultAgenda implements InternalAgenda {
 
     private final AgendaGroupsManager agendaGroupsManager;
 
+    private final long segmentMemoryReclaimTimeout;
+
+    private SegmentMemoryReclaimer segmentMemoryReclaimer;
+
 	private FactHandleFactory factHandleFactory;
 
     // ------------------------------------------------------------
@@ -158,6 +165,7 @@ public class DefaultAgenda implements InternalAgenda {
 
         this.declarativeAgenda = ruleBaseConf.isDeclarativeAgenda();
         this.sequential = ruleBaseConf.isSequential();
+        this.segmentMemoryReclaimTimeout = ruleBaseConf.getSegmentMemoryReclaimTimeout();
         this.expirationContexts = ruleBaseConf.getEventProcessingMode() == EventProcessingOption.STREAM ? new ArrayList<>() : null;
 
          // for fully parallel execution the parallelism is implemented at the level of CompositeDefaultAgenda
@@ -192,8 +200,12 @@ public class DefaultAgenda implements InternalAgenda {
             return new ThreadUnsafePropagationList( workingMemory );
         }
 
-        return workingMemory.getRuleSessionConfiguration().hasForceEagerActivationFilter() ?
-               new SynchronizedBypassPropagationList( workingMemory ) :
+        if (workingMemory.getRuleSessionConfiguration().hasForceEagerActivationFilter()) {
+            return new SynchronizedBypassPropagationList( workingMemory );
+        }
+
+        return workingMemory.getRuleSessionConfiguration().getPropagationList() == PropagationListOption.LOCK_FREE ?
+               new LockFreePropagationList( workingMemory ) :
                new SynchronizedPropagationList( workingMemory );
     }
 
@@ -421,6 +433,7 @@ public class DefaultAgenda implements InternalAgenda {
 
         eager.clear();
         activationCounter = 0;
+        segmentMemoryReclaimer = null;
         executionStateMachine.reset();
         propagationList.reset();
     }
@@ -625,6 +638,9 @@ public class DefaultAgenda implements InternalAgenda {
 
                 if ( returnedFireCount == 0 && head == null && ( group == null || ( group.isEmpty() && !group.isAutoDeactivate() ) ) && !flushExpirations() ) {
                     // if true, the engine is now considered potentially at rest
+                    if ( isInternalFire ) {
+                        reclaimSegmentMemories();
+                    }
                     head = restHandler.handleRest( this, isInternalFire );
                     if ( ( !isInternalFire || executionStateMachine.getCurrentState().isHalting() ) && head == null) {
                         break;
@@ -643,6 +659,16 @@ public class DefaultAgenda implements InternalAgenda {
         return fireCount;
     }
 
+    private void reclaimSegmentMemories() {
+        if ( segmentMemoryReclaimTimeout > 0 ) {
+            if ( segmentMemoryReclaimer == null ) {
+                // created lazily because the session clock is not available yet when the agenda is created
+                segmentMemoryReclaimer = new SegmentMemoryReclaimer( workingMemory, segmentMemoryReclaimTimeout );
+            }
+            segmentMemoryReclaimer.reclaimIfDue();
+        }
+    }
+
     private PropagationEntry takePropagationHead() {
         if (executionStateMachine.getCurrentState().isHalting()) {
             return null;
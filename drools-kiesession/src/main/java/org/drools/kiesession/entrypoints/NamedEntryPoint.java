@@ -36,6 +36,7 @@ import org.drools.base.rule.TypeDeclaration;
 import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.base.TraitHelper;
 import org.drools.core.common.ClassAwareObjectStore;
+import org.drools.core.common.CompactObjectStore;
 import org.drools.core.common.DefaultEventHandle;
 import org.drools.core.common.EqualityKey;
 import org.drools.core.common.IdentityObjectStore;
@@ -51,6 +52,7 @@ import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.SuperCacheFixer;
 import org.drools.core.common.TruthMaintenanceSystemFactory;
 import org.drools.core.impl.InternalRuleBase;
+import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.reteoo.EntryPointNode;
 import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.reteoo.ObjectTypeNode;
@@ -63,6 +65,7 @@ import org.drools.util.bitmask.BitMask;
 import org.kie.api.conf.KieBaseMutabilityOption;
 import org.kie.api.prototype.PrototypeFactInstance;
 import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.runtime.conf.ObjectStoreOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -122,6 +125,9 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
     }
 
     protected ObjectStore createObjectStore(EntryPointId entryPoint, RuleBaseConfiguration conf, ReteEvaluator reteEvaluator) {
+        if ( !isEqualityBehaviour && reteEvaluator.getRuleSessionConfiguration().getObjectStore() == ObjectStoreOption.COMPACT ) {
+            return new CompactObjectStore( this.lock );
+        }
         boolean useClassAwareStore = isEqualityBehaviour || conf.getOption(KieBaseMutabilityOption.KEY).isMutabilityEnabled();
         return useClassAwareStore ?
                 new ClassAwareObjectStore( isEqualityBehaviour, this.lock ) :
@@ -242,6 +248,79 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
     }
 
+    /**
+     * Inserts all the given facts taking the lock only once and enqueuing them as a single PropagationEntry,
+     * instead of one entry per fact. Each fact is still propagated through the alpha network on its own.
+     * Facts of types having TMS enabled or declared as dynamic are inserted individually. The insertions,
+     * and then the fired ObjectInsertedEvents, follow the order of the given facts.
+     */
+    @Override
+    public List<FactHandle> insertAll(Collection<?> objects) {
+        if ( this.reteEvaluator.isSequential() ) {
+            List<FactHandle> handles = new ArrayList<>(objects.size());
+            for (Object object : objects) {
+                handles.add( insert( object ) );
+            }
+            return handles;
+        }
+
+        List<FactHandle> handles = new ArrayList<>(objects.size());
+        try {
+            this.reteEvaluator.startOperation(ReteEvaluator.InternalOperationType.INSERT);
+            this.ruleBase.executeQueuedActions();
+
+            PropagationEntry.InsertAll batch = new PropagationEntry.InsertAll(objects.size());
+            try {
+                lock();
+                for (Object object : objects) {
+                    if ( object == null ) {
+                        handles.add( null );
+                        continue;
+                    }
+
+                    ObjectTypeConf typeConf = getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( this.entryPoint, object );
+                    if ( typeConf.isTMSEnabled() || typeConf.isDynamic() ) {
+                        if ( !batch.isEmpty() ) {
+                            assertObjects( batch );
+                            batch = new PropagationEntry.InsertAll(objects.size() - handles.size());
+                        }
+                        handles.add( insert( object ) );
+                        continue;
+                    }
+
+                    InternalFactHandle handle = this.objectStore.getHandleForObject( object );
+                    if ( handle == null ) {
+                        handle = createHandle( object, typeConf );
+                        PropagationContext pctx = this.pctxFactory.createPropagationContext(this.reteEvaluator.getNextPropagationIdCounter(),
+                                                                                            PropagationContext.Type.INSERTION,
+                                                                                            null, null, handle, entryPoint);
+                        this.objectStore.addHandle( handle, object );
+                        batch.add( handle, pctx, this.reteEvaluator, typeConf );
+                    }
+                    handles.add( handle );
+                }
+
+                if ( !batch.isEmpty() ) {
+                    assertObjects( batch );
+                }
+            } finally {
+                unlock();
+            }
+            return handles;
+        } finally {
+            this.reteEvaluator.endOperation(ReteEvaluator.InternalOperationType.INSERT);
+        }
+    }
+
+    private void assertObjects(PropagationEntry.InsertAll batch) {
+        this.entryPointNode.assertObjects( batch, this.reteEvaluator );
+        // fired before any following individual insert, as insert() does for each fact, to keep the order of the events
+        for (int i = 0; i < batch.size(); i++) {
+            InternalFactHandle handle = batch.getHandles().get(i);
+            this.reteEvaluator.getRuleRuntimeEventSupport().fireObjectInserted(batch.getContext(i), handle, handle.getObject(), this.reteEvaluator);
+        }
+    }
+
     public void insert(InternalFactHandle handle) {
         Object object = handle.getObject();
         ObjectTypeConf typeConf = getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( this.entryPoint, object );
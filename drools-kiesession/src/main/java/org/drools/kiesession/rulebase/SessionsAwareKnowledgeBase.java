@@ -19,6 +19,7 @@
 package org.drools.kiesession.rulebase;
 
 import org.drools.base.RuleBase;
+import org.drools.base.common.PartitionsManager;
 import org.drools.base.common.RuleBasePartitionId;
 import org.drools.base.definitions.InternalKnowledgePackage;
 import org.drools.base.definitions.rule.impl.RuleImpl;
@@ -778,6 +779,11 @@ public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
         return delegate.getParallelEvaluationSlotsCount();
     }
 
+    @Override
+    public PartitionsManager getPartitionsManager() {
+        return delegate.getPartitionsManager();
+    }
+
     @Override
     public FactType getFactType(String packageName, String typeName) {
         return delegate.getFactType(packageName, typeName);
@@ -20,6 +20,10 @@ package org.drools.kiesession.session;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import org.drools.core.util.ScalablePool;
 
 import org.drools.core.impl.EnvironmentFactory;
 import org.kie.api.runtime.Environment;
@@ -36,6 +40,10 @@ public abstract class AbstractKieSessionsPool implements KieSessionsPool {
 
     protected final Environment environment = EnvironmentFactory.newEnvironment();
 
+    private volatile int maxSize = -1;
+    private volatile long acquireTimeoutNanos = 0;
+    private volatile long maxIdleNanos = -1;
+
     protected AbstractKieSessionsPool( int initialSize ) {
         this.initialSize = initialSize;
     }
@@ -53,7 +61,61 @@ public abstract class AbstractKieSessionsPool implements KieSessionsPool {
 
     protected StatefulSessionPool getPool( String kSessionName, KieSessionConfiguration conf, boolean stateless) {
         checkAlive();
-        return pools.computeIfAbsent( getKey(kSessionName, conf, stateless), k -> createStatefulSessionPool( kSessionName, conf, stateless ) );
+        return pools.computeIfAbsent( getKey(kSessionName, conf, stateless), k -> configure( createStatefulSessionPool( kSessionName, conf, stateless ) ) );
+    }
+
+    private StatefulSessionPool configure( StatefulSessionPool pool ) {
+        if (pool != null) {
+            pool.setMaxSize( maxSize, acquireTimeoutNanos, TimeUnit.NANOSECONDS );
+            pool.setMaxIdleTime( maxIdleNanos, TimeUnit.NANOSECONDS );
+        }
+        return pool;
+    }
+
+    @Override
+    public void setMaxSize( int maxSize, long acquireTimeout, TimeUnit unit ) {
+        if (maxSize >= 0 && maxSize < initialSize) {
+            throw new IllegalArgumentException( "The max size of the pool (" + maxSize + ") cannot be lower than its initial size (" + initialSize + ")" );
+        }
+        this.maxSize = maxSize;
+        this.acquireTimeoutNanos = unit.toNanos( acquireTimeout );
+        pools.values().forEach( this::configure );
+    }
+
+    @Override
+    public void setMaxIdleTime( long maxIdleTime, TimeUnit unit ) {
+        this.maxIdleNanos = maxIdleTime < 0 ? -1 : unit.toNanos( maxIdleTime );
+        pools.values().forEach( this::configure );
+    }
+
+    @Override
+    public long getHitCount() {
+        return sum( ScalablePool::getHitCount );
+    }
+
+    @Override
+    public long getMissCount() {
+        return sum( ScalablePool::getMissCount );
+    }
+
+    @Override
+    public long getCreatedSessionsCount() {
+        return sum( ScalablePool::getCreatedCount );
+    }
+
+    @Override
+    public long getAverageCreationTime() {
+        long created = getCreatedSessionsCount();
+        return created == 0 ? 0 : sum( p -> p.getAverageCreationNanos() * p.getCreatedCount() ) / created;
+    }
+
+    @Override
+    public int getIdleSessionsCount() {
+        return (int) sum( ScalablePool::getIdleCount );
+    }
+
+    private long sum( ToLongFunction<ScalablePool<StatefulKnowledgeSessionImpl>> metric ) {
+        return pools.values().stream().mapToLong( p -> metric.applyAsLong( p.getPool() ) ).sum();
     }
 
     private void checkAlive() {
@@ -18,19 +18,41 @@
  */
 package org.drools.kiesession.session;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
 import org.drools.core.util.ScalablePool;
+import org.kie.api.event.kiebase.AfterKiePackageAddedEvent;
+import org.kie.api.event.kiebase.AfterKiePackageRemovedEvent;
+import org.kie.api.event.kiebase.DefaultKieBaseEventListener;
+import org.kie.api.event.kiebase.KieBaseEventListener;
 
 public class StatefulSessionPool {
 
     private final InternalKnowledgeBase kbase;
     private final ScalablePool<StatefulKnowledgeSessionImpl> pool;
 
+    // the pooled sessions are updated in place together with the KieBase, so after an update it is only necessary
+    // to refill in background the idle sessions that could have been evicted or are currently in use
+    private final KieBaseEventListener warmUpListener = new DefaultKieBaseEventListener() {
+        @Override
+        public void afterKiePackageAdded(AfterKiePackageAddedEvent event) {
+            pool.warmUp();
+        }
+
+        @Override
+        public void afterKiePackageRemoved(AfterKiePackageRemovedEvent event) {
+            pool.warmUp();
+        }
+    };
+
     public StatefulSessionPool(InternalKnowledgeBase kbase, int initialSize, Supplier<StatefulKnowledgeSessionImpl> supplier) {
         this.kbase = kbase;
         this.pool = new ScalablePool<>(initialSize, supplier, s -> s.reset(), s -> s.fromPool(null).dispose());
+        if (initialSize > 0) {
+            kbase.addEventListener(warmUpListener);
+        }
     }
 
     public InternalKnowledgeBase getKieBase() {
@@ -45,7 +67,20 @@ public class StatefulSessionPool {
         pool.release( session );
     }
 
+    public void setMaxSize(int maxSize, long acquireTimeout, TimeUnit unit) {
+        pool.setMaxSize(maxSize, acquireTimeout, unit);
+    }
+
+    public void setMaxIdleTime(long maxIdleTime, TimeUnit unit) {
+        pool.setMaxIdleTime(maxIdleTime, unit);
+    }
+
+    public ScalablePool<StatefulKnowledgeSessionImpl> getPool() {
+        return pool;
+    }
+
     public void shutdown() {
+        kbase.removeEventListener(warmUpListener);
         pool.shutdown();
     }
 }
@@ -3042,6 +3042,17 @@ public class AccumulateTest extends BaseModelTest {
         assertThat(result.size()).isEqualTo(1);
         assertThat(result.get(0).intValue()).isEqualTo(36);
         assertThat(accFunction.getAccumulateCount()).isEqualTo(2);
+
+        result.clear();
+        accFunction.resetAccumulateCount();
+
+        // after the first reaccumulation also the retraction of the current max is incremental
+        ksession.delete( lucaFH );
+
+        ksession.fireAllRules();
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.get(0).intValue()).isEqualTo(18);
+        assertThat(accFunction.getAccumulateCount()).isEqualTo(0);
     }
 
     public static class CountingIntegerMaxAccumulateFunction extends IntegerMaxAccumulateFunction {
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.model.codegen.execmodel.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.model.codegen.ExecutableModelProject;
+import org.drools.model.codegen.execmodel.domain.Person;
+import org.kie.api.KieBase;
+import org.kie.api.KieBaseConfiguration;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a max accumulate over a sliding window where the expiring fact is always the current max,
+ * which is the worst case for a function that cannot retract its max without reaccumulating the whole window.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlidingWindowMaxBenchmark {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "declare Person @role( event ) end\n" +
+            "rule R when\n" +
+            "  accumulate( Person( $age : age ) over window:length( %d ), $max : max( $age ) )\n" +
+            "then\n" +
+            "end\n";
+
+    @Param({"1000", "10000", "100000"})
+    private int windowSize;
+
+    private KieBase kieBase;
+    private KieSession kieSession;
+    private int age;
+
+    @Setup(Level.Trial)
+    public void buildKieBase() {
+        KieServices ks = KieServices.get();
+        KieFileSystem kfs = ks.newKieFileSystem();
+        kfs.write( "src/main/resources/r.drl", String.format( DRL, windowSize ) );
+        Message error = ks.newKieBuilder( kfs ).buildAll( ExecutableModelProject.class ).getResults().getMessages( Message.Level.ERROR ).stream().findFirst().orElse( null );
+        if (error != null) {
+            throw new IllegalStateException( error.toString() );
+        }
+
+        KieBaseConfiguration kieBaseConf = ks.newKieBaseConfiguration();
+        kieBaseConf.setOption( EventProcessingOption.STREAM );
+        kieBase = ks.newKieContainer( ks.getRepository().getDefaultReleaseId() ).newKieBase( kieBaseConf );
+    }
+
+    @Setup(Level.Iteration)
+    public void fillWindow() {
+        kieSession = kieBase.newKieSession();
+        age = Integer.MAX_VALUE;
+        for (int i = 0; i < windowSize; i++) {
+            kieSession.insert( new Person( "P" + i, age-- ) );
+        }
+        kieSession.fireAllRules();
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int slideWindow() {
+        // the ages are decreasing, so the fact leaving the window is always the current max
+        kieSession.insert( new Person( "P", age-- ) );
+        return kieSession.fireAllRules();
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.mvel.java;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.drools.util.PortablePath;
+import org.kie.memorycompiler.resources.MemoryResourceReader;
+import org.kie.memorycompiler.resources.ResourceStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A content addressed cache of the classes compiled out of the sources generated for a package.
+ * Each entry is a file named after the SHA-256 of the generated sources, of the compiler
+ * configuration and of the running JDK version, containing all the classes that the compilation
+ * of those sources produced.
+ *
+ * The key is computed on the generated sources rather than on the DRL, because they also carry
+ * everything else that affects the compilation of a package, like its imports, globals, functions
+ * and the declarations of the other packages its rules refer to.
+ *
+ * The generated sources don't tell if the classes they use, like the facts and the declared types,
+ * changed in a binary incompatible way since the entry was written: for this reason the entry also
+ * records the digest of the bytecode of all the non JDK classes referenced by the compiled classes,
+ * and it is only reused when all those digests are unchanged. The referenced classes are looked up
+ * in the class loader of the package, so that both the classes already compiled for the package and
+ * the ones of the other packages of the project are found; the classes being compiled are not looked
+ * up, since their sources are already part of the key.
+ */
+class CompiledClassesCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompiledClassesCache.class);
+
+    private static final String ENTRY_EXTENSION = ".classes";
+
+    private static final byte[] MISSING_CLASS = new byte[0];
+
+    private final File cacheDir;
+
+    CompiledClassesCache(File cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    String computeKey(String[] classes, MemoryResourceReader src, JavaForMvelDialectConfiguration configuration) {
+        MessageDigest digest = newDigest();
+        digest.update(configuration.getCompiler().name().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(configuration.getJavaLanguageLevel().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(System.getProperty("java.version").getBytes(StandardCharsets.UTF_8));
+
+        String[] sortedClasses = classes.clone();
+        Arrays.sort(sortedClasses);
+        for (String className : sortedClasses) {
+            digest.update((byte) 0);
+            digest.update(className.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(src.getBytes(className));
+        }
+
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Writes into the given store the classes cached under the given key, provided that none of
+     * the classes they reference changed in the given class loader since the entry was written.
+     *
+     * @return true if the entry was found and is still valid, false if the sources have to be compiled
+     */
+    boolean load(String key, ResourceStore store, ClassLoader classLoader) {
+        File entry = new File(cacheDir, key + ENTRY_EXTENSION);
+        if (!entry.isFile()) {
+            return false;
+        }
+
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry.toPath())))) {
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                String name = in.readUTF();
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                classes.put(name, bytes);
+            }
+            int dependencies = in.readInt();
+            for (int i = 0; i < dependencies; i++) {
+                String className = in.readUTF();
+                byte[] bytecodeDigest = new byte[in.readInt()];
+                in.readFully(bytecodeDigest);
+                if (!Arrays.equals(bytecodeDigest, digestOf(className, classLoader))) {
+                    LOG.debug("The class " + className + " changed since the compiled classes cache entry " + entry +
+                              " was written, the sources will be compiled again");
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to read the compiled classes cache entry " + entry + ", the sources will be compiled again", e);
+            return false;
+        }
+
+        for (Map.Entry<String, byte[]> clazz : classes.entrySet()) {
+            store.write(clazz.getKey(), clazz.getValue());
+        }
+        return true;
+    }
+
+    void store(String key, Map<String, byte[]> classes, ClassLoader classLoader) {
+        Path entry = new File(cacheDir, key + ENTRY_EXTENSION).toPath();
+        try {
+            Set<String> dependencies = referencedClasses(classes);
+            // the entry is written aside and then moved, so concurrent builds never read a partially written one
+            Path tmp = Files.createTempFile(cacheDir.toPath(), key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(classes.size());
+                for (Map.Entry<String, byte[]> clazz : classes.entrySet()) {
+                    out.writeUTF(clazz.getKey());
+                    out.writeInt(clazz.getValue().length);
+                    out.write(clazz.getValue());
+                }
+                out.writeInt(dependencies.size());
+                for (String className : dependencies) {
+                    byte[] bytecodeDigest = digestOf(className, classLoader);
+                    out.writeUTF(className);
+                    out.writeInt(bytecodeDigest.length);
+                    out.write(bytecodeDigest);
+                }
+            }
+            try {
+                Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to write the compiled classes cache entry " + entry, e);
+        }
+    }
+
+    private static byte[] digestOf(String className, ClassLoader classLoader) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(className + ".class")) {
+            return in != null ? newDigest().digest(in.readAllBytes()) : MISSING_CLASS;
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the internal names of the classes referenced from the constant pools of the given
+     * classes, excluding the given classes themselves and the JDK ones, that are already part of the key.
+     */
+    private static Set<String> referencedClasses(Map<String, byte[]> classes) throws IOException {
+        Set<String> compiled = new TreeSet<>();
+        for (String resource : classes.keySet()) {
+            if (resource.endsWith(".class")) {
+                compiled.add(resource.substring(0, resource.length() - ".class".length()));
+            }
+        }
+
+        Set<String> referenced = new TreeSet<>();
+        for (byte[] bytecode : classes.values()) {
+            collectReferencedClasses(bytecode, referenced);
+        }
+        referenced.removeIf(className -> compiled.contains(className) || className.startsWith("java/"));
+        return referenced;
+    }
+
+    private static void collectReferencedClasses(byte[] bytecode, Collection<String> referenced) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytecode));
+        if (in.readInt() != 0xCAFEBABE) {
+            return;
+        }
+        in.skipNBytes(4); // minor and major version
+
+        int poolSize = in.readUnsignedShort();
+        String[] utf8s = new String[poolSize];
+        int[] classIndexes = new int[poolSize];
+        int classes = 0;
+        for (int i = 1; i < poolSize; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    utf8s[i] = in.readUTF();
+                    break;
+                case 7: // Class
+                    classIndexes[classes++] = in.readUnsignedShort();
+                    break;
+                case 8: case 16: case 19: case 20: // String, MethodType, Module, Package
+                    in.skipNBytes(2);
+                    break;
+                case 15: // MethodHandle
+                    in.skipNBytes(3);
+                    break;
+                case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18: // 4 bytes entries
+                    in.skipNBytes(4);
+                    break;
+                case 5: case 6: // Long and Double take two slots
+                    in.skipNBytes(8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+
+        for (int i = 0; i < classes; i++) {
+            String className = utf8s[classIndexes[i]];
+            if (className.startsWith("[")) {
+                // an array type, only its element type can be a dependency
+                int elementType = className.lastIndexOf('[') + 1;
+                if (className.charAt(elementType) != 'L') {
+                    continue;
+                }
+                className = className.substring(elementType + 1, className.length() - 1);
+            }
+            referenced.add(className);
+        }
+    }
+
+    /**
+     * A store recording all the classes written by the compiler, so that they can be cached at the end of the compilation.
+     */
+    static class RecordingResourceStore implements ResourceStore {
+
+        private final ResourceStore delegate;
+        private final Map<String, byte[]> written = new LinkedHashMap<>();
+
+        RecordingResourceStore(ResourceStore delegate) {
+            this.delegate = delegate;
+        }
+
+        Map<String, byte[]> getWritten() {
+            return written;
+        }
+
+        @Override
+        public void write(PortablePath resourcePath, byte[] pResourceData) {
+            written.put(resourcePath.asString(), pResourceData);
+            delegate.write(resourcePath, pResourceData);
+        }
+
+        @Override
+        public void write(PortablePath resourcePath, byte[] pResourceData, boolean createFolder) {
+            written.put(resourcePath.asString(), pResourceData);
+            delegate.write(resourcePath, pResourceData, createFolder);
+        }
+
+        @Override
+        public byte[] read(PortablePath resourcePath) {
+            return delegate.read(resourcePath);
+        }
+
+        @Override
+        public void remove(PortablePath resourcePath) {
+            written.remove(resourcePath.asString());
+            delegate.remove(resourcePath);
+        }
+    }
+}
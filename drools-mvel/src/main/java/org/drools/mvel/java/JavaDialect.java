@@ -415,11 +415,31 @@ public class JavaDialect implements Dialect {
                           dumpDir);
         }
 
+        File cacheDir = this.configuration.getPackageBuilderConfiguration().getCompiledClassesCacheDir();
+        CompiledClassesCache cache = cacheDir != null ? new CompiledClassesCache(cacheDir) : null;
+        String cacheKey = cache != null ? cache.computeKey(classes, this.src, this.configuration) : null;
+        // the referenced classes are looked up in the package first, where its functions and the classes of its
+        // previous compilations are, and then in the root class loader, where the other packages' ones are
+        ClassLoader dependenciesClassLoader = cache != null ? getPackageClassLoader() : null;
+        if (cache != null && cache.load(cacheKey, this.packageStoreWrapper, dependenciesClassLoader)) {
+            this.generatedClassList.clear();
+            this.errorHandlers.clear();
+            return;
+        }
+
+        final CompiledClassesCache.RecordingResourceStore recordingStore = cache != null ?
+                new CompiledClassesCache.RecordingResourceStore(this.packageStoreWrapper) :
+                null;
+
         final CompilationResult result = this.compiler.compile(classes,
                                                                this.src,
-                                                               this.packageStoreWrapper,
+                                                               recordingStore != null ? recordingStore : this.packageStoreWrapper,
                                                                rootClassLoader);
 
+        if (recordingStore != null && result.getErrors().length == 0) {
+            cache.store(cacheKey, recordingStore.getWritten(), dependenciesClassLoader);
+        }
+
 
         //this will sort out the errors based on what class/file they happened in
         if (result.getErrors().length > 0) {
@@ -443,6 +463,11 @@ public class JavaDialect implements Dialect {
         this.errorHandlers.clear();
     }
 
+    private ClassLoader getPackageClassLoader() {
+        ClassLoader packageClassLoader = ((JavaDialectRuntimeData) this.pkg.getDialectRuntimeRegistry().getDialectData(ID)).getClassLoader();
+        return packageClassLoader != null ? packageClassLoader : rootClassLoader;
+    }
+
     /**
      * @param classes
      * @param dumpDir
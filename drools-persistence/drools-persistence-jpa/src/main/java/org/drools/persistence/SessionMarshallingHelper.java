@@ -21,7 +21,9 @@ package org.drools.persistence;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.List;
 
+import org.drools.serialization.protobuf.DeltaSnapshotTracker;
 import org.drools.serialization.protobuf.marshalling.InternalMarshaller;
 import org.drools.serialization.protobuf.marshalling.KieSessionInitializer;
 import org.kie.api.KieBase;
@@ -88,6 +90,57 @@ public class SessionMarshallingHelper {
         return baos.toByteArray();
     }
 
+    /**
+     * Starts tracking the changes of the session, so that after the next full snapshot
+     * the cheaper delta snapshots can be taken with getDeltaSnapshot()
+     */
+    public void enableDeltaSnapshots() {
+        DeltaSnapshotTracker.attach( ksession );
+    }
+
+    public boolean isDeltaSnapshotsEnabled() {
+        return ksession != null && DeltaSnapshotTracker.get( ksession ) != null;
+    }
+
+    public byte[] getDeltaSnapshot() {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try {
+            marshaller.marshallDelta( baos,
+                                      ksession );
+        } catch ( IOException e ) {
+            throw new RuntimeException( "Unable to get session delta snapshot",
+                                        e );
+        }
+
+        return baos.toByteArray();
+    }
+
+    public KieSession loadSnapshot( byte[] base,
+                                    List<byte[]> deltas,
+                                    KieSession ksession,
+                                    KieSessionInitializer initializer ) {
+        this.ksession = ksession;
+        try {
+            this.marshaller.setInitializer( initializer );
+            if ( this.ksession != null ) {
+                this.marshaller.unmarshall( base,
+                                            deltas,
+                                            this.ksession );
+            } else {
+                this.ksession = this.marshaller.unmarshall( base,
+                                                            deltas,
+                                                            this.conf,
+                                                            this.env );
+            }
+        } catch ( Exception e ) {
+            throw new RuntimeException( "Unable to load session snapshot",
+                                        e );
+        } finally {
+            this.marshaller.setInitializer( null );
+        }
+        return this.ksession;
+    }
+
     public KieSession loadSnapshot( byte[] bytes,
                                     KieSession ksession,
                                     KieSessionInitializer initializer ) {
@@ -118,7 +118,9 @@ public class BatchingStorageDecorator<K, V> implements Storage<K, V> {
     public void flush() {
         storage.putAll(batchingMap);
         batchingMap.clear();
-        batchingRemoveSet.forEach(storage::remove);
-        batchingRemoveSet.clear();
+        if (!batchingRemoveSet.isEmpty()) {
+            storage.removeAll(batchingRemoveSet);
+            batchingRemoveSet.clear();
+        }
     }
 }
@@ -86,11 +86,16 @@ public class ReliableSessionInitializer {
 
         private void onWorkingMemoryAction(InternalWorkingMemory session, PropagationEntry entry) {
             if (entry instanceof PropagationEntry.Insert || entry instanceof PropagationEntry.Update) {
-                InternalFactHandle fh = ((PropagationEntry.AbstractPropagationEntry) entry).getHandle();
-                if (fh.isValid()) {
-                    WorkingMemoryEntryPoint ep = fh.getEntryPoint(session);
-                    ((SimpleReliableObjectStore) ep.getObjectStore()).putIntoPersistedStorage(fh, true);
-                }
+                putIntoPersistedStorage(session, ((PropagationEntry.AbstractPropagationEntry) entry).getHandle());
+            } else if (entry instanceof PropagationEntry.InsertAll insertAll) {
+                insertAll.getHandles().forEach(fh -> putIntoPersistedStorage(session, fh));
+            }
+        }
+
+        private void putIntoPersistedStorage(InternalWorkingMemory session, InternalFactHandle fh) {
+            if (fh.isValid()) {
+                WorkingMemoryEntryPoint ep = fh.getEntryPoint(session);
+                ((SimpleReliableObjectStore) ep.getObjectStore()).putIntoPersistedStorage(fh, true);
             }
         }
 
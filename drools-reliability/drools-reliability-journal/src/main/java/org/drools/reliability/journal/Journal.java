@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only journal backed by a memory mapped file.
+ *
+ * Each record is framed as [int length][int crc32][payload] and the last record is always followed by a zero length
+ * marker, so a replay stops at the first torn or never written record. Appends only copy the records into the mapped
+ * buffer while holding the write lock, and making them durable is a separate step: {@link #sync(long)} forces the
+ * mapped pages only if no other thread has already done it past the requested position, so concurrent writers share
+ * a single fsync (group commit).
+ *
+ * Positions returned by {@link #append(List)} are logical and keep growing across compactions: a compaction rewrites
+ * the live state into a new, already forced file and shifts the base of the logical positions accordingly.
+ */
+public class Journal {
+
+    static final int MAGIC = 0x44524a31; // "DRJ1"
+
+    private static final int HEADER_SIZE = Integer.BYTES;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int END_MARKER_SIZE = Integer.BYTES;
+
+    private final Path journalFile;
+    private final int initialCapacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    // logical position of the first byte of the current file
+    private long base;
+    private int writePosition;
+    private volatile int recordsCount;
+
+    private volatile long syncedPosition;
+
+    public Journal(Path journalFile, int initialCapacity) {
+        this.journalFile = journalFile;
+        this.initialCapacity = initialCapacity;
+    }
+
+    /**
+     * Opens the journal, passing to the given consumer the payload of every valid record found in the file.
+     * Whatever follows the last valid record, like a record partially written before a crash, is discarded.
+     */
+    public void open(Consumer<byte[]> replayer) {
+        lock.lock();
+        try {
+            Files.createDirectories(journalFile.toAbsolutePath().getParent());
+            boolean exists = Files.exists(journalFile) && Files.size(journalFile) >= HEADER_SIZE;
+            channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            // checked before mapping the file, which would also grow it
+            if (exists && readMagic() != MAGIC) {
+                closeChannel();
+                throw new IllegalStateException("File " + journalFile + " is not a journal or its header is corrupted");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), initialCapacity));
+            base = 0;
+            recordsCount = 0;
+            if (exists) {
+                writePosition = replay(replayer);
+            } else {
+                buffer.putInt(0, MAGIC);
+                writePosition = HEADER_SIZE;
+            }
+            buffer.putInt(writePosition, 0);
+            buffer.force();
+            syncedPosition = writePosition;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int readMagic() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        int read = 0;
+        while (header.hasRemaining() && read >= 0) {
+            read = channel.read(header, header.position());
+        }
+        return header.getInt(0);
+    }
+
+    private int replay(Consumer<byte[]> replayer) {
+        int position = HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_SIZE + length > buffer.capacity()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            try {
+                buffer.get(position + RECORD_HEADER_SIZE, payload);
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                break;
+            }
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+                break;
+            }
+            replayer.accept(payload);
+            recordsCount++;
+            position += RECORD_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    public void lock() {
+        lock.lock();
+    }
+
+    public void unlock() {
+        lock.unlock();
+    }
+
+    /**
+     * Appends the given records and returns the logical position following the last one.
+     * The records are not guaranteed to be durable until {@link #sync(long)} is invoked with that position.
+     */
+    public long append(List<byte[]> records) {
+        lock.lock();
+        try {
+            int size = 0;
+            for (byte[] record : records) {
+                size += RECORD_HEADER_SIZE + record.length;
+            }
+            ensureCapacity(size);
+            CRC32 crc = new CRC32();
+            int position = writePosition;
+            for (byte[] record : records) {
+                crc.reset();
+                crc.update(record);
+                buffer.put(position + RECORD_HEADER_SIZE, record);
+                buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+                position += RECORD_HEADER_SIZE + record.length;
+            }
+            buffer.putInt(position, 0);
+            // the length of the first record is written last, so a partially copied batch is never replayed
+            for (int i = records.size() - 1, recordPosition = position; i >= 0; i--) {
+                recordPosition -= RECORD_HEADER_SIZE + records.get(i).length;
+                buffer.putInt(recordPosition, records.get(i).length);
+            }
+            writePosition = position;
+            recordsCount += records.size();
+            return base + writePosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        int required = writePosition + size + END_MARKER_SIZE;
+        if (required <= buffer.capacity()) {
+            return;
+        }
+        long newCapacity = buffer.capacity();
+        while (newCapacity < required) {
+            newCapacity *= 2;
+        }
+        if (newCapacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Journal " + journalFile + " exceeded the maximum size of a mapped file");
+        }
+        try {
+            buffer.force();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Makes durable all the records up to the given logical position. If another thread already forced the journal
+     * past that position while this one was waiting, it returns without any further I/O.
+     */
+    public void sync(long position) {
+        if (syncedPosition >= position) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (syncedPosition >= position) {
+                return;
+            }
+            MappedByteBuffer toBeForced;
+            long target;
+            int from;
+            lock.lock();
+            try {
+                toBeForced = buffer;
+                target = base + writePosition;
+                from = (int) Math.max(0, syncedPosition - base);
+            } finally {
+                lock.unlock();
+            }
+            toBeForced.force(from, (int) (target - base) + END_MARKER_SIZE - from);
+            syncedPosition = Math.max(syncedPosition, target);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public int getRecordsCount() {
+        return recordsCount;
+    }
+
+    /**
+     * Replaces the journal with a new one containing only the records produced by the given snapshot, which has
+     * to be a consistent view of the live state: the caller must hold the journal lock.
+     */
+    public void compact(Consumer<Consumer<byte[]>> snapshot) {
+        if (!lock.isHeldByCurrentThread()) {
+            throw new IllegalStateException("The journal lock must be held to compact the journal");
+        }
+        Path compacted = journalFile.resolveSibling(journalFile.getFileName() + ".compact");
+        Journal target = new Journal(compacted, initialCapacity);
+        try {
+            Files.deleteIfExists(compacted);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        target.open(payload -> { });
+        List<byte[]> batch = new ArrayList<>();
+        snapshot.accept(batch::add);
+        target.append(batch);
+        target.buffer.force();
+
+        // the current file has to be released before being replaced: the mapping is dropped together with the channel
+        long logicalEnd = base + writePosition;
+        long capacity = buffer.capacity();
+        buffer.force();
+        closeChannel();
+        try {
+            Files.move(compacted, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            target.close();
+            remap(capacity);
+            throw new UncheckedIOException(e);
+        }
+        forceDirectory();
+
+        channel = target.channel;
+        buffer = target.buffer;
+        writePosition = target.writePosition;
+        recordsCount = target.recordsCount;
+        // everything written so far is now durable in the compacted file
+        base = logicalEnd - writePosition;
+        syncedPosition = logicalEnd;
+    }
+
+    private void remap(long capacity) {
+        try {
+            channel = FileChannel.open(journalFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void forceDirectory() {
+        try (FileChannel dir = FileChannel.open(journalFile.toAbsolutePath().getParent(), StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // not supported on all the platforms, the rename is durable anyway at the next sync of the file system
+        }
+    }
+
+    public void close() {
+        lock.lock();
+        try {
+            if (channel != null) {
+                buffer.force();
+                closeChannel();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            channel = null;
+            buffer = null;
+        }
+    }
+
+    public Path getJournalFile() {
+        return journalFile;
+    }
+}
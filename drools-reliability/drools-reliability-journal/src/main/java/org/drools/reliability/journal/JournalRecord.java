@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.UncheckedIOException;
+
+import org.drools.reliability.core.ReliabilityRuntimeException;
+
+/**
+ * A single operation on a named storage, as it is written in the journal.
+ *
+ * The payload is [byte type][utf storage name] followed, depending on the type, by the key and the already serialized
+ * value. Long and String keys, the ones used by the reliability layer, are written in place, while any other key and
+ * all the values are Java serialized.
+ */
+public class JournalRecord {
+
+    public enum Type {
+        CREATE, PUT, REMOVE, CLEAR, DROP
+    }
+
+    private static final byte LONG_KEY = 0;
+    private static final byte STRING_KEY = 1;
+    private static final byte SERIALIZED_KEY = 2;
+
+    private final Type type;
+    private final String storageName;
+    private final Object key;
+    private final byte[] value;
+
+    private JournalRecord(Type type, String storageName, Object key, byte[] value) {
+        this.type = type;
+        this.storageName = storageName;
+        this.key = key;
+        this.value = value;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getStorageName() {
+        return storageName;
+    }
+
+    public Object getKey() {
+        return key;
+    }
+
+    public byte[] getValue() {
+        return value;
+    }
+
+    public static byte[] create(String storageName) {
+        return encode(Type.CREATE, storageName, null, null);
+    }
+
+    public static byte[] put(String storageName, Object key, byte[] value) {
+        return encode(Type.PUT, storageName, key, value);
+    }
+
+    public static byte[] remove(String storageName, Object key) {
+        return encode(Type.REMOVE, storageName, key, null);
+    }
+
+    public static byte[] clear(String storageName) {
+        return encode(Type.CLEAR, storageName, null, null);
+    }
+
+    public static byte[] drop(String storageName) {
+        return encode(Type.DROP, storageName, null, null);
+    }
+
+    private static byte[] encode(Type type, String storageName, Object key, byte[] value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + (value != null ? value.length : 0));
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type.ordinal());
+            out.writeUTF(storageName);
+            if (type == Type.PUT || type == Type.REMOVE) {
+                writeKey(out, key);
+            }
+            if (type == Type.PUT) {
+                out.writeInt(value.length);
+                out.write(value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeKey(DataOutputStream out, Object key) throws IOException {
+        if (key instanceof Long l) {
+            out.writeByte(LONG_KEY);
+            out.writeLong(l);
+        } else if (key instanceof String s) {
+            out.writeByte(STRING_KEY);
+            out.writeUTF(s);
+        } else {
+            byte[] serializedKey = serialize(key);
+            out.writeByte(SERIALIZED_KEY);
+            out.writeInt(serializedKey.length);
+            out.write(serializedKey);
+        }
+    }
+
+    public static JournalRecord decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            Type type = Type.values()[in.readByte()];
+            String storageName = in.readUTF();
+            Object key = null;
+            byte[] value = null;
+            if (type == Type.PUT || type == Type.REMOVE) {
+                key = readKey(in);
+            }
+            if (type == Type.PUT) {
+                value = new byte[in.readInt()];
+                in.readFully(value);
+            }
+            return new JournalRecord(type, storageName, key, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object readKey(DataInputStream in) throws IOException {
+        byte keyType = in.readByte();
+        switch (keyType) {
+            case LONG_KEY:
+                return in.readLong();
+            case STRING_KEY:
+                return in.readUTF();
+            default:
+                byte[] serializedKey = new byte[in.readInt()];
+                in.readFully(serializedKey);
+                return deserialize(serializedKey);
+        }
+    }
+
+    public static byte[] serialize(Object object) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T deserialize(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try (ObjectInputStream in = new ContextClassLoaderObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (T) in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new ReliabilityRuntimeException(e);
+        }
+    }
+
+    private static class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+        private ContextClassLoaderObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // fall back to the default resolution
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.journal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.drools.core.common.Storage;
+
+/**
+ * A Storage whose content is kept in memory in its serialized form and whose every modification is appended to the
+ * journal of the {@link JournalStorageManager} before returning. Bulk operations write all their records with a single
+ * append and make them durable with a single sync of the journal.
+ *
+ * Values are serialized when written, but the stored instance is also retained, so like for the other local stores
+ * a get returns the same object that has been put. After a replay the values are deserialized lazily on first access.
+ */
+public class JournalStorage<K, V> implements Storage<K, V> {
+
+    private final String name;
+    private final JournalStorageManager storageManager;
+    private final Journal journal;
+
+    private final Map<K, Entry> entries = new ConcurrentHashMap<>();
+
+    JournalStorage(String name, JournalStorageManager storageManager) {
+        this.name = name;
+        this.storageManager = storageManager;
+        this.journal = storageManager.getJournal();
+    }
+
+    @Override
+    public V get(K key) {
+        return valueOf(entries.get(key));
+    }
+
+    @Override
+    public V getOrDefault(K key, V value) {
+        Entry entry = entries.get(key);
+        return entry != null ? valueOf(entry) : value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        byte[] bytes = JournalRecord.serialize(value);
+        byte[] record = JournalRecord.put(name, key, bytes);
+        Entry previous;
+        long position;
+        journal.lock();
+        try {
+            previous = entries.put(key, new Entry(bytes, value));
+            position = journal.append(List.of(record));
+        } finally {
+            journal.unlock();
+        }
+        commit(position);
+        return valueOf(previous);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> otherMap) {
+        if (otherMap.isEmpty()) {
+            return;
+        }
+        Map<K, Entry> serialized = new HashMap<>(otherMap.size() * 2);
+        List<byte[]> records = new ArrayList<>(otherMap.size());
+        otherMap.forEach((key, value) -> {
+            byte[] bytes = JournalRecord.serialize(value);
+            serialized.put(key, new Entry(bytes, value));
+            records.add(JournalRecord.put(name, key, bytes));
+        });
+        long position;
+        journal.lock();
+        try {
+            entries.putAll(serialized);
+            position = journal.append(records);
+        } finally {
+            journal.unlock();
+        }
+        commit(position);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public V remove(K key) {
+        Entry previous;
+        long position;
+        journal.lock();
+        try {
+            previous = entries.remove(key);
+            if (previous == null) {
+                return null;
+            }
+            position = journal.append(List.of(JournalRecord.remove(name, key)));
+        } finally {
+            journal.unlock();
+        }
+        commit(position);
+        return valueOf(previous);
+    }
+
+    @Override
+    public void removeAll(Collection<? extends K> keys) {
+        List<byte[]> records = new ArrayList<>(keys.size());
+        long position;
+        journal.lock();
+        try {
+            for (K key : keys) {
+                if (entries.remove(key) != null) {
+                    records.add(JournalRecord.remove(name, key));
+                }
+            }
+            if (records.isEmpty()) {
+                return;
+            }
+            position = journal.append(records);
+        } finally {
+            journal.unlock();
+        }
+        commit(position);
+    }
+
+    @Override
+    public void clear() {
+        long position;
+        journal.lock();
+        try {
+            entries.clear();
+            position = journal.append(List.of(JournalRecord.clear(name)));
+        } finally {
+            journal.unlock();
+        }
+        commit(position);
+    }
+
+    private void commit(long position) {
+        journal.sync(position);
+        storageManager.compactIfNeeded();
+    }
+
+    @Override
+    public Collection<V> values() {
+        List<V> values = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            values.add(valueOf(entry));
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    // --- invoked by the JournalStorageManager while replaying or compacting the journal, under the journal lock
+
+    @SuppressWarnings("unchecked")
+    void replay(JournalRecord record) {
+        switch (record.getType()) {
+            case PUT:
+                entries.put((K) record.getKey(), new Entry(record.getValue(), null));
+                break;
+            case REMOVE:
+                entries.remove(record.getKey());
+                break;
+            case CLEAR:
+                entries.clear();
+                break;
+            default:
+                break;
+        }
+    }
+
+    void snapshot(Consumer<byte[]> records) {
+        records.accept(JournalRecord.create(name));
+        entries.forEach((key, entry) -> records.accept(JournalRecord.put(name, key, entry.bytes)));
+    }
+
+    String getName() {
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueOf(Entry entry) {
+        if (entry == null) {
+            return null;
+        }
+        Object value = entry.value;
+        if (value == null) {
+            value = JournalRecord.deserialize(entry.bytes);
+            entry.value = value;
+        }
+        return (V) value;
+    }
+
+    private static class Entry {
+
+        // the serialized form is what has been made durable and what is rewritten by a compaction
+        private final byte[] bytes;
+
+        private volatile Object value;
+
+        private Entry(byte[] bytes, Object value) {
+            this.bytes = bytes;
+            this.value = value;
+        }
+    }
+}
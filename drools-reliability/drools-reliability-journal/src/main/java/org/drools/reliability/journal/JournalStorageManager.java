@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.journal;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.common.Storage;
+import org.drools.reliability.core.TestableStorageManager;
+import org.drools.util.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.drools.reliability.core.StorageManager.createStorageId;
+import static org.drools.reliability.core.StorageManagerFactory.DELIMITER;
+import static org.drools.reliability.core.StorageManagerFactory.SESSION_STORAGE_PREFIX;
+import static org.drools.reliability.core.StorageManagerFactory.SHARED_STORAGE_PREFIX;
+import static org.drools.reliability.journal.JournalStorageManagerFactory.JOURNAL_STORAGE_COMPACTION_THRESHOLD;
+import static org.drools.reliability.journal.JournalStorageManagerFactory.JOURNAL_STORAGE_DIRECTORY;
+import static org.drools.reliability.journal.JournalStorageManagerFactory.JOURNAL_STORAGE_INITIAL_SIZE;
+import static org.drools.util.Config.getConfig;
+
+/**
+ * A local StorageManager persisting all the storages in a single append-only journal.
+ *
+ * The content of the storages is rebuilt in memory by replaying the journal when the manager is initialized, so a
+ * recovered session finds there the facts and activations it had before the crash. Since the journal only grows,
+ * it is periodically compacted, rewriting just the live entries, once it contains enough superseded records.
+ */
+public class JournalStorageManager implements TestableStorageManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JournalStorageManager.class);
+
+    static final JournalStorageManager INSTANCE = new JournalStorageManager();
+
+    public static final String DEFAULT_JOURNAL_DIR = "drools-journal";
+    public static final String JOURNAL_FILE_NAME = "journal.log";
+
+    private static final int DEFAULT_INITIAL_SIZE = 16 * 1024 * 1024;
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 100_000;
+
+    private final Map<String, JournalStorage<?, ?>> storages = new ConcurrentHashMap<>();
+
+    private Journal journal;
+
+    private int compactionThreshold;
+
+    private volatile int nextCompactionCheck;
+
+    private JournalStorageManager() {
+    }
+
+    @Override
+    public void initStorageManager() {
+        LOG.info("Using JournalStorageManager");
+        compactionThreshold = Integer.parseInt(getConfig(JOURNAL_STORAGE_COMPACTION_THRESHOLD, String.valueOf(DEFAULT_COMPACTION_THRESHOLD)));
+        int initialSize = Integer.parseInt(getConfig(JOURNAL_STORAGE_INITIAL_SIZE, String.valueOf(DEFAULT_INITIAL_SIZE)));
+        journal = new Journal(getJournalDir().resolve(JOURNAL_FILE_NAME), initialSize);
+        storages.clear();
+        journal.open(payload -> replay(JournalRecord.decode(payload)));
+        nextCompactionCheck = Math.max(compactionThreshold, journal.getRecordsCount());
+        LOG.info("Replayed {} records from {} into {} storages", journal.getRecordsCount(), journal.getJournalFile(), storages.size());
+    }
+
+    private void replay(JournalRecord record) {
+        switch (record.getType()) {
+            case DROP:
+                storages.remove(record.getStorageName());
+                break;
+            case CREATE:
+                storages.computeIfAbsent(record.getStorageName(), name -> new JournalStorage<>(name, this));
+                break;
+            default:
+                storages.computeIfAbsent(record.getStorageName(), name -> new JournalStorage<>(name, this)).replay(record);
+        }
+    }
+
+    private static Path getJournalDir() {
+        return Path.of(getConfig(JOURNAL_STORAGE_DIRECTORY, DEFAULT_JOURNAL_DIR));
+    }
+
+    Journal getJournal() {
+        return journal;
+    }
+
+    @Override
+    public <K, V> Storage<K, V> internalGetOrCreateStorageForSession(ReteEvaluator reteEvaluator, String storageName) {
+        return getOrCreateStorage(createStorageId(reteEvaluator, storageName));
+    }
+
+    @Override
+    public <K, V> Storage<K, V> getOrCreateSharedStorage(String storageName) {
+        return getOrCreateStorage(SHARED_STORAGE_PREFIX + storageName);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> Storage<K, V> getOrCreateStorage(String storageId) {
+        JournalStorage<K, V> storage = (JournalStorage<K, V>) storages.get(storageId);
+        if (storage != null) {
+            return storage;
+        }
+        long position;
+        journal.lock();
+        try {
+            storage = (JournalStorage<K, V>) storages.get(storageId);
+            if (storage != null) {
+                return storage;
+            }
+            storage = new JournalStorage<>(storageId, this);
+            storages.put(storageId, storage);
+            position = journal.append(List.of(JournalRecord.create(storageId)));
+        } finally {
+            journal.unlock();
+        }
+        journal.sync(position);
+        return storage;
+    }
+
+    void compactIfNeeded() {
+        if (journal.getRecordsCount() < nextCompactionCheck) {
+            return;
+        }
+        journal.lock();
+        try {
+            int liveRecords = 0;
+            for (JournalStorage<?, ?> storage : storages.values()) {
+                liveRecords += storage.size() + 1;
+            }
+            // compact only when at least half of the journal is made of superseded records
+            if (journal.getRecordsCount() >= liveRecords * 2) {
+                journal.compact(records -> storages.values().forEach(storage -> storage.snapshot(records)));
+                LOG.debug("Compacted journal {} to {} records", journal.getJournalFile(), journal.getRecordsCount());
+                nextCompactionCheck = Math.max(compactionThreshold, journal.getRecordsCount() * 2);
+            } else {
+                nextCompactionCheck = Math.max(compactionThreshold, liveRecords * 2);
+            }
+        } finally {
+            journal.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        journal.close();
+    }
+
+    @Override
+    public void removeStorage(String storageName) {
+        long position;
+        journal.lock();
+        try {
+            if (storages.remove(storageName) == null) {
+                return;
+            }
+            position = journal.append(List.of(JournalRecord.drop(storageName)));
+        } finally {
+            journal.unlock();
+        }
+        journal.sync(position);
+    }
+
+    @Override
+    public void removeStoragesBySessionId(String sessionId) {
+        getStorageNames()
+                .stream()
+                .filter(storageName -> storageName.startsWith(SESSION_STORAGE_PREFIX + sessionId + DELIMITER))
+                .forEach(this::removeStorage);
+    }
+
+    @Override
+    public void removeAllSessionStorages() {
+        getStorageNames()
+                .stream()
+                .filter(storageName -> storageName.startsWith(SESSION_STORAGE_PREFIX))
+                .forEach(this::removeStorage);
+    }
+
+    @Override
+    public Set<String> getStorageNames() {
+        return new HashSet<>(storages.keySet());
+    }
+
+    //--- test purpose
+
+    @Override
+    public void restart() {
+        // JVM crashed
+        journal.close();
+
+        // Reboot
+        initStorageManager();
+    }
+
+    @Override
+    public void restartWithCleanUp() {
+        // JVM crashed
+        journal.close();
+
+        // remove journal directory
+        cleanUpJournal();
+
+        // Reboot
+        initStorageManager();
+    }
+
+    @Override
+    public boolean isRemote() {
+        return false;
+    }
+
+    public static void cleanUpJournal() {
+        FileUtils.deleteDirectory(getJournalDir());
+    }
+}
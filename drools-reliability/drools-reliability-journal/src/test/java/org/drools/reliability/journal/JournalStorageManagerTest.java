@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.journal;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.common.Storage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.drools.reliability.journal.JournalStorageManagerFactory.JOURNAL_STORAGE_COMPACTION_THRESHOLD;
+import static org.drools.reliability.journal.JournalStorageManagerFactory.JOURNAL_STORAGE_DIRECTORY;
+import static org.drools.reliability.journal.JournalStorageManagerFactory.JOURNAL_STORAGE_INITIAL_SIZE;
+
+public class JournalStorageManagerTest {
+
+    @TempDir
+    Path journalDir;
+
+    private final JournalStorageManager storageManager = JournalStorageManager.INSTANCE;
+
+    @BeforeEach
+    public void setUp() {
+        System.setProperty(JOURNAL_STORAGE_DIRECTORY, journalDir.toString());
+        System.setProperty(JOURNAL_STORAGE_INITIAL_SIZE, "4096");
+        System.setProperty(JOURNAL_STORAGE_COMPACTION_THRESHOLD, "1000");
+        storageManager.initStorageManager();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        storageManager.close();
+        System.clearProperty(JOURNAL_STORAGE_DIRECTORY);
+        System.clearProperty(JOURNAL_STORAGE_INITIAL_SIZE);
+        System.clearProperty(JOURNAL_STORAGE_COMPACTION_THRESHOLD);
+    }
+
+    @Test
+    public void testReplayAfterRestart() {
+        Storage<Long, String> facts = storageManager.getOrCreateSharedStorage("facts");
+        Storage<String, Boolean> activations = storageManager.getOrCreateSharedStorage("activations");
+        storageManager.getOrCreateSharedStorage("empty");
+
+        facts.put(1L, "Mario");
+        facts.put(2L, "Luigi");
+        facts.put(1L, "Mario Rossi");
+        facts.remove(2L);
+        activations.put("R1:1", true);
+        activations.put("R2:1", true);
+        activations.clear();
+        activations.put("R3:1", true);
+
+        storageManager.restart();
+
+        assertThat(storageManager.getStorageNames()).containsExactlyInAnyOrder("shared_facts", "shared_activations", "shared_empty");
+        Storage<Long, String> recoveredFacts = storageManager.getOrCreateSharedStorage("facts");
+        assertThat(recoveredFacts.keySet()).containsExactly(1L);
+        assertThat(recoveredFacts.get(1L)).isEqualTo("Mario Rossi");
+        Storage<String, Boolean> recoveredActivations = storageManager.getOrCreateSharedStorage("activations");
+        assertThat(recoveredActivations.keySet()).containsExactly("R3:1");
+    }
+
+    @Test
+    public void testBatchesAndRemovedStorages() {
+        Storage<Long, String> facts = storageManager.getOrCreateSharedStorage("facts");
+        Storage<Long, String> dropped = storageManager.getOrCreateSharedStorage("dropped");
+
+        Map<Long, String> batch = new HashMap<>();
+        for (long i = 0; i < 100; i++) {
+            batch.put(i, "fact" + i);
+        }
+        facts.putAll(batch);
+        facts.removeAll(List.of(10L, 20L, 30L, 1000L));
+        dropped.put(1L, "one");
+        storageManager.removeStorage("shared_dropped");
+
+        storageManager.restart();
+
+        assertThat(storageManager.getStorageNames()).containsExactly("shared_facts");
+        Storage<Long, String> recoveredFacts = storageManager.getOrCreateSharedStorage("facts");
+        assertThat(recoveredFacts.size()).isEqualTo(97);
+        assertThat(recoveredFacts.containsKey(20L)).isFalse();
+        assertThat(recoveredFacts.get(99L)).isEqualTo("fact99");
+    }
+
+    @Test
+    public void testTornRecordIsDiscarded() throws IOException {
+        Storage<Long, String> facts = storageManager.getOrCreateSharedStorage("facts");
+        facts.put(1L, "one");
+        facts.put(2L, "two");
+        long journalEnd = journalEnd();
+        facts.put(3L, "three");
+        storageManager.close();
+
+        // simulate a crash while the last record was being written
+        try (RandomAccessFile file = new RandomAccessFile(storageManager.getJournal().getJournalFile().toFile(), "rw")) {
+            file.seek(journalEnd + 12);
+            file.write(new byte[] { 1, 2, 3, 4 });
+        }
+
+        storageManager.initStorageManager();
+        Storage<Long, String> recoveredFacts = storageManager.getOrCreateSharedStorage("facts");
+        assertThat(recoveredFacts.keySet()).containsExactlyInAnyOrder(1L, 2L);
+
+        // the torn record is overwritten by the following ones
+        recoveredFacts.put(4L, "four");
+        storageManager.restart();
+        assertThat(storageManager.<Long, String>getOrCreateSharedStorage("facts").keySet()).containsExactlyInAnyOrder(1L, 2L, 4L);
+    }
+
+    @Test
+    public void testForeignFileIsNotOverwritten() throws IOException {
+        Path journalFile = storageManager.getJournal().getJournalFile();
+        storageManager.close();
+
+        byte[] content = "not a journal".getBytes();
+        Files.write(journalFile, content);
+
+        assertThatThrownBy(storageManager::initStorageManager).isInstanceOf(IllegalStateException.class);
+        assertThat(Files.readAllBytes(journalFile)).isEqualTo(content);
+
+        // leave a valid journal to the tear down
+        Files.delete(journalFile);
+        storageManager.initStorageManager();
+    }
+
+    @Test
+    public void testCompaction() {
+        Storage<Long, String> facts = storageManager.getOrCreateSharedStorage("facts");
+        for (int i = 0; i < 5000; i++) {
+            facts.put((long) (i % 10), "value" + i);
+        }
+        assertThat(storageManager.getJournal().getRecordsCount()).isLessThan(1000);
+
+        storageManager.restart();
+
+        Storage<Long, String> recoveredFacts = storageManager.getOrCreateSharedStorage("facts");
+        assertThat(recoveredFacts.size()).isEqualTo(10);
+        for (int i = 4990; i < 5000; i++) {
+            assertThat(recoveredFacts.get((long) (i % 10))).isEqualTo("value" + i);
+        }
+    }
+
+    @Test
+    public void testConcurrentWritersShareCommits() throws InterruptedException {
+        int threads = 4;
+        int factsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            Storage<Long, Integer> storage = storageManager.getOrCreateSharedStorage("thread" + t);
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < factsPerThread; i++) {
+                    storage.put((long) i, i);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        storageManager.restart();
+
+        Set<String> names = storageManager.getStorageNames();
+        assertThat(names).hasSize(threads);
+        for (int t = 0; t < threads; t++) {
+            Storage<Long, Integer> storage = storageManager.getOrCreateSharedStorage("thread" + t);
+            assertThat(storage.size()).isEqualTo(factsPerThread);
+            assertThat(storage.get((long) factsPerThread - 1)).isEqualTo(factsPerThread - 1);
+        }
+    }
+
+    private long journalEnd() {
+        Journal journal = storageManager.getJournal();
+        journal.lock();
+        try {
+            // appending nothing returns the current end of the journal
+            return journal.append(List.of());
+        } finally {
+            journal.unlock();
+        }
+    }
+}
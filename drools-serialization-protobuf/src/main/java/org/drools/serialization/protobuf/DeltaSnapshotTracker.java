@@ -0,0 +1,511 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.serialization.protobuf;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.drools.core.common.InternalFactHandle;
+import org.kie.api.event.rule.ObjectDeletedEvent;
+import org.kie.api.event.rule.ObjectInsertedEvent;
+import org.kie.api.event.rule.ObjectUpdatedEvent;
+import org.kie.api.event.rule.RuleRuntimeEventListener;
+import org.kie.api.event.rule.RuleRuntimeEventManager;
+
+/**
+ * Keeps track of the fact handles inserted, updated and deleted in a session since its last snapshot, so that
+ * the ProtobufMarshaller can write a delta snapshot containing only them instead of the whole working memory.
+ * In the same way it remembers the fired matches, node memories, agenda groups and timers already written,
+ * so that a delta snapshot contains only the ones created, changed or removed after the previous snapshot.
+ *
+ * The objects of the facts written by different snapshots are marshalled with different strategies' contexts,
+ * so an object shared by two facts would be restored as two distinct copies if the facts were written by
+ * different snapshots. For this reason the tracker indexes the objects reachable from each fact, following the
+ * java serialization of its graph, and a delta snapshot also rewrites the unchanged facts sharing an object
+ * with the changed ones. The index is built at the first delta snapshot after a full one and it holds a reference
+ * to each mutable object of the tracked facts.
+ *
+ * Note that only the changes notified to the engine are tracked: an object mutated without calling update()
+ * on its fact handle won't be part of the next delta snapshot.
+ */
+public class DeltaSnapshotTracker implements RuleRuntimeEventListener {
+
+    private Changes current = new Changes();
+    private Changes pending;
+
+    private final WrittenMessages<ProtobufMessages.Activation, ProtobufMessages.Activation> dormantMatches = new WrittenMessages<>(Function.identity());
+    private final WrittenMessages<Integer, ProtobufMessages.NodeMemory> nodeMemories = new WrittenMessages<>(ProtobufMessages.NodeMemory::getNodeId);
+    private final WrittenMessages<String, ProtobufMessages.Agenda.AgendaGroup> agendaGroups = new WrittenMessages<>(ProtobufMessages.Agenda.AgendaGroup::getName);
+    private final WrittenMessages<ProtobufMessages.Timers.Timer, ProtobufMessages.Timers.Timer> timers = new WrittenMessages<>(Function.identity());
+
+    private SharedObjectsIndex sharedObjects;
+
+    private long sequence;
+
+    DeltaSnapshotTracker(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * Starts tracking the changes of the given session, or returns the tracker already attached to it.
+     * The first snapshot written after attaching the tracker has to be a full one.
+     */
+    public static DeltaSnapshotTracker attach(RuleRuntimeEventManager session) {
+        return attach(session, 0L, null);
+    }
+
+    /**
+     * Keeps tracking the changes of a session restored from the given snapshot, whose node memories, agenda groups,
+     * fired matches and timers are considered as already written.
+     */
+    static DeltaSnapshotTracker attach(RuleRuntimeEventManager session, long sequence, ProtobufMessages.KnowledgeSession _snapshot) {
+        DeltaSnapshotTracker tracker = get(session);
+        if (tracker == null) {
+            tracker = new DeltaSnapshotTracker(sequence);
+            session.addEventListener(tracker);
+        }
+        tracker.reset(sequence);
+        if (_snapshot != null) {
+            tracker.dormantMatches.seed(_snapshot.getRuleData().getAgenda().getMatchList().stream().filter(DeltaSnapshotTracker::isContextFree).collect(Collectors.toList()));
+            tracker.nodeMemories.seed(_snapshot.getRuleData().getNodeMemoryList());
+            tracker.agendaGroups.seed(_snapshot.getRuleData().getAgenda().getAgendaGroupList());
+            tracker.timers.seed(_snapshot.getTimers().getTimerList().stream().filter(DeltaSnapshotTracker::isContextFree).collect(Collectors.toList()));
+        }
+        return tracker;
+    }
+
+    public static DeltaSnapshotTracker get(RuleRuntimeEventManager session) {
+        for (RuleRuntimeEventListener listener : session.getRuleRuntimeEventListeners()) {
+            if (listener instanceof DeltaSnapshotTracker) {
+                return (DeltaSnapshotTracker) listener;
+            }
+        }
+        return null;
+    }
+
+    public static void detach(RuleRuntimeEventManager session) {
+        DeltaSnapshotTracker tracker = get(session);
+        if (tracker != null) {
+            session.removeEventListener(tracker);
+        }
+    }
+
+    @Override
+    public synchronized void objectInserted(ObjectInsertedEvent event) {
+        current.markDirty((InternalFactHandle) event.getFactHandle());
+    }
+
+    @Override
+    public synchronized void objectUpdated(ObjectUpdatedEvent event) {
+        current.markDirty((InternalFactHandle) event.getFactHandle());
+    }
+
+    @Override
+    public synchronized void objectDeleted(ObjectDeletedEvent event) {
+        current.markDeleted((InternalFactHandle) event.getFactHandle());
+    }
+
+    /**
+     * The sequence of the last snapshot written for the tracked session, 0 if none has been written yet.
+     */
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    public synchronized boolean hasChanges() {
+        return !current.isEmpty();
+    }
+
+    public synchronized int getDirtyHandlesCount() {
+        return current.dirtyCount();
+    }
+
+    public synchronized int getDeletedHandlesCount() {
+        return current.deletedCount();
+    }
+
+    synchronized void reset(long sequence) {
+        this.sequence = sequence;
+        this.current = new Changes();
+        this.pending = null;
+        this.dormantMatches.reset();
+        this.nodeMemories.reset();
+        this.agendaGroups.reset();
+        this.timers.reset();
+        this.sharedObjects = null;
+    }
+
+    WrittenMessages<ProtobufMessages.Activation, ProtobufMessages.Activation> getDormantMatches() {
+        return dormantMatches;
+    }
+
+    WrittenMessages<Integer, ProtobufMessages.NodeMemory> getNodeMemories() {
+        return nodeMemories;
+    }
+
+    WrittenMessages<String, ProtobufMessages.Agenda.AgendaGroup> getAgendaGroups() {
+        return agendaGroups;
+    }
+
+    WrittenMessages<ProtobufMessages.Timers.Timer, ProtobufMessages.Timers.Timer> getTimers() {
+        return timers;
+    }
+
+    /**
+     * Sets aside the changes tracked so far, so that they can be written while new changes are being tracked.
+     * It must be followed by either a commit or an abort of the checkpoint.
+     */
+    synchronized Changes beginCheckpoint() {
+        pending = current;
+        current = new Changes();
+        dormantMatches.begin();
+        nodeMemories.begin();
+        agendaGroups.begin();
+        timers.begin();
+        return pending;
+    }
+
+    /**
+     * Adds to the changes being written the unchanged fact handles whose objects share an object with the changed
+     * ones, so that all the facts sharing an object are always written by the same snapshot. The given handles are
+     * all the ones of the session, they are used to build the index of the shared objects when it doesn't exist yet.
+     * Since the index reflects the current objects of the session, it is updated even if the snapshot is aborted.
+     */
+    synchronized void addSharingHandles(Changes changes, Iterable<InternalFactHandle> allHandles) {
+        if (sharedObjects == null) {
+            sharedObjects = new SharedObjectsIndex();
+            for (InternalFactHandle handle : allHandles) {
+                sharedObjects.index(handle);
+            }
+        } else {
+            changes.removedHandles.forEach(sharedObjects::remove);
+            changes.forEachDirty(sharedObjects::index);
+        }
+
+        Deque<InternalFactHandle> toBeVisited = new ArrayDeque<>();
+        changes.forEachDirty(toBeVisited::add);
+        while (!toBeVisited.isEmpty()) {
+            for (InternalFactHandle sharing : sharedObjects.getSharingHandles(toBeVisited.poll())) {
+                if (changes.markDirtyIfClean(sharing)) {
+                    toBeVisited.add(sharing);
+                }
+            }
+        }
+    }
+
+    synchronized long commitCheckpoint(boolean delta) {
+        pending = null;
+        dormantMatches.commit();
+        nodeMemories.commit();
+        agendaGroups.commit();
+        timers.commit();
+        if (!delta) {
+            // the index is rebuilt when it is needed by the next delta snapshot
+            sharedObjects = null;
+        }
+        return ++sequence;
+    }
+
+    /**
+     * Puts back the changes set aside by beginCheckpoint when the snapshot couldn't be written,
+     * so they will be part of the next one.
+     */
+    synchronized void abortCheckpoint() {
+        if (pending != null) {
+            pending.mergeNewer(current);
+            current = pending;
+            pending = null;
+        }
+        dormantMatches.abort();
+        nodeMemories.abort();
+        agendaGroups.abort();
+        timers.abort();
+    }
+
+    /**
+     * Whether the given fired match can be written by a snapshot and read with the strategies' contexts of
+     * another one, i.e. it doesn't carry any object.
+     */
+    static boolean isContextFree(ProtobufMessages.Activation _match) {
+        return _match.getTuple().getObjectCount() == 0;
+    }
+
+    /**
+     * Whether the given timer can be written by a snapshot and read with the strategies' contexts of another one.
+     */
+    static boolean isContextFree(ProtobufMessages.Timers.Timer _timer) {
+        switch (_timer.getType()) {
+            case EXPIRE:
+            case BEHAVIOR:
+                return true;
+            case ACTIVATION:
+                return isContextFree(_timer.getActivation().getActivation());
+            case TIMER_NODE:
+                return _timer.getTimerNode().getTuple().getObjectCount() == 0;
+            default:
+                // the process timers are written by the process marshaller, that may add any object to them
+                return false;
+        }
+    }
+
+    /**
+     * The messages of a section of the session, like its node memories, written by the last snapshot. A delta
+     * snapshot writes only the messages that aren't equal to the ones already written with the same key, and lists
+     * the written ones whose key doesn't exist anymore.
+     */
+    static class WrittenMessages<K, M> {
+
+        private final Function<M, K> keyFunction;
+
+        private Map<K, M> written = new HashMap<>();
+        private Map<K, M> pending;
+
+        private WrittenMessages(Function<M, K> keyFunction) {
+            this.keyFunction = keyFunction;
+        }
+
+        private synchronized void begin() {
+            pending = new HashMap<>();
+        }
+
+        /**
+         * Records a message of the snapshot being written and returns whether it has to be written in it:
+         * a delta snapshot skips the messages equal to the ones already written by the previous snapshot.
+         */
+        synchronized boolean record(M message, boolean delta) {
+            K key = keyFunction.apply(message);
+            pending.put(key, message);
+            return !delta || !message.equals(written.get(key));
+        }
+
+        /**
+         * The messages written by the previous snapshot whose key isn't part of the snapshot being written.
+         */
+        synchronized List<M> getRemoved() {
+            List<M> removed = new ArrayList<>();
+            for (Map.Entry<K, M> entry : written.entrySet()) {
+                if (!pending.containsKey(entry.getKey())) {
+                    removed.add(entry.getValue());
+                }
+            }
+            return removed;
+        }
+
+        private synchronized void seed(Collection<M> messages) {
+            for (M message : messages) {
+                written.put(keyFunction.apply(message), message);
+            }
+        }
+
+        private synchronized void commit() {
+            if (pending != null) {
+                written = pending;
+                pending = null;
+            }
+        }
+
+        private synchronized void abort() {
+            pending = null;
+        }
+
+        private synchronized void reset() {
+            written = new HashMap<>();
+            pending = null;
+        }
+    }
+
+    /**
+     * For each tracked fact handle, the mutable objects reachable from its object, and for each of these objects
+     * the fact handles reaching it.
+     */
+    private static class SharedObjectsIndex {
+
+        private final Map<InternalFactHandle, Set<Object>> reachedObjects = new IdentityHashMap<>();
+        private final Map<Object, Set<InternalFactHandle>> reachingHandles = new IdentityHashMap<>();
+
+        private void index(InternalFactHandle handle) {
+            remove(handle);
+            Set<Object> reached = reachableObjects(handle.getObject());
+            reachedObjects.put(handle, reached);
+            for (Object object : reached) {
+                reachingHandles.computeIfAbsent(object, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(handle);
+            }
+        }
+
+        private void remove(InternalFactHandle handle) {
+            Set<Object> reached = reachedObjects.remove(handle);
+            if (reached == null) {
+                return;
+            }
+            for (Object object : reached) {
+                Set<InternalFactHandle> handles = reachingHandles.get(object);
+                handles.remove(handle);
+                if (handles.isEmpty()) {
+                    reachingHandles.remove(object);
+                }
+            }
+        }
+
+        private Collection<InternalFactHandle> getSharingHandles(InternalFactHandle handle) {
+            Set<InternalFactHandle> sharing = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Object object : reachedObjects.getOrDefault(handle, Collections.emptySet())) {
+                sharing.addAll(reachingHandles.get(object));
+            }
+            sharing.remove(handle);
+            return sharing;
+        }
+
+        private static Set<Object> reachableObjects(Object object) {
+            Set<Object> reached = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (object == null) {
+                return reached;
+            }
+            if (!isImmutableValue(object)) {
+                reached.add(object);
+            }
+            try (ObjectOutputStream out = new ReachableObjectsCollector(reached)) {
+                out.writeObject(object);
+            } catch (IOException e) {
+                // the part of the graph that isn't serializable isn't marshalled through the strategies' contexts either
+            }
+            return reached;
+        }
+
+        private static boolean isImmutableValue(Object object) {
+            if (object instanceof String || object instanceof Boolean || object instanceof Character || object instanceof Enum) {
+                return true;
+            }
+            String packageName = object.getClass().getPackageName();
+            if (object instanceof Number) {
+                return packageName.equals("java.lang") || packageName.equals("java.math");
+            }
+            // the empty and immutable collections of the jdk are shared singletons, but they can't be mutated through any fact
+            String className = object.getClass().getName();
+            return packageName.equals("java.time") ||
+                   className.startsWith("java.util.Collections$Empty") ||
+                   className.startsWith("java.util.ImmutableCollections$");
+        }
+    }
+
+    /**
+     * Visits the graph of an object as the java serialization does, without writing anything.
+     */
+    private static class ReachableObjectsCollector extends ObjectOutputStream {
+
+        private final Set<Object> reached;
+
+        private ReachableObjectsCollector(Set<Object> reached) throws IOException {
+            super(OutputStream.nullOutputStream());
+            this.reached = reached;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object object) {
+            if (!SharedObjectsIndex.isImmutableValue(object)) {
+                reached.add(object);
+            }
+            return object;
+        }
+    }
+
+    static class Changes {
+
+        private final Map<String, Map<Long, InternalFactHandle>> dirty = new HashMap<>();
+        private final Map<String, Set<Long>> deleted = new LinkedHashMap<>();
+        private final List<InternalFactHandle> removedHandles = new ArrayList<>();
+
+        void markDirty(InternalFactHandle handle) {
+            dirty.computeIfAbsent(entryPointId(handle), k -> new HashMap<>()).put(handle.getId(), handle);
+        }
+
+        private boolean markDirtyIfClean(InternalFactHandle handle) {
+            return dirty.computeIfAbsent(entryPointId(handle), k -> new HashMap<>()).putIfAbsent(handle.getId(), handle) == null;
+        }
+
+        void markDeleted(InternalFactHandle handle) {
+            String entryPointId = entryPointId(handle);
+            Map<Long, InternalFactHandle> dirtyHandles = dirty.get(entryPointId);
+            if (dirtyHandles != null) {
+                dirtyHandles.remove(handle.getId());
+            }
+            deleted.computeIfAbsent(entryPointId, k -> new LinkedHashSet<>()).add(handle.getId());
+            removedHandles.add(handle);
+        }
+
+        Collection<InternalFactHandle> getDirtyHandles(String entryPointId) {
+            Map<Long, InternalFactHandle> dirtyHandles = dirty.get(entryPointId);
+            return dirtyHandles != null ? dirtyHandles.values() : Collections.emptyList();
+        }
+
+        private void forEachDirty(Consumer<InternalFactHandle> consumer) {
+            dirty.values().forEach(handles -> handles.values().forEach(consumer));
+        }
+
+        Map<String, List<Long>> getDeletedHandles() {
+            Map<String, List<Long>> result = new LinkedHashMap<>();
+            deleted.forEach((entryPointId, ids) -> result.put(entryPointId, new ArrayList<>(ids)));
+            return result;
+        }
+
+        boolean isEmpty() {
+            return dirtyCount() == 0 && deleted.isEmpty();
+        }
+
+        int dirtyCount() {
+            return dirty.values().stream().mapToInt(Map::size).sum();
+        }
+
+        int deletedCount() {
+            return deleted.values().stream().mapToInt(Set::size).sum();
+        }
+
+        private void mergeNewer(Changes newer) {
+            newer.deleted.forEach((entryPointId, ids) -> {
+                Map<Long, InternalFactHandle> dirtyHandles = dirty.get(entryPointId);
+                if (dirtyHandles != null) {
+                    ids.forEach(dirtyHandles::remove);
+                }
+                deleted.computeIfAbsent(entryPointId, k -> new LinkedHashSet<>()).addAll(ids);
+            });
+            newer.dirty.forEach((entryPointId, handles) -> dirty.computeIfAbsent(entryPointId, k -> new HashMap<>()).putAll(handles));
+            removedHandles.addAll(newer.removedHandles);
+        }
+
+        private static String entryPointId(InternalFactHandle handle) {
+            return handle.getEntryPointId().getEntryPointId();
+        }
+    }
+}
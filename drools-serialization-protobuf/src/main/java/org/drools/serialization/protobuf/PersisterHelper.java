@@ -21,6 +21,7 @@ package org.drools.serialization.protobuf;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.InvalidKeyException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
@@ -151,6 +152,43 @@ public class PersisterHelper extends MarshallingHelper {
     
     public static void writeToStreamWithHeader( MarshallerWriteContext context,
                                                 Message payload ) throws IOException {
+        context.write( buildHeader( context, payload ).toByteArray() );
+    }
+
+    /**
+     * Writes the header length-delimited, so that it can be followed by the chunks of the streaming format.
+     * The strategies used so far are reset, so that each chunk will carry only the strategies' contexts it requires.
+     */
+    public static void writeDelimitedToStreamWithHeader( MarshallerWriteContext context,
+                                                         Message payload ) throws IOException {
+        buildHeader( context, payload ).writeDelimitedTo( (OutputStream) context );
+        resetStrategies( context );
+    }
+
+    public static void writeChunk( MarshallerWriteContext context,
+                                   Message payload ) throws IOException {
+        ProtobufMessages.Header.Builder _header = ProtobufMessages.Header.newBuilder();
+        writeStrategiesIndex( context, _header );
+
+        byte[] buff = payload.toByteArray();
+        sign( _header, buff );
+        _header.setPayload( ByteString.copyFrom( buff ) );
+
+        _header.build().writeDelimitedTo( (OutputStream) context );
+        resetStrategies( context );
+    }
+
+    public static void writeEndOfChunks( MarshallerWriteContext context ) throws IOException {
+        ProtobufMessages.Header.getDefaultInstance().writeDelimitedTo( (OutputStream) context );
+    }
+
+    private static void resetStrategies( MarshallerWriteContext context ) {
+        context.getUsedStrategies().clear();
+        context.getStrategyContext().clear();
+    }
+
+    private static ProtobufMessages.Header buildHeader( MarshallerWriteContext context,
+                                                        Message payload ) throws IOException {
         ProtobufMessages.Header.Builder _header = ProtobufMessages.Header.newBuilder();
         _header.setVersion( ProtobufMessages.Version.newBuilder()
                                             .setVersionMajor( Drools.getMajorVersion() )
@@ -172,7 +210,7 @@ public class PersisterHelper extends MarshallingHelper {
         sign( _header, buff );
         _header.setPayload( ByteString.copyFrom( buff ) );
 
-        context.write( _header.build().toByteArray() );
+        return _header.build();
     }
 
     private static void writeRuntimeDefinedClasses( TraitFactory traitFactory, MarshallerWriteContext context, ProtobufMessages.Header.Builder _header) {
@@ -252,6 +290,31 @@ public class PersisterHelper extends MarshallingHelper {
         return loadStrategiesCheckSignature(context, _header);
     }
     
+    public static ProtobufMessages.Header readDelimitedFromStreamWithHeader( MarshallerReaderContext context, ExtensionRegistry registry ) throws IOException, ClassNotFoundException {
+        ProtobufMessages.Header _header = ProtobufMessages.Header.parseDelimitedFrom( (InputStream) context, registry );
+        if ( _header == null ) {
+            throw new IOException( "Unexpected end of the session stream" );
+        }
+        return loadStrategiesCheckSignature( context, _header );
+    }
+
+    /**
+     * Reads the next chunk of the streaming format, replacing the strategies' contexts of the previous one,
+     * or returns null when all the chunks have been read.
+     */
+    public static ProtobufMessages.Header readChunk( MarshallerReaderContext context ) throws IOException, ClassNotFoundException {
+        ProtobufMessages.Header _header = ProtobufMessages.Header.parseDelimitedFrom( (InputStream) context );
+        if ( _header == null ) {
+            throw new IOException( "Unexpected end of the session stream" );
+        }
+        if ( !_header.hasPayload() ) {
+            return null;
+        }
+        context.getUsedStrategies().clear();
+        context.getStrategyContexts().clear();
+        return loadStrategiesCheckSignature( context, _header );
+    }
+
     /* Method that preloads the source stream into a byte array to bypass the message size limitations in Protobuf unmarshalling.
        (Protobuf does not enforce a message size limit when unmarshalling from a byte array)
     */
@@ -342,6 +405,7 @@ public class PersisterHelper extends MarshallingHelper {
     
     public static ExtensionRegistry buildRegistry( MarshallerReaderContext context, ProcessMarshaller processMarshaller ) {
         ExtensionRegistry registry = ExtensionRegistry.newInstance();
+        ProtobufMessages.registerAllExtensions( registry );
         if( processMarshaller != null ) {
             context.setParameterObject( registry );
             processMarshaller.init( context );
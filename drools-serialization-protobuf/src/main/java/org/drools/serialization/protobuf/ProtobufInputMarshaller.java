@@ -18,6 +18,7 @@
  */
 package org.drools.serialization.protobuf;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.ExtensionRegistry;
 import org.drools.base.definitions.rule.impl.RuleImpl;
 import org.drools.base.rule.accessor.GlobalResolver;
@@ -80,6 +81,7 @@ import org.kie.api.runtime.rule.Match;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -119,10 +121,15 @@ public class ProtobufInputMarshaller {
      */
     public static void readSession(StatefulKnowledgeSessionImpl session, ProtobufMarshallerReaderContext context)
             throws IOException, ClassNotFoundException {
+        readSession( session, context, false );
+    }
+
+    public static void readSession(StatefulKnowledgeSessionImpl session, ProtobufMarshallerReaderContext context, boolean streaming)
+            throws IOException, ClassNotFoundException {
 
-        ProtobufMessages.KnowledgeSession _session = loadAndParseSession( context );
+        ProtobufMessages.KnowledgeSession _session = streaming ? loadAndParseStreamingSession( context ) : loadAndParseSession( context );
         InternalAgenda agenda = resetSession( session, context, _session );
-        readSession( _session, session, agenda, context );
+        readSession( _session, session, agenda, context, streaming );
     }
 
     public static ReadSessionResult readSession( ProtobufMarshallerReaderContext context,
@@ -130,8 +137,17 @@ public class ProtobufInputMarshaller {
                                                   Environment environment,
                                                   SessionConfiguration config,
                                                   KieSessionInitializer initializer) throws IOException, ClassNotFoundException {
+        return readSession( context, id, environment, config, initializer, false );
+    }
+
+    public static ReadSessionResult readSession( ProtobufMarshallerReaderContext context,
+                                                  int id,
+                                                  Environment environment,
+                                                  SessionConfiguration config,
+                                                  KieSessionInitializer initializer,
+                                                  boolean streaming) throws IOException, ClassNotFoundException {
 
-        ProtobufMessages.KnowledgeSession _session = loadAndParseSession( context );
+        ProtobufMessages.KnowledgeSession _session = streaming ? loadAndParseStreamingSession( context ) : loadAndParseSession( context );
 
         StatefulKnowledgeSessionImpl session = createAndInitializeSession( context,
                                                                            id,
@@ -146,7 +162,8 @@ public class ProtobufInputMarshaller {
         return new ReadSessionResult(readSession(_session,
                                                  session,
                                                  session.getAgenda(),
-                                                 context),
+                                                 context,
+                                                 streaming),
                                      _session);
     }
 
@@ -182,7 +199,7 @@ public class ProtobufInputMarshaller {
         return session;
     }
 
-    private static ProtobufMessages.KnowledgeSession loadAndParseSession( MarshallerReaderContext context) throws IOException,
+    static ProtobufMessages.KnowledgeSession loadAndParseSession( MarshallerReaderContext context) throws IOException,
                                                                                                          ClassNotFoundException {
         ExtensionRegistry registry = PersisterHelper.buildRegistry( context, PROCESS_MARSHALLER);
 
@@ -191,11 +208,33 @@ public class ProtobufInputMarshaller {
         return ProtobufMessages.KnowledgeSession.parseFrom( _header.getPayload(), registry );
     }
 
+    /**
+     * Reads the session without its dormant matches, node memories, fact handles and timers, which are lazily read
+     * chunk by chunk afterwards
+     */
+    private static ProtobufMessages.KnowledgeSession loadAndParseStreamingSession( MarshallerReaderContext context) throws IOException,
+                                                                                                                 ClassNotFoundException {
+        ExtensionRegistry registry = PersisterHelper.buildRegistry( context, PROCESS_MARSHALLER);
+
+        ProtobufMessages.Header _header = PersisterHelper.readDelimitedFromStreamWithHeader( context, registry );
+
+        return ProtobufMessages.KnowledgeSession.parseFrom( _header.getPayload(), registry );
+    }
+
     public static StatefulKnowledgeSessionImpl readSession( ProtobufMessages.KnowledgeSession _session,
                                                             StatefulKnowledgeSessionImpl session,
                                                             InternalAgenda agenda,
                                                             ProtobufMarshallerReaderContext context) throws IOException,
                                                                                     ClassNotFoundException {
+        return readSession( _session, session, agenda, context, false );
+    }
+
+    public static StatefulKnowledgeSessionImpl readSession( ProtobufMessages.KnowledgeSession _session,
+                                                            StatefulKnowledgeSessionImpl session,
+                                                            InternalAgenda agenda,
+                                                            ProtobufMarshallerReaderContext context,
+                                                            boolean streaming) throws IOException,
+                                                                                    ClassNotFoundException {
         GlobalResolver globalResolver = (GlobalResolver) context.env.get( EnvironmentName.GLOBALS );
         if ( globalResolver != null ) {
             session.setGlobalResolver( globalResolver );
@@ -209,10 +248,21 @@ public class ProtobufInputMarshaller {
 
         context.setWorkingMemory( session );
 
+        if ( streaming ) {
+            // the dormant matches are filtered while propagating the fact handles
+            readChunks( context, payload -> readActivations( context,
+                                                             ProtobufMessages.Agenda.parseFrom( payload ).getMatchList(),
+                                                             Collections.emptyList() ) );
+        }
+
         // need to read node memories before reading the fact handles
         // because this data is required during fact propagation 
-        readNodeMemories( context,
-                          _session.getRuleData() );
+        if ( streaming ) {
+            readChunks( context, payload -> readNodeMemories( context, RuleData.parseFrom( payload ) ) );
+        } else {
+            readNodeMemories( context,
+                              _session.getRuleData() );
+        }
 
         List<PropagationContext> pctxs = new ArrayList<>();
 
@@ -221,9 +271,18 @@ public class ProtobufInputMarshaller {
             context.getHandles().put( session.getInitialFactHandle().getId(), session.getInitialFactHandle() );
         }
 
+        if ( streaming ) {
+            readChunks( context, payload -> {
+                ProtobufMessages.EntryPoint _ep = ProtobufMessages.EntryPoint.parseFrom( payload );
+                readFactHandles( context, _ep, context.getWorkingMemory().getEntryPoint( _ep.getEntryPointId() ).getObjectStore(), pctxs );
+            } );
+        }
+
         for ( ProtobufMessages.EntryPoint _ep : _session.getRuleData().getEntryPointList() ) {
             WorkingMemoryEntryPoint wmep = context.getWorkingMemory().getEntryPoint(_ep.getEntryPointId());
-            readFactHandles( context, _ep, wmep.getObjectStore(), pctxs );
+            if ( !streaming ) {
+                readFactHandles( context, _ep, wmep.getObjectStore(), pctxs );
+            }
 
             context.getWorkingMemory().getFactHandleFactory().doRecycleIds( context.getHandles().keySet() );
 
@@ -256,7 +315,13 @@ public class ProtobufInputMarshaller {
             }
         }
 
-        if ( _session.hasTimers() ) {
+        if ( streaming ) {
+            readChunks( context, payload -> {
+                for ( ProtobufMessages.Timers.Timer _timer : ProtobufMessages.Timers.parseFrom( payload ).getTimerList() ) {
+                    readTimer( context, _timer );
+                }
+            } );
+        } else if ( _session.hasTimers() ) {
             for ( ProtobufMessages.Timers.Timer _timer : _session.getTimers().getTimerList() ) {
                 readTimer( context, _timer );
             }
@@ -431,6 +496,30 @@ public class ProtobufInputMarshaller {
         }
     }
 
+    private interface ChunkReader {
+        void read( ByteString payload ) throws IOException, ClassNotFoundException;
+    }
+
+    /**
+     * Reads the chunks of a section of the streaming format up to its end marker
+     */
+    private static void readChunks( ProtobufMarshallerReaderContext context,
+                                    ChunkReader reader ) throws IOException,
+                                                                ClassNotFoundException {
+        // each chunk replaces the strategies' contexts, those of the session are required again afterwards
+        Map<Integer, ObjectMarshallingStrategy> usedStrategies = new HashMap<>( context.getUsedStrategies() );
+        Map<ObjectMarshallingStrategy, ObjectMarshallingStrategy.Context> strategyContexts = new HashMap<>( context.getStrategyContexts() );
+
+        for ( ProtobufMessages.Header _chunk = PersisterHelper.readChunk( context ); _chunk != null; _chunk = PersisterHelper.readChunk( context ) ) {
+            reader.read( _chunk.getPayload() );
+        }
+
+        context.getUsedStrategies().clear();
+        context.getUsedStrategies().putAll( usedStrategies );
+        context.getStrategyContexts().clear();
+        context.getStrategyContexts().putAll( strategyContexts );
+    }
+
     private static void assertHandleIntoOTN( ProtobufMarshallerReaderContext context,
                                              InternalWorkingMemory wm,
                                              InternalFactHandle handle,
@@ -18,10 +18,12 @@
  */
 package org.drools.serialization.protobuf;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.drools.core.RuleBaseConfiguration;
@@ -31,6 +33,7 @@ import org.drools.kiesession.rulebase.InternalKnowledgeBase;
 import org.drools.core.impl.RuleBaseFactory;
 import org.drools.serialization.protobuf.marshalling.InternalMarshaller;
 import org.drools.serialization.protobuf.marshalling.KieSessionInitializer;
+import org.drools.serialization.protobuf.marshalling.MarshallingConfigurationImpl;
 import org.drools.serialization.protobuf.marshalling.RuleBaseNodes;
 import org.drools.kiesession.session.StatefulKnowledgeSessionImpl;
 import org.drools.serialization.protobuf.timers.BehaviorJobContextTimerInputMarshaller;
@@ -98,8 +101,14 @@ public class ProtobufMarshaller
 
     public void unmarshall(final InputStream stream,
                            final KieSession ksession) throws IOException, ClassNotFoundException {
+        unmarshall( stream, ksession, isStreaming() );
+    }
+
+    private void unmarshall(final InputStream stream,
+                            final KieSession ksession,
+                            final boolean streaming) throws IOException, ClassNotFoundException {
         ProtobufMarshallerReaderContext context = getMarshallerReaderContext(stream, ksession.getEnvironment());
-        ProtobufInputMarshaller.readSession((StatefulKnowledgeSessionImpl) ksession, context);
+        ProtobufInputMarshaller.readSession((StatefulKnowledgeSessionImpl) ksession, context, streaming);
         context.close();
     }
 
@@ -112,26 +121,103 @@ public class ProtobufMarshaller
                          final KieSession ksession,
                          final long clockTime) throws IOException {
         ((InternalWorkingMemory) ksession).flushPropagations();
-        ProtobufMarshallerWriteContext context = new ProtobufMarshallerWriteContext( stream,
-                                                                     (InternalKnowledgeBase) kbase,
-                                                                     (InternalWorkingMemory) ksession,
-                                                                     RuleBaseNodes.getNodeMap( (InternalKnowledgeBase) kbase),
-                                                                     this.strategyStore,
-                                                                     this.marshallingConfig.isMarshallProcessInstances(),
-                                                                     this.marshallingConfig.isMarshallWorkItems(),
-                                                                     ksession.getEnvironment() );
+        marshallWithoutFlushing( stream, (InternalWorkingMemory) ksession, clockTime );
+    }
+
+    /**
+     * Writes the session as it is, without flushing its pending propagations first: this is necessary when the
+     * session is marshalled while the propagations are already being flushed, e.g. from a PropagationEntry.
+     */
+    void marshallWithoutFlushing(final OutputStream stream,
+                                 final InternalWorkingMemory wm,
+                                 final long clockTime) throws IOException {
+        ProtobufMarshallerWriteContext context = getMarshallerWriteContext( stream, wm );
+        context.setClockTime( clockTime );
+        if ( isStreaming() ) {
+            ProtobufOutputMarshaller.writeSessionStreaming( context );
+        } else {
+            ProtobufOutputMarshaller.writeSession( context );
+        }
+        context.close();
+    }
+
+    /**
+     * Writes only the facts of the session that can be returned by its queries, see
+     * {@link ProtobufOutputMarshaller#writeQuerySession(ProtobufMarshallerWriteContext)}. As for
+     * {@link #marshallWithoutFlushing(OutputStream, InternalWorkingMemory, long)}, the pending propagations aren't flushed.
+     */
+    void marshallQueryImage(final OutputStream stream,
+                            final InternalWorkingMemory wm,
+                            final long clockTime) throws IOException {
+        ProtobufMarshallerWriteContext context = getMarshallerWriteContext( stream, wm );
         context.setClockTime( clockTime );
-        ProtobufOutputMarshaller.writeSession( context );
+        ProtobufOutputMarshaller.writeQuerySession( context );
         context.close();
     }
 
+    public void marshallDelta(final OutputStream stream,
+                              final KieSession ksession) throws IOException {
+        ((InternalWorkingMemory) ksession).flushPropagations();
+        ProtobufMarshallerWriteContext context = getMarshallerWriteContext( stream, (InternalWorkingMemory) ksession );
+        context.setClockTime( ksession.getSessionClock().getCurrentTime() );
+        ProtobufOutputMarshaller.writeDeltaSession( context );
+        context.close();
+    }
+
+    public StatefulKnowledgeSession unmarshall(final byte[] base,
+                                               final List<byte[]> deltas,
+                                               KieSessionConfiguration config,
+                                               Environment environment) throws IOException, ClassNotFoundException {
+        if ( environment == null ) {
+            environment = KieServices.get().newEnvironment();
+        }
+        byte[] merged = new SnapshotMerger( this, environment ).merge( base, deltas );
+        // the delta snapshots are never written with the streaming format
+        StatefulKnowledgeSession ksession = unmarshallWithMessage( new ByteArrayInputStream( merged ), config, environment, false ).getSession();
+        attachDeltaSnapshotTracker( merged, ksession, environment );
+        return ksession;
+    }
+
+    public void unmarshall(final byte[] base,
+                           final List<byte[]> deltas,
+                           final KieSession ksession) throws IOException, ClassNotFoundException {
+        byte[] merged = new SnapshotMerger( this, ksession.getEnvironment() ).merge( base, deltas );
+        unmarshall( new ByteArrayInputStream( merged ), ksession, false );
+        attachDeltaSnapshotTracker( merged, ksession, ksession.getEnvironment() );
+    }
+
+    /**
+     * Keeps tracking the changes of a session restored from a tracked snapshot, so that the next delta snapshots
+     * can be chained to the ones it has been restored from.
+     */
+    private void attachDeltaSnapshotTracker( byte[] snapshot, KieSession ksession, Environment environment ) throws IOException, ClassNotFoundException {
+        ProtobufMarshallerReaderContext context = getMarshallerReaderContext( new ByteArrayInputStream( snapshot ), environment );
+        ProtobufMessages.KnowledgeSession _session = ProtobufInputMarshaller.loadAndParseSession( context );
+        context.close();
+        SnapshotInfo info = SnapshotInfo.readFrom( _session );
+        if ( info != null ) {
+            DeltaSnapshotTracker.attach( ksession, info.getSequence(), _session );
+        }
+    }
+
     public MarshallingConfiguration getMarshallingConfiguration() {
         return marshallingConfig;
     }
 
+    private boolean isStreaming() {
+        return marshallingConfig instanceof MarshallingConfigurationImpl && ((MarshallingConfigurationImpl) marshallingConfig).isStreaming();
+    }
+
     public ReadSessionResult unmarshallWithMessage( final InputStream stream,
                                                     KieSessionConfiguration config,
                                                     Environment environment) throws IOException, ClassNotFoundException {
+        return unmarshallWithMessage( stream, config, environment, isStreaming() );
+    }
+
+    private ReadSessionResult unmarshallWithMessage( final InputStream stream,
+                                                     KieSessionConfiguration config,
+                                                     Environment environment,
+                                                     boolean streaming) throws IOException, ClassNotFoundException {
         if ( config == null ) {
             config = RuleBaseFactory.newKnowledgeSessionConfiguration();
         }
@@ -146,7 +232,8 @@ public class ProtobufMarshaller
                                                                                   id,
                                                                                   environment,
                                                                                   config.as(SessionConfiguration.KEY),
-                                                                                  initializer);
+                                                                                  initializer,
+                                                                                  streaming);
         context.close();
         if ( (config.as(SessionConfiguration.KEY)).isKeepReference() ) {
             ((InternalKnowledgeBase) this.kbase).addStatefulSession(readSessionResult.getSession());
@@ -154,7 +241,26 @@ public class ProtobufMarshaller
         return readSessionResult;
     }
 
-    private ProtobufMarshallerReaderContext getMarshallerReaderContext( final InputStream inputStream, final Environment environment) throws IOException {
+    ProtobufMarshallerWriteContext getMarshallerWriteContext( final OutputStream stream, final Environment environment) throws IOException {
+        return getMarshallerWriteContext( stream, null, environment );
+    }
+
+    private ProtobufMarshallerWriteContext getMarshallerWriteContext( final OutputStream stream, final InternalWorkingMemory wm) throws IOException {
+        return getMarshallerWriteContext( stream, wm, wm.getEnvironment() );
+    }
+
+    private ProtobufMarshallerWriteContext getMarshallerWriteContext( final OutputStream stream, final InternalWorkingMemory wm, final Environment environment) throws IOException {
+        return new ProtobufMarshallerWriteContext( stream,
+                                                   (InternalKnowledgeBase) kbase,
+                                                   wm,
+                                                   RuleBaseNodes.getNodeMap( (InternalKnowledgeBase) kbase),
+                                                   this.strategyStore,
+                                                   this.marshallingConfig.isMarshallProcessInstances(),
+                                                   this.marshallingConfig.isMarshallWorkItems(),
+                                                   environment );
+    }
+
+    ProtobufMarshallerReaderContext getMarshallerReaderContext( final InputStream inputStream, final Environment environment) throws IOException {
         return new ProtobufMarshallerReaderContext(inputStream,
                                            (InternalKnowledgeBase) kbase,
                                            RuleBaseNodes.getNodeMap((InternalKnowledgeBase) kbase),
@@ -25,6 +25,7 @@ public final class ProtobufMessages {
   private ProtobufMessages() {}
   public static void registerAllExtensions(
       com.google.protobuf.ExtensionRegistryLite registry) {
+    registry.add(org.drools.serialization.protobuf.ProtobufMessages.snapshotInfo);
   }
 
   public static void registerAllExtensions(
@@ -6093,6 +6094,3672 @@ public final class ProtobufMessages {
 
   }
 
+  public interface SnapshotInfoOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.drools.serialization.protobuf.SnapshotInfo)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int64 sequence = 1;</code>
+     * @return Whether the sequence field is set.
+     */
+    boolean hasSequence();
+    /**
+     * <code>optional int64 sequence = 1;</code>
+     * @return The sequence.
+     */
+    long getSequence();
+
+    /**
+     * <pre>
+     * only set for a delta snapshot: the sequence of the snapshot it has to be applied on
+     * </pre>
+     *
+     * <code>optional int64 parent_sequence = 2;</code>
+     * @return Whether the parentSequence field is set.
+     */
+    boolean hasParentSequence();
+    /**
+     * <pre>
+     * only set for a delta snapshot: the sequence of the snapshot it has to be applied on
+     * </pre>
+     *
+     * <code>optional int64 parent_sequence = 2;</code>
+     * @return The parentSequence.
+     */
+    long getParentSequence();
+
+    /**
+     * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+     */
+    java.util.List<org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles> 
+        getDeletedList();
+    /**
+     * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+     */
+    org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles getDeleted(int index);
+    /**
+     * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+     */
+    int getDeletedCount();
+    /**
+     * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+     */
+    java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandlesOrBuilder> 
+        getDeletedOrBuilderList();
+    /**
+     * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+     */
+    org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandlesOrBuilder getDeletedOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+     */
+    java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Activation> 
+        getRemovedMatchList();
+    /**
+     * <pre>
+     * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+     */
+    org.drools.serialization.protobuf.ProtobufMessages.Activation getRemovedMatch(int index);
+    /**
+     * <pre>
+     * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+     */
+    int getRemovedMatchCount();
+    /**
+     * <pre>
+     * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+     */
+    java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.ActivationOrBuilder> 
+        getRemovedMatchOrBuilderList();
+    /**
+     * <pre>
+     * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+     */
+    org.drools.serialization.protobuf.ProtobufMessages.ActivationOrBuilder getRemovedMatchOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+     */
+    java.util.List<org.drools.serialization.protobuf.ProtobufMessages.NodeMemory> 
+        getRemovedNodeMemoryList();
+    /**
+     * <pre>
+     * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+     */
+    org.drools.serialization.protobuf.ProtobufMessages.NodeMemory getRemovedNodeMemory(int index);
+    /**
+     * <pre>
+     * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+     */
+    int getRemovedNodeMemoryCount();
+    /**
+     * <pre>
+     * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+     */
+    java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.NodeMemoryOrBuilder> 
+        getRemovedNodeMemoryOrBuilderList();
+    /**
+     * <pre>
+     * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+     */
+    org.drools.serialization.protobuf.ProtobufMessages.NodeMemoryOrBuilder getRemovedNodeMemoryOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+     */
+    java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup> 
+        getRemovedAgendaGroupList();
+    /**
+     * <pre>
+     * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+     */
+    org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup getRemovedAgendaGroup(int index);
+    /**
+     * <pre>
+     * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+     */
+    int getRemovedAgendaGroupCount();
+    /**
+     * <pre>
+     * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+     */
+    java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroupOrBuilder> 
+        getRemovedAgendaGroupOrBuilderList();
+    /**
+     * <pre>
+     * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+     */
+    org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroupOrBuilder getRemovedAgendaGroupOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+     */
+    java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer> 
+        getRemovedTimerList();
+    /**
+     * <pre>
+     * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+     */
+    org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer getRemovedTimer(int index);
+    /**
+     * <pre>
+     * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+     */
+    int getRemovedTimerCount();
+    /**
+     * <pre>
+     * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+     */
+    java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.Timers.TimerOrBuilder> 
+        getRemovedTimerOrBuilderList();
+    /**
+     * <pre>
+     * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+     */
+    org.drools.serialization.protobuf.ProtobufMessages.Timers.TimerOrBuilder getRemovedTimerOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * the delta snapshot bookkeeping, written only when the session tracks its changes
+   * </pre>
+   *
+   * Protobuf type {@code org.drools.serialization.protobuf.SnapshotInfo}
+   */
+  public static final class SnapshotInfo extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:org.drools.serialization.protobuf.SnapshotInfo)
+      SnapshotInfoOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SnapshotInfo.newBuilder() to construct.
+    private SnapshotInfo(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SnapshotInfo() {
+      deleted_ = java.util.Collections.emptyList();
+      removedMatch_ = java.util.Collections.emptyList();
+      removedNodeMemory_ = java.util.Collections.emptyList();
+      removedAgendaGroup_ = java.util.Collections.emptyList();
+      removedTimer_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SnapshotInfo();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.drools.serialization.protobuf.ProtobufMessages.internal_static_org_drools_serialization_protobuf_SnapshotInfo_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.drools.serialization.protobuf.ProtobufMessages.internal_static_org_drools_serialization_protobuf_SnapshotInfo_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.class, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.Builder.class);
+    }
+
+    public interface DeletedHandlesOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string entry_point_id = 1;</code>
+       * @return Whether the entryPointId field is set.
+       */
+      boolean hasEntryPointId();
+      /**
+       * <code>optional string entry_point_id = 1;</code>
+       * @return The entryPointId.
+       */
+      java.lang.String getEntryPointId();
+      /**
+       * <code>optional string entry_point_id = 1;</code>
+       * @return The bytes for entryPointId.
+       */
+      com.google.protobuf.ByteString
+          getEntryPointIdBytes();
+
+      /**
+       * <code>repeated int64 handle_id = 2;</code>
+       * @return A list containing the handleId.
+       */
+      java.util.List<java.lang.Long> getHandleIdList();
+      /**
+       * <code>repeated int64 handle_id = 2;</code>
+       * @return The count of handleId.
+       */
+      int getHandleIdCount();
+      /**
+       * <code>repeated int64 handle_id = 2;</code>
+       * @param index The index of the element to return.
+       * @return The handleId at the given index.
+       */
+      long getHandleId(int index);
+    }
+    /**
+     * Protobuf type {@code org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles}
+     */
+    public static final class DeletedHandles extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles)
+        DeletedHandlesOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use DeletedHandles.newBuilder() to construct.
+      private DeletedHandles(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private DeletedHandles() {
+        entryPointId_ = "";
+        handleId_ = emptyLongList();
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new DeletedHandles();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.drools.serialization.protobuf.ProtobufMessages.internal_static_org_drools_serialization_protobuf_SnapshotInfo_DeletedHandles_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.drools.serialization.protobuf.ProtobufMessages.internal_static_org_drools_serialization_protobuf_SnapshotInfo_DeletedHandles_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.class, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int ENTRY_POINT_ID_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object entryPointId_ = "";
+      /**
+       * <code>optional string entry_point_id = 1;</code>
+       * @return Whether the entryPointId field is set.
+       */
+      @java.lang.Override
+      public boolean hasEntryPointId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string entry_point_id = 1;</code>
+       * @return The entryPointId.
+       */
+      @java.lang.Override
+      public java.lang.String getEntryPointId() {
+        java.lang.Object ref = entryPointId_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            entryPointId_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string entry_point_id = 1;</code>
+       * @return The bytes for entryPointId.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getEntryPointIdBytes() {
+        java.lang.Object ref = entryPointId_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          entryPointId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int HANDLE_ID_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.Internal.LongList handleId_;
+      /**
+       * <code>repeated int64 handle_id = 2;</code>
+       * @return A list containing the handleId.
+       */
+      @java.lang.Override
+      public java.util.List<java.lang.Long>
+          getHandleIdList() {
+        return handleId_;
+      }
+      /**
+       * <code>repeated int64 handle_id = 2;</code>
+       * @return The count of handleId.
+       */
+      public int getHandleIdCount() {
+        return handleId_.size();
+      }
+      /**
+       * <code>repeated int64 handle_id = 2;</code>
+       * @param index The index of the element to return.
+       * @return The handleId at the given index.
+       */
+      public long getHandleId(int index) {
+        return handleId_.getLong(index);
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          com.google.protobuf.GeneratedMessageV3.writeString(output, 1, entryPointId_);
+        }
+        for (int i = 0; i < handleId_.size(); i++) {
+          output.writeInt64(2, handleId_.getLong(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, entryPointId_);
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < handleId_.size(); i++) {
+            dataSize += com.google.protobuf.CodedOutputStream
+              .computeInt64SizeNoTag(handleId_.getLong(i));
+          }
+          size += dataSize;
+          size += 1 * getHandleIdList().size();
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles)) {
+          return super.equals(obj);
+        }
+        org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles other = (org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles) obj;
+
+        if (hasEntryPointId() != other.hasEntryPointId()) return false;
+        if (hasEntryPointId()) {
+          if (!getEntryPointId()
+              .equals(other.getEntryPointId())) return false;
+        }
+        if (!getHandleIdList()
+            .equals(other.getHandleIdList())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasEntryPointId()) {
+          hash = (37 * hash) + ENTRY_POINT_ID_FIELD_NUMBER;
+          hash = (53 * hash) + getEntryPointId().hashCode();
+        }
+        if (getHandleIdCount() > 0) {
+          hash = (37 * hash) + HANDLE_ID_FIELD_NUMBER;
+          hash = (53 * hash) + getHandleIdList().hashCode();
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles)
+          org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandlesOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.drools.serialization.protobuf.ProtobufMessages.internal_static_org_drools_serialization_protobuf_SnapshotInfo_DeletedHandles_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.drools.serialization.protobuf.ProtobufMessages.internal_static_org_drools_serialization_protobuf_SnapshotInfo_DeletedHandles_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.class, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.Builder.class);
+        }
+
+        // Construct using org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          entryPointId_ = "";
+          handleId_ = emptyLongList();
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.drools.serialization.protobuf.ProtobufMessages.internal_static_org_drools_serialization_protobuf_SnapshotInfo_DeletedHandles_descriptor;
+        }
+
+        @java.lang.Override
+        public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles getDefaultInstanceForType() {
+          return org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles build() {
+          org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles buildPartial() {
+          org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles result = new org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles(this);
+          buildPartialRepeatedFields(result);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartialRepeatedFields(org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles result) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            handleId_.makeImmutable();
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.handleId_ = handleId_;
+        }
+
+        private void buildPartial0(org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles result) {
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.entryPointId_ = entryPointId_;
+            to_bitField0_ |= 0x00000001;
+          }
+          result.bitField0_ |= to_bitField0_;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles) {
+            return mergeFrom((org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles other) {
+          if (other == org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.getDefaultInstance()) return this;
+          if (other.hasEntryPointId()) {
+            entryPointId_ = other.entryPointId_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (!other.handleId_.isEmpty()) {
+            if (handleId_.isEmpty()) {
+              handleId_ = other.handleId_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureHandleIdIsMutable();
+              handleId_.addAll(other.handleId_);
+            }
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  entryPointId_ = input.readBytes();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 16: {
+                  long v = input.readInt64();
+                  ensureHandleIdIsMutable();
+                  handleId_.addLong(v);
+                  break;
+                } // case 16
+                case 18: {
+                  int length = input.readRawVarint32();
+                  int limit = input.pushLimit(length);
+                  ensureHandleIdIsMutable();
+                  while (input.getBytesUntilLimit() > 0) {
+                    handleId_.addLong(input.readInt64());
+                  }
+                  input.popLimit(limit);
+                  break;
+                } // case 18
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object entryPointId_ = "";
+        /**
+         * <code>optional string entry_point_id = 1;</code>
+         * @return Whether the entryPointId field is set.
+         */
+        public boolean hasEntryPointId() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <code>optional string entry_point_id = 1;</code>
+         * @return The entryPointId.
+         */
+        public java.lang.String getEntryPointId() {
+          java.lang.Object ref = entryPointId_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              entryPointId_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string entry_point_id = 1;</code>
+         * @return The bytes for entryPointId.
+         */
+        public com.google.protobuf.ByteString
+            getEntryPointIdBytes() {
+          java.lang.Object ref = entryPointId_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            entryPointId_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string entry_point_id = 1;</code>
+         * @param value The entryPointId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setEntryPointId(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          entryPointId_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string entry_point_id = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearEntryPointId() {
+          entryPointId_ = getDefaultInstance().getEntryPointId();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string entry_point_id = 1;</code>
+         * @param value The bytes for entryPointId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setEntryPointIdBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          entryPointId_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.Internal.LongList handleId_ = emptyLongList();
+        private void ensureHandleIdIsMutable() {
+          if (!((bitField0_ & 0x00000002) != 0)) {
+            handleId_ = mutableCopy(handleId_);
+            bitField0_ |= 0x00000002;
+          }
+        }
+        /**
+         * <code>repeated int64 handle_id = 2;</code>
+         * @return A list containing the handleId.
+         */
+        public java.util.List<java.lang.Long>
+            getHandleIdList() {
+          return ((bitField0_ & 0x00000002) != 0) ?
+                   java.util.Collections.unmodifiableList(handleId_) : handleId_;
+        }
+        /**
+         * <code>repeated int64 handle_id = 2;</code>
+         * @return The count of handleId.
+         */
+        public int getHandleIdCount() {
+          return handleId_.size();
+        }
+        /**
+         * <code>repeated int64 handle_id = 2;</code>
+         * @param index The index of the element to return.
+         * @return The handleId at the given index.
+         */
+        public long getHandleId(int index) {
+          return handleId_.getLong(index);
+        }
+        /**
+         * <code>repeated int64 handle_id = 2;</code>
+         * @param index The index to set the value at.
+         * @param value The handleId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setHandleId(
+            int index, long value) {
+
+          ensureHandleIdIsMutable();
+          handleId_.setLong(index, value);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated int64 handle_id = 2;</code>
+         * @param value The handleId to add.
+         * @return This builder for chaining.
+         */
+        public Builder addHandleId(long value) {
+
+          ensureHandleIdIsMutable();
+          handleId_.addLong(value);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated int64 handle_id = 2;</code>
+         * @param values The handleId to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllHandleId(
+            java.lang.Iterable<? extends java.lang.Long> values) {
+          ensureHandleIdIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, handleId_);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated int64 handle_id = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearHandleId() {
+          handleId_ = emptyLongList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles)
+      }
+
+      // @@protoc_insertion_point(class_scope:org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles)
+      private static final org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles();
+      }
+
+      public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      @java.lang.Deprecated public static final com.google.protobuf.Parser<DeletedHandles>
+          PARSER = new com.google.protobuf.AbstractParser<DeletedHandles>() {
+        @java.lang.Override
+        public DeletedHandles parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<DeletedHandles> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<DeletedHandles> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    private int bitField0_;
+    public static final int SEQUENCE_FIELD_NUMBER = 1;
+    private long sequence_ = 0L;
+    /**
+     * <code>optional int64 sequence = 1;</code>
+     * @return Whether the sequence field is set.
+     */
+    @java.lang.Override
+    public boolean hasSequence() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional int64 sequence = 1;</code>
+     * @return The sequence.
+     */
+    @java.lang.Override
+    public long getSequence() {
+      return sequence_;
+    }
+
+    public static final int PARENT_SEQUENCE_FIELD_NUMBER = 2;
+    private long parentSequence_ = 0L;
+    /**
+     * <pre>
+     * only set for a delta snapshot: the sequence of the snapshot it has to be applied on
+     * </pre>
+     *
+     * <code>optional int64 parent_sequence = 2;</code>
+     * @return Whether the parentSequence field is set.
+     */
+    @java.lang.Override
+    public boolean hasParentSequence() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the sequence of the snapshot it has to be applied on
+     * </pre>
+     *
+     * <code>optional int64 parent_sequence = 2;</code>
+     * @return The parentSequence.
+     */
+    @java.lang.Override
+    public long getParentSequence() {
+      return parentSequence_;
+    }
+
+    public static final int DELETED_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles> deleted_;
+    /**
+     * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles> getDeletedList() {
+      return deleted_;
+    }
+    /**
+     * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandlesOrBuilder> 
+        getDeletedOrBuilderList() {
+      return deleted_;
+    }
+    /**
+     * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+     */
+    @java.lang.Override
+    public int getDeletedCount() {
+      return deleted_.size();
+    }
+    /**
+     * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+     */
+    @java.lang.Override
+    public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles getDeleted(int index) {
+      return deleted_.get(index);
+    }
+    /**
+     * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+     */
+    @java.lang.Override
+    public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandlesOrBuilder getDeletedOrBuilder(
+        int index) {
+      return deleted_.get(index);
+    }
+
+    public static final int REMOVED_MATCH_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Activation> removedMatch_;
+    /**
+     * <pre>
+     * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Activation> getRemovedMatchList() {
+      return removedMatch_;
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.ActivationOrBuilder> 
+        getRemovedMatchOrBuilderList() {
+      return removedMatch_;
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+     */
+    @java.lang.Override
+    public int getRemovedMatchCount() {
+      return removedMatch_.size();
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+     */
+    @java.lang.Override
+    public org.drools.serialization.protobuf.ProtobufMessages.Activation getRemovedMatch(int index) {
+      return removedMatch_.get(index);
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+     */
+    @java.lang.Override
+    public org.drools.serialization.protobuf.ProtobufMessages.ActivationOrBuilder getRemovedMatchOrBuilder(
+        int index) {
+      return removedMatch_.get(index);
+    }
+
+    public static final int REMOVED_NODE_MEMORY_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private java.util.List<org.drools.serialization.protobuf.ProtobufMessages.NodeMemory> removedNodeMemory_;
+    /**
+     * <pre>
+     * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.NodeMemory> getRemovedNodeMemoryList() {
+      return removedNodeMemory_;
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.NodeMemoryOrBuilder> 
+        getRemovedNodeMemoryOrBuilderList() {
+      return removedNodeMemory_;
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+     */
+    @java.lang.Override
+    public int getRemovedNodeMemoryCount() {
+      return removedNodeMemory_.size();
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+     */
+    @java.lang.Override
+    public org.drools.serialization.protobuf.ProtobufMessages.NodeMemory getRemovedNodeMemory(int index) {
+      return removedNodeMemory_.get(index);
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+     */
+    @java.lang.Override
+    public org.drools.serialization.protobuf.ProtobufMessages.NodeMemoryOrBuilder getRemovedNodeMemoryOrBuilder(
+        int index) {
+      return removedNodeMemory_.get(index);
+    }
+
+    public static final int REMOVED_AGENDA_GROUP_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup> removedAgendaGroup_;
+    /**
+     * <pre>
+     * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup> getRemovedAgendaGroupList() {
+      return removedAgendaGroup_;
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroupOrBuilder> 
+        getRemovedAgendaGroupOrBuilderList() {
+      return removedAgendaGroup_;
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+     */
+    @java.lang.Override
+    public int getRemovedAgendaGroupCount() {
+      return removedAgendaGroup_.size();
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+     */
+    @java.lang.Override
+    public org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup getRemovedAgendaGroup(int index) {
+      return removedAgendaGroup_.get(index);
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+     */
+    @java.lang.Override
+    public org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroupOrBuilder getRemovedAgendaGroupOrBuilder(
+        int index) {
+      return removedAgendaGroup_.get(index);
+    }
+
+    public static final int REMOVED_TIMER_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer> removedTimer_;
+    /**
+     * <pre>
+     * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer> getRemovedTimerList() {
+      return removedTimer_;
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.Timers.TimerOrBuilder> 
+        getRemovedTimerOrBuilderList() {
+      return removedTimer_;
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+     */
+    @java.lang.Override
+    public int getRemovedTimerCount() {
+      return removedTimer_.size();
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+     */
+    @java.lang.Override
+    public org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer getRemovedTimer(int index) {
+      return removedTimer_.get(index);
+    }
+    /**
+     * <pre>
+     * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+     * </pre>
+     *
+     * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+     */
+    @java.lang.Override
+    public org.drools.serialization.protobuf.ProtobufMessages.Timers.TimerOrBuilder getRemovedTimerOrBuilder(
+        int index) {
+      return removedTimer_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt64(1, sequence_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(2, parentSequence_);
+      }
+      for (int i = 0; i < deleted_.size(); i++) {
+        output.writeMessage(3, deleted_.get(i));
+      }
+      for (int i = 0; i < removedMatch_.size(); i++) {
+        output.writeMessage(4, removedMatch_.get(i));
+      }
+      for (int i = 0; i < removedNodeMemory_.size(); i++) {
+        output.writeMessage(5, removedNodeMemory_.get(i));
+      }
+      for (int i = 0; i < removedAgendaGroup_.size(); i++) {
+        output.writeMessage(6, removedAgendaGroup_.get(i));
+      }
+      for (int i = 0; i < removedTimer_.size(); i++) {
+        output.writeMessage(7, removedTimer_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, sequence_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, parentSequence_);
+      }
+      for (int i = 0; i < deleted_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, deleted_.get(i));
+      }
+      for (int i = 0; i < removedMatch_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, removedMatch_.get(i));
+      }
+      for (int i = 0; i < removedNodeMemory_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, removedNodeMemory_.get(i));
+      }
+      for (int i = 0; i < removedAgendaGroup_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, removedAgendaGroup_.get(i));
+      }
+      for (int i = 0; i < removedTimer_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, removedTimer_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo)) {
+        return super.equals(obj);
+      }
+      org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo other = (org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo) obj;
+
+      if (hasSequence() != other.hasSequence()) return false;
+      if (hasSequence()) {
+        if (getSequence()
+            != other.getSequence()) return false;
+      }
+      if (hasParentSequence() != other.hasParentSequence()) return false;
+      if (hasParentSequence()) {
+        if (getParentSequence()
+            != other.getParentSequence()) return false;
+      }
+      if (!getDeletedList()
+          .equals(other.getDeletedList())) return false;
+      if (!getRemovedMatchList()
+          .equals(other.getRemovedMatchList())) return false;
+      if (!getRemovedNodeMemoryList()
+          .equals(other.getRemovedNodeMemoryList())) return false;
+      if (!getRemovedAgendaGroupList()
+          .equals(other.getRemovedAgendaGroupList())) return false;
+      if (!getRemovedTimerList()
+          .equals(other.getRemovedTimerList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSequence()) {
+        hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSequence());
+      }
+      if (hasParentSequence()) {
+        hash = (37 * hash) + PARENT_SEQUENCE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getParentSequence());
+      }
+      if (getDeletedCount() > 0) {
+        hash = (37 * hash) + DELETED_FIELD_NUMBER;
+        hash = (53 * hash) + getDeletedList().hashCode();
+      }
+      if (getRemovedMatchCount() > 0) {
+        hash = (37 * hash) + REMOVED_MATCH_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedMatchList().hashCode();
+      }
+      if (getRemovedNodeMemoryCount() > 0) {
+        hash = (37 * hash) + REMOVED_NODE_MEMORY_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedNodeMemoryList().hashCode();
+      }
+      if (getRemovedAgendaGroupCount() > 0) {
+        hash = (37 * hash) + REMOVED_AGENDA_GROUP_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedAgendaGroupList().hashCode();
+      }
+      if (getRemovedTimerCount() > 0) {
+        hash = (37 * hash) + REMOVED_TIMER_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedTimerList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * the delta snapshot bookkeeping, written only when the session tracks its changes
+     * </pre>
+     *
+     * Protobuf type {@code org.drools.serialization.protobuf.SnapshotInfo}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.drools.serialization.protobuf.SnapshotInfo)
+        org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.drools.serialization.protobuf.ProtobufMessages.internal_static_org_drools_serialization_protobuf_SnapshotInfo_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.drools.serialization.protobuf.ProtobufMessages.internal_static_org_drools_serialization_protobuf_SnapshotInfo_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.class, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.Builder.class);
+      }
+
+      // Construct using org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        sequence_ = 0L;
+        parentSequence_ = 0L;
+        if (deletedBuilder_ == null) {
+          deleted_ = java.util.Collections.emptyList();
+        } else {
+          deleted_ = null;
+          deletedBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (removedMatchBuilder_ == null) {
+          removedMatch_ = java.util.Collections.emptyList();
+        } else {
+          removedMatch_ = null;
+          removedMatchBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (removedNodeMemoryBuilder_ == null) {
+          removedNodeMemory_ = java.util.Collections.emptyList();
+        } else {
+          removedNodeMemory_ = null;
+          removedNodeMemoryBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (removedAgendaGroupBuilder_ == null) {
+          removedAgendaGroup_ = java.util.Collections.emptyList();
+        } else {
+          removedAgendaGroup_ = null;
+          removedAgendaGroupBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        if (removedTimerBuilder_ == null) {
+          removedTimer_ = java.util.Collections.emptyList();
+        } else {
+          removedTimer_ = null;
+          removedTimerBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.drools.serialization.protobuf.ProtobufMessages.internal_static_org_drools_serialization_protobuf_SnapshotInfo_descriptor;
+      }
+
+      @java.lang.Override
+      public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo getDefaultInstanceForType() {
+        return org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo build() {
+        org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo buildPartial() {
+        org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo result = new org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo result) {
+        if (deletedBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            deleted_ = java.util.Collections.unmodifiableList(deleted_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.deleted_ = deleted_;
+        } else {
+          result.deleted_ = deletedBuilder_.build();
+        }
+        if (removedMatchBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            removedMatch_ = java.util.Collections.unmodifiableList(removedMatch_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.removedMatch_ = removedMatch_;
+        } else {
+          result.removedMatch_ = removedMatchBuilder_.build();
+        }
+        if (removedNodeMemoryBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0)) {
+            removedNodeMemory_ = java.util.Collections.unmodifiableList(removedNodeMemory_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.removedNodeMemory_ = removedNodeMemory_;
+        } else {
+          result.removedNodeMemory_ = removedNodeMemoryBuilder_.build();
+        }
+        if (removedAgendaGroupBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            removedAgendaGroup_ = java.util.Collections.unmodifiableList(removedAgendaGroup_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.removedAgendaGroup_ = removedAgendaGroup_;
+        } else {
+          result.removedAgendaGroup_ = removedAgendaGroupBuilder_.build();
+        }
+        if (removedTimerBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0)) {
+            removedTimer_ = java.util.Collections.unmodifiableList(removedTimer_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.removedTimer_ = removedTimer_;
+        } else {
+          result.removedTimer_ = removedTimerBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.sequence_ = sequence_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.parentSequence_ = parentSequence_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo) {
+          return mergeFrom((org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo other) {
+        if (other == org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.getDefaultInstance()) return this;
+        if (other.hasSequence()) {
+          setSequence(other.getSequence());
+        }
+        if (other.hasParentSequence()) {
+          setParentSequence(other.getParentSequence());
+        }
+        if (deletedBuilder_ == null) {
+          if (!other.deleted_.isEmpty()) {
+            if (deleted_.isEmpty()) {
+              deleted_ = other.deleted_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureDeletedIsMutable();
+              deleted_.addAll(other.deleted_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.deleted_.isEmpty()) {
+            if (deletedBuilder_.isEmpty()) {
+              deletedBuilder_.dispose();
+              deletedBuilder_ = null;
+              deleted_ = other.deleted_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              deletedBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getDeletedFieldBuilder() : null;
+            } else {
+              deletedBuilder_.addAllMessages(other.deleted_);
+            }
+          }
+        }
+        if (removedMatchBuilder_ == null) {
+          if (!other.removedMatch_.isEmpty()) {
+            if (removedMatch_.isEmpty()) {
+              removedMatch_ = other.removedMatch_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureRemovedMatchIsMutable();
+              removedMatch_.addAll(other.removedMatch_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.removedMatch_.isEmpty()) {
+            if (removedMatchBuilder_.isEmpty()) {
+              removedMatchBuilder_.dispose();
+              removedMatchBuilder_ = null;
+              removedMatch_ = other.removedMatch_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              removedMatchBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRemovedMatchFieldBuilder() : null;
+            } else {
+              removedMatchBuilder_.addAllMessages(other.removedMatch_);
+            }
+          }
+        }
+        if (removedNodeMemoryBuilder_ == null) {
+          if (!other.removedNodeMemory_.isEmpty()) {
+            if (removedNodeMemory_.isEmpty()) {
+              removedNodeMemory_ = other.removedNodeMemory_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureRemovedNodeMemoryIsMutable();
+              removedNodeMemory_.addAll(other.removedNodeMemory_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.removedNodeMemory_.isEmpty()) {
+            if (removedNodeMemoryBuilder_.isEmpty()) {
+              removedNodeMemoryBuilder_.dispose();
+              removedNodeMemoryBuilder_ = null;
+              removedNodeMemory_ = other.removedNodeMemory_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              removedNodeMemoryBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRemovedNodeMemoryFieldBuilder() : null;
+            } else {
+              removedNodeMemoryBuilder_.addAllMessages(other.removedNodeMemory_);
+            }
+          }
+        }
+        if (removedAgendaGroupBuilder_ == null) {
+          if (!other.removedAgendaGroup_.isEmpty()) {
+            if (removedAgendaGroup_.isEmpty()) {
+              removedAgendaGroup_ = other.removedAgendaGroup_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureRemovedAgendaGroupIsMutable();
+              removedAgendaGroup_.addAll(other.removedAgendaGroup_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.removedAgendaGroup_.isEmpty()) {
+            if (removedAgendaGroupBuilder_.isEmpty()) {
+              removedAgendaGroupBuilder_.dispose();
+              removedAgendaGroupBuilder_ = null;
+              removedAgendaGroup_ = other.removedAgendaGroup_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              removedAgendaGroupBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRemovedAgendaGroupFieldBuilder() : null;
+            } else {
+              removedAgendaGroupBuilder_.addAllMessages(other.removedAgendaGroup_);
+            }
+          }
+        }
+        if (removedTimerBuilder_ == null) {
+          if (!other.removedTimer_.isEmpty()) {
+            if (removedTimer_.isEmpty()) {
+              removedTimer_ = other.removedTimer_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensureRemovedTimerIsMutable();
+              removedTimer_.addAll(other.removedTimer_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.removedTimer_.isEmpty()) {
+            if (removedTimerBuilder_.isEmpty()) {
+              removedTimerBuilder_.dispose();
+              removedTimerBuilder_ = null;
+              removedTimer_ = other.removedTimer_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+              removedTimerBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRemovedTimerFieldBuilder() : null;
+            } else {
+              removedTimerBuilder_.addAllMessages(other.removedTimer_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                sequence_ = input.readInt64();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                parentSequence_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles m =
+                    input.readMessage(
+                        org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.PARSER,
+                        extensionRegistry);
+                if (deletedBuilder_ == null) {
+                  ensureDeletedIsMutable();
+                  deleted_.add(m);
+                } else {
+                  deletedBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              case 34: {
+                org.drools.serialization.protobuf.ProtobufMessages.Activation m =
+                    input.readMessage(
+                        org.drools.serialization.protobuf.ProtobufMessages.Activation.PARSER,
+                        extensionRegistry);
+                if (removedMatchBuilder_ == null) {
+                  ensureRemovedMatchIsMutable();
+                  removedMatch_.add(m);
+                } else {
+                  removedMatchBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              case 42: {
+                org.drools.serialization.protobuf.ProtobufMessages.NodeMemory m =
+                    input.readMessage(
+                        org.drools.serialization.protobuf.ProtobufMessages.NodeMemory.PARSER,
+                        extensionRegistry);
+                if (removedNodeMemoryBuilder_ == null) {
+                  ensureRemovedNodeMemoryIsMutable();
+                  removedNodeMemory_.add(m);
+                } else {
+                  removedNodeMemoryBuilder_.addMessage(m);
+                }
+                break;
+              } // case 42
+              case 50: {
+                org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup m =
+                    input.readMessage(
+                        org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup.PARSER,
+                        extensionRegistry);
+                if (removedAgendaGroupBuilder_ == null) {
+                  ensureRemovedAgendaGroupIsMutable();
+                  removedAgendaGroup_.add(m);
+                } else {
+                  removedAgendaGroupBuilder_.addMessage(m);
+                }
+                break;
+              } // case 50
+              case 58: {
+                org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer m =
+                    input.readMessage(
+                        org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer.PARSER,
+                        extensionRegistry);
+                if (removedTimerBuilder_ == null) {
+                  ensureRemovedTimerIsMutable();
+                  removedTimer_.add(m);
+                } else {
+                  removedTimerBuilder_.addMessage(m);
+                }
+                break;
+              } // case 58
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private long sequence_ ;
+      /**
+       * <code>optional int64 sequence = 1;</code>
+       * @return Whether the sequence field is set.
+       */
+      @java.lang.Override
+      public boolean hasSequence() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional int64 sequence = 1;</code>
+       * @return The sequence.
+       */
+      @java.lang.Override
+      public long getSequence() {
+        return sequence_;
+      }
+      /**
+       * <code>optional int64 sequence = 1;</code>
+       * @param value The sequence to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSequence(long value) {
+
+        sequence_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 sequence = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSequence() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sequence_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long parentSequence_ ;
+      /**
+       * <pre>
+       * only set for a delta snapshot: the sequence of the snapshot it has to be applied on
+       * </pre>
+       *
+       * <code>optional int64 parent_sequence = 2;</code>
+       * @return Whether the parentSequence field is set.
+       */
+      @java.lang.Override
+      public boolean hasParentSequence() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the sequence of the snapshot it has to be applied on
+       * </pre>
+       *
+       * <code>optional int64 parent_sequence = 2;</code>
+       * @return The parentSequence.
+       */
+      @java.lang.Override
+      public long getParentSequence() {
+        return parentSequence_;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the sequence of the snapshot it has to be applied on
+       * </pre>
+       *
+       * <code>optional int64 parent_sequence = 2;</code>
+       * @param value The parentSequence to set.
+       * @return This builder for chaining.
+       */
+      public Builder setParentSequence(long value) {
+
+        parentSequence_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the sequence of the snapshot it has to be applied on
+       * </pre>
+       *
+       * <code>optional int64 parent_sequence = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearParentSequence() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        parentSequence_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles> deleted_ =
+        java.util.Collections.emptyList();
+      private void ensureDeletedIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          deleted_ = new java.util.ArrayList<org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles>(deleted_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.Builder, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandlesOrBuilder> deletedBuilder_;
+
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles> getDeletedList() {
+        if (deletedBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(deleted_);
+        } else {
+          return deletedBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public int getDeletedCount() {
+        if (deletedBuilder_ == null) {
+          return deleted_.size();
+        } else {
+          return deletedBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles getDeleted(int index) {
+        if (deletedBuilder_ == null) {
+          return deleted_.get(index);
+        } else {
+          return deletedBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public Builder setDeleted(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles value) {
+        if (deletedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeletedIsMutable();
+          deleted_.set(index, value);
+          onChanged();
+        } else {
+          deletedBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public Builder setDeleted(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.Builder builderForValue) {
+        if (deletedBuilder_ == null) {
+          ensureDeletedIsMutable();
+          deleted_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          deletedBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public Builder addDeleted(org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles value) {
+        if (deletedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeletedIsMutable();
+          deleted_.add(value);
+          onChanged();
+        } else {
+          deletedBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public Builder addDeleted(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles value) {
+        if (deletedBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeletedIsMutable();
+          deleted_.add(index, value);
+          onChanged();
+        } else {
+          deletedBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public Builder addDeleted(
+          org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.Builder builderForValue) {
+        if (deletedBuilder_ == null) {
+          ensureDeletedIsMutable();
+          deleted_.add(builderForValue.build());
+          onChanged();
+        } else {
+          deletedBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public Builder addDeleted(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.Builder builderForValue) {
+        if (deletedBuilder_ == null) {
+          ensureDeletedIsMutable();
+          deleted_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          deletedBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public Builder addAllDeleted(
+          java.lang.Iterable<? extends org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles> values) {
+        if (deletedBuilder_ == null) {
+          ensureDeletedIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, deleted_);
+          onChanged();
+        } else {
+          deletedBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public Builder clearDeleted() {
+        if (deletedBuilder_ == null) {
+          deleted_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          deletedBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public Builder removeDeleted(int index) {
+        if (deletedBuilder_ == null) {
+          ensureDeletedIsMutable();
+          deleted_.remove(index);
+          onChanged();
+        } else {
+          deletedBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.Builder getDeletedBuilder(
+          int index) {
+        return getDeletedFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandlesOrBuilder getDeletedOrBuilder(
+          int index) {
+        if (deletedBuilder_ == null) {
+          return deleted_.get(index);  } else {
+          return deletedBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandlesOrBuilder> 
+           getDeletedOrBuilderList() {
+        if (deletedBuilder_ != null) {
+          return deletedBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(deleted_);
+        }
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.Builder addDeletedBuilder() {
+        return getDeletedFieldBuilder().addBuilder(
+            org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.Builder addDeletedBuilder(
+          int index) {
+        return getDeletedFieldBuilder().addBuilder(
+            index, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.drools.serialization.protobuf.SnapshotInfo.DeletedHandles deleted = 3;</code>
+       */
+      public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.Builder> 
+           getDeletedBuilderList() {
+        return getDeletedFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.Builder, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandlesOrBuilder> 
+          getDeletedFieldBuilder() {
+        if (deletedBuilder_ == null) {
+          deletedBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandles.Builder, org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.DeletedHandlesOrBuilder>(
+                  deleted_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          deleted_ = null;
+        }
+        return deletedBuilder_;
+      }
+
+      private java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Activation> removedMatch_ =
+        java.util.Collections.emptyList();
+      private void ensureRemovedMatchIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          removedMatch_ = new java.util.ArrayList<org.drools.serialization.protobuf.ProtobufMessages.Activation>(removedMatch_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.drools.serialization.protobuf.ProtobufMessages.Activation, org.drools.serialization.protobuf.ProtobufMessages.Activation.Builder, org.drools.serialization.protobuf.ProtobufMessages.ActivationOrBuilder> removedMatchBuilder_;
+
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Activation> getRemovedMatchList() {
+        if (removedMatchBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(removedMatch_);
+        } else {
+          return removedMatchBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public int getRemovedMatchCount() {
+        if (removedMatchBuilder_ == null) {
+          return removedMatch_.size();
+        } else {
+          return removedMatchBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Activation getRemovedMatch(int index) {
+        if (removedMatchBuilder_ == null) {
+          return removedMatch_.get(index);
+        } else {
+          return removedMatchBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public Builder setRemovedMatch(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.Activation value) {
+        if (removedMatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedMatchIsMutable();
+          removedMatch_.set(index, value);
+          onChanged();
+        } else {
+          removedMatchBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public Builder setRemovedMatch(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.Activation.Builder builderForValue) {
+        if (removedMatchBuilder_ == null) {
+          ensureRemovedMatchIsMutable();
+          removedMatch_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          removedMatchBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public Builder addRemovedMatch(org.drools.serialization.protobuf.ProtobufMessages.Activation value) {
+        if (removedMatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedMatchIsMutable();
+          removedMatch_.add(value);
+          onChanged();
+        } else {
+          removedMatchBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public Builder addRemovedMatch(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.Activation value) {
+        if (removedMatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedMatchIsMutable();
+          removedMatch_.add(index, value);
+          onChanged();
+        } else {
+          removedMatchBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public Builder addRemovedMatch(
+          org.drools.serialization.protobuf.ProtobufMessages.Activation.Builder builderForValue) {
+        if (removedMatchBuilder_ == null) {
+          ensureRemovedMatchIsMutable();
+          removedMatch_.add(builderForValue.build());
+          onChanged();
+        } else {
+          removedMatchBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public Builder addRemovedMatch(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.Activation.Builder builderForValue) {
+        if (removedMatchBuilder_ == null) {
+          ensureRemovedMatchIsMutable();
+          removedMatch_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          removedMatchBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public Builder addAllRemovedMatch(
+          java.lang.Iterable<? extends org.drools.serialization.protobuf.ProtobufMessages.Activation> values) {
+        if (removedMatchBuilder_ == null) {
+          ensureRemovedMatchIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, removedMatch_);
+          onChanged();
+        } else {
+          removedMatchBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public Builder clearRemovedMatch() {
+        if (removedMatchBuilder_ == null) {
+          removedMatch_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          removedMatchBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public Builder removeRemovedMatch(int index) {
+        if (removedMatchBuilder_ == null) {
+          ensureRemovedMatchIsMutable();
+          removedMatch_.remove(index);
+          onChanged();
+        } else {
+          removedMatchBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Activation.Builder getRemovedMatchBuilder(
+          int index) {
+        return getRemovedMatchFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.ActivationOrBuilder getRemovedMatchOrBuilder(
+          int index) {
+        if (removedMatchBuilder_ == null) {
+          return removedMatch_.get(index);  } else {
+          return removedMatchBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.ActivationOrBuilder> 
+           getRemovedMatchOrBuilderList() {
+        if (removedMatchBuilder_ != null) {
+          return removedMatchBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(removedMatch_);
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Activation.Builder addRemovedMatchBuilder() {
+        return getRemovedMatchFieldBuilder().addBuilder(
+            org.drools.serialization.protobuf.ProtobufMessages.Activation.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Activation.Builder addRemovedMatchBuilder(
+          int index) {
+        return getRemovedMatchFieldBuilder().addBuilder(
+            index, org.drools.serialization.protobuf.ProtobufMessages.Activation.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the fired matches written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Activation removed_match = 4;</code>
+       */
+      public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Activation.Builder> 
+           getRemovedMatchBuilderList() {
+        return getRemovedMatchFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.drools.serialization.protobuf.ProtobufMessages.Activation, org.drools.serialization.protobuf.ProtobufMessages.Activation.Builder, org.drools.serialization.protobuf.ProtobufMessages.ActivationOrBuilder> 
+          getRemovedMatchFieldBuilder() {
+        if (removedMatchBuilder_ == null) {
+          removedMatchBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.drools.serialization.protobuf.ProtobufMessages.Activation, org.drools.serialization.protobuf.ProtobufMessages.Activation.Builder, org.drools.serialization.protobuf.ProtobufMessages.ActivationOrBuilder>(
+                  removedMatch_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          removedMatch_ = null;
+        }
+        return removedMatchBuilder_;
+      }
+
+      private java.util.List<org.drools.serialization.protobuf.ProtobufMessages.NodeMemory> removedNodeMemory_ =
+        java.util.Collections.emptyList();
+      private void ensureRemovedNodeMemoryIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          removedNodeMemory_ = new java.util.ArrayList<org.drools.serialization.protobuf.ProtobufMessages.NodeMemory>(removedNodeMemory_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.drools.serialization.protobuf.ProtobufMessages.NodeMemory, org.drools.serialization.protobuf.ProtobufMessages.NodeMemory.Builder, org.drools.serialization.protobuf.ProtobufMessages.NodeMemoryOrBuilder> removedNodeMemoryBuilder_;
+
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.NodeMemory> getRemovedNodeMemoryList() {
+        if (removedNodeMemoryBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(removedNodeMemory_);
+        } else {
+          return removedNodeMemoryBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public int getRemovedNodeMemoryCount() {
+        if (removedNodeMemoryBuilder_ == null) {
+          return removedNodeMemory_.size();
+        } else {
+          return removedNodeMemoryBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.NodeMemory getRemovedNodeMemory(int index) {
+        if (removedNodeMemoryBuilder_ == null) {
+          return removedNodeMemory_.get(index);
+        } else {
+          return removedNodeMemoryBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public Builder setRemovedNodeMemory(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.NodeMemory value) {
+        if (removedNodeMemoryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedNodeMemoryIsMutable();
+          removedNodeMemory_.set(index, value);
+          onChanged();
+        } else {
+          removedNodeMemoryBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public Builder setRemovedNodeMemory(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.NodeMemory.Builder builderForValue) {
+        if (removedNodeMemoryBuilder_ == null) {
+          ensureRemovedNodeMemoryIsMutable();
+          removedNodeMemory_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          removedNodeMemoryBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public Builder addRemovedNodeMemory(org.drools.serialization.protobuf.ProtobufMessages.NodeMemory value) {
+        if (removedNodeMemoryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedNodeMemoryIsMutable();
+          removedNodeMemory_.add(value);
+          onChanged();
+        } else {
+          removedNodeMemoryBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public Builder addRemovedNodeMemory(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.NodeMemory value) {
+        if (removedNodeMemoryBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedNodeMemoryIsMutable();
+          removedNodeMemory_.add(index, value);
+          onChanged();
+        } else {
+          removedNodeMemoryBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public Builder addRemovedNodeMemory(
+          org.drools.serialization.protobuf.ProtobufMessages.NodeMemory.Builder builderForValue) {
+        if (removedNodeMemoryBuilder_ == null) {
+          ensureRemovedNodeMemoryIsMutable();
+          removedNodeMemory_.add(builderForValue.build());
+          onChanged();
+        } else {
+          removedNodeMemoryBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public Builder addRemovedNodeMemory(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.NodeMemory.Builder builderForValue) {
+        if (removedNodeMemoryBuilder_ == null) {
+          ensureRemovedNodeMemoryIsMutable();
+          removedNodeMemory_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          removedNodeMemoryBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public Builder addAllRemovedNodeMemory(
+          java.lang.Iterable<? extends org.drools.serialization.protobuf.ProtobufMessages.NodeMemory> values) {
+        if (removedNodeMemoryBuilder_ == null) {
+          ensureRemovedNodeMemoryIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, removedNodeMemory_);
+          onChanged();
+        } else {
+          removedNodeMemoryBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public Builder clearRemovedNodeMemory() {
+        if (removedNodeMemoryBuilder_ == null) {
+          removedNodeMemory_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          removedNodeMemoryBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public Builder removeRemovedNodeMemory(int index) {
+        if (removedNodeMemoryBuilder_ == null) {
+          ensureRemovedNodeMemoryIsMutable();
+          removedNodeMemory_.remove(index);
+          onChanged();
+        } else {
+          removedNodeMemoryBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.NodeMemory.Builder getRemovedNodeMemoryBuilder(
+          int index) {
+        return getRemovedNodeMemoryFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.NodeMemoryOrBuilder getRemovedNodeMemoryOrBuilder(
+          int index) {
+        if (removedNodeMemoryBuilder_ == null) {
+          return removedNodeMemory_.get(index);  } else {
+          return removedNodeMemoryBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.NodeMemoryOrBuilder> 
+           getRemovedNodeMemoryOrBuilderList() {
+        if (removedNodeMemoryBuilder_ != null) {
+          return removedNodeMemoryBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(removedNodeMemory_);
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.NodeMemory.Builder addRemovedNodeMemoryBuilder() {
+        return getRemovedNodeMemoryFieldBuilder().addBuilder(
+            org.drools.serialization.protobuf.ProtobufMessages.NodeMemory.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.NodeMemory.Builder addRemovedNodeMemoryBuilder(
+          int index) {
+        return getRemovedNodeMemoryFieldBuilder().addBuilder(
+            index, org.drools.serialization.protobuf.ProtobufMessages.NodeMemory.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the node memories written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.NodeMemory removed_node_memory = 5;</code>
+       */
+      public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.NodeMemory.Builder> 
+           getRemovedNodeMemoryBuilderList() {
+        return getRemovedNodeMemoryFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.drools.serialization.protobuf.ProtobufMessages.NodeMemory, org.drools.serialization.protobuf.ProtobufMessages.NodeMemory.Builder, org.drools.serialization.protobuf.ProtobufMessages.NodeMemoryOrBuilder> 
+          getRemovedNodeMemoryFieldBuilder() {
+        if (removedNodeMemoryBuilder_ == null) {
+          removedNodeMemoryBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.drools.serialization.protobuf.ProtobufMessages.NodeMemory, org.drools.serialization.protobuf.ProtobufMessages.NodeMemory.Builder, org.drools.serialization.protobuf.ProtobufMessages.NodeMemoryOrBuilder>(
+                  removedNodeMemory_,
+                  ((bitField0_ & 0x00000010) != 0),
+                  getParentForChildren(),
+                  isClean());
+          removedNodeMemory_ = null;
+        }
+        return removedNodeMemoryBuilder_;
+      }
+
+      private java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup> removedAgendaGroup_ =
+        java.util.Collections.emptyList();
+      private void ensureRemovedAgendaGroupIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          removedAgendaGroup_ = new java.util.ArrayList<org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup>(removedAgendaGroup_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup, org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup.Builder, org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroupOrBuilder> removedAgendaGroupBuilder_;
+
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup> getRemovedAgendaGroupList() {
+        if (removedAgendaGroupBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(removedAgendaGroup_);
+        } else {
+          return removedAgendaGroupBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public int getRemovedAgendaGroupCount() {
+        if (removedAgendaGroupBuilder_ == null) {
+          return removedAgendaGroup_.size();
+        } else {
+          return removedAgendaGroupBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup getRemovedAgendaGroup(int index) {
+        if (removedAgendaGroupBuilder_ == null) {
+          return removedAgendaGroup_.get(index);
+        } else {
+          return removedAgendaGroupBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public Builder setRemovedAgendaGroup(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup value) {
+        if (removedAgendaGroupBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedAgendaGroupIsMutable();
+          removedAgendaGroup_.set(index, value);
+          onChanged();
+        } else {
+          removedAgendaGroupBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public Builder setRemovedAgendaGroup(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup.Builder builderForValue) {
+        if (removedAgendaGroupBuilder_ == null) {
+          ensureRemovedAgendaGroupIsMutable();
+          removedAgendaGroup_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          removedAgendaGroupBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public Builder addRemovedAgendaGroup(org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup value) {
+        if (removedAgendaGroupBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedAgendaGroupIsMutable();
+          removedAgendaGroup_.add(value);
+          onChanged();
+        } else {
+          removedAgendaGroupBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public Builder addRemovedAgendaGroup(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup value) {
+        if (removedAgendaGroupBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedAgendaGroupIsMutable();
+          removedAgendaGroup_.add(index, value);
+          onChanged();
+        } else {
+          removedAgendaGroupBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public Builder addRemovedAgendaGroup(
+          org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup.Builder builderForValue) {
+        if (removedAgendaGroupBuilder_ == null) {
+          ensureRemovedAgendaGroupIsMutable();
+          removedAgendaGroup_.add(builderForValue.build());
+          onChanged();
+        } else {
+          removedAgendaGroupBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public Builder addRemovedAgendaGroup(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup.Builder builderForValue) {
+        if (removedAgendaGroupBuilder_ == null) {
+          ensureRemovedAgendaGroupIsMutable();
+          removedAgendaGroup_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          removedAgendaGroupBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public Builder addAllRemovedAgendaGroup(
+          java.lang.Iterable<? extends org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup> values) {
+        if (removedAgendaGroupBuilder_ == null) {
+          ensureRemovedAgendaGroupIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, removedAgendaGroup_);
+          onChanged();
+        } else {
+          removedAgendaGroupBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public Builder clearRemovedAgendaGroup() {
+        if (removedAgendaGroupBuilder_ == null) {
+          removedAgendaGroup_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          removedAgendaGroupBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public Builder removeRemovedAgendaGroup(int index) {
+        if (removedAgendaGroupBuilder_ == null) {
+          ensureRemovedAgendaGroupIsMutable();
+          removedAgendaGroup_.remove(index);
+          onChanged();
+        } else {
+          removedAgendaGroupBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup.Builder getRemovedAgendaGroupBuilder(
+          int index) {
+        return getRemovedAgendaGroupFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroupOrBuilder getRemovedAgendaGroupOrBuilder(
+          int index) {
+        if (removedAgendaGroupBuilder_ == null) {
+          return removedAgendaGroup_.get(index);  } else {
+          return removedAgendaGroupBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroupOrBuilder> 
+           getRemovedAgendaGroupOrBuilderList() {
+        if (removedAgendaGroupBuilder_ != null) {
+          return removedAgendaGroupBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(removedAgendaGroup_);
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup.Builder addRemovedAgendaGroupBuilder() {
+        return getRemovedAgendaGroupFieldBuilder().addBuilder(
+            org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup.Builder addRemovedAgendaGroupBuilder(
+          int index) {
+        return getRemovedAgendaGroupFieldBuilder().addBuilder(
+            index, org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the agenda groups written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Agenda.AgendaGroup removed_agenda_group = 6;</code>
+       */
+      public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup.Builder> 
+           getRemovedAgendaGroupBuilderList() {
+        return getRemovedAgendaGroupFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup, org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup.Builder, org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroupOrBuilder> 
+          getRemovedAgendaGroupFieldBuilder() {
+        if (removedAgendaGroupBuilder_ == null) {
+          removedAgendaGroupBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup, org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroup.Builder, org.drools.serialization.protobuf.ProtobufMessages.Agenda.AgendaGroupOrBuilder>(
+                  removedAgendaGroup_,
+                  ((bitField0_ & 0x00000020) != 0),
+                  getParentForChildren(),
+                  isClean());
+          removedAgendaGroup_ = null;
+        }
+        return removedAgendaGroupBuilder_;
+      }
+
+      private java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer> removedTimer_ =
+        java.util.Collections.emptyList();
+      private void ensureRemovedTimerIsMutable() {
+        if (!((bitField0_ & 0x00000040) != 0)) {
+          removedTimer_ = new java.util.ArrayList<org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer>(removedTimer_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer, org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer.Builder, org.drools.serialization.protobuf.ProtobufMessages.Timers.TimerOrBuilder> removedTimerBuilder_;
+
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer> getRemovedTimerList() {
+        if (removedTimerBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(removedTimer_);
+        } else {
+          return removedTimerBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public int getRemovedTimerCount() {
+        if (removedTimerBuilder_ == null) {
+          return removedTimer_.size();
+        } else {
+          return removedTimerBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer getRemovedTimer(int index) {
+        if (removedTimerBuilder_ == null) {
+          return removedTimer_.get(index);
+        } else {
+          return removedTimerBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public Builder setRemovedTimer(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer value) {
+        if (removedTimerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedTimerIsMutable();
+          removedTimer_.set(index, value);
+          onChanged();
+        } else {
+          removedTimerBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public Builder setRemovedTimer(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer.Builder builderForValue) {
+        if (removedTimerBuilder_ == null) {
+          ensureRemovedTimerIsMutable();
+          removedTimer_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          removedTimerBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public Builder addRemovedTimer(org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer value) {
+        if (removedTimerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedTimerIsMutable();
+          removedTimer_.add(value);
+          onChanged();
+        } else {
+          removedTimerBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public Builder addRemovedTimer(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer value) {
+        if (removedTimerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedTimerIsMutable();
+          removedTimer_.add(index, value);
+          onChanged();
+        } else {
+          removedTimerBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public Builder addRemovedTimer(
+          org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer.Builder builderForValue) {
+        if (removedTimerBuilder_ == null) {
+          ensureRemovedTimerIsMutable();
+          removedTimer_.add(builderForValue.build());
+          onChanged();
+        } else {
+          removedTimerBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public Builder addRemovedTimer(
+          int index, org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer.Builder builderForValue) {
+        if (removedTimerBuilder_ == null) {
+          ensureRemovedTimerIsMutable();
+          removedTimer_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          removedTimerBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public Builder addAllRemovedTimer(
+          java.lang.Iterable<? extends org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer> values) {
+        if (removedTimerBuilder_ == null) {
+          ensureRemovedTimerIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, removedTimer_);
+          onChanged();
+        } else {
+          removedTimerBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public Builder clearRemovedTimer() {
+        if (removedTimerBuilder_ == null) {
+          removedTimer_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+        } else {
+          removedTimerBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public Builder removeRemovedTimer(int index) {
+        if (removedTimerBuilder_ == null) {
+          ensureRemovedTimerIsMutable();
+          removedTimer_.remove(index);
+          onChanged();
+        } else {
+          removedTimerBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer.Builder getRemovedTimerBuilder(
+          int index) {
+        return getRemovedTimerFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Timers.TimerOrBuilder getRemovedTimerOrBuilder(
+          int index) {
+        if (removedTimerBuilder_ == null) {
+          return removedTimer_.get(index);  } else {
+          return removedTimerBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public java.util.List<? extends org.drools.serialization.protobuf.ProtobufMessages.Timers.TimerOrBuilder> 
+           getRemovedTimerOrBuilderList() {
+        if (removedTimerBuilder_ != null) {
+          return removedTimerBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(removedTimer_);
+        }
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer.Builder addRemovedTimerBuilder() {
+        return getRemovedTimerFieldBuilder().addBuilder(
+            org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer.Builder addRemovedTimerBuilder(
+          int index) {
+        return getRemovedTimerFieldBuilder().addBuilder(
+            index, org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * only set for a delta snapshot: the timers written by a previous snapshot that don't exist anymore
+       * </pre>
+       *
+       * <code>repeated .org.drools.serialization.protobuf.Timers.Timer removed_timer = 7;</code>
+       */
+      public java.util.List<org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer.Builder> 
+           getRemovedTimerBuilderList() {
+        return getRemovedTimerFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer, org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer.Builder, org.drools.serialization.protobuf.ProtobufMessages.Timers.TimerOrBuilder> 
+          getRemovedTimerFieldBuilder() {
+        if (removedTimerBuilder_ == null) {
+          removedTimerBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer, org.drools.serialization.protobuf.ProtobufMessages.Timers.Timer.Builder, org.drools.serialization.protobuf.ProtobufMessages.Timers.TimerOrBuilder>(
+                  removedTimer_,
+                  ((bitField0_ & 0x00000040) != 0),
+                  getParentForChildren(),
+                  isClean());
+          removedTimer_ = null;
+        }
+        return removedTimerBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:org.drools.serialization.protobuf.SnapshotInfo)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.drools.serialization.protobuf.SnapshotInfo)
+    private static final org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo();
+    }
+
+    public static org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<SnapshotInfo>
+        PARSER = new com.google.protobuf.AbstractParser<SnapshotInfo>() {
+      @java.lang.Override
+      public SnapshotInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SnapshotInfo> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SnapshotInfo> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
   public interface RuleDataOrBuilder extends
       // @@protoc_insertion_point(interface_extends:org.drools.serialization.protobuf.RuleData)
       com.google.protobuf.MessageOrBuilder {
@@ -56744,6 +60411,17 @@ public final class ProtobufMessages {
 
   }
 
+  public static final int SNAPSHOT_INFO_FIELD_NUMBER = 150;
+  /**
+   * <code>extend .org.drools.serialization.protobuf.KnowledgeSession { ... }</code>
+   */
+  public static final
+    com.google.protobuf.GeneratedMessage.GeneratedExtension<
+      org.drools.serialization.protobuf.ProtobufMessages.KnowledgeSession,
+      org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo> snapshotInfo = com.google.protobuf.GeneratedMessage
+          .newFileScopedGeneratedExtension(
+        org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.class,
+        org.drools.serialization.protobuf.ProtobufMessages.SnapshotInfo.getDefaultInstance());
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_drools_serialization_protobuf_Header_descriptor;
   private static final 
@@ -56774,6 +60452,16 @@ public final class ProtobufMessages {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_drools_serialization_protobuf_KnowledgeSession_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_drools_serialization_protobuf_SnapshotInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_drools_serialization_protobuf_SnapshotInfo_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_drools_serialization_protobuf_SnapshotInfo_DeletedHandles_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_drools_serialization_protobuf_SnapshotInfo_DeletedHandles_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_drools_serialization_protobuf_RuleData_descriptor;
   private static final 
@@ -57055,231 +60743,247 @@ public final class ProtobufMessages {
       "on.protobuf.RuleData\022D\n\014process_data\030\004 \001" +
       "(\0132..org.drools.serialization.protobuf.P" +
       "rocessData\0229\n\006timers\030\005 \001(\0132).org.drools." +
-      "serialization.protobuf.Timers*\005\010d\020\310\001\"\320\003\n" +
-      "\010RuleData\022\017\n\007last_id\030\003 \001(\003\022\024\n\014last_recen" +
-      "cy\030\004 \001(\003\022C\n\014initial_fact\030\006 \001(\0132-.org.dro" +
-      "ols.serialization.protobuf.FactHandle\0229\n" +
-      "\006agenda\030\010 \001(\0132).org.drools.serialization" +
-      ".protobuf.Agenda\022B\n\013node_memory\030\t \003(\0132-." +
-      "org.drools.serialization.protobuf.NodeMe" +
-      "mory\022B\n\013entry_point\030\n \003(\0132-.org.drools.s" +
-      "erialization.protobuf.EntryPoint\022D\n\014acti" +
-      "on_queue\030\013 \001(\0132..org.drools.serializatio" +
-      "n.protobuf.ActionQueue\022O\n\014OBSOLETE_tms\030\014" +
-      " \001(\01329.org.drools.serialization.protobuf" +
-      ".TruthMaintenanceSystem\";\n\017RuntimeClassD" +
-      "ef\022\025\n\rclass_fq_name\030\001 \002(\t\022\021\n\tclass_def\030\002" +
-      " \002(\014\"\024\n\013ProcessData*\005\010\n\020\310\001\"\323\t\n\006Agenda\022\033\n" +
-      "\023dormant_activations\030\001 \001(\005\022\032\n\022active_act" +
-      "ivations\030\002 \001(\005\022K\n\014agenda_group\030\003 \003(\01325.o" +
-      "rg.drools.serialization.protobuf.Agenda." +
-      "AgendaGroup\022I\n\013focus_stack\030\004 \001(\01324.org.d" +
-      "rools.serialization.protobuf.Agenda.Focu" +
-      "sStack\022P\n\017rule_flow_group\030\005 \003(\01327.org.dr" +
-      "ools.serialization.protobuf.Agenda.RuleF" +
-      "lowGroup\022<\n\005match\030\006 \003(\0132-.org.drools.ser" +
-      "ialization.protobuf.Activation\022F\n\017rule_a" +
-      "ctivation\030\007 \003(\0132-.org.drools.serializati" +
-      "on.protobuf.Activation\032\250\003\n\013AgendaGroup\022\014" +
-      "\n\004name\030\001 \001(\t\022\021\n\tis_active\030\002 \001(\010\022\032\n\022is_au" +
-      "to_deactivate\030\003 \001(\010\022\035\n\025activated_for_rec" +
-      "ency\030\004 \001(\003\022\033\n\023cleared_for_recency\030\005 \001(\003\022" +
-      "<\n\005match\030\006 \003(\0132-.org.drools.serializatio" +
-      "n.protobuf.Activation\022Y\n\rnode_instance\030\007" +
-      " \003(\0132B.org.drools.serialization.protobuf" +
-      ".Agenda.AgendaGroup.NodeInstance\022\034\n\024has_" +
-      "rule_flow_lister\030\010 \001(\010\032i\n\014NodeInstance\022\033" +
+      "serialization.protobuf.Timers*\005\010d\020\310\001\"\366\003\n" +
+      "\014SnapshotInfo\022\020\n\010sequence\030\001 \001(\003\022\027\n\017paren" +
+      "t_sequence\030\002 \001(\003\022O\n\007deleted\030\003 \003(\0132>.org." +
+      "drools.serialization.protobuf.SnapshotIn" +
+      "fo.DeletedHandles\022D\n\rremoved_match\030\004 \003(\013" +
+      "2-.org.drools.serialization.protobuf.Act" +
+      "ivation\022J\n\023removed_node_memory\030\005 \003(\0132-.o" +
+      "rg.drools.serialization.protobuf.NodeMem" +
+      "ory\022S\n\024removed_agenda_group\030\006 \003(\01325.org." +
+      "drools.serialization.protobuf.Agenda.Age" +
+      "ndaGroup\022F\n\rremoved_timer\030\007 \003(\0132/.org.dr" +
+      "ools.serialization.protobuf.Timers.Timer" +
+      "\032;\n\016DeletedHandles\022\026\n\016entry_point_id\030\001 \001" +
+      "(\t\022\021\n\thandle_id\030\002 \003(\003\"\320\003\n\010RuleData\022\017\n\007la" +
+      "st_id\030\003 \001(\003\022\024\n\014last_recency\030\004 \001(\003\022C\n\014ini" +
+      "tial_fact\030\006 \001(\0132-.org.drools.serializati" +
+      "on.protobuf.FactHandle\0229\n\006agenda\030\010 \001(\0132)" +
+      ".org.drools.serialization.protobuf.Agend" +
+      "a\022B\n\013node_memory\030\t \003(\0132-.org.drools.seri" +
+      "alization.protobuf.NodeMemory\022B\n\013entry_p" +
+      "oint\030\n \003(\0132-.org.drools.serialization.pr" +
+      "otobuf.EntryPoint\022D\n\014action_queue\030\013 \001(\0132" +
+      "..org.drools.serialization.protobuf.Acti" +
+      "onQueue\022O\n\014OBSOLETE_tms\030\014 \001(\01329.org.droo" +
+      "ls.serialization.protobuf.TruthMaintenan" +
+      "ceSystem\";\n\017RuntimeClassDef\022\025\n\rclass_fq_" +
+      "name\030\001 \002(\t\022\021\n\tclass_def\030\002 \002(\014\"\024\n\013Process" +
+      "Data*\005\010\n\020\310\001\"\323\t\n\006Agenda\022\033\n\023dormant_activa" +
+      "tions\030\001 \001(\005\022\032\n\022active_activations\030\002 \001(\005\022" +
+      "K\n\014agenda_group\030\003 \003(\01325.org.drools.seria" +
+      "lization.protobuf.Agenda.AgendaGroup\022I\n\013" +
+      "focus_stack\030\004 \001(\01324.org.drools.serializa" +
+      "tion.protobuf.Agenda.FocusStack\022P\n\017rule_" +
+      "flow_group\030\005 \003(\01327.org.drools.serializat" +
+      "ion.protobuf.Agenda.RuleFlowGroup\022<\n\005mat" +
+      "ch\030\006 \003(\0132-.org.drools.serialization.prot" +
+      "obuf.Activation\022F\n\017rule_activation\030\007 \003(\013" +
+      "2-.org.drools.serialization.protobuf.Act" +
+      "ivation\032\250\003\n\013AgendaGroup\022\014\n\004name\030\001 \001(\t\022\021\n" +
+      "\tis_active\030\002 \001(\010\022\032\n\022is_auto_deactivate\030\003" +
+      " \001(\010\022\035\n\025activated_for_recency\030\004 \001(\003\022\033\n\023c" +
+      "leared_for_recency\030\005 \001(\003\022<\n\005match\030\006 \003(\0132" +
+      "-.org.drools.serialization.protobuf.Acti" +
+      "vation\022Y\n\rnode_instance\030\007 \003(\0132B.org.droo" +
+      "ls.serialization.protobuf.Agenda.AgendaG" +
+      "roup.NodeInstance\022\034\n\024has_rule_flow_liste" +
+      "r\030\010 \001(\010\032i\n\014NodeInstance\022\033\n\023process_insta" +
+      "nce_id\030\001 \001(\003\022\030\n\020node_instance_id\030\002 \001(\t\022\"" +
+      "\n\032process_instance_string_id\030\003 \001(\t\032 \n\nFo" +
+      "cusStack\022\022\n\ngroup_name\030\001 \003(\t\032\322\002\n\rRuleFlo" +
+      "wGroup\022\014\n\004name\030\001 \001(\t\022\021\n\tis_active\030\002 \001(\010\022" +
+      "\032\n\022is_auto_deactivate\030\003 \001(\010\022<\n\005match\030\004 \003" +
+      "(\0132-.org.drools.serialization.protobuf.A" +
+      "ctivation\022[\n\rnode_instance\030\005 \003(\0132D.org.d" +
+      "rools.serialization.protobuf.Agenda.Rule" +
+      "FlowGroup.NodeInstance\032i\n\014NodeInstance\022\033" +
       "\n\023process_instance_id\030\001 \001(\003\022\030\n\020node_inst" +
       "ance_id\030\002 \001(\t\022\"\n\032process_instance_string" +
-      "_id\030\003 \001(\t\032 \n\nFocusStack\022\022\n\ngroup_name\030\001 " +
-      "\003(\t\032\322\002\n\rRuleFlowGroup\022\014\n\004name\030\001 \001(\t\022\021\n\ti" +
-      "s_active\030\002 \001(\010\022\032\n\022is_auto_deactivate\030\003 \001" +
-      "(\010\022<\n\005match\030\004 \003(\0132-.org.drools.serializa" +
-      "tion.protobuf.Activation\022[\n\rnode_instanc" +
-      "e\030\005 \003(\0132D.org.drools.serialization.proto" +
-      "buf.Agenda.RuleFlowGroup.NodeInstance\032i\n" +
-      "\014NodeInstance\022\033\n\023process_instance_id\030\001 \001" +
-      "(\003\022\030\n\020node_instance_id\030\002 \001(\t\022\"\n\032process_" +
-      "instance_string_id\030\003 \001(\t\"\333\r\n\nNodeMemory\022" +
-      "\017\n\007node_id\030\001 \001(\005\022I\n\tnode_type\030\002 \001(\01626.or" +
-      "g.drools.serialization.protobuf.NodeMemo" +
-      "ry.NodeType\022V\n\naccumulate\030\003 \001(\0132B.org.dr" +
-      "ools.serialization.protobuf.NodeMemory.A" +
-      "ccumulateNodeMemory\022H\n\003ria\030\004 \001(\0132;.org.d" +
-      "rools.serialization.protobuf.NodeMemory." +
-      "RIANodeMemory\022J\n\004from\030\005 \001(\0132<.org.drools" +
-      ".serialization.protobuf.NodeMemory.FromN" +
-      "odeMemory\022[\n\rquery_element\030\006 \001(\0132D.org.d" +
-      "rools.serialization.protobuf.NodeMemory." +
-      "QueryElementNodeMemory\032\222\002\n\024AccumulateNod" +
-      "eMemory\022e\n\007context\030\001 \003(\0132T.org.drools.se" +
-      "rialization.protobuf.NodeMemory.Accumula" +
-      "teNodeMemory.AccumulateContext\032\222\001\n\021Accum" +
-      "ulateContext\0227\n\005tuple\030\001 \001(\0132(.org.drools" +
-      ".serialization.protobuf.Tuple\022D\n\rresult_" +
-      "handle\030\002 \001(\0132-.org.drools.serialization." +
-      "protobuf.FactHandle\032\366\001\n\rRIANodeMemory\022W\n" +
-      "\007context\030\001 \003(\0132F.org.drools.serializatio" +
-      "n.protobuf.NodeMemory.RIANodeMemory.RIAC" +
-      "ontext\032\213\001\n\nRIAContext\0227\n\005tuple\030\001 \001(\0132(.o" +
-      "rg.drools.serialization.protobuf.Tuple\022D" +
-      "\n\rresult_handle\030\002 \001(\0132-.org.drools.seria" +
-      "lization.protobuf.FactHandle\032\216\003\n\016FromNod" +
-      "eMemory\022Y\n\007context\030\001 \003(\0132H.org.drools.se" +
-      "rialization.protobuf.NodeMemory.FromNode" +
-      "Memory.FromContext\032\240\002\n\013FromContext\0227\n\005tu" +
-      "ple\030\001 \001(\0132(.org.drools.serialization.pro" +
-      "tobuf.Tuple\022=\n\006handle\030\002 \003(\0132-.org.drools" +
-      ".serialization.protobuf.FactHandle\022c\n\006ob" +
-      "ject\030\003 \003(\0132S.org.drools.serialization.pr" +
-      "otobuf.NodeMemory.FromNodeMemory.FromCon" +
-      "text.FromObject\0324\n\nFromObject\022\026\n\016strateg" +
-      "y_index\030\010 \001(\005\022\016\n\006object\030\t \001(\014\032\304\002\n\026QueryE" +
-      "lementNodeMemory\022b\n\007context\030\001 \003(\0132Q.org." +
-      "drools.serialization.protobuf.NodeMemory" +
-      ".QueryElementNodeMemory.QueryContext\032\305\001\n" +
-      "\014QueryContext\0227\n\005tuple\030\001 \001(\0132(.org.drool" +
-      "s.serialization.protobuf.Tuple\022=\n\006handle" +
-      "\030\002 \001(\0132-.org.drools.serialization.protob" +
-      "uf.FactHandle\022=\n\006result\030\003 \003(\0132-.org.droo" +
-      "ls.serialization.protobuf.FactHandle\"@\n\010" +
-      "NodeType\022\016\n\nACCUMULATE\020\000\022\007\n\003RIA\020\001\022\010\n\004FRO" +
-      "M\020\002\022\021\n\rQUERY_ELEMENT\020\003\"\364\001\n\nEntryPoint\022\026\n" +
-      "\016entry_point_id\030\001 \001(\t\022=\n\006handle\030\002 \003(\0132-." +
+      "_id\030\003 \001(\t\"\333\r\n\nNodeMemory\022\017\n\007node_id\030\001 \001(" +
+      "\005\022I\n\tnode_type\030\002 \001(\01626.org.drools.serial" +
+      "ization.protobuf.NodeMemory.NodeType\022V\n\n" +
+      "accumulate\030\003 \001(\0132B.org.drools.serializat" +
+      "ion.protobuf.NodeMemory.AccumulateNodeMe" +
+      "mory\022H\n\003ria\030\004 \001(\0132;.org.drools.serializa" +
+      "tion.protobuf.NodeMemory.RIANodeMemory\022J" +
+      "\n\004from\030\005 \001(\0132<.org.drools.serialization." +
+      "protobuf.NodeMemory.FromNodeMemory\022[\n\rqu" +
+      "ery_element\030\006 \001(\0132D.org.drools.serializa" +
+      "tion.protobuf.NodeMemory.QueryElementNod" +
+      "eMemory\032\222\002\n\024AccumulateNodeMemory\022e\n\007cont" +
+      "ext\030\001 \003(\0132T.org.drools.serialization.pro" +
+      "tobuf.NodeMemory.AccumulateNodeMemory.Ac" +
+      "cumulateContext\032\222\001\n\021AccumulateContext\0227\n" +
+      "\005tuple\030\001 \001(\0132(.org.drools.serialization." +
+      "protobuf.Tuple\022D\n\rresult_handle\030\002 \001(\0132-." +
       "org.drools.serialization.protobuf.FactHa" +
-      "ndle\022F\n\003tms\030\003 \001(\01329.org.drools.serializa" +
-      "tion.protobuf.TruthMaintenanceSystem\022G\n\003" +
-      "otc\030\004 \003(\0132:.org.drools.serialization.pro" +
-      "tobuf.ObjectTypeConfiguration\"\353\002\n\nFactHa" +
-      "ndle\022F\n\004type\030\001 \001(\01628.org.drools.serializ" +
-      "ation.protobuf.FactHandle.HandleType\022\n\n\002" +
-      "id\030\002 \001(\003\022\017\n\007recency\030\003 \001(\003\022\021\n\ttimestamp\030\004" +
-      " \001(\003\022\020\n\010duration\030\005 \001(\003\022\022\n\nis_expired\030\006 \001" +
-      "(\010\022\031\n\021activations_count\030\007 \001(\003\022\026\n\016strateg" +
-      "y_index\030\010 \001(\005\022\016\n\006object\030\t \001(\014\022\023\n\013entry_p" +
-      "oint\030\n \001(\t\022\024\n\014is_justified\030\013 \001(\010\022\021\n\totn_" +
-      "count\030\014 \001(\005\">\n\nHandleType\022\020\n\014INITIAL_FAC" +
-      "T\020\001\022\010\n\004FACT\020\002\022\t\n\005QUERY\020\003\022\t\n\005EVENT\020\004\"\362\001\n\n" +
-      "Activation\0227\n\005tuple\030\002 \001(\0132(.org.drools.s" +
-      "erialization.protobuf.Tuple\022\020\n\010salience\030" +
-      "\003 \001(\005\022\024\n\014package_name\030\004 \001(\t\022\021\n\trule_name" +
-      "\030\005 \001(\t\022\030\n\020activation_group\030\007 \001(\t\022\024\n\014is_a" +
-      "ctivated\030\010 \001(\010\022\021\n\thandle_id\030\t \001(\003\022\032\n\022log" +
-      "ical_dependency\030\n \003(\003\022\021\n\tevaluated\030\013 \001(\010" +
-      "\"_\n\005Tuple\022\021\n\thandle_id\030\001 \003(\003\022C\n\006object\030\002" +
-      " \003(\01323.org.drools.serialization.protobuf" +
-      ".SerializedObject\":\n\020SerializedObject\022\026\n" +
-      "\016strategy_index\030\001 \001(\005\022\016\n\006object\030\002 \001(\014\"\243\001" +
-      "\n\026TruthMaintenanceSystem\022;\n\003key\030\001 \003(\0132.." +
-      "org.drools.serialization.protobuf.Equali" +
-      "tyKey\022L\n\026OBSOLETE_justification\030\002 \003(\0132,." +
-      "org.drools.serialization.protobuf.Belief" +
-      "Set\"<\n\027ObjectTypeConfiguration\022\014\n\004type\030\001" +
-      " \001(\t\022\023\n\013tms_enabled\030\002 \001(\010\"\207\001\n\013EqualityKe" +
-      "y\022\016\n\006status\030\001 \001(\005\022\021\n\thandle_id\030\002 \001(\003\022\024\n\014" +
-      "other_handle\030\003 \003(\003\022?\n\tbeliefSet\030\004 \001(\0132,." +
-      "org.drools.serialization.protobuf.Belief" +
-      "Set\"o\n\tBeliefSet\022\021\n\thandle_id\030\001 \001(\003\022O\n\021l" +
-      "ogicalDependency\030\002 \003(\01324.org.drools.seri" +
-      "alization.protobuf.LogicalDependency\"\262\001\n" +
-      "\021LogicalDependency\022A\n\nactivation\030\002 \001(\0132-" +
-      ".org.drools.serialization.protobuf.Activ" +
-      "ation\022\035\n\025object_strategy_index\030\010 \001(\005\022\016\n\006" +
-      "object\030\t \001(\014\022\034\n\024value_strategy_index\030\n \001" +
-      "(\005\022\r\n\005value\030\013 \001(\014\"\307\014\n\013ActionQueue\022E\n\006act" +
-      "ion\030\001 \003(\01325.org.drools.serialization.pro" +
-      "tobuf.ActionQueue.Action\032\352\005\n\006Action\022G\n\004t" +
-      "ype\030\001 \001(\01629.org.drools.serialization.pro" +
-      "tobuf.ActionQueue.ActionType\022V\n\017behavior" +
-      "_expire\030\002 \001(\0132=.org.drools.serialization" +
-      ".protobuf.ActionQueue.BehaviorExpire\022^\n\023" +
-      "deactivate_callback\030\003 \001(\0132A.org.drools.s" +
-      "erialization.protobuf.ActionQueue.Deacti" +
-      "vateCallback\022V\n\017logical_retract\030\004 \001(\0132=." +
-      "org.drools.serialization.protobuf.Action" +
-      "Queue.LogicalRetract\022K\n\tpropagate\030\005 \001(\0132" +
-      "8.org.drools.serialization.protobuf.Acti" +
-      "onQueue.Propagate\022E\n\006assert\030\006 \001(\01325.org." +
-      "drools.serialization.protobuf.ActionQueu" +
-      "e.Assert\022E\n\006expire\030\007 \001(\01325.org.drools.se" +
-      "rialization.protobuf.ActionQueue.Expire\022" +
-      "E\n\006signal\030\010 \001(\01325.org.drools.serializati" +
-      "on.protobuf.ActionQueue.Signal\022e\n\027signal" +
-      "_process_instance\030\t \001(\0132D.org.drools.ser" +
-      "ialization.protobuf.ActionQueue.SignalPr" +
-      "ocessInstance\032!\n\016BehaviorExpire\022\017\n\007node_" +
-      "id\030\001 \001(\005\032,\n\022DeactivateCallback\022\026\n\016rulefl" +
-      "ow_group\030\001 \001(\t\032\215\001\n\016LogicalRetract\022\021\n\than" +
-      "dle_id\030\001 \001(\003\022A\n\nactivation\030\002 \001(\0132-.org.d" +
-      "rools.serialization.protobuf.Activation\022" +
-      "\025\n\rfully_retract\030\003 \001(\010\022\016\n\006update\030\004 \001(\010\032\034" +
-      "\n\tPropagate\022\017\n\007node_id\030\001 \001(\005\032\272\001\n\006Assert\022" +
-      "\021\n\thandle_id\030\001 \001(\003\022\026\n\016remove_logical\030\002 \001" +
-      "(\010\022\031\n\021update_equals_map\030\003 \001(\010\022\027\n\017origin_" +
-      "pkg_name\030\004 \001(\t\022\030\n\020origin_rule_name\030\005 \001(\t" +
-      "\0227\n\005tuple\030\006 \001(\0132(.org.drools.serializati" +
-      "on.protobuf.Tuple\032,\n\006Expire\022\021\n\thandle_id" +
-      "\030\001 \001(\003\022\017\n\007node_id\030\002 \001(\005\032%\n\006Signal\022\014\n\004typ" +
-      "e\030\001 \001(\t\022\r\n\005event\030\002 \001(\014\032Q\n\025SignalProcessI" +
-      "nstance\022\014\n\004type\030\001 \001(\t\022\r\n\005event\030\002 \001(\014\022\033\n\023" +
-      "process_instance_id\030\003 \001(\t\"\237\001\n\nActionType" +
-      "\022\023\n\017BEHAVIOR_EXPIRE\020\001\022\027\n\023DEACTIVATE_CALL" +
-      "BACK\020\002\022\023\n\017LOGICAL_RETRACT\020\003\022\r\n\tPROPAGATE" +
-      "\020\004\022\n\n\006ASSERT\020\005\022\n\n\006EXPIRE\020\006\022\n\n\006SIGNAL\020\007\022\033" +
-      "\n\027SIGNAL_PROCESS_INSTANCE\020\010\"\233\010\n\006Timers\022>" +
-      "\n\005timer\030\001 \003(\0132/.org.drools.serialization" +
-      ".protobuf.Timers.Timer\032\200\003\n\005Timer\022A\n\004type" +
-      "\030\001 \001(\01623.org.drools.serialization.protob" +
-      "uf.Timers.TimerType\022E\n\006expire\030\002 \001(\01325.or" +
-      "g.drools.serialization.protobuf.Timers.E" +
-      "xpireTimer\022M\n\nactivation\030\003 \001(\01329.org.dro" +
-      "ols.serialization.protobuf.Timers.Activa" +
-      "tionTimer\022I\n\010behavior\030\004 \001(\01327.org.drools" +
-      ".serialization.protobuf.Timers.BehaviorT" +
-      "imer\022L\n\ntimer_node\030\005 \001(\01328.org.drools.se" +
-      "rialization.protobuf.Timers.TimerNodeTim" +
-      "er*\005\010d\020\310\001\032i\n\013ExpireTimer\022\021\n\thandle_id\030\001 " +
-      "\001(\003\022\026\n\016entry_point_id\030\002 \001(\t\022\022\n\nclass_nam" +
-      "e\030\003 \001(\t\022\033\n\023next_fire_timestamp\030\004 \001(\003\032\221\001\n" +
-      "\017ActivationTimer\022A\n\nactivation\030\001 \001(\0132-.o" +
-      "rg.drools.serialization.protobuf.Activat" +
-      "ion\022;\n\007trigger\030\002 \001(\0132*.org.drools.serial" +
-      "ization.protobuf.Trigger\032a\n\rBehaviorTime" +
-      "r\022\032\n\022DEPRECATED_node_id\030\001 \001(\005\022!\n\031DEPRECA" +
-      "TED_behavior_index\030\002 \001(\005\022\021\n\thandle_id\030\003 " +
-      "\001(\003\032\227\001\n\016TimerNodeTimer\022\017\n\007node_id\030\001 \001(\005\022" +
-      "7\n\005tuple\030\002 \001(\0132(.org.drools.serializatio" +
-      "n.protobuf.Tuple\022;\n\007trigger\030\003 \001(\0132*.org." +
-      "drools.serialization.protobuf.Trigger\"R\n" +
-      "\tTimerType\022\n\n\006EXPIRE\020\001\022\016\n\nACTIVATION\020\002\022\014" +
-      "\n\010BEHAVIOR\020\003\022\013\n\007PROCESS\020\004\022\016\n\nTIMER_NODE\020" +
-      "\005\"\362\007\n\007Trigger\022D\n\004type\030\001 \001(\01626.org.drools" +
-      ".serialization.protobuf.Trigger.TriggerT" +
-      "ype\022D\n\004cron\030\002 \001(\01326.org.drools.serializa" +
-      "tion.protobuf.Trigger.CronTrigger\022L\n\010int" +
-      "erval\030\003 \001(\0132:.org.drools.serialization.p" +
-      "rotobuf.Trigger.IntervalTrigger\022J\n\003pit\030\004" +
-      " \001(\0132=.org.drools.serialization.protobuf" +
-      ".Trigger.PointInTimeTrigger\022T\n\004cmdt\030\005 \001(" +
-      "\0132F.org.drools.serialization.protobuf.Tr" +
-      "igger.CompositeMaxDurationTrigger\032\247\001\n\013Cr" +
-      "onTrigger\022\022\n\nstart_time\030\001 \001(\003\022\020\n\010end_tim" +
-      "e\030\002 \001(\003\022\024\n\014repeat_limit\030\003 \001(\005\022\024\n\014repeat_" +
-      "count\030\004 \001(\005\022\027\n\017cron_expression\030\005 \001(\t\022\026\n\016" +
-      "next_fire_time\030\006 \001(\003\022\025\n\rcalendar_name\030\007 " +
-      "\003(\t\032\242\001\n\017IntervalTrigger\022\022\n\nstart_time\030\001 " +
-      "\001(\003\022\020\n\010end_time\030\002 \001(\003\022\024\n\014repeat_limit\030\003 " +
-      "\001(\005\022\024\n\014repeat_count\030\004 \001(\005\022\026\n\016next_fire_t" +
-      "ime\030\006 \001(\003\022\016\n\006period\030\007 \001(\003\022\025\n\rcalendar_na" +
-      "me\030\010 \003(\t\032,\n\022PointInTimeTrigger\022\026\n\016next_f" +
-      "ire_time\030\001 \001(\003\032\227\001\n\033CompositeMaxDurationT" +
-      "rigger\022\034\n\024maxDurationTimestamp\030\001 \001(\003\022\030\n\020" +
-      "timerCurrentDate\030\002 \001(\003\022@\n\014timerTrigger\030\003" +
-      " \001(\0132*.org.drools.serialization.protobuf" +
-      ".Trigger\"T\n\013TriggerType\022\010\n\004CRON\020\000\022\014\n\010INT" +
-      "ERVAL\020\001\022\021\n\rPOINT_IN_TIME\020\002\022\032\n\026COMPOSITE_" +
-      "MAX_DURATION\020\003B5\n!org.drools.serializati" +
-      "on.protobufB\020ProtobufMessages"
+      "ndle\032\366\001\n\rRIANodeMemory\022W\n\007context\030\001 \003(\0132" +
+      "F.org.drools.serialization.protobuf.Node" +
+      "Memory.RIANodeMemory.RIAContext\032\213\001\n\nRIAC" +
+      "ontext\0227\n\005tuple\030\001 \001(\0132(.org.drools.seria" +
+      "lization.protobuf.Tuple\022D\n\rresult_handle" +
+      "\030\002 \001(\0132-.org.drools.serialization.protob" +
+      "uf.FactHandle\032\216\003\n\016FromNodeMemory\022Y\n\007cont" +
+      "ext\030\001 \003(\0132H.org.drools.serialization.pro" +
+      "tobuf.NodeMemory.FromNodeMemory.FromCont" +
+      "ext\032\240\002\n\013FromContext\0227\n\005tuple\030\001 \001(\0132(.org" +
+      ".drools.serialization.protobuf.Tuple\022=\n\006" +
+      "handle\030\002 \003(\0132-.org.drools.serialization." +
+      "protobuf.FactHandle\022c\n\006object\030\003 \003(\0132S.or" +
+      "g.drools.serialization.protobuf.NodeMemo" +
+      "ry.FromNodeMemory.FromContext.FromObject" +
+      "\0324\n\nFromObject\022\026\n\016strategy_index\030\010 \001(\005\022\016" +
+      "\n\006object\030\t \001(\014\032\304\002\n\026QueryElementNodeMemor" +
+      "y\022b\n\007context\030\001 \003(\0132Q.org.drools.serializ" +
+      "ation.protobuf.NodeMemory.QueryElementNo" +
+      "deMemory.QueryContext\032\305\001\n\014QueryContext\0227" +
+      "\n\005tuple\030\001 \001(\0132(.org.drools.serialization" +
+      ".protobuf.Tuple\022=\n\006handle\030\002 \001(\0132-.org.dr" +
+      "ools.serialization.protobuf.FactHandle\022=" +
+      "\n\006result\030\003 \003(\0132-.org.drools.serializatio" +
+      "n.protobuf.FactHandle\"@\n\010NodeType\022\016\n\nACC" +
+      "UMULATE\020\000\022\007\n\003RIA\020\001\022\010\n\004FROM\020\002\022\021\n\rQUERY_EL" +
+      "EMENT\020\003\"\364\001\n\nEntryPoint\022\026\n\016entry_point_id" +
+      "\030\001 \001(\t\022=\n\006handle\030\002 \003(\0132-.org.drools.seri" +
+      "alization.protobuf.FactHandle\022F\n\003tms\030\003 \001" +
+      "(\01329.org.drools.serialization.protobuf.T" +
+      "ruthMaintenanceSystem\022G\n\003otc\030\004 \003(\0132:.org" +
+      ".drools.serialization.protobuf.ObjectTyp" +
+      "eConfiguration\"\353\002\n\nFactHandle\022F\n\004type\030\001 " +
+      "\001(\01628.org.drools.serialization.protobuf." +
+      "FactHandle.HandleType\022\n\n\002id\030\002 \001(\003\022\017\n\007rec" +
+      "ency\030\003 \001(\003\022\021\n\ttimestamp\030\004 \001(\003\022\020\n\010duratio" +
+      "n\030\005 \001(\003\022\022\n\nis_expired\030\006 \001(\010\022\031\n\021activatio" +
+      "ns_count\030\007 \001(\003\022\026\n\016strategy_index\030\010 \001(\005\022\016" +
+      "\n\006object\030\t \001(\014\022\023\n\013entry_point\030\n \001(\t\022\024\n\014i" +
+      "s_justified\030\013 \001(\010\022\021\n\totn_count\030\014 \001(\005\">\n\n" +
+      "HandleType\022\020\n\014INITIAL_FACT\020\001\022\010\n\004FACT\020\002\022\t" +
+      "\n\005QUERY\020\003\022\t\n\005EVENT\020\004\"\362\001\n\nActivation\0227\n\005t" +
+      "uple\030\002 \001(\0132(.org.drools.serialization.pr" +
+      "otobuf.Tuple\022\020\n\010salience\030\003 \001(\005\022\024\n\014packag" +
+      "e_name\030\004 \001(\t\022\021\n\trule_name\030\005 \001(\t\022\030\n\020activ" +
+      "ation_group\030\007 \001(\t\022\024\n\014is_activated\030\010 \001(\010\022" +
+      "\021\n\thandle_id\030\t \001(\003\022\032\n\022logical_dependency" +
+      "\030\n \003(\003\022\021\n\tevaluated\030\013 \001(\010\"_\n\005Tuple\022\021\n\tha" +
+      "ndle_id\030\001 \003(\003\022C\n\006object\030\002 \003(\01323.org.droo" +
+      "ls.serialization.protobuf.SerializedObje" +
+      "ct\":\n\020SerializedObject\022\026\n\016strategy_index" +
+      "\030\001 \001(\005\022\016\n\006object\030\002 \001(\014\"\243\001\n\026TruthMaintena" +
+      "nceSystem\022;\n\003key\030\001 \003(\0132..org.drools.seri" +
+      "alization.protobuf.EqualityKey\022L\n\026OBSOLE" +
+      "TE_justification\030\002 \003(\0132,.org.drools.seri" +
+      "alization.protobuf.BeliefSet\"<\n\027ObjectTy" +
+      "peConfiguration\022\014\n\004type\030\001 \001(\t\022\023\n\013tms_ena" +
+      "bled\030\002 \001(\010\"\207\001\n\013EqualityKey\022\016\n\006status\030\001 \001" +
+      "(\005\022\021\n\thandle_id\030\002 \001(\003\022\024\n\014other_handle\030\003 " +
+      "\003(\003\022?\n\tbeliefSet\030\004 \001(\0132,.org.drools.seri" +
+      "alization.protobuf.BeliefSet\"o\n\tBeliefSe" +
+      "t\022\021\n\thandle_id\030\001 \001(\003\022O\n\021logicalDependenc" +
+      "y\030\002 \003(\01324.org.drools.serialization.proto" +
+      "buf.LogicalDependency\"\262\001\n\021LogicalDepende" +
+      "ncy\022A\n\nactivation\030\002 \001(\0132-.org.drools.ser" +
+      "ialization.protobuf.Activation\022\035\n\025object" +
+      "_strategy_index\030\010 \001(\005\022\016\n\006object\030\t \001(\014\022\034\n" +
+      "\024value_strategy_index\030\n \001(\005\022\r\n\005value\030\013 \001" +
+      "(\014\"\307\014\n\013ActionQueue\022E\n\006action\030\001 \003(\01325.org" +
+      ".drools.serialization.protobuf.ActionQue" +
+      "ue.Action\032\352\005\n\006Action\022G\n\004type\030\001 \001(\01629.org" +
+      ".drools.serialization.protobuf.ActionQue" +
+      "ue.ActionType\022V\n\017behavior_expire\030\002 \001(\0132=" +
+      ".org.drools.serialization.protobuf.Actio" +
+      "nQueue.BehaviorExpire\022^\n\023deactivate_call" +
+      "back\030\003 \001(\0132A.org.drools.serialization.pr" +
+      "otobuf.ActionQueue.DeactivateCallback\022V\n" +
+      "\017logical_retract\030\004 \001(\0132=.org.drools.seri" +
+      "alization.protobuf.ActionQueue.LogicalRe" +
+      "tract\022K\n\tpropagate\030\005 \001(\01328.org.drools.se" +
+      "rialization.protobuf.ActionQueue.Propaga" +
+      "te\022E\n\006assert\030\006 \001(\01325.org.drools.serializ" +
+      "ation.protobuf.ActionQueue.Assert\022E\n\006exp" +
+      "ire\030\007 \001(\01325.org.drools.serialization.pro" +
+      "tobuf.ActionQueue.Expire\022E\n\006signal\030\010 \001(\013" +
+      "25.org.drools.serialization.protobuf.Act" +
+      "ionQueue.Signal\022e\n\027signal_process_instan" +
+      "ce\030\t \001(\0132D.org.drools.serialization.prot" +
+      "obuf.ActionQueue.SignalProcessInstance\032!" +
+      "\n\016BehaviorExpire\022\017\n\007node_id\030\001 \001(\005\032,\n\022Dea" +
+      "ctivateCallback\022\026\n\016ruleflow_group\030\001 \001(\t\032" +
+      "\215\001\n\016LogicalRetract\022\021\n\thandle_id\030\001 \001(\003\022A\n" +
+      "\nactivation\030\002 \001(\0132-.org.drools.serializa" +
+      "tion.protobuf.Activation\022\025\n\rfully_retrac" +
+      "t\030\003 \001(\010\022\016\n\006update\030\004 \001(\010\032\034\n\tPropagate\022\017\n\007" +
+      "node_id\030\001 \001(\005\032\272\001\n\006Assert\022\021\n\thandle_id\030\001 " +
+      "\001(\003\022\026\n\016remove_logical\030\002 \001(\010\022\031\n\021update_eq" +
+      "uals_map\030\003 \001(\010\022\027\n\017origin_pkg_name\030\004 \001(\t\022" +
+      "\030\n\020origin_rule_name\030\005 \001(\t\0227\n\005tuple\030\006 \001(\013" +
+      "2(.org.drools.serialization.protobuf.Tup" +
+      "le\032,\n\006Expire\022\021\n\thandle_id\030\001 \001(\003\022\017\n\007node_" +
+      "id\030\002 \001(\005\032%\n\006Signal\022\014\n\004type\030\001 \001(\t\022\r\n\005even" +
+      "t\030\002 \001(\014\032Q\n\025SignalProcessInstance\022\014\n\004type" +
+      "\030\001 \001(\t\022\r\n\005event\030\002 \001(\014\022\033\n\023process_instanc" +
+      "e_id\030\003 \001(\t\"\237\001\n\nActionType\022\023\n\017BEHAVIOR_EX" +
+      "PIRE\020\001\022\027\n\023DEACTIVATE_CALLBACK\020\002\022\023\n\017LOGIC" +
+      "AL_RETRACT\020\003\022\r\n\tPROPAGATE\020\004\022\n\n\006ASSERT\020\005\022" +
+      "\n\n\006EXPIRE\020\006\022\n\n\006SIGNAL\020\007\022\033\n\027SIGNAL_PROCES" +
+      "S_INSTANCE\020\010\"\233\010\n\006Timers\022>\n\005timer\030\001 \003(\0132/" +
+      ".org.drools.serialization.protobuf.Timer" +
+      "s.Timer\032\200\003\n\005Timer\022A\n\004type\030\001 \001(\01623.org.dr" +
+      "ools.serialization.protobuf.Timers.Timer" +
+      "Type\022E\n\006expire\030\002 \001(\01325.org.drools.serial" +
+      "ization.protobuf.Timers.ExpireTimer\022M\n\na" +
+      "ctivation\030\003 \001(\01329.org.drools.serializati" +
+      "on.protobuf.Timers.ActivationTimer\022I\n\010be" +
+      "havior\030\004 \001(\01327.org.drools.serialization." +
+      "protobuf.Timers.BehaviorTimer\022L\n\ntimer_n" +
+      "ode\030\005 \001(\01328.org.drools.serialization.pro" +
+      "tobuf.Timers.TimerNodeTimer*\005\010d\020\310\001\032i\n\013Ex" +
+      "pireTimer\022\021\n\thandle_id\030\001 \001(\003\022\026\n\016entry_po" +
+      "int_id\030\002 \001(\t\022\022\n\nclass_name\030\003 \001(\t\022\033\n\023next" +
+      "_fire_timestamp\030\004 \001(\003\032\221\001\n\017ActivationTime" +
+      "r\022A\n\nactivation\030\001 \001(\0132-.org.drools.seria" +
+      "lization.protobuf.Activation\022;\n\007trigger\030" +
+      "\002 \001(\0132*.org.drools.serialization.protobu" +
+      "f.Trigger\032a\n\rBehaviorTimer\022\032\n\022DEPRECATED" +
+      "_node_id\030\001 \001(\005\022!\n\031DEPRECATED_behavior_in" +
+      "dex\030\002 \001(\005\022\021\n\thandle_id\030\003 \001(\003\032\227\001\n\016TimerNo" +
+      "deTimer\022\017\n\007node_id\030\001 \001(\005\0227\n\005tuple\030\002 \001(\0132" +
+      "(.org.drools.serialization.protobuf.Tupl" +
+      "e\022;\n\007trigger\030\003 \001(\0132*.org.drools.serializ" +
+      "ation.protobuf.Trigger\"R\n\tTimerType\022\n\n\006E" +
+      "XPIRE\020\001\022\016\n\nACTIVATION\020\002\022\014\n\010BEHAVIOR\020\003\022\013\n" +
+      "\007PROCESS\020\004\022\016\n\nTIMER_NODE\020\005\"\362\007\n\007Trigger\022D" +
+      "\n\004type\030\001 \001(\01626.org.drools.serialization." +
+      "protobuf.Trigger.TriggerType\022D\n\004cron\030\002 \001" +
+      "(\01326.org.drools.serialization.protobuf.T" +
+      "rigger.CronTrigger\022L\n\010interval\030\003 \001(\0132:.o" +
+      "rg.drools.serialization.protobuf.Trigger" +
+      ".IntervalTrigger\022J\n\003pit\030\004 \001(\0132=.org.droo" +
+      "ls.serialization.protobuf.Trigger.PointI" +
+      "nTimeTrigger\022T\n\004cmdt\030\005 \001(\0132F.org.drools." +
+      "serialization.protobuf.Trigger.Composite" +
+      "MaxDurationTrigger\032\247\001\n\013CronTrigger\022\022\n\nst" +
+      "art_time\030\001 \001(\003\022\020\n\010end_time\030\002 \001(\003\022\024\n\014repe" +
+      "at_limit\030\003 \001(\005\022\024\n\014repeat_count\030\004 \001(\005\022\027\n\017" +
+      "cron_expression\030\005 \001(\t\022\026\n\016next_fire_time\030" +
+      "\006 \001(\003\022\025\n\rcalendar_name\030\007 \003(\t\032\242\001\n\017Interva" +
+      "lTrigger\022\022\n\nstart_time\030\001 \001(\003\022\020\n\010end_time" +
+      "\030\002 \001(\003\022\024\n\014repeat_limit\030\003 \001(\005\022\024\n\014repeat_c" +
+      "ount\030\004 \001(\005\022\026\n\016next_fire_time\030\006 \001(\003\022\016\n\006pe" +
+      "riod\030\007 \001(\003\022\025\n\rcalendar_name\030\010 \003(\t\032,\n\022Poi" +
+      "ntInTimeTrigger\022\026\n\016next_fire_time\030\001 \001(\003\032" +
+      "\227\001\n\033CompositeMaxDurationTrigger\022\034\n\024maxDu" +
+      "rationTimestamp\030\001 \001(\003\022\030\n\020timerCurrentDat" +
+      "e\030\002 \001(\003\022@\n\014timerTrigger\030\003 \001(\0132*.org.droo" +
+      "ls.serialization.protobuf.Trigger\"T\n\013Tri" +
+      "ggerType\022\010\n\004CRON\020\000\022\014\n\010INTERVAL\020\001\022\021\n\rPOIN" +
+      "T_IN_TIME\020\002\022\032\n\026COMPOSITE_MAX_DURATION\020\003:" +
+      "|\n\rsnapshot_info\0223.org.drools.serializat" +
+      "ion.protobuf.KnowledgeSession\030\226\001 \001(\0132/.o" +
+      "rg.drools.serialization.protobuf.Snapsho" +
+      "tInfoB5\n!org.drools.serialization.protob" +
+      "ufB\020ProtobufMessages"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -57321,26 +61025,38 @@ public final class ProtobufMessages {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_KnowledgeSession_descriptor,
         new java.lang.String[] { "Multithread", "Time", "RuleData", "ProcessData", "Timers", });
-    internal_static_org_drools_serialization_protobuf_RuleData_descriptor =
+    internal_static_org_drools_serialization_protobuf_SnapshotInfo_descriptor =
       getDescriptor().getMessageTypes().get(5);
+    internal_static_org_drools_serialization_protobuf_SnapshotInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_drools_serialization_protobuf_SnapshotInfo_descriptor,
+        new java.lang.String[] { "Sequence", "ParentSequence", "Deleted", "RemovedMatch", "RemovedNodeMemory", "RemovedAgendaGroup", "RemovedTimer", });
+    internal_static_org_drools_serialization_protobuf_SnapshotInfo_DeletedHandles_descriptor =
+      internal_static_org_drools_serialization_protobuf_SnapshotInfo_descriptor.getNestedTypes().get(0);
+    internal_static_org_drools_serialization_protobuf_SnapshotInfo_DeletedHandles_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_drools_serialization_protobuf_SnapshotInfo_DeletedHandles_descriptor,
+        new java.lang.String[] { "EntryPointId", "HandleId", });
+    internal_static_org_drools_serialization_protobuf_RuleData_descriptor =
+      getDescriptor().getMessageTypes().get(6);
     internal_static_org_drools_serialization_protobuf_RuleData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_RuleData_descriptor,
         new java.lang.String[] { "LastId", "LastRecency", "InitialFact", "Agenda", "NodeMemory", "EntryPoint", "ActionQueue", "OBSOLETETms", });
     internal_static_org_drools_serialization_protobuf_RuntimeClassDef_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_org_drools_serialization_protobuf_RuntimeClassDef_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_RuntimeClassDef_descriptor,
         new java.lang.String[] { "ClassFqName", "ClassDef", });
     internal_static_org_drools_serialization_protobuf_ProcessData_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_org_drools_serialization_protobuf_ProcessData_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_ProcessData_descriptor,
         new java.lang.String[] { });
     internal_static_org_drools_serialization_protobuf_Agenda_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_org_drools_serialization_protobuf_Agenda_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_Agenda_descriptor,
@@ -57376,7 +61092,7 @@ public final class ProtobufMessages {
         internal_static_org_drools_serialization_protobuf_Agenda_RuleFlowGroup_NodeInstance_descriptor,
         new java.lang.String[] { "ProcessInstanceId", "NodeInstanceId", "ProcessInstanceStringId", });
     internal_static_org_drools_serialization_protobuf_NodeMemory_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_org_drools_serialization_protobuf_NodeMemory_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_NodeMemory_descriptor,
@@ -57436,67 +61152,67 @@ public final class ProtobufMessages {
         internal_static_org_drools_serialization_protobuf_NodeMemory_QueryElementNodeMemory_QueryContext_descriptor,
         new java.lang.String[] { "Tuple", "Handle", "Result", });
     internal_static_org_drools_serialization_protobuf_EntryPoint_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_org_drools_serialization_protobuf_EntryPoint_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_EntryPoint_descriptor,
         new java.lang.String[] { "EntryPointId", "Handle", "Tms", "Otc", });
     internal_static_org_drools_serialization_protobuf_FactHandle_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_org_drools_serialization_protobuf_FactHandle_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_FactHandle_descriptor,
         new java.lang.String[] { "Type", "Id", "Recency", "Timestamp", "Duration", "IsExpired", "ActivationsCount", "StrategyIndex", "Object", "EntryPoint", "IsJustified", "OtnCount", });
     internal_static_org_drools_serialization_protobuf_Activation_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_org_drools_serialization_protobuf_Activation_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_Activation_descriptor,
         new java.lang.String[] { "Tuple", "Salience", "PackageName", "RuleName", "ActivationGroup", "IsActivated", "HandleId", "LogicalDependency", "Evaluated", });
     internal_static_org_drools_serialization_protobuf_Tuple_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_org_drools_serialization_protobuf_Tuple_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_Tuple_descriptor,
         new java.lang.String[] { "HandleId", "Object", });
     internal_static_org_drools_serialization_protobuf_SerializedObject_descriptor =
-      getDescriptor().getMessageTypes().get(14);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_org_drools_serialization_protobuf_SerializedObject_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_SerializedObject_descriptor,
         new java.lang.String[] { "StrategyIndex", "Object", });
     internal_static_org_drools_serialization_protobuf_TruthMaintenanceSystem_descriptor =
-      getDescriptor().getMessageTypes().get(15);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_org_drools_serialization_protobuf_TruthMaintenanceSystem_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_TruthMaintenanceSystem_descriptor,
         new java.lang.String[] { "Key", "OBSOLETEJustification", });
     internal_static_org_drools_serialization_protobuf_ObjectTypeConfiguration_descriptor =
-      getDescriptor().getMessageTypes().get(16);
+      getDescriptor().getMessageTypes().get(17);
     internal_static_org_drools_serialization_protobuf_ObjectTypeConfiguration_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_ObjectTypeConfiguration_descriptor,
         new java.lang.String[] { "Type", "TmsEnabled", });
     internal_static_org_drools_serialization_protobuf_EqualityKey_descriptor =
-      getDescriptor().getMessageTypes().get(17);
+      getDescriptor().getMessageTypes().get(18);
     internal_static_org_drools_serialization_protobuf_EqualityKey_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_EqualityKey_descriptor,
         new java.lang.String[] { "Status", "HandleId", "OtherHandle", "BeliefSet", });
     internal_static_org_drools_serialization_protobuf_BeliefSet_descriptor =
-      getDescriptor().getMessageTypes().get(18);
+      getDescriptor().getMessageTypes().get(19);
     internal_static_org_drools_serialization_protobuf_BeliefSet_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_BeliefSet_descriptor,
         new java.lang.String[] { "HandleId", "LogicalDependency", });
     internal_static_org_drools_serialization_protobuf_LogicalDependency_descriptor =
-      getDescriptor().getMessageTypes().get(19);
+      getDescriptor().getMessageTypes().get(20);
     internal_static_org_drools_serialization_protobuf_LogicalDependency_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_LogicalDependency_descriptor,
         new java.lang.String[] { "Activation", "ObjectStrategyIndex", "Object", "ValueStrategyIndex", "Value", });
     internal_static_org_drools_serialization_protobuf_ActionQueue_descriptor =
-      getDescriptor().getMessageTypes().get(20);
+      getDescriptor().getMessageTypes().get(21);
     internal_static_org_drools_serialization_protobuf_ActionQueue_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_ActionQueue_descriptor,
@@ -57556,7 +61272,7 @@ public final class ProtobufMessages {
         internal_static_org_drools_serialization_protobuf_ActionQueue_SignalProcessInstance_descriptor,
         new java.lang.String[] { "Type", "Event", "ProcessInstanceId", });
     internal_static_org_drools_serialization_protobuf_Timers_descriptor =
-      getDescriptor().getMessageTypes().get(21);
+      getDescriptor().getMessageTypes().get(22);
     internal_static_org_drools_serialization_protobuf_Timers_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_Timers_descriptor,
@@ -57592,7 +61308,7 @@ public final class ProtobufMessages {
         internal_static_org_drools_serialization_protobuf_Timers_TimerNodeTimer_descriptor,
         new java.lang.String[] { "NodeId", "Tuple", "Trigger", });
     internal_static_org_drools_serialization_protobuf_Trigger_descriptor =
-      getDescriptor().getMessageTypes().get(22);
+      getDescriptor().getMessageTypes().get(23);
     internal_static_org_drools_serialization_protobuf_Trigger_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_Trigger_descriptor,
@@ -57621,6 +61337,7 @@ public final class ProtobufMessages {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_drools_serialization_protobuf_Trigger_CompositeMaxDurationTrigger_descriptor,
         new java.lang.String[] { "MaxDurationTimestamp", "TimerCurrentDate", "TimerTrigger", });
+    snapshotInfo.internalInit(descriptor.getExtensions().get(0));
   }
 
   // @@protoc_insertion_point(outer_class_scope)
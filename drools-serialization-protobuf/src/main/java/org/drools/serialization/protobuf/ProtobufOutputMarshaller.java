@@ -45,12 +45,19 @@ import org.drools.core.marshalling.MarshallerWriteContext;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.RuleAgendaItem;
 import org.drools.core.process.WorkItem;
+import org.drools.core.impl.InternalRuleBase;
+import org.drools.core.reteoo.BetaNode;
+import org.drools.core.reteoo.LeftInputAdapterNode;
+import org.drools.core.reteoo.LeftTupleSource;
+import org.drools.core.reteoo.ObjectSource;
 import org.drools.core.reteoo.TupleImpl;
 import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.core.reteoo.QueryElementNode.QueryElementNodeMemory;
+import org.drools.core.reteoo.QueryTerminalNode;
 import org.drools.core.reteoo.Sink;
 import org.drools.core.reteoo.TerminalNode;
+import org.drools.core.reteoo.TupleToObjectNode;
 import org.drools.core.rule.consequence.InternalMatch;
 import org.drools.core.time.JobContext;
 import org.drools.core.time.SelfRemovalJobContext;
@@ -90,9 +97,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * An output marshaller that uses ProtoBuf as the marshalling framework
@@ -101,6 +110,8 @@ import java.util.Map;
  */
 public class ProtobufOutputMarshaller {
 
+    public static final int STREAMING_CHUNK_SIZE = 1000;
+
     private static ProcessMarshaller processMarshaller = createProcessMarshaller();
 
     private static ProcessMarshaller createProcessMarshaller() {
@@ -112,105 +123,403 @@ public class ProtobufOutputMarshaller {
     }
 
     public static void writeSession( ProtobufMarshallerWriteContext context) throws IOException {
-        ProtobufMessages.KnowledgeSession _session = serializeSession( context );
-        PersisterHelper.writeToStreamWithHeader( context, _session );
+        writeSession( context, false );
+    }
+
+    /**
+     * Writes a delta snapshot of the session, containing only the fact handles inserted, updated or deleted
+     * since its last snapshot, as tracked by the DeltaSnapshotTracker attached to it, together with the unchanged
+     * ones sharing an object with them. In the same way only the fired matches, node memories, agenda groups and
+     * timers changed since the last snapshot are written. The rule activations, the focus stack, the truth
+     * maintenance system and the action queue are always written in full.
+     */
+    public static void writeDeltaSession( ProtobufMarshallerWriteContext context) throws IOException {
+        writeSession( context, true );
+    }
+
+    private static void writeSession( ProtobufMarshallerWriteContext context, boolean delta ) throws IOException {
+        DeltaSnapshotTracker tracker = DeltaSnapshotTracker.get( (StatefulKnowledgeSessionImpl) context.getWorkingMemory() );
+        if ( tracker == null ) {
+            if ( delta ) {
+                throw new IllegalStateException( "Cannot write a delta snapshot of a session without a DeltaSnapshotTracker attached" );
+            }
+            PersisterHelper.writeToStreamWithHeader( context, serializeSession( context, null, false ) );
+            return;
+        }
+        if ( delta && tracker.getSequence() == 0 ) {
+            throw new IllegalStateException( "Cannot write a delta snapshot before a full snapshot of the session" );
+        }
+
+        try {
+            ProtobufMessages.KnowledgeSession _session = serializeSession( context, tracker, delta );
+            PersisterHelper.writeToStreamWithHeader( context, _session );
+        } catch ( IOException | RuntimeException e ) {
+            tracker.abortCheckpoint();
+            throw e;
+        }
+        tracker.commitCheckpoint( delta );
     }
 
-    private static ProtobufMessages.KnowledgeSession serializeSession( MarshallerWriteContext context) throws IOException {
+    /**
+     * Writes the session in the streaming format: the session without its dormant matches, node memories, fact handles
+     * and timers, followed by these 4 sections. Each section is a sequence of chunks of at most STREAMING_CHUNK_SIZE
+     * elements, closed by an empty end marker. Each chunk has its own strategies' contexts and is written to the stream
+     * as soon as it is complete, so that the whole session never has to be materialized in memory, neither while
+     * writing nor while reading it. Since each chunk has its own strategies' contexts, the identity of an object shared
+     * by facts in different chunks is not preserved. As in the default format, the dormant matches, the fact handles
+     * and the timers are sorted before being written, so both formats restore the same session: only the references
+     * to these elements are held in memory while sorting, not their serialized form.
+     */
+    public static void writeSessionStreaming( ProtobufMarshallerWriteContext context ) throws IOException {
         StatefulKnowledgeSessionImpl wm = (StatefulKnowledgeSessionImpl) context.getWorkingMemory();
+        if ( DeltaSnapshotTracker.get( wm ) != null ) {
+            throw new IllegalStateException( "The streaming format doesn't support the delta snapshots of a session with a DeltaSnapshotTracker attached" );
+        }
 
+        lockSession( wm );
         try {
-            wm.getLock().lock();
-            for (EntryPoint ep : wm.getEntryPoints()) {
-                if (ep instanceof NamedEntryPoint) {
-                    ((NamedEntryPoint)ep).lock();
-                }
+            ProtobufMessages.KnowledgeSession _session = buildSession( context, null, false, true );
+            PersisterHelper.writeDelimitedToStreamWithHeader( context, _session );
+
+            writeDormantMatchChunks( context );
+            writeNodeMemoryChunks( context );
+            writeFactHandleChunks( context );
+            writeTimerChunks( context );
+        } finally {
+            unlockSession( wm );
+        }
+    }
+
+    private static void writeDormantMatchChunks( ProtobufMarshallerWriteContext context ) throws IOException {
+        List<InternalMatch> dormant = new ArrayList<>();
+        org.drools.core.util.Iterator it = ActivationIterator.iterator( context.getWorkingMemory() );
+        for (InternalMatch item = (InternalMatch) it.next(); item != null; item = (InternalMatch) it.next() ) {
+            if ( !item.isQueued() ) {
+                dormant.add( item );
             }
+        }
+        Collections.sort( dormant, ActivationsSorter.INSTANCE );
 
-            evaluateRuleActivations( wm );
+        ProtobufMessages.Agenda.Builder _ab = ProtobufMessages.Agenda.newBuilder();
+        for ( InternalMatch internalMatch : dormant ) {
+            _ab.addMatch( writeActivation( context, internalMatch, true ) );
+            if ( _ab.getMatchCount() == STREAMING_CHUNK_SIZE ) {
+                PersisterHelper.writeChunk( context, _ab.build() );
+                _ab = ProtobufMessages.Agenda.newBuilder();
+            }
+        }
+        if ( _ab.getMatchCount() > 0 ) {
+            PersisterHelper.writeChunk( context, _ab.build() );
+        }
+        PersisterHelper.writeEndOfChunks( context );
+    }
 
-            ProtobufMessages.RuleData.Builder _ruleData = ProtobufMessages.RuleData.newBuilder();
+    private static void writeNodeMemoryChunks( ProtobufMarshallerWriteContext context ) throws IOException {
+        ProtobufMessages.RuleData.Builder _ruleData = ProtobufMessages.RuleData.newBuilder();
+        for (BaseNode baseNode : context.getSinks().values()) {
+            ProtobufMessages.NodeMemory _node = writeNodeMemory( context.getWorkingMemory(), baseNode );
+            if ( _node != null ) {
+                _ruleData.addNodeMemory( _node );
+                if ( _ruleData.getNodeMemoryCount() == STREAMING_CHUNK_SIZE ) {
+                    PersisterHelper.writeChunk( context, _ruleData.build() );
+                    _ruleData = ProtobufMessages.RuleData.newBuilder();
+                }
+            }
+        }
+        if ( _ruleData.getNodeMemoryCount() > 0 ) {
+            PersisterHelper.writeChunk( context, _ruleData.build() );
+        }
+        PersisterHelper.writeEndOfChunks( context );
+    }
 
-            long time = 0;
-            if ( context.getWorkingMemory().getTimerService() instanceof PseudoClockScheduler ) {
-                time = context.getClockTime();
+    private static void writeFactHandleChunks( ProtobufMarshallerWriteContext context ) throws IOException {
+        ObjectMarshallingStrategyStore objectMarshallingStrategyStore = context.getObjectMarshallingStrategyStore();
+
+        for ( EntryPoint wmep : context.getWorkingMemory().getEntryPoints() ) {
+            ProtobufMessages.EntryPoint.Builder _epb = ProtobufMessages.EntryPoint.newBuilder().setEntryPointId( wmep.getEntryPointId() );
+            for ( InternalFactHandle handle : orderFacts( ((NamedEntryPoint) wmep).getObjectStore() ) ) {
+                _epb.addHandle( writeFactHandle( context, objectMarshallingStrategyStore, handle ) );
+                if ( _epb.getHandleCount() == STREAMING_CHUNK_SIZE ) {
+                    PersisterHelper.writeChunk( context, _epb.build() );
+                    _epb = ProtobufMessages.EntryPoint.newBuilder().setEntryPointId( wmep.getEntryPointId() );
+                }
             }
-            _ruleData.setLastId( wm.getFactHandleFactory().getId() );
-            _ruleData.setLastRecency( wm.getFactHandleFactory().getRecency() );
+            if ( _epb.getHandleCount() > 0 ) {
+                PersisterHelper.writeChunk( context, _epb.build() );
+            }
+        }
+        PersisterHelper.writeEndOfChunks( context );
+    }
 
-            InternalFactHandle handle = context.getWorkingMemory().getInitialFactHandle();
-            if ( handle != null ) {
-                // can be null for RETE, if fireAllRules has not yet been called
-                ProtobufMessages.FactHandle _ifh = ProtobufMessages.FactHandle.newBuilder()
-                        .setType( ProtobufMessages.FactHandle.HandleType.INITIAL_FACT )
-                        .setId( handle.getId() )
-                        .setRecency( handle.getRecency() )
-                        .build();
-                _ruleData.setInitialFact( _ifh );
+    private static void writeTimerChunks( ProtobufMarshallerWriteContext context ) throws IOException {
+        ProtobufMessages.Timers.Builder _timers = ProtobufMessages.Timers.newBuilder();
+        for ( TimerJobInstance timer : orderTimers( context.getWorkingMemory().getTimerJobInstances( context.getWorkingMemory().getIdentifier() ) ) ) {
+            Timer _timer = writeTimer( timer, context );
+            if ( _timer != null ) {
+                _timers.addTimer( _timer );
+                if ( _timers.getTimerCount() == STREAMING_CHUNK_SIZE ) {
+                    PersisterHelper.writeChunk( context, _timers.build() );
+                    _timers = ProtobufMessages.Timers.newBuilder();
+                }
             }
+        }
+        if ( _timers.getTimerCount() > 0 ) {
+            PersisterHelper.writeChunk( context, _timers.build() );
+        }
+        PersisterHelper.writeEndOfChunks( context );
+    }
 
-            writeAgenda( context, _ruleData );
+    /**
+     * Writes only what is needed to run the queries of the session: the fact handles whose type can reach the network
+     * of a query, together with the object type configurations of their entry points. The agenda, the node memories,
+     * the truth maintenance system, the action queue, the process data and the timers are not written and the
+     * justified facts are written as stated ones, so the session read from it returns the same query results, but its
+     * rules must not be fired.
+     */
+    public static void writeQuerySession( ProtobufMarshallerWriteContext context ) throws IOException {
+        StatefulKnowledgeSessionImpl wm = (StatefulKnowledgeSessionImpl) context.getWorkingMemory();
+        Set<ObjectTypeNode> queriedTypes = findQueriedObjectTypeNodes( wm.getKnowledgeBase() );
+        ObjectMarshallingStrategyStore objectMarshallingStrategyStore = context.getObjectMarshallingStrategyStore();
 
-            writeNodeMemories( context, _ruleData );
+        lockSession( wm );
+        try {
+            ProtobufMessages.RuleData.Builder _ruleData = ProtobufMessages.RuleData.newBuilder();
+            _ruleData.setLastId( wm.getFactHandleFactory().getId() );
+            _ruleData.setLastRecency( wm.getFactHandleFactory().getRecency() );
+            writeInitialFact( context, _ruleData );
 
             for ( EntryPoint wmep : wm.getEntryPoints() ) {
+                ObjectTypeConfigurationRegistry otcr = ((WorkingMemoryEntryPoint) wmep).getObjectTypeConfigurationRegistry();
                 ProtobufMessages.EntryPoint.Builder _epb = ProtobufMessages.EntryPoint.newBuilder();
                 _epb.setEntryPointId( wmep.getEntryPointId() );
 
-                writeObjectTypeConfiguration( ((WorkingMemoryEntryPoint)wmep).getObjectTypeConfigurationRegistry(), _epb );
-
-                writeFactHandles( context,
-                                  _epb,
-                                  ((NamedEntryPoint) wmep).getObjectStore() );
+                writeObjectTypeConfiguration( otcr, _epb );
 
-                writeTruthMaintenanceSystem( context,
-                                             wmep,
-                                             _epb );
+                for ( InternalFactHandle handle : orderFacts( ((NamedEntryPoint) wmep).getObjectStore() ) ) {
+                    if ( isQueried( otcr, handle, queriedTypes ) ) {
+                        _epb.addHandle( writeFactHandle( context, objectMarshallingStrategyStore, handle ).toBuilder()
+                                                .setIsJustified( false )
+                                                .build() );
+                    }
+                }
 
                 _ruleData.addEntryPoint( _epb.build() );
             }
 
-            writeActionQueue( context,
-                              _ruleData );
-
-            ProtobufMessages.KnowledgeSession.Builder _session = ProtobufMessages.KnowledgeSession.newBuilder()
+            long time = 0;
+            if ( wm.getTimerService() instanceof PseudoClockScheduler ) {
+                time = context.getClockTime();
+            }
+            ProtobufMessages.KnowledgeSession _session = ProtobufMessages.KnowledgeSession.newBuilder()
                     .setMultithread( false )
                     .setTime( time )
-                    .setRuleData( _ruleData.build() );
+                    .setRuleData( _ruleData.build() )
+                    .build();
+            PersisterHelper.writeToStreamWithHeader( context, _session );
+        } finally {
+            unlockSession( wm );
+        }
+    }
 
-            if ( processMarshaller != null ) {
-                ProtobufMessages.ProcessData.Builder _pdata = ProtobufMessages.ProcessData.newBuilder();
-                if ( context.isMarshalProcessInstances() ) {
-                    context.setParameterObject( _pdata );
-                    processMarshaller.writeProcessInstances( context );
-                }
+    private static boolean isQueried( ObjectTypeConfigurationRegistry otcr,
+                                      InternalFactHandle handle,
+                                      Set<ObjectTypeNode> queriedTypes ) {
+        ObjectTypeConf conf = handle.getObject() != null ? otcr.getObjectTypeConf( handle.getObject() ) : null;
+        if ( conf == null ) {
+            // the type of the fact is unknown, so it is conservatively kept
+            return true;
+        }
+        for ( ObjectTypeNode otn : conf.getObjectTypeNodes() ) {
+            if ( queriedTypes.contains( otn ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-                if ( context.isMarshalWorkItems() ) {
-                    context.setParameterObject( _pdata );
-                    processMarshaller.writeWorkItems( context );
+    /**
+     * Returns the object type nodes feeding the network of any query, including the ones of the subnetworks and of
+     * the right inputs of its beta nodes
+     */
+    private static Set<ObjectTypeNode> findQueriedObjectTypeNodes( InternalRuleBase kbase ) {
+        Set<ObjectTypeNode> otns = new HashSet<>();
+        Set<Integer> visited = new HashSet<>();
+        for ( TerminalNode[] terminalNodes : kbase.getReteooBuilder().getTerminalNodes().values() ) {
+            for ( TerminalNode terminalNode : terminalNodes ) {
+                if ( terminalNode instanceof QueryTerminalNode ) {
+                    collectObjectTypeNodes( terminalNode.getLeftTupleSource(), otns, visited );
                 }
+            }
+        }
+        return otns;
+    }
 
-                // this now just assigns the writer, it will not write out any timer information
-                context.setParameterObject( _pdata );
-                processMarshaller.writeProcessTimers( context );
+    private static void collectObjectTypeNodes( LeftTupleSource lts, Set<ObjectTypeNode> otns, Set<Integer> visited ) {
+        for ( ; lts != null && visited.add( lts.getId() ); lts = lts.getLeftTupleSource() ) {
+            if ( lts instanceof LeftInputAdapterNode ) {
+                collectObjectTypeNodes( ((LeftInputAdapterNode) lts).getObjectSource(), otns, visited );
+            } else if ( lts instanceof BetaNode ) {
+                collectObjectTypeNodes( ((BetaNode) lts).getRightInput().getParent(), otns, visited );
+            }
+        }
+    }
 
-                _session.setProcessData( _pdata.build() );
+    private static void collectObjectTypeNodes( ObjectSource source, Set<ObjectTypeNode> otns, Set<Integer> visited ) {
+        if ( source instanceof TupleToObjectNode ) {
+            collectObjectTypeNodes( ((TupleToObjectNode) source).getLeftTupleSource(), otns, visited );
+        } else if ( source != null && source.getObjectTypeNode() != null ) {
+            otns.add( source.getObjectTypeNode() );
+        }
+    }
+
+    private static void lockSession( StatefulKnowledgeSessionImpl wm ) {
+        wm.getLock().lock();
+        for (EntryPoint ep : wm.getEntryPoints()) {
+            if (ep instanceof NamedEntryPoint) {
+                ((NamedEntryPoint)ep).lock();
             }
+        }
+    }
 
-            ProtobufMessages.Timers _timers = writeTimers( context.getWorkingMemory().getTimerJobInstances( context.getWorkingMemory().getIdentifier() ),
-                                          context );
-            if ( _timers != null ) {
-                _session.setTimers( _timers );
+    private static void unlockSession( StatefulKnowledgeSessionImpl wm ) {
+        for (EntryPoint ep : wm.getEntryPoints()) {
+            if (ep instanceof NamedEntryPoint) {
+                ((NamedEntryPoint)ep).unlock();
             }
+        }
+        wm.getLock().unlock();
+    }
+
+    private static ProtobufMessages.KnowledgeSession serializeSession( MarshallerWriteContext context,
+                                                                       DeltaSnapshotTracker tracker,
+                                                                       boolean delta ) throws IOException {
+        StatefulKnowledgeSessionImpl wm = (StatefulKnowledgeSessionImpl) context.getWorkingMemory();
 
-            return _session.build();
+        lockSession( wm );
+        try {
+            return buildSession( context, tracker, delta, false );
         } finally {
-            for (EntryPoint ep : wm.getEntryPoints()) {
-                if (ep instanceof NamedEntryPoint) {
-                    ((NamedEntryPoint)ep).unlock();
-                }
+            unlockSession( wm );
+        }
+    }
+
+    private static ProtobufMessages.KnowledgeSession buildSession( MarshallerWriteContext context,
+                                                                  DeltaSnapshotTracker tracker,
+                                                                  boolean delta,
+                                                                  boolean streaming ) throws IOException {
+        StatefulKnowledgeSessionImpl wm = (StatefulKnowledgeSessionImpl) context.getWorkingMemory();
+
+        // the changes are taken while holding the locks, so that they are consistent with the written state
+        DeltaSnapshotTracker.Changes changes = tracker != null ? tracker.beginCheckpoint() : null;
+
+        evaluateRuleActivations( wm );
+
+        ProtobufMessages.RuleData.Builder _ruleData = ProtobufMessages.RuleData.newBuilder();
+
+        long time = 0;
+        if ( context.getWorkingMemory().getTimerService() instanceof PseudoClockScheduler ) {
+            time = context.getClockTime();
+        }
+        _ruleData.setLastId( wm.getFactHandleFactory().getId() );
+        _ruleData.setLastRecency( wm.getFactHandleFactory().getRecency() );
+
+        writeInitialFact( context, _ruleData );
+
+        // in the streaming format the dormant matches, the node memories, the fact handles and the timers are written afterwards
+        writeAgenda( context, _ruleData, tracker, delta, !streaming );
+
+        if ( !streaming ) {
+            writeNodeMemories( context, _ruleData, tracker, delta );
+        }
+
+        if ( delta ) {
+            tracker.addSharingHandles( changes, allFactHandles( wm ) );
+        }
+
+        for ( EntryPoint wmep : wm.getEntryPoints() ) {
+            ProtobufMessages.EntryPoint.Builder _epb = ProtobufMessages.EntryPoint.newBuilder();
+            _epb.setEntryPointId( wmep.getEntryPointId() );
+
+            writeObjectTypeConfiguration( ((WorkingMemoryEntryPoint)wmep).getObjectTypeConfigurationRegistry(), _epb );
+
+            if ( delta ) {
+                writeFactHandles( context,
+                                  _epb,
+                                  changes.getDirtyHandles( wmep.getEntryPointId() ) );
+            } else if ( !streaming ) {
+                writeFactHandles( context,
+                                  _epb,
+                                  ((NamedEntryPoint) wmep).getObjectStore() );
             }
-            wm.getLock().unlock();
+
+            writeTruthMaintenanceSystem( context,
+                                         wmep,
+                                         _epb );
+
+            _ruleData.addEntryPoint( _epb.build() );
+        }
+
+        writeActionQueue( context,
+                          _ruleData );
+
+        ProtobufMessages.KnowledgeSession.Builder _session = ProtobufMessages.KnowledgeSession.newBuilder()
+                .setMultithread( false )
+                .setTime( time )
+                .setRuleData( _ruleData.build() );
+
+        if ( processMarshaller != null ) {
+            ProtobufMessages.ProcessData.Builder _pdata = ProtobufMessages.ProcessData.newBuilder();
+            if ( context.isMarshalProcessInstances() ) {
+                context.setParameterObject( _pdata );
+                processMarshaller.writeProcessInstances( context );
+            }
+
+            if ( context.isMarshalWorkItems() ) {
+                context.setParameterObject( _pdata );
+                processMarshaller.writeWorkItems( context );
+            }
+
+            // this now just assigns the writer, it will not write out any timer information
+            context.setParameterObject( _pdata );
+            processMarshaller.writeProcessTimers( context );
+
+            _session.setProcessData( _pdata.build() );
+        }
+
+        ProtobufMessages.Timers _timers = streaming ? null : writeTimers( context.getWorkingMemory().getTimerJobInstances( context.getWorkingMemory().getIdentifier() ),
+                                                                          context,
+                                                                          tracker,
+                                                                          delta );
+        if ( _timers != null ) {
+            _session.setTimers( _timers );
+        }
+
+        if ( tracker != null ) {
+            long sequence = tracker.getSequence();
+            SnapshotInfo info = delta ?
+                    new SnapshotInfo( sequence + 1, sequence, changes.getDeletedHandles(),
+                                      tracker.getDormantMatches().getRemoved(),
+                                      tracker.getNodeMemories().getRemoved(),
+                                      tracker.getAgendaGroups().getRemoved(),
+                                      tracker.getTimers().getRemoved() ) :
+                    new SnapshotInfo( sequence + 1 );
+            return info.writeTo( _session.build() );
+        }
+
+        return _session.build();
+    }
+
+    private static void writeInitialFact( MarshallerWriteContext context,
+                                          ProtobufMessages.RuleData.Builder _ruleData ) {
+        InternalFactHandle handle = context.getWorkingMemory().getInitialFactHandle();
+        if ( handle != null ) {
+            // can be null for RETE, if fireAllRules has not yet been called
+            ProtobufMessages.FactHandle _ifh = ProtobufMessages.FactHandle.newBuilder()
+                    .setType( ProtobufMessages.FactHandle.HandleType.INITIAL_FACT )
+                    .setId( handle.getId() )
+                    .setRecency( handle.getRecency() )
+                    .build();
+            _ruleData.setInitialFact( _ifh );
         }
     }
 
@@ -255,7 +564,10 @@ public class ProtobufOutputMarshaller {
     }
 
     private static void writeAgenda( MarshallerWriteContext context,
-                                     ProtobufMessages.RuleData.Builder _ksb) throws IOException {
+                                                                  ProtobufMessages.RuleData.Builder _ksb,
+                                                                  DeltaSnapshotTracker tracker,
+                                                                  boolean delta,
+                                                                  boolean withDormantMatches ) throws IOException {
         InternalWorkingMemory wm = context.getWorkingMemory();
         InternalAgenda agenda = wm.getAgenda();
 
@@ -286,7 +598,10 @@ public class ProtobufOutputMarshaller {
                 _agb.addNodeInstance( _nib.build() );
             }
 
-            _ab.addAgendaGroup( _agb.build() );
+            ProtobufMessages.Agenda.AgendaGroup _agendaGroup = _agb.build();
+            if ( tracker == null || tracker.getAgendaGroups().record( _agendaGroup, delta ) ) {
+                _ab.addAgendaGroup( _agendaGroup );
+            }
 
         }
 
@@ -297,17 +612,23 @@ public class ProtobufOutputMarshaller {
         _ab.setFocusStack( _fsb.build() );
 
         // serialize all dormant activations
-        org.drools.core.util.Iterator it = ActivationIterator.iterator( wm );
         List<InternalMatch> dormant = new ArrayList<>();
-        for (InternalMatch item = (InternalMatch) it.next(); item != null; item = (InternalMatch) it.next() ) {
-            if ( !item.isQueued() ) {
-                dormant.add( item );
+        if ( withDormantMatches ) {
+            org.drools.core.util.Iterator it = ActivationIterator.iterator( wm );
+            for (InternalMatch item = (InternalMatch) it.next(); item != null; item = (InternalMatch) it.next() ) {
+                if ( !item.isQueued() ) {
+                    dormant.add( item );
+                }
             }
         }
 
         Collections.sort( dormant, ActivationsSorter.INSTANCE );
         for ( InternalMatch internalMatch : dormant ) {
-            _ab.addMatch( writeActivation(context, internalMatch, true));
+            ProtobufMessages.Activation _match = writeActivation(context, internalMatch, true);
+            // the matches carrying their objects depend on the strategies' contexts of the snapshot, so they're always written
+            if ( tracker == null || !DeltaSnapshotTracker.isContextFree( _match ) || tracker.getDormantMatches().record( _match, delta ) ) {
+                _ab.addMatch( _match );
+            }
         }
 
         // serialize all network evaluator activations
@@ -320,27 +641,41 @@ public class ProtobufOutputMarshaller {
     }
 
     private static void writeNodeMemories( MarshallerWriteContext context,
-                                           ProtobufMessages.RuleData.Builder _ksb) throws IOException {
-        InternalWorkingMemory wm = context.getWorkingMemory();
-        NodeMemories memories = wm.getNodeMemories();
+                                           ProtobufMessages.RuleData.Builder _ksb,
+                                           DeltaSnapshotTracker tracker,
+                                           boolean delta ) throws IOException {
+        for (BaseNode baseNode : context.getSinks().values()) {
+            ProtobufMessages.NodeMemory _node = writeNodeMemory( context.getWorkingMemory(), baseNode );
+            if ( _node != null && ( tracker == null || tracker.getNodeMemories().record( _node, delta ) ) ) {
+                _ksb.addNodeMemory( _node );
+            }
+        }
+    }
+
+    private static Iterable<InternalFactHandle> allFactHandles( InternalWorkingMemory wm ) {
+        List<InternalFactHandle> handles = new ArrayList<>();
+        for ( EntryPoint wmep : wm.getEntryPoints() ) {
+            for ( Iterator<InternalFactHandle> it = ((NamedEntryPoint) wmep).getObjectStore().iterateFactHandles(); it.hasNext(); ) {
+                handles.add( it.next() );
+            }
+        }
+        return handles;
+    }
+
+    private static ProtobufMessages.NodeMemory writeNodeMemory( InternalWorkingMemory wm,
+                                                                BaseNode baseNode ) {
         // only some of the node memories require special serialization handling
         // so we iterate over all of them and process only those that require it
-        for (BaseNode baseNode : context.getSinks().values()) {
-            Memory memory = memories.peekNodeMemory( baseNode );
-            if ( memory != null ) {
-                ProtobufMessages.NodeMemory _node = null;
-                switch ( memory.getNodeType() ) {
-                    case NodeTypeEnums.QueryElementNode: {
-                        _node = writeQueryElementNodeMemory( baseNode.getId(), memory, wm );
-                        break;
-                    }
-                }
-                if ( _node != null ) {
-                    // not all node memories require serialization
-                    _ksb.addNodeMemory( _node );
+        Memory memory = wm.getNodeMemories().peekNodeMemory( baseNode );
+        if ( memory != null ) {
+            switch ( memory.getNodeType() ) {
+                case NodeTypeEnums.QueryElementNode: {
+                    return writeQueryElementNodeMemory( baseNode.getId(), memory, wm );
                 }
             }
         }
+        // not all node memories require serialization
+        return null;
     }
 
     private static ByteString serializeObject( MarshallerWriteContext context, ObjectMarshallingStrategy strategy, Object object) {
@@ -548,6 +883,17 @@ public class ProtobufOutputMarshaller {
         }
     }
 
+    private static void writeFactHandles( MarshallerWriteContext context,
+                                          ProtobufMessages.EntryPoint.Builder _epb,
+                                          Collection<InternalFactHandle> handles) throws IOException {
+        ObjectMarshallingStrategyStore objectMarshallingStrategyStore = context.getObjectMarshallingStrategyStore();
+
+        for ( InternalFactHandle handle : orderFacts( new ArrayList<>( handles ) ) ) {
+            ProtobufMessages.FactHandle _handle = writeFactHandle( context, objectMarshallingStrategyStore, handle );
+            _epb.addHandle( _handle );
+        }
+    }
+
     private static ProtobufMessages.FactHandle writeFactHandle( MarshallerWriteContext context,
                                                                 ObjectMarshallingStrategyStore objectMarshallingStrategyStore,
                                                                 InternalFactHandle handle) throws IOException {
@@ -741,30 +1087,15 @@ public class ProtobufOutputMarshaller {
     }
 
     private static ProtobufMessages.Timers writeTimers(Collection<TimerJobInstance> timers,
-                                                       MarshallerWriteContext outCtx) {
+                                                       MarshallerWriteContext outCtx,
+                                                       DeltaSnapshotTracker tracker,
+                                                       boolean delta) {
         if ( !timers.isEmpty() ) {
-            List<TimerJobInstance> sortedTimers = new ArrayList<>( timers );
-            Collections.sort( sortedTimers,
-                              new Comparator<TimerJobInstance>() {
-                                  public int compare(TimerJobInstance o1,
-                                                     TimerJobInstance o2) {
-                                      return (int) (o1.getJobHandle().getId() - o2.getJobHandle().getId());
-                                  }
-                              } );
-
             ProtobufMessages.Timers.Builder _timers = ProtobufMessages.Timers.newBuilder();
-            for ( TimerJobInstance timer : sortedTimers ) {
-                JobContext jctx = timer.getJobContext();
-                if ( jctx instanceof SelfRemovalJobContext ) {
-                    jctx = ((SelfRemovalJobContext) jctx).getJobContext();
-                }
-                if (jctx instanceof ObjectTypeNode.ExpireJobContext &&
-                    !((ObjectTypeNode.ExpireJobContext) jctx).getExpireAction().getFactHandle().isValid()) {                    
-                    continue;
-                }
-                TimersOutputMarshaller writer = ( TimersOutputMarshaller ) outCtx.getWriterForClass( jctx.getClass() );
-                Timer _timer = writer.serialize( jctx, outCtx );
-                if ( _timer != null ) {
+            for ( TimerJobInstance timer : orderTimers( timers ) ) {
+                Timer _timer = writeTimer( timer, outCtx );
+                // as for the matches, the timers carrying objects are always written
+                if ( _timer != null && ( tracker == null || !DeltaSnapshotTracker.isContextFree( _timer ) || tracker.getTimers().record( _timer, delta ) ) ) {
                     _timers.addTimer( _timer );
                 }
             }
@@ -773,6 +1104,32 @@ public class ProtobufOutputMarshaller {
         return null;
     }
 
+    private static List<TimerJobInstance> orderTimers(Collection<TimerJobInstance> timers) {
+        List<TimerJobInstance> sortedTimers = new ArrayList<>( timers );
+        Collections.sort( sortedTimers,
+                          new Comparator<TimerJobInstance>() {
+                              public int compare(TimerJobInstance o1,
+                                                 TimerJobInstance o2) {
+                                  return (int) (o1.getJobHandle().getId() - o2.getJobHandle().getId());
+                              }
+                          } );
+        return sortedTimers;
+    }
+
+    private static Timer writeTimer(TimerJobInstance timer,
+                                    MarshallerWriteContext outCtx) {
+        JobContext jctx = timer.getJobContext();
+        if ( jctx instanceof SelfRemovalJobContext ) {
+            jctx = ((SelfRemovalJobContext) jctx).getJobContext();
+        }
+        if (jctx instanceof ObjectTypeNode.ExpireJobContext &&
+            !((ObjectTypeNode.ExpireJobContext) jctx).getExpireAction().getFactHandle().isValid()) {
+            return null;
+        }
+        TimersOutputMarshaller writer = ( TimersOutputMarshaller ) outCtx.getWriterForClass( jctx.getClass() );
+        return writer.serialize( jctx, outCtx );
+    }
+
     public static ProtobufMessages.Trigger writeTrigger(Trigger trigger, MarshallerWriteContext outCtx) {
         if ( trigger instanceof CronTrigger ) {
             CronTrigger cronTrigger = (CronTrigger) trigger;
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.serialization.protobuf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.ExecutableEntry;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.serialization.protobuf.marshalling.MarshallingConfigurationImpl;
+import org.kie.api.KieServices;
+import org.kie.api.marshalling.ObjectMarshallingStrategy;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.runtime.conf.KeepReferenceOption;
+import org.kie.api.runtime.conf.QueryListenerOption;
+import org.kie.api.runtime.rule.QueryResults;
+
+/**
+ * A point-in-time image of a KieSession against which queries can be run by many threads at the same time,
+ * without blocking and without being blocked by the live session, that meanwhile can keep inserting facts and firing rules.
+ * <p>
+ * The image is taken at a safe point of the live session: immediately when the session isn't firing, otherwise by the
+ * firing thread between two propagations, in the same way as the other tasks submitted to a thread safe session.
+ * The image only contains the facts whose type can reach the network of a query, as written by
+ * {@link ProtobufOutputMarshaller#writeQuerySession(ProtobufMarshallerWriteContext)}: the agenda, the node memories,
+ * the truth maintenance system and the timers, which don't affect the results of the queries, are left out.
+ * Queries are then executed against read replicas unmarshalled from that image: the replicas are pooled and a new one
+ * is created only when all the existing ones are in use, up to the given maximum number of replicas, by default the
+ * number of available processors. Since each replica holds a whole copy of the queried facts, once that maximum is
+ * reached a query waits for another one to release its replica instead of creating a new one.
+ * The replicas never fire their rules and run on a pseudo clock stopped at the time of the snapshot.
+ * <p>
+ * Taking a snapshot is not free: while the image is written the live session doesn't fire and doesn't accept inserts,
+ * for a time proportional to the number and to the marshalled size of the queried facts, and the first query of each
+ * replica pays for reinserting all of them in its network. Snapshots are meant to be taken periodically and shared by
+ * many queries, not taken for each query; QuerySnapshotBenchmark in drools-benchmarks measures both costs.
+ * <p>
+ * The objects returned by the queries are the copies of the facts held by the replicas, not the facts of the live
+ * session, so all the queried facts have to be marshallable with the given strategies. A snapshot must not be taken
+ * from the consequence of a rule of the same session, because it would wait for the end of the firing it is part of.
+ */
+public class QuerySnapshot {
+
+    private static final long FLUSH_RETRY_MILLIS = 100;
+
+    private final ProtobufMarshaller marshaller;
+    private final byte[] image;
+
+    private final Queue<KieSession> replicas = new ConcurrentLinkedQueue<>();
+    private final Semaphore availableReplicas;
+    private final AtomicInteger createdReplicas = new AtomicInteger();
+
+    private volatile boolean disposed = false;
+
+    private QuerySnapshot(ProtobufMarshaller marshaller, byte[] image, int maxReplicas) {
+        this.marshaller = marshaller;
+        this.image = image;
+        this.availableReplicas = new Semaphore( maxReplicas );
+    }
+
+    public static QuerySnapshot take(KieSession ksession) {
+        return take( ksession, null );
+    }
+
+    public static QuerySnapshot take(KieSession ksession, ObjectMarshallingStrategy[] strategies) {
+        return take( ksession, strategies, Runtime.getRuntime().availableProcessors() );
+    }
+
+    public static QuerySnapshot take(KieSession ksession, ObjectMarshallingStrategy[] strategies, int maxReplicas) {
+        if ( maxReplicas < 1 ) {
+            throw new IllegalArgumentException( "The maximum number of replicas of a query snapshot must be positive, but was " + maxReplicas );
+        }
+        ProtobufMarshaller marshaller = new ProtobufMarshaller( ksession.getKieBase(), new MarshallingConfigurationImpl( strategies, true, true ) );
+        return new QuerySnapshot( marshaller, new SnapshotTask( marshaller, (InternalWorkingMemory) ksession ).run(), maxReplicas );
+    }
+
+    /**
+     * Runs the given query against the state of the session at the time of the snapshot. This method is thread safe
+     * and the returned results aren't affected by any later query. When the maximum number of replicas are all in use,
+     * it waits for one of them to be released.
+     */
+    public QueryResults getQueryResults(String query, Object... arguments) {
+        if ( disposed ) {
+            throw new IllegalStateException( "Cannot run a query on a disposed QuerySnapshot" );
+        }
+        KieSession replica = acquireReplica();
+        try {
+            return replica.getQueryResults( query, arguments );
+        } finally {
+            release( replica );
+        }
+    }
+
+    /**
+     * Returns the size in bytes of the marshalled image of the queried facts of the session
+     */
+    public int getSize() {
+        return image.length;
+    }
+
+    /**
+     * Disposes the pooled replicas: the results of the queries already executed remain readable.
+     */
+    public void dispose() {
+        disposed = true;
+        disposeReplicas();
+    }
+
+    int getCreatedReplicas() {
+        return createdReplicas.get();
+    }
+
+    private KieSession acquireReplica() {
+        try {
+            availableReplicas.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException( "Interrupted while waiting for a replica of the query snapshot", e );
+        }
+        if ( disposed ) {
+            availableReplicas.release();
+            throw new IllegalStateException( "Cannot run a query on a disposed QuerySnapshot" );
+        }
+        KieSession replica = replicas.poll();
+        if ( replica == null ) {
+            try {
+                replica = newReplica();
+            } catch (RuntimeException e) {
+                availableReplicas.release();
+                throw e;
+            }
+        }
+        return replica;
+    }
+
+    private KieSession newReplica() {
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption( ClockTypeOption.PSEUDO );
+        conf.setOption( KeepReferenceOption.NO );
+        conf.setOption( QueryListenerOption.STANDARD );
+        try {
+            KieSession replica = marshaller.unmarshall( new ByteArrayInputStream( image ), conf, null );
+            createdReplicas.incrementAndGet();
+            return replica;
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeException( "Unable to create a replica of the session for the query snapshot", e );
+        }
+    }
+
+    private void release(KieSession replica) {
+        replicas.offer( replica );
+        availableReplicas.release();
+        // a replica released after a concurrent dispose must be disposed as well
+        if ( disposed ) {
+            disposeReplicas();
+        }
+    }
+
+    private void disposeReplicas() {
+        for (KieSession replica = replicas.poll(); replica != null; replica = replicas.poll()) {
+            replica.dispose();
+        }
+    }
+
+    private static class SnapshotTask implements ExecutableEntry {
+
+        private final ProtobufMarshaller marshaller;
+        private final InternalWorkingMemory wm;
+
+        private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+
+        private SnapshotTask(ProtobufMarshaller marshaller, InternalWorkingMemory wm) {
+            this.marshaller = marshaller;
+            this.wm = wm;
+        }
+
+        private byte[] run() {
+            if ( !wm.isThreadSafe() ) {
+                execute();
+                return getImage();
+            }
+
+            wm.getAgenda().executeTask( this );
+            while (true) {
+                try {
+                    return result.get( FLUSH_RETRY_MILLIS, TimeUnit.MILLISECONDS );
+                } catch (TimeoutException e) {
+                    // the firing may have ended right after the task has been enqueued: in this case it has to be flushed here
+                    wm.getAgenda().executeFlush();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException( "Interrupted while taking a query snapshot", e );
+                } catch (ExecutionException e) {
+                    throw new RuntimeException( "Unable to take a query snapshot", e.getCause() );
+                }
+            }
+        }
+
+        private byte[] getImage() {
+            try {
+                return result.get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new RuntimeException( "Unable to take a query snapshot", e );
+            }
+        }
+
+        @Override
+        public void execute() {
+            wm.flushPropagations();
+            marshallImage();
+        }
+
+        @Override
+        public void enqueue() {
+            wm.addPropagation( new PropagationEntry.AbstractPropagationEntry() {
+                @Override
+                public void internalExecute( ReteEvaluator reteEvaluator ) {
+                    marshallImage();
+                }
+            } );
+        }
+
+        private void marshallImage() {
+            try {
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                marshaller.marshallQueryImage( baos, wm, wm.getSessionClock().getCurrentTime() );
+                result.complete( baos.toByteArray() );
+            } catch (Throwable t) {
+                result.completeExceptionally( t );
+            }
+        }
+    }
+}
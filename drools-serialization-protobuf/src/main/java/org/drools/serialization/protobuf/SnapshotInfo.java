@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.serialization.protobuf;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The snapshot_info extension of the KnowledgeSession message, see droolsmessages.proto.
+ *
+ * Being an extension, the sessions written with it can still be read by the plain marshaller,
+ * that simply ignores it.
+ */
+public class SnapshotInfo {
+
+    public static final long NO_PARENT = -1L;
+
+    private final long sequence;
+    private final long parentSequence;
+    private final Map<String, List<Long>> deleted;
+    private final List<ProtobufMessages.Activation> removedMatches;
+    private final List<ProtobufMessages.NodeMemory> removedNodeMemories;
+    private final List<ProtobufMessages.Agenda.AgendaGroup> removedAgendaGroups;
+    private final List<ProtobufMessages.Timers.Timer> removedTimers;
+
+    public SnapshotInfo(long sequence) {
+        this(sequence, NO_PARENT, new LinkedHashMap<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    public SnapshotInfo(long sequence, long parentSequence, Map<String, List<Long>> deleted,
+                        List<ProtobufMessages.Activation> removedMatches,
+                        List<ProtobufMessages.NodeMemory> removedNodeMemories,
+                        List<ProtobufMessages.Agenda.AgendaGroup> removedAgendaGroups,
+                        List<ProtobufMessages.Timers.Timer> removedTimers) {
+        this.sequence = sequence;
+        this.parentSequence = parentSequence;
+        this.deleted = deleted;
+        this.removedMatches = removedMatches;
+        this.removedNodeMemories = removedNodeMemories;
+        this.removedAgendaGroups = removedAgendaGroups;
+        this.removedTimers = removedTimers;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getParentSequence() {
+        return parentSequence;
+    }
+
+    public boolean isDelta() {
+        return parentSequence != NO_PARENT;
+    }
+
+    public Map<String, List<Long>> getDeleted() {
+        return deleted;
+    }
+
+    public Collection<Long> getDeleted(String entryPointId) {
+        List<Long> ids = deleted.get(entryPointId);
+        return ids != null ? ids : new ArrayList<>();
+    }
+
+    /**
+     * The fired matches written by a previous snapshot that don't exist anymore.
+     */
+    public List<ProtobufMessages.Activation> getRemovedMatches() {
+        return removedMatches;
+    }
+
+    /**
+     * The node memories written by a previous snapshot whose node doesn't have a memory to be written anymore.
+     */
+    public List<ProtobufMessages.NodeMemory> getRemovedNodeMemories() {
+        return removedNodeMemories;
+    }
+
+    /**
+     * The agenda groups written by a previous snapshot that don't exist anymore.
+     */
+    public List<ProtobufMessages.Agenda.AgendaGroup> getRemovedAgendaGroups() {
+        return removedAgendaGroups;
+    }
+
+    /**
+     * The timers written by a previous snapshot that don't exist anymore.
+     */
+    public List<ProtobufMessages.Timers.Timer> getRemovedTimers() {
+        return removedTimers;
+    }
+
+    public ProtobufMessages.KnowledgeSession writeTo(ProtobufMessages.KnowledgeSession _session) {
+        return _session.toBuilder().setExtension( ProtobufMessages.snapshotInfo, toProtobuf() ).build();
+    }
+
+    /**
+     * Returns the SnapshotInfo stored in the given session message or null if it has been written without it.
+     * The session has to be parsed with a registry containing the ProtobufMessages extensions.
+     */
+    public static SnapshotInfo readFrom(ProtobufMessages.KnowledgeSession _session) {
+        return _session.hasExtension( ProtobufMessages.snapshotInfo ) ?
+                fromProtobuf( _session.getExtension( ProtobufMessages.snapshotInfo ) ) :
+                null;
+    }
+
+    /**
+     * Returns the given session message without its SnapshotInfo.
+     */
+    public static ProtobufMessages.KnowledgeSession removeFrom(ProtobufMessages.KnowledgeSession _session) {
+        if (!_session.hasExtension( ProtobufMessages.snapshotInfo )) {
+            return _session;
+        }
+        return _session.toBuilder().clearExtension( ProtobufMessages.snapshotInfo ).build();
+    }
+
+    ProtobufMessages.SnapshotInfo toProtobuf() {
+        ProtobufMessages.SnapshotInfo.Builder _info = ProtobufMessages.SnapshotInfo.newBuilder()
+                .setSequence( sequence );
+        if (isDelta()) {
+            _info.setParentSequence( parentSequence );
+        }
+        for (Map.Entry<String, List<Long>> entry : deleted.entrySet()) {
+            _info.addDeleted( ProtobufMessages.SnapshotInfo.DeletedHandles.newBuilder()
+                                      .setEntryPointId( entry.getKey() )
+                                      .addAllHandleId( entry.getValue() ) );
+        }
+        return _info.addAllRemovedMatch( removedMatches )
+                .addAllRemovedNodeMemory( removedNodeMemories )
+                .addAllRemovedAgendaGroup( removedAgendaGroups )
+                .addAllRemovedTimer( removedTimers )
+                .build();
+    }
+
+    static SnapshotInfo fromProtobuf(ProtobufMessages.SnapshotInfo _info) {
+        Map<String, List<Long>> deleted = new LinkedHashMap<>();
+        for (ProtobufMessages.SnapshotInfo.DeletedHandles _deleted : _info.getDeletedList()) {
+            deleted.computeIfAbsent( _deleted.getEntryPointId(), k -> new ArrayList<>() ).addAll( _deleted.getHandleIdList() );
+        }
+        return new SnapshotInfo( _info.getSequence(),
+                                 _info.hasParentSequence() ? _info.getParentSequence() : NO_PARENT,
+                                 deleted,
+                                 new ArrayList<>( _info.getRemovedMatchList() ),
+                                 new ArrayList<>( _info.getRemovedNodeMemoryList() ),
+                                 new ArrayList<>( _info.getRemovedAgendaGroupList() ),
+                                 new ArrayList<>( _info.getRemovedTimerList() ) );
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.serialization.protobuf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.google.protobuf.ByteString;
+import org.kie.api.marshalling.ObjectMarshallingStrategy;
+import org.kie.api.runtime.Environment;
+
+/**
+ * Merges a full snapshot and the chain of delta snapshots written after it into a single full snapshot,
+ * that can then be read as any other marshalled session.
+ *
+ * The fact handles, fired matches, node memories, agenda groups and timers are overlaid in the order of the chain,
+ * removing the ones that the deltas list as deleted, while everything else, like the truth maintenance system,
+ * is taken from the last snapshot. The fact handles coming from the previous snapshots are unmarshalled with the
+ * strategies' contexts of the snapshot that wrote them and marshalled again with the ones of the last snapshot.
+ * Since a delta snapshot always rewrites all the facts sharing an object with the ones it contains, see
+ * DeltaSnapshotTracker, the facts sharing an object always come from the same snapshot and their shared objects
+ * are restored as a single instance.
+ */
+class SnapshotMerger {
+
+    private final ProtobufMarshaller marshaller;
+    private final Environment environment;
+
+    SnapshotMerger(ProtobufMarshaller marshaller, Environment environment) {
+        this.marshaller = marshaller;
+        this.environment = environment;
+    }
+
+    byte[] merge(byte[] base, List<byte[]> deltas) throws IOException, ClassNotFoundException {
+        if (deltas.isEmpty()) {
+            return base;
+        }
+
+        List<ParsedSnapshot> snapshots = new ArrayList<>();
+        try {
+            snapshots.add(parse(base));
+            for (byte[] delta : deltas) {
+                snapshots.add(parse(delta));
+            }
+            checkChain(snapshots);
+            return write(snapshots);
+        } finally {
+            for (ParsedSnapshot snapshot : snapshots) {
+                snapshot.context.close();
+            }
+        }
+    }
+
+    private ParsedSnapshot parse(byte[] bytes) throws IOException, ClassNotFoundException {
+        ProtobufMarshallerReaderContext context = marshaller.getMarshallerReaderContext(new ByteArrayInputStream(bytes), environment);
+        ProtobufMessages.KnowledgeSession _session = ProtobufInputMarshaller.loadAndParseSession(context);
+        return new ParsedSnapshot(context, _session, SnapshotInfo.readFrom(_session));
+    }
+
+    private static void checkChain(List<ParsedSnapshot> snapshots) {
+        SnapshotInfo previous = snapshots.get(0).info;
+        if (previous == null || previous.isDelta()) {
+            throw new IllegalArgumentException("The base of a chain of delta snapshots must be a full snapshot written with a DeltaSnapshotTracker attached to the session");
+        }
+        for (int i = 1; i < snapshots.size(); i++) {
+            SnapshotInfo info = snapshots.get(i).info;
+            if (info == null || !info.isDelta()) {
+                throw new IllegalArgumentException("Snapshot " + i + " of the chain is not a delta snapshot");
+            }
+            if (info.getParentSequence() != previous.getSequence()) {
+                throw new IllegalArgumentException("Delta snapshot " + info.getSequence() + " has to be applied on snapshot " +
+                                                   info.getParentSequence() + " but follows snapshot " + previous.getSequence());
+            }
+            previous = info;
+        }
+    }
+
+    private byte[] write(List<ParsedSnapshot> snapshots) throws IOException, ClassNotFoundException {
+        Map<String, Map<Long, SourcedHandle>> handles = mergeHandles(snapshots);
+
+        ParsedSnapshot last = snapshots.get(snapshots.size() - 1);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ProtobufMarshallerWriteContext context = marshaller.getMarshallerWriteContext(baos, environment);
+
+        // reuse the strategies, with their contexts, of the last snapshot, so that its payload stays valid
+        for (Map.Entry<Integer, ObjectMarshallingStrategy> entry : last.context.getUsedStrategies().entrySet()) {
+            context.getUsedStrategies().put(entry.getValue(), entry.getKey());
+            context.getStrategyContext().put(entry.getValue(), last.context.getStrategyContexts().get(entry.getValue()));
+        }
+
+        ProtobufMessages.RuleData.Builder _ruleData = last.session.getRuleData().toBuilder()
+                .clearEntryPoint()
+                .clearNodeMemory()
+                .addAllNodeMemory(merge(snapshots,
+                                        snapshot -> snapshot.session.getRuleData().getNodeMemoryList(),
+                                        SnapshotInfo::getRemovedNodeMemories,
+                                        ProtobufMessages.NodeMemory::getNodeId,
+                                        _node -> true,
+                                        new LinkedHashMap<>()));
+        _ruleData.setAgenda(last.session.getRuleData().getAgenda().toBuilder()
+                                   .clearMatch()
+                                   .addAllMatch(merge(snapshots,
+                                                      snapshot -> snapshot.session.getRuleData().getAgenda().getMatchList(),
+                                                      SnapshotInfo::getRemovedMatches,
+                                                      Function.identity(),
+                                                      DeltaSnapshotTracker::isContextFree,
+                                                      new LinkedHashMap<>()))
+                                   .clearAgendaGroup()
+                                   // a TreeMap keeps the agenda groups sorted by name, as they are in a full snapshot
+                                   .addAllAgendaGroup(merge(snapshots,
+                                                            snapshot -> snapshot.session.getRuleData().getAgenda().getAgendaGroupList(),
+                                                            SnapshotInfo::getRemovedAgendaGroups,
+                                                            ProtobufMessages.Agenda.AgendaGroup::getName,
+                                                            _group -> true,
+                                                            new TreeMap<>()))
+                                   .build());
+        for (ProtobufMessages.EntryPoint _ep : last.session.getRuleData().getEntryPointList()) {
+            ProtobufMessages.EntryPoint.Builder _epb = _ep.toBuilder().clearHandle();
+            Map<Long, SourcedHandle> epHandles = handles.get(_ep.getEntryPointId());
+            if (epHandles != null) {
+                for (SourcedHandle handle : epHandles.values()) {
+                    _epb.addHandle(handle.source == last ? handle.handle : remarshal(handle, context));
+                }
+            }
+            _ruleData.addEntryPoint(_epb.build());
+        }
+
+        ProtobufMessages.KnowledgeSession.Builder _sessionBuilder = SnapshotInfo.removeFrom(last.session).toBuilder()
+                .setRuleData(_ruleData.build())
+                .clearTimers();
+        Collection<ProtobufMessages.Timers.Timer> timers = merge(snapshots,
+                                                                 snapshot -> snapshot.session.getTimers().getTimerList(),
+                                                                 SnapshotInfo::getRemovedTimers,
+                                                                 Function.identity(),
+                                                                 DeltaSnapshotTracker::isContextFree,
+                                                                 new LinkedHashMap<>());
+        if (!timers.isEmpty()) {
+            _sessionBuilder.setTimers(ProtobufMessages.Timers.newBuilder().addAllTimer(timers));
+        }
+        ProtobufMessages.KnowledgeSession _session = _sessionBuilder.build();
+        _session = new SnapshotInfo(last.info.getSequence()).writeTo(_session);
+
+        PersisterHelper.writeToStreamWithHeader(context, _session);
+        context.close();
+        return baos.toByteArray();
+    }
+
+    private static Map<String, Map<Long, SourcedHandle>> mergeHandles(List<ParsedSnapshot> snapshots) {
+        Map<String, Map<Long, SourcedHandle>> handles = new HashMap<>();
+        for (ParsedSnapshot snapshot : snapshots) {
+            for (ProtobufMessages.EntryPoint _ep : snapshot.session.getRuleData().getEntryPointList()) {
+                // a TreeMap keeps the handles ordered by id, as they are in a full snapshot
+                Map<Long, SourcedHandle> epHandles = handles.computeIfAbsent(_ep.getEntryPointId(), k -> new TreeMap<>(Comparator.naturalOrder()));
+                if (snapshot.info.isDelta()) {
+                    snapshot.info.getDeleted(_ep.getEntryPointId()).forEach(epHandles::remove);
+                }
+                for (ProtobufMessages.FactHandle _handle : _ep.getHandleList()) {
+                    epHandles.put(_handle.getId(), new SourcedHandle(_handle, snapshot));
+                }
+            }
+        }
+        return handles;
+    }
+
+    /**
+     * Overlays the messages of a section of the snapshots, removing the ones listed as removed by each delta.
+     * The messages carrying objects are always written in full, so only the ones of the last snapshot are valid.
+     */
+    private static <K, M> Collection<M> merge(List<ParsedSnapshot> snapshots,
+                                              Function<ParsedSnapshot, List<M>> written,
+                                              Function<SnapshotInfo, List<M>> removed,
+                                              Function<M, K> key,
+                                              Predicate<M> contextFree,
+                                              Map<K, M> merged) {
+        ParsedSnapshot last = snapshots.get(snapshots.size() - 1);
+        for (ParsedSnapshot snapshot : snapshots) {
+            if (snapshot.info.isDelta()) {
+                removed.apply(snapshot.info).forEach(message -> merged.remove(key.apply(message)));
+            }
+            for (M message : written.apply(snapshot)) {
+                if (snapshot == last || contextFree.test(message)) {
+                    merged.put(key.apply(message), message);
+                }
+            }
+        }
+        return merged.values();
+    }
+
+    private static ProtobufMessages.FactHandle remarshal(SourcedHandle sourced, ProtobufMarshallerWriteContext context) throws IOException, ClassNotFoundException {
+        ProtobufMessages.FactHandle _handle = sourced.handle;
+        if (!_handle.hasStrategyIndex()) {
+            return _handle;
+        }
+
+        ProtobufMarshallerReaderContext source = sourced.source.context;
+        ObjectMarshallingStrategy strategy = source.getUsedStrategies().get(_handle.getStrategyIndex());
+        Object object = strategy.unmarshal(source.getStrategyContexts().get(strategy),
+                                           source,
+                                           _handle.getObject().toByteArray(),
+                                           source.getKnowledgeBase() == null ? null : source.getKnowledgeBase().getRootClassLoader());
+
+        Integer index = context.getStrategyIndex(strategy);
+        return _handle.toBuilder()
+                .setStrategyIndex(index)
+                .setObject(ByteString.copyFrom(strategy.marshal(context.getStrategyContext().get(strategy), context, object)))
+                .build();
+    }
+
+    private static class ParsedSnapshot {
+
+        private final ProtobufMarshallerReaderContext context;
+        private final ProtobufMessages.KnowledgeSession session;
+        private final SnapshotInfo info;
+
+        private ParsedSnapshot(ProtobufMarshallerReaderContext context, ProtobufMessages.KnowledgeSession session, SnapshotInfo info) {
+            this.context = context;
+            this.session = session;
+            this.info = info;
+        }
+    }
+
+    private static class SourcedHandle {
+
+        private final ProtobufMessages.FactHandle handle;
+        private final ParsedSnapshot source;
+
+        private SourcedHandle(ProtobufMessages.FactHandle handle, ParsedSnapshot source) {
+            this.handle = handle;
+            this.source = source;
+        }
+    }
+}
@@ -18,11 +18,40 @@
  */
 package org.drools.serialization.protobuf.marshalling;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
 import org.kie.api.marshalling.Marshaller;
+import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.internal.runtime.StatefulKnowledgeSession;
 
 public interface InternalMarshaller extends Marshaller {
 
     KieSessionInitializer getInitializer();
 
     void setInitializer( KieSessionInitializer initializer );
+
+    /**
+     * Writes only the fact handles changed since the last snapshot of a session having a DeltaSnapshotTracker attached.
+     */
+    default void marshallDelta( OutputStream stream, KieSession ksession ) throws IOException {
+        throw new UnsupportedOperationException( "Delta snapshots are not supported by " + getClass().getName() );
+    }
+
+    /**
+     * Creates a session from a full snapshot and the chain of delta snapshots written after it.
+     */
+    default StatefulKnowledgeSession unmarshall( byte[] base, List<byte[]> deltas, KieSessionConfiguration config, Environment environment ) throws IOException, ClassNotFoundException {
+        throw new UnsupportedOperationException( "Delta snapshots are not supported by " + getClass().getName() );
+    }
+
+    /**
+     * Reads a full snapshot and the chain of delta snapshots written after it into an existing session.
+     */
+    default void unmarshall( byte[] base, List<byte[]> deltas, KieSession ksession ) throws IOException, ClassNotFoundException {
+        throw new UnsupportedOperationException( "Delta snapshots are not supported by " + getClass().getName() );
+    }
 }
@@ -28,6 +28,7 @@ public class MarshallingConfigurationImpl
     private ObjectMarshallingStrategyStore objectMarshallingStrategyStore;
     private boolean                            marshallProcessInstances;
     private boolean                            marshallWorkItems;
+    private boolean                            streaming;
 
     public MarshallingConfigurationImpl() {
         this( null,
@@ -61,6 +62,26 @@ public class MarshallingConfigurationImpl
         this.marshallWorkItems = marshallWorkItems;
     }
 
+    /**
+     * Whether the sessions are written and read with the streaming format, that doesn't materialize
+     * the whole session in memory. A session written with the streaming format can only be read
+     * with a marshaller configured to use it as well.
+     */
+    public boolean isStreaming() {
+        return this.streaming;
+    }
+
+    /**
+     * Enables the streaming format, see {@link #isStreaming()}.
+     * <p>
+     * <b>Warning:</b> the facts are written in chunks, each one with its own strategies' contexts, so an object
+     * referenced by facts in different chunks is restored as a distinct copy for each chunk, breaking the identity
+     * that the default format preserves. Don't enable it for sessions whose facts share mutable objects.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public ObjectMarshallingStrategyStore getObjectMarshallingStrategyStore() {
         return this.objectMarshallingStrategyStore;
     }
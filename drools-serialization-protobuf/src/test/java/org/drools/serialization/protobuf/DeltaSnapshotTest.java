@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.serialization.protobuf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.drools.mvel.compiler.Address;
+import org.drools.mvel.compiler.Person;
+import org.drools.serialization.protobuf.marshalling.InternalMarshaller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.api.time.SessionPseudoClock;
+import org.kie.internal.marshalling.MarshallerFactory;
+import org.kie.internal.utils.KieHelper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DeltaSnapshotTest {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + "\n" +
+            "global java.util.List list\n" +
+            "rule R when\n" +
+            "    $p : Person( age > 30 )\n" +
+            "then\n" +
+            "    list.add( $p.getName() );\n" +
+            "end\n";
+
+    private KieBase kbase;
+    private InternalMarshaller marshaller;
+
+    @BeforeEach
+    public void setUp() {
+        kbase = new KieHelper().addContent(DRL, ResourceType.DRL).build();
+        marshaller = (InternalMarshaller) MarshallerFactory.newMarshaller(kbase);
+    }
+
+    @Test
+    public void testRestoreFromDeltas() throws Exception {
+        KieSession ksession = newSession();
+        DeltaSnapshotTracker.attach(ksession);
+
+        List<FactHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            handles.add(ksession.insert(new Person("P" + i, i)));
+        }
+        ksession.fireAllRules();
+        byte[] base = marshall(ksession);
+
+        ksession.insert(new Person("new", 50));
+        ksession.delete(handles.get(40));
+        Person p10 = (Person) ksession.getObject(handles.get(10));
+        p10.setAge(60);
+        ksession.update(handles.get(10), p10);
+        byte[] delta1 = marshallDelta(ksession);
+
+        ksession.fireAllRules();
+        ksession.delete(handles.get(10));
+        ksession.delete(handles.get(35));
+        ksession.insert(new Person("other", 70));
+        byte[] delta2 = marshallDelta(ksession);
+
+        assertThat(delta2.length).isLessThan(base.length);
+
+        KieSession restored = marshaller.unmarshall(base, Arrays.asList(delta1, delta2), null, null);
+        try {
+            assertThat(facts(restored)).isEqualTo(facts(ksession));
+
+            // the matches not fired yet are restored as well
+            List<String> expected = new ArrayList<>();
+            ksession.setGlobal("list", expected);
+            ksession.fireAllRules();
+
+            List<String> fired = new ArrayList<>();
+            restored.setGlobal("list", fired);
+            restored.fireAllRules();
+
+            assertThat(fired).containsExactlyInAnyOrderElementsOf(expected).containsExactly("other");
+        } finally {
+            restored.dispose();
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testDeltaContainsOnlyChangedHandles() throws Exception {
+        KieSession ksession = newSession();
+        DeltaSnapshotTracker tracker = DeltaSnapshotTracker.attach(ksession);
+
+        for (int i = 0; i < 1000; i++) {
+            ksession.insert(new Person("P" + i, i));
+        }
+        ksession.fireAllRules();
+        byte[] base = marshall(ksession);
+        assertThat(tracker.getSequence()).isEqualTo(1);
+        assertThat(tracker.hasChanges()).isFalse();
+
+        FactHandle fh = ksession.insert(new Person("new", 10));
+        ksession.delete(fh);
+        ksession.insert(new Person("last", 20));
+        assertThat(tracker.getDirtyHandlesCount()).isEqualTo(1);
+        assertThat(tracker.getDeletedHandlesCount()).isEqualTo(1);
+
+        byte[] delta = marshallDelta(ksession);
+        assertThat(tracker.getSequence()).isEqualTo(2);
+        assertThat(tracker.hasChanges()).isFalse();
+        assertThat(delta.length * 10).isLessThan(base.length);
+
+        KieSession restored = marshaller.unmarshall(base, Collections.singletonList(delta), null, null);
+        try {
+            assertThat(facts(restored)).isEqualTo(facts(ksession));
+        } finally {
+            restored.dispose();
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testRestoredSessionContinuesTheChain() throws Exception {
+        KieSession ksession = newSession();
+        DeltaSnapshotTracker.attach(ksession);
+        ksession.insert(new Person("A", 40));
+        byte[] base = marshall(ksession);
+        ksession.insert(new Person("B", 45));
+        byte[] delta1 = marshallDelta(ksession);
+        ksession.dispose();
+
+        KieSession restored = marshaller.unmarshall(base, Collections.singletonList(delta1), null, null);
+        assertThat(DeltaSnapshotTracker.get(restored).getSequence()).isEqualTo(2);
+        restored.insert(new Person("C", 50));
+        byte[] delta2 = marshallDelta(restored);
+        restored.dispose();
+
+        KieSession restoredAgain = marshaller.unmarshall(base, Arrays.asList(delta1, delta2), null, null);
+        try {
+            assertThat(facts(restoredAgain)).containsExactly("A:40", "B:45", "C:50");
+        } finally {
+            restoredAgain.dispose();
+        }
+    }
+
+    @Test
+    public void testDeltaContainsOnlyChangedTimersAndAgendaGroups() throws Exception {
+        String drl =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "declare Person @role( event ) @expires( 1h ) end\n" +
+                "rule R when\n" +
+                "    Person( age > 1000 )\n" +
+                "then\n" +
+                "end\n";
+        KieBase eventsKBase = new KieHelper().addContent(drl, ResourceType.DRL).build(EventProcessingOption.STREAM);
+        marshaller = (InternalMarshaller) MarshallerFactory.newMarshaller(eventsKBase);
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(ClockTypeOption.PSEUDO);
+
+        KieSession ksession = eventsKBase.newKieSession(conf, null);
+        DeltaSnapshotTracker.attach(ksession);
+        List<FactHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            handles.add(ksession.insert(new Person("P" + i, i)));
+        }
+        ksession.fireAllRules();
+        byte[] base = marshall(ksession);
+        assertThat(parse(base).getTimers().getTimerCount()).isEqualTo(100);
+        assertThat(parse(base).getRuleData().getAgenda().getAgendaGroupCount()).isPositive();
+
+        ksession.delete(handles.get(0));
+        ksession.insert(new Person("new", 10));
+        ksession.fireAllRules();
+        byte[] delta = marshallDelta(ksession);
+
+        ProtobufMessages.KnowledgeSession _delta = parse(delta);
+        assertThat(_delta.getTimers().getTimerCount()).isEqualTo(1);
+        assertThat(_delta.getRuleData().getAgenda().getAgendaGroupCount()).isZero();
+        assertThat(SnapshotInfo.readFrom(_delta).getRemovedTimers()).hasSize(1);
+
+        KieSession restored = marshaller.unmarshall(base, Collections.singletonList(delta), conf, null);
+        try {
+            assertThat(facts(restored)).isEqualTo(facts(ksession));
+
+            // all the expiration timers have been restored
+            SessionPseudoClock clock = restored.getSessionClock();
+            clock.advanceTime(2, TimeUnit.HOURS);
+            restored.fireAllRules();
+            assertThat(restored.getFactCount()).isZero();
+        } finally {
+            restored.dispose();
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testSharedObjectsKeepTheirIdentity() throws Exception {
+        KieSession ksession = newSession();
+        DeltaSnapshotTracker.attach(ksession);
+
+        Address address = new Address("Main Street");
+        FactHandle addressHandle = ksession.insert(address);
+        Person mario = new Person("Mario", 40);
+        mario.setAddress(address);
+        FactHandle marioHandle = ksession.insert(mario);
+        for (int i = 0; i < 10; i++) {
+            ksession.insert(new Person("P" + i, i));
+        }
+        byte[] base = marshall(ksession);
+
+        // only the address changes, but the delta has to rewrite the person sharing it as well
+        address.setStreet("Second Street");
+        ksession.update(addressHandle, address);
+        byte[] delta1 = marshallDelta(ksession);
+
+        // and the other way around
+        mario.setAge(41);
+        ksession.update(marioHandle, mario);
+        byte[] delta2 = marshallDelta(ksession);
+        assertThat(parse(delta2).getRuleData().getEntryPoint(0).getHandleCount()).isEqualTo(2);
+
+        assertSharedAddress(marshaller.unmarshall(base, Collections.singletonList(delta1), null, null), 40);
+        assertSharedAddress(marshaller.unmarshall(base, Arrays.asList(delta1, delta2), null, null), 41);
+        ksession.dispose();
+    }
+
+    private static void assertSharedAddress(KieSession restored, int age) {
+        try {
+            Address restoredAddress = (Address) restored.getObjects(Address.class::isInstance).iterator().next();
+            Person restoredMario = (Person) restored.getObjects(o -> o instanceof Person && ((Person) o).getName().equals("Mario")).iterator().next();
+            assertThat(restoredMario.getAge()).isEqualTo(age);
+            assertThat(restoredAddress.getStreet()).isEqualTo("Second Street");
+            assertThat(restoredMario.getAddress()).isSameAs(restoredAddress);
+        } finally {
+            restored.dispose();
+        }
+    }
+
+    @Test
+    public void testInvalidChain() throws Exception {
+        KieSession ksession = newSession();
+        assertThatThrownBy(() -> marshallDelta(ksession)).isInstanceOf(IllegalStateException.class);
+
+        DeltaSnapshotTracker.attach(ksession);
+        assertThatThrownBy(() -> marshallDelta(ksession)).isInstanceOf(IllegalStateException.class);
+
+        ksession.insert(new Person("A", 40));
+        byte[] base = marshall(ksession);
+        ksession.insert(new Person("B", 45));
+        byte[] delta1 = marshallDelta(ksession);
+        ksession.insert(new Person("C", 50));
+        byte[] delta2 = marshallDelta(ksession);
+        ksession.dispose();
+
+        assertThatThrownBy(() -> marshaller.unmarshall(base, Collections.singletonList(delta2), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> marshaller.unmarshall(delta1, Collections.singletonList(delta2), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private KieSession newSession() {
+        KieSession ksession = kbase.newKieSession();
+        ksession.setGlobal("list", new ArrayList<>());
+        return ksession;
+    }
+
+    private byte[] marshall(KieSession ksession) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshall(baos, ksession);
+        return baos.toByteArray();
+    }
+
+    private byte[] marshallDelta(KieSession ksession) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshallDelta(baos, ksession);
+        return baos.toByteArray();
+    }
+
+    private ProtobufMessages.KnowledgeSession parse(byte[] snapshot) throws Exception {
+        ProtobufMarshallerReaderContext context = ((ProtobufMarshaller) marshaller).getMarshallerReaderContext(new ByteArrayInputStream(snapshot), KieServices.get().newEnvironment());
+        try {
+            return ProtobufInputMarshaller.loadAndParseSession(context);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static List<String> facts(KieSession ksession) {
+        return ksession.getObjects(Person.class::isInstance).stream()
+                .map(Person.class::cast)
+                .map(p -> p.getName() + ":" + p.getAge())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
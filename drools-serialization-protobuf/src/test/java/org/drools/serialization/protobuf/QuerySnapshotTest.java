@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.serialization.protobuf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.mvel.compiler.Cheese;
+import org.drools.mvel.compiler.Person;
+import org.junit.jupiter.api.Test;
+import org.kie.api.KieBase;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.QueryResults;
+import org.kie.api.runtime.rule.QueryResultsRow;
+import org.kie.internal.utils.KieHelper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class QuerySnapshotTest {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + "\n" +
+            "global java.util.List list\n" +
+            "query olderThan( int $age )\n" +
+            "    $p : Person( age > $age )\n" +
+            "end\n" +
+            "rule R when\n" +
+            "    $p : Person( age > 30 )\n" +
+            "then\n" +
+            "    list.add( $p.getName() );\n" +
+            "end\n";
+
+    @Test
+    public void testSnapshotIsNotAffectedByTheLiveSession() {
+        KieBase kbase = new KieHelper().addContent(DRL, ResourceType.DRL).build();
+        KieSession ksession = kbase.newKieSession();
+        List<String> list = new ArrayList<>();
+        ksession.setGlobal("list", list);
+
+        ksession.insert(new Person("Mario", 40));
+        ksession.insert(new Person("Sofia", 10));
+        ksession.fireAllRules();
+
+        QuerySnapshot snapshot = QuerySnapshot.take(ksession);
+        try {
+            ksession.insert(new Person("Luca", 50));
+            ksession.fireAllRules();
+            assertThat(list).containsExactlyInAnyOrder("Mario", "Luca");
+            assertThat(ksession.getQueryResults("olderThan", 5)).hasSize(3);
+
+            assertThat(names(snapshot.getQueryResults("olderThan", 5))).containsExactlyInAnyOrder("Mario", "Sofia");
+            assertThat(names(snapshot.getQueryResults("olderThan", 30))).containsExactly("Mario");
+        } finally {
+            snapshot.dispose();
+            ksession.dispose();
+        }
+
+        assertThatThrownBy(() -> snapshot.getQueryResults("olderThan", 5)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testSnapshotTakenWhileFiring() {
+        KieBase kbase = new KieHelper().addContent(DRL, ResourceType.DRL).build();
+        KieSession ksession = kbase.newKieSession();
+        ksession.setGlobal("list", new ArrayList<>());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            executor.submit((Runnable) ksession::fireUntilHalt);
+            for (int i = 0; i < 100; i++) {
+                ksession.insert(new Person("P" + i, i));
+            }
+
+            QuerySnapshot snapshot = QuerySnapshot.take(ksession);
+            int snapshotSize = names(snapshot.getQueryResults("olderThan", -1)).size();
+            assertThat(snapshotSize).isEqualTo(100);
+
+            // the live session keeps changing while many readers query the same snapshot
+            List<Future<Integer>> readers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                readers.add(executor.submit((Callable<Integer>) () -> {
+                    int count = 0;
+                    for (int j = 0; j < 20; j++) {
+                        assertThat(snapshot.getQueryResults("olderThan", -1)).hasSize(100);
+                        count += snapshot.getQueryResults("olderThan", 49).size();
+                    }
+                    return count;
+                }));
+            }
+            for (int i = 100; i < 200; i++) {
+                ksession.insert(new Person("P" + i, i));
+            }
+            for (Future<Integer> reader : readers) {
+                assertThat(reader.get(30, TimeUnit.SECONDS)).isEqualTo(20 * 50);
+            }
+            snapshot.dispose();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            ksession.halt();
+            executor.shutdownNow();
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testReplicasAreCapped() throws Exception {
+        KieBase kbase = new KieHelper().addContent(DRL, ResourceType.DRL).build();
+        KieSession ksession = kbase.newKieSession();
+        ksession.setGlobal("list", new ArrayList<>());
+        for (int i = 0; i < 100; i++) {
+            ksession.insert(new Person("P" + i, i));
+        }
+
+        QuerySnapshot snapshot = QuerySnapshot.take(ksession, null, 2);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // many more concurrent readers than replicas: the exceeding ones wait for a replica to be released
+            List<Future<Integer>> readers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                readers.add(executor.submit(() -> {
+                    int count = 0;
+                    for (int j = 0; j < 20; j++) {
+                        count += snapshot.getQueryResults("olderThan", 49).size();
+                    }
+                    return count;
+                }));
+            }
+            for (Future<Integer> reader : readers) {
+                assertThat(reader.get(30, TimeUnit.SECONDS)).isEqualTo(20 * 50);
+            }
+            assertThat(snapshot.getCreatedReplicas()).isBetween(1, 2);
+
+            assertThatThrownBy(() -> QuerySnapshot.take(ksession, null, 0)).isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            executor.shutdownNow();
+            snapshot.dispose();
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testSnapshotOnlyContainsTheQueriedFacts() {
+        String drl =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "import " + Cheese.class.getCanonicalName() + "\n" +
+                "query withoutCheese\n" +
+                "    $p : Person()\n" +
+                "    not Cheese( type == $p.name )\n" +
+                "end\n" +
+                "rule R when\n" +
+                "    $p : Person( age > 30 )\n" +
+                "    String()\n" +
+                "then\n" +
+                "    insertLogical( new Cheese( $p.getName(), 1 ) );\n" +
+                "end\n";
+
+        KieBase kbase = new KieHelper().addContent(drl, ResourceType.DRL).build();
+        KieSession ksession = kbase.newKieSession();
+        try {
+            ksession.insert(new Person("Mario", 40));
+            ksession.insert(new Person("Sofia", 10));
+            ksession.insert("trigger");
+            ksession.fireAllRules();
+
+            QuerySnapshot snapshot = QuerySnapshot.take(ksession);
+            // the logically inserted Cheese reaches the query through the right input of its not node
+            assertThat(names(snapshot.getQueryResults("withoutCheese"))).containsExactly("Sofia");
+            snapshot.dispose();
+
+            // the Strings only feed a rule, so they aren't part of the image
+            for (int i = 0; i < 1000; i++) {
+                ksession.insert("irrelevant" + i);
+            }
+            ksession.fireAllRules();
+            QuerySnapshot largerSession = QuerySnapshot.take(ksession);
+            assertThat(largerSession.getSize()).isLessThan(snapshot.getSize() + 100);
+            assertThat(names(largerSession.getQueryResults("withoutCheese"))).containsExactly("Sofia");
+            largerSession.dispose();
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private static List<String> names(QueryResults results) {
+        List<String> names = new ArrayList<>();
+        for (QueryResultsRow row : results) {
+            names.add(((Person) row.get("$p")).getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.serialization.protobuf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.drools.core.impl.EnvironmentFactory;
+import org.drools.core.marshalling.ClassObjectMarshallingStrategyAcceptor;
+import org.drools.core.marshalling.SerializablePlaceholderResolverStrategy;
+import org.drools.mvel.compiler.Address;
+import org.drools.mvel.compiler.Person;
+import org.drools.serialization.protobuf.marshalling.JavaSerializableResolverStrategy;
+import org.drools.serialization.protobuf.marshalling.MarshallingConfigurationImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.io.ResourceType;
+import org.kie.api.marshalling.ObjectMarshallingStrategy;
+import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.EnvironmentName;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.time.SessionPseudoClock;
+import org.kie.internal.utils.KieHelper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StreamingMarshallingTest {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + "\n" +
+            "global java.util.List list\n" +
+            "rule R when\n" +
+            "    $p : Person( age > 30 )\n" +
+            "then\n" +
+            "    list.add( $p.getName() );\n" +
+            "end\n" +
+            "rule L when\n" +
+            "    $p : Person( age > 2490 )\n" +
+            "then\n" +
+            "    insertLogical( \"old \" + $p.getName() );\n" +
+            "end\n" +
+            "rule E when\n" +
+            "    $p : Person( age < 0 ) from entry-point \"ep\"\n" +
+            "then\n" +
+            "    list.add( $p.getName() );\n" +
+            "end\n";
+
+    public static Stream<ObjectMarshallingStrategy> parameters() {
+        return Stream.of(new JavaSerializableResolverStrategy(ClassObjectMarshallingStrategyAcceptor.DEFAULT),
+                         new SerializablePlaceholderResolverStrategy(ClassObjectMarshallingStrategyAcceptor.DEFAULT));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("parameters")
+    public void testStreamingRoundTrip(ObjectMarshallingStrategy strategy) throws Exception {
+        KieBase kbase = new KieHelper().addContent(DRL, ResourceType.DRL).build();
+        ProtobufMarshaller marshaller = newStreamingMarshaller(kbase, strategy);
+
+        KieSession ksession = newSession(kbase);
+        // enough facts to be written in more than one chunk
+        int facts = ProtobufOutputMarshaller.STREAMING_CHUNK_SIZE * 2 + 500;
+        for (int i = 0; i < facts; i++) {
+            ksession.insert(new Person("P" + i, i));
+        }
+        ksession.fireAllRules();
+        ksession.getEntryPoint("ep").insert(new Person("negative", -1));
+        ksession.insert(new Person("late", 40));
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshall(baos, ksession);
+
+        KieSession restored = marshaller.unmarshall(new ByteArrayInputStream(baos.toByteArray()), null, newEnvironment(strategy));
+        try {
+            assertThat(facts(restored)).isEqualTo(facts(ksession));
+            assertThat(restored.getEntryPoint("ep").getFactCount()).isEqualTo(1);
+
+            List<String> fired = new ArrayList<>();
+            restored.setGlobal("list", fired);
+            restored.fireAllRules();
+            assertThat(fired).containsExactlyInAnyOrder("negative", "late");
+        } finally {
+            restored.dispose();
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testStreamingIntoExistingSession() throws Exception {
+        KieBase kbase = new KieHelper().addContent(DRL, ResourceType.DRL).build();
+        ObjectMarshallingStrategy strategy = new SerializablePlaceholderResolverStrategy(ClassObjectMarshallingStrategyAcceptor.DEFAULT);
+        ProtobufMarshaller marshaller = newStreamingMarshaller(kbase, strategy);
+
+        KieSession ksession = newSession(kbase);
+        for (int i = 0; i < 1500; i++) {
+            ksession.insert(new Person("P" + i, i));
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshall(baos, ksession);
+
+        KieSession restored = newSession(kbase);
+        restored.insert(new Person("discarded", 50));
+        marshaller.unmarshall(new ByteArrayInputStream(baos.toByteArray()), restored);
+        try {
+            assertThat(facts(restored)).isEqualTo(facts(ksession));
+            assertThat(restored.fireAllRules()).isEqualTo(ksession.fireAllRules());
+        } finally {
+            restored.dispose();
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testStreamingDoesNotPreserveIdentityAcrossChunks() throws Exception {
+        KieBase kbase = new KieHelper().addContent(DRL, ResourceType.DRL).build();
+        ObjectMarshallingStrategy strategy = new SerializablePlaceholderResolverStrategy(ClassObjectMarshallingStrategyAcceptor.DEFAULT);
+
+        KieSession ksession = newSession(kbase);
+        Address shared = new Address("shared");
+        int facts = ProtobufOutputMarshaller.STREAMING_CHUNK_SIZE * 2 + 1;
+        for (int i = 0; i < facts; i++) {
+            Person person = new Person("P" + i, i);
+            person.setAddress(shared);
+            ksession.insert(person);
+        }
+
+        try {
+            // the default format restores a single Address, while the streaming one restores one copy per chunk
+            assertThat(distinctAddressesAfterRoundTrip(kbase, ksession, strategy, false)).isEqualTo(1);
+            assertThat(distinctAddressesAfterRoundTrip(kbase, ksession, strategy, true)).isEqualTo(3);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testStreamingRoundTripOfTimers() throws Exception {
+        String drl =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "global java.util.List list\n" +
+                "rule T timer (int: 10s) when\n" +
+                "    $p : Person( age < 5 )\n" +
+                "then\n" +
+                "    list.add( $p.getName() );\n" +
+                "end\n";
+        KieBase kbase = new KieHelper().addContent(drl, ResourceType.DRL).build();
+        ObjectMarshallingStrategy strategy = new SerializablePlaceholderResolverStrategy(ClassObjectMarshallingStrategyAcceptor.DEFAULT);
+        ProtobufMarshaller marshaller = newStreamingMarshaller(kbase, strategy);
+
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(ClockTypeOption.PSEUDO);
+        KieSession ksession = kbase.newKieSession(conf, null);
+        ksession.setGlobal("list", new ArrayList<>());
+        for (int i = 0; i < ProtobufOutputMarshaller.STREAMING_CHUNK_SIZE + 500; i++) {
+            ksession.insert(new Person("P" + i, i % 10));
+        }
+        ksession.fireAllRules();
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshall(baos, ksession);
+
+        KieSession restored = marshaller.unmarshall(new ByteArrayInputStream(baos.toByteArray()), conf, newEnvironment(strategy));
+        try {
+            List<String> fired = new ArrayList<>();
+            restored.setGlobal("list", fired);
+            assertThat(restored.fireAllRules()).isZero();
+
+            ((SessionPseudoClock) restored.getSessionClock()).advanceTime(10, TimeUnit.SECONDS);
+            restored.fireAllRules();
+            assertThat(fired).hasSize((ProtobufOutputMarshaller.STREAMING_CHUNK_SIZE + 500) / 2);
+        } finally {
+            restored.dispose();
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testStreamingRestoresTheSameFiringOrderAsTheDefaultFormat() throws Exception {
+        String drl =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "global java.util.List list\n" +
+                "rule R when\n" +
+                "    $p : Person( age >= 5 )\n" +
+                "then\n" +
+                "    list.add( \"R \" + $p.getName() );\n" +
+                "end\n" +
+                "rule T timer (int: 10s) when\n" +
+                "    $p : Person( age < 5 )\n" +
+                "then\n" +
+                "    list.add( \"T \" + $p.getName() );\n" +
+                "end\n";
+        KieBase kbase = new KieHelper().addContent(drl, ResourceType.DRL).build();
+        ObjectMarshallingStrategy strategy = new SerializablePlaceholderResolverStrategy(ClassObjectMarshallingStrategyAcceptor.DEFAULT);
+
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(ClockTypeOption.PSEUDO);
+        KieSession ksession = kbase.newKieSession(conf, null);
+        ksession.setGlobal("list", new ArrayList<>());
+        // the timers are scheduled by firing, while the matches of R are still pending when the session is written
+        for (int i = 0; i < ProtobufOutputMarshaller.STREAMING_CHUNK_SIZE + 500; i++) {
+            ksession.insert(new Person("P" + i, 0));
+        }
+        ksession.fireAllRules();
+        for (int i = 0; i < ProtobufOutputMarshaller.STREAMING_CHUNK_SIZE + 500; i++) {
+            ksession.insert(new Person("Q" + i, 10));
+        }
+
+        try {
+            List<String> fired = firingOrderAfterRoundTrip(kbase, ksession, conf, strategy, false);
+            assertThat(fired).hasSize((ProtobufOutputMarshaller.STREAMING_CHUNK_SIZE + 500) * 2);
+            assertThat(firingOrderAfterRoundTrip(kbase, ksession, conf, strategy, true)).isEqualTo(fired);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testStreamingDoesNotSupportDeltaSnapshots() {
+        KieBase kbase = new KieHelper().addContent(DRL, ResourceType.DRL).build();
+        ProtobufMarshaller marshaller = newStreamingMarshaller(kbase, new SerializablePlaceholderResolverStrategy(ClassObjectMarshallingStrategyAcceptor.DEFAULT));
+
+        KieSession ksession = newSession(kbase);
+        DeltaSnapshotTracker.attach(ksession);
+        try {
+            assertThatThrownBy(() -> marshaller.marshall(new ByteArrayOutputStream(), ksession)).isInstanceOf(IllegalStateException.class);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private static int distinctAddressesAfterRoundTrip(KieBase kbase, KieSession ksession, ObjectMarshallingStrategy strategy, boolean streaming) throws Exception {
+        MarshallingConfigurationImpl config = new MarshallingConfigurationImpl(new ObjectMarshallingStrategy[]{strategy}, true, true);
+        config.setStreaming(streaming);
+        ProtobufMarshaller marshaller = new ProtobufMarshaller(kbase, config);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshall(baos, ksession);
+        KieSession restored = marshaller.unmarshall(new ByteArrayInputStream(baos.toByteArray()), null, newEnvironment(strategy));
+        try {
+            Set<Address> addresses = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Object fact : restored.getObjects()) {
+                addresses.add(((Person) fact).getAddress());
+            }
+            return addresses.size();
+        } finally {
+            restored.dispose();
+        }
+    }
+
+    private static List<String> firingOrderAfterRoundTrip(KieBase kbase, KieSession ksession, KieSessionConfiguration conf,
+                                                          ObjectMarshallingStrategy strategy, boolean streaming) throws Exception {
+        MarshallingConfigurationImpl config = new MarshallingConfigurationImpl(new ObjectMarshallingStrategy[]{strategy}, true, true);
+        config.setStreaming(streaming);
+        ProtobufMarshaller marshaller = new ProtobufMarshaller(kbase, config);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshall(baos, ksession);
+        KieSession restored = marshaller.unmarshall(new ByteArrayInputStream(baos.toByteArray()), conf, newEnvironment(strategy));
+        try {
+            List<String> fired = new ArrayList<>();
+            restored.setGlobal("list", fired);
+            restored.fireAllRules();
+            ((SessionPseudoClock) restored.getSessionClock()).advanceTime(10, TimeUnit.SECONDS);
+            restored.fireAllRules();
+            return fired;
+        } finally {
+            restored.dispose();
+        }
+    }
+
+    private static ProtobufMarshaller newStreamingMarshaller(KieBase kbase, ObjectMarshallingStrategy strategy) {
+        MarshallingConfigurationImpl config = new MarshallingConfigurationImpl(new ObjectMarshallingStrategy[]{strategy}, true, true);
+        config.setStreaming(true);
+        return new ProtobufMarshaller(kbase, config);
+    }
+
+    private static Environment newEnvironment(ObjectMarshallingStrategy strategy) {
+        Environment env = EnvironmentFactory.newEnvironment();
+        env.set(EnvironmentName.OBJECT_MARSHALLING_STRATEGIES, new ObjectMarshallingStrategy[]{strategy});
+        return env;
+    }
+
+    private static KieSession newSession(KieBase kbase) {
+        KieSession ksession = kbase.newKieSession();
+        ksession.setGlobal("list", new ArrayList<>());
+        return ksession;
+    }
+
+    private static List<String> facts(KieSession ksession) {
+        return ksession.getObjects().stream()
+                .map(o -> o instanceof Person ? ((Person) o).getName() + ":" + ((Person) o).getAge() : o.toString())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
@@ -1991,6 +1991,53 @@ public class AccumulateTest {
         }
     }
 
+    @ParameterizedTest(name = "KieBase type={0}")
+	@MethodSource("parameters")
+	@Timeout(10000)
+    public void testAccumulateMinMaxWithRetractionOfBoundaries(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl = "package org.drools.compiler.test \n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List results \n " +
+                "rule minMax \n" +
+                "when \n" +
+                "    accumulate( Cheese( $p: price ), $min: min($p), $max: max($p) ) \n" +
+                "then \n" +
+                "    results.add($min); results.add($max); \n" +
+                "end \n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("accumulate-test", kieBaseTestConfiguration,
+                                                                         drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<Number> results = new ArrayList<>();
+            ksession.setGlobal("results", results);
+
+            final FactHandle min1 = ksession.insert(new Cheese("Emmentaler", 2));
+            final FactHandle min2 = ksession.insert(new Cheese("Appenzeller", 2));
+            ksession.insert(new Cheese("Greyerzer", 5));
+            final FactHandle max1 = ksession.insert(new Cheese("Brie", 9));
+            final FactHandle max2 = ksession.insert(new Cheese("Dolcelatte", 9));
+
+            ksession.fireAllRules();
+            assertThat(results).extracting(Number::intValue).containsExactly(2, 9);
+
+            // removing one of the duplicated boundaries doesn't change the result
+            results.clear();
+            ksession.delete(min1);
+            ksession.delete(max1);
+            ksession.fireAllRules();
+            assertThat(results).extracting(Number::intValue).containsExactly(2, 9);
+
+            results.clear();
+            ksession.delete(min2);
+            ksession.delete(max2);
+            ksession.fireAllRules();
+            assertThat(results).extracting(Number::intValue).containsExactly(5, 5);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
     @ParameterizedTest(name = "KieBase type={0}")
 	@MethodSource("parameters")
 	@Timeout(10000)
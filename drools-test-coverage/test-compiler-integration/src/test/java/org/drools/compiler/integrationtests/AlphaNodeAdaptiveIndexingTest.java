@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.drools.ancompiler.CompiledNetwork;
+import org.drools.core.reteoo.CompositeObjectSinkAdapter;
+import org.drools.core.reteoo.ObjectSinkPropagator;
+import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil2;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.api.KieBase;
+import org.kie.api.KieBaseConfiguration;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieModule;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.AlphaAdaptiveIndexingOption;
+import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
+import org.kie.internal.conf.AlphaThresholdOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AlphaNodeAdaptiveIndexingTest {
+
+    private static final String DRL =
+            "package org.drools.compiler.test\n" +
+            "import " + Person.class.getCanonicalName() + "\n" +
+            "global java.util.List list\n" +
+            "rule nameA\n when\n" +
+            "   Person( name == \"A\" )\n" +
+            "then\n list.add(drools.getRule().getName());\n end\n" +
+            "rule nameB\n when\n" +
+            "   Person( name == \"B\" )\n" +
+            "then\n list.add(drools.getRule().getName());\n end\n" +
+            "rule child\n when\n" +
+            "   Person( age < 18 )\n" +
+            "then\n list.add(drools.getRule().getName());\n end\n" +
+            "rule adult\n when\n" +
+            "   Person( age >= 18 )\n" +
+            "then\n list.add(drools.getRule().getName());\n end\n" +
+            "rule senior\n when\n" +
+            "   Person( age > 65 )\n" +
+            "then\n list.add(drools.getRule().getName());\n end\n" +
+            "rule likesCheese\n when\n" +
+            "   Person( likes == \"cheese\" )\n" +
+            "then\n list.add(drools.getRule().getName());\n end\n";
+
+    public static Stream<KieBaseTestConfiguration> parameters() {
+        return TestParametersUtil2.getKieBaseCloudConfigurations(true).stream();
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testAdaptiveIndexing(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final KieBase kbase = createKieBase(kieBaseTestConfiguration, 4);
+        final KieSession ksession = kbase.newKieSession();
+        final List<String> list = new ArrayList<>();
+        ksession.setGlobal("list", list);
+
+        final CompositeObjectSinkAdapter sinkAdapter = getSinkAdapter(kieBaseTestConfiguration, kbase);
+
+        // the same facts are inserted before and after the adaptive indexes are built
+        for (int i = 0; i < 2; i++) {
+            ksession.insert(new Person("A", 10));
+            ksession.insert(new Person("B", 70));
+            ksession.insert(new Person("C", 18));
+            ksession.insert(new Person("D", "cheese", 30));
+            ksession.fireAllRules();
+
+            assertThat(list).containsExactlyInAnyOrder("nameA", "child", "nameB", "adult", "senior", "adult", "adult", "likesCheese");
+            list.clear();
+        }
+
+        if (!kieBaseTestConfiguration.useAlphaNetworkCompiler()) {
+            assertThat(sinkAdapter.isAdaptivelyIndexed()).isTrue();
+        }
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testModifyAfterAdaptiveIndexing(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final KieBase kbase = createKieBase(kieBaseTestConfiguration, 2);
+        final KieSession ksession = kbase.newKieSession();
+        final List<String> list = new ArrayList<>();
+        ksession.setGlobal("list", list);
+
+        final CompositeObjectSinkAdapter sinkAdapter = getSinkAdapter(kieBaseTestConfiguration, kbase);
+
+        final Person a = new Person("A", 10);
+        final FactHandle fhA = ksession.insert(a);
+        ksession.fireAllRules();
+        assertThat(list).containsExactlyInAnyOrder("nameA", "child");
+        list.clear();
+
+        final Person b = new Person("B", 70);
+        final FactHandle fhB = ksession.insert(b);
+        ksession.fireAllRules();
+        assertThat(list).containsExactlyInAnyOrder("nameB", "adult", "senior");
+        list.clear();
+
+        if (!kieBaseTestConfiguration.useAlphaNetworkCompiler()) {
+            assertThat(sinkAdapter.isAdaptivelyIndexed()).isTrue();
+        }
+
+        // a property not constrained by the matched rules doesn't make them fire again, also for the fact inserted before the indexing
+        a.setId(1);
+        ksession.update(fhA, a, "id");
+        b.setId(2);
+        ksession.update(fhB, b, "id");
+        assertThat(ksession.fireAllRules()).isZero();
+
+        a.setAge(40);
+        ksession.update(fhA, a, "age");
+        ksession.fireAllRules();
+        assertThat(list).containsExactlyInAnyOrder("adult");
+        list.clear();
+
+        b.setName("A");
+        b.setLikes("cheese");
+        ksession.update(fhB, b, "name", "likes");
+        ksession.fireAllRules();
+        assertThat(list).containsExactlyInAnyOrder("nameA", "likesCheese");
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testAdaptiveIndexingDisabledByDefault(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("adaptive-indexing-test", kieBaseTestConfiguration, DRL);
+        final KieBase kbase = KieServices.get().newKieContainer(kieModule.getReleaseId()).newKieBase(kieBaseTestConfiguration.getKieBaseConfiguration());
+        final KieSession ksession = kbase.newKieSession();
+        ksession.setGlobal("list", new ArrayList<>());
+
+        for (int i = 0; i < 10; i++) {
+            ksession.insert(new Person("A", i * 10));
+        }
+        assertThat(ksession.fireAllRules()).isEqualTo(23);
+
+        assertThat(getSinkAdapter(kieBaseTestConfiguration, kbase).isAdaptivelyIndexed()).isFalse();
+    }
+
+    private KieBase createKieBase(KieBaseTestConfiguration kieBaseTestConfiguration, int sampleSize) {
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("adaptive-indexing-test", kieBaseTestConfiguration, DRL);
+        final KieContainer kieContainer = KieServices.get().newKieContainer(kieModule.getReleaseId());
+        final KieBaseConfiguration kieBaseConfiguration = kieBaseTestConfiguration.getKieBaseConfiguration();
+        // disable the static indexing, so that all the alpha nodes are left to the adaptive one
+        kieBaseConfiguration.setOption(AlphaThresholdOption.get(0));
+        kieBaseConfiguration.setOption(AlphaRangeIndexThresholdOption.get(0));
+        kieBaseConfiguration.setOption(AlphaAdaptiveIndexingOption.get(sampleSize));
+        return kieContainer.newKieBase(kieBaseConfiguration);
+    }
+
+    private CompositeObjectSinkAdapter getSinkAdapter(KieBaseTestConfiguration kieBaseTestConfiguration, KieBase kbase) {
+        final ObjectTypeNode otn = KieUtil.getObjectTypeNode(kbase, Person.class);
+        assertThat(otn).isNotNull();
+
+        ObjectSinkPropagator objectSinkPropagator = otn.getObjectSinkPropagator();
+        if (kieBaseTestConfiguration.useAlphaNetworkCompiler()) {
+            objectSinkPropagator = ((CompiledNetwork) objectSinkPropagator).getOriginalSinkPropagator();
+        }
+        return (CompositeObjectSinkAdapter) objectSinkPropagator;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.drools.ancompiler.CompiledNetwork;
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.reteoo.BetaMemory;
+import org.drools.core.reteoo.BetaNode;
+import org.drools.core.reteoo.ObjectSink;
+import org.drools.core.reteoo.ObjectSinkPropagator;
+import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.core.reteoo.RightInputAdapterNode;
+import org.drools.core.util.index.TupleIndexHashRBTree;
+import org.drools.core.util.index.TupleIndexHashTable;
+import org.drools.testcoverage.common.model.Cheese;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil2;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.api.KieBase;
+import org.kie.api.builder.KieModule;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.BetaCompositeRangeIndexOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BetaNodeCompositeRangeIndexTest {
+
+    public static Stream<KieBaseTestConfiguration> parameters() {
+        return TestParametersUtil2.getKieBaseCloudConfigurations(true).stream();
+    }
+
+    private KieBase getKieBase(KieBaseTestConfiguration kieBaseTestConfiguration, String drl, BetaCompositeRangeIndexOption option) {
+        KieModule kieModule = KieUtil.getKieModuleFromDrls("composite-range-index-test", kieBaseTestConfiguration, drl);
+        return KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, option);
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testCompositeRangeIndexForJoin(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                           "import " + Cheese.class.getCanonicalName() + ";\n" +
+                           "global java.util.List list;\n" +
+                           "rule R1\n" +
+                           "when\n" +
+                           "   $c : Cheese( $type : type, $price : price )\n" +
+                           "   $p : Person( likes == $type, age > $price )\n" +
+                           "then\n" +
+                           "   list.add( $p.getName() + \"-\" + $c.getType() + \"-\" + $c.getPrice() );\n" +
+                           "end\n";
+
+        final List<String> indexed = runJoinScenario(kieBaseTestConfiguration, getKieBase(kieBaseTestConfiguration, drl, BetaCompositeRangeIndexOption.ENABLED), true);
+        final List<String> notIndexed = runJoinScenario(kieBaseTestConfiguration, getKieBase(kieBaseTestConfiguration, drl, BetaCompositeRangeIndexOption.DISABLED), false);
+
+        assertThat(indexed).containsExactly("Luca-stilton-10", "Luca-stilton-30", "Mario-stilton-10",
+                                            "Mark-brie-20",
+                                            "Mario-stilton-10", "Mario-stilton-30",
+                                            "Mario-brie-20",
+                                            "Luca-brie-20");
+        assertThat(indexed).isEqualTo(notIndexed);
+    }
+
+    private List<String> runJoinScenario(KieBaseTestConfiguration kieBaseTestConfiguration, KieBase kbase, boolean compositeIndexed) {
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            final List<String> result = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            ksession.insert(new Cheese("stilton", 10));
+            final Cheese stilton30 = new Cheese("stilton", 30);
+            final FactHandle stilton30Fh = ksession.insert(stilton30);
+            final Person mario = new Person("Mario", "stilton", 20);
+            final FactHandle marioFh = ksession.insert(mario);
+            final Person luca = new Person("Luca", "stilton", 40);
+            final FactHandle lucaFh = ksession.insert(luca);
+            ksession.insert(new Person("Mark", "brie", 50));
+            ksession.insert(new Person("Edson", "brie", 5));
+            ksession.insert(new Person("Nobody", null, 50));
+            fireAllRules(ksession, list, result);
+
+            assertRightMemory(kieBaseTestConfiguration, kbase, ksession, Person.class, compositeIndexed);
+
+            ksession.insert(new Cheese("brie", 20));
+            fireAllRules(ksession, list, result);
+
+            // the modifies move Mario in the tree of its bucket and then in a different bucket
+            mario.setAge(35);
+            ksession.update(marioFh, mario);
+            fireAllRules(ksession, list, result);
+            mario.setLikes("brie");
+            ksession.update(marioFh, mario);
+            fireAllRules(ksession, list, result);
+
+            // modify of the left side
+            stilton30.setPrice(50);
+            ksession.update(stilton30Fh, stilton30);
+            assertThat(ksession.fireAllRules()).isZero();
+
+            ksession.delete(lucaFh);
+            luca.setLikes("brie");
+            ksession.insert(luca);
+            fireAllRules(ksession, list, result);
+
+            return result;
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    /**
+     * Fires the rules and appends the results to the given list, sorted to not depend on the order of the activations.
+     */
+    private static void fireAllRules(KieSession ksession, List<String> list, List<String> result) {
+        ksession.fireAllRules();
+        list.sort(null);
+        result.addAll(list);
+        list.clear();
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testCompositeRangeIndexForNot(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                           "import " + Cheese.class.getCanonicalName() + ";\n" +
+                           "global java.util.List list;\n" +
+                           "rule R1\n" +
+                           "when\n" +
+                           "   $c : Cheese( $type : type, $price : price )\n" +
+                           "   not Person( likes == $type, age <= $price )\n" +
+                           "then\n" +
+                           "   list.add( $c.getType() + \"-\" + $c.getPrice() );\n" +
+                           "end\n";
+
+        final List<String> indexed = runNotExistsScenario(kieBaseTestConfiguration, getKieBase(kieBaseTestConfiguration, drl, BetaCompositeRangeIndexOption.ENABLED), true);
+        final List<String> notIndexed = runNotExistsScenario(kieBaseTestConfiguration, getKieBase(kieBaseTestConfiguration, drl, BetaCompositeRangeIndexOption.DISABLED), false);
+
+        assertThat(indexed).containsExactly("stilton-10", "stilton-10", "stilton-30");
+        assertThat(indexed).isEqualTo(notIndexed);
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testCompositeRangeIndexForExists(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                           "import " + Cheese.class.getCanonicalName() + ";\n" +
+                           "global java.util.List list;\n" +
+                           "rule R1\n" +
+                           "when\n" +
+                           "   $c : Cheese( $type : type, $price : price )\n" +
+                           "   exists Person( likes == $type, age <= $price )\n" +
+                           "then\n" +
+                           "   list.add( $c.getType() + \"-\" + $c.getPrice() );\n" +
+                           "end\n";
+
+        final List<String> indexed = runNotExistsScenario(kieBaseTestConfiguration, getKieBase(kieBaseTestConfiguration, drl, BetaCompositeRangeIndexOption.ENABLED), true);
+        final List<String> notIndexed = runNotExistsScenario(kieBaseTestConfiguration, getKieBase(kieBaseTestConfiguration, drl, BetaCompositeRangeIndexOption.DISABLED), false);
+
+        assertThat(indexed).containsExactly("stilton-30", "stilton-10", "brie-20");
+        assertThat(indexed).isEqualTo(notIndexed);
+    }
+
+    private List<String> runNotExistsScenario(KieBaseTestConfiguration kieBaseTestConfiguration, KieBase kbase, boolean compositeIndexed) {
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            final List<String> result = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            ksession.insert(new Person("Mark", "brie", 15));
+            final Person mario = new Person("Mario", "stilton", 20);
+            final FactHandle marioFh = ksession.insert(mario);
+            ksession.insert(new Cheese("stilton", 10));
+            fireAllRules(ksession, list, result);
+
+            // only the stilton 30 is blocked (not) or matched (exists) by Mario
+            ksession.insert(new Cheese("stilton", 30));
+            fireAllRules(ksession, list, result);
+
+            assertRightMemory(kieBaseTestConfiguration, kbase, ksession, Person.class, compositeIndexed);
+
+            // Mario is now younger than the price of both the stilton
+            mario.setAge(5);
+            ksession.update(marioFh, mario);
+            fireAllRules(ksession, list, result);
+
+            // Mario moves to the brie bucket where it is older than the brie price
+            final Cheese brie = new Cheese("brie", 20);
+            ksession.insert(brie);
+            fireAllRules(ksession, list, result);
+            mario.setLikes("brie");
+            mario.setAge(40);
+            ksession.update(marioFh, mario);
+            fireAllRules(ksession, list, result);
+
+            return result;
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private void assertRightMemory(KieBaseTestConfiguration kieBaseTestConfiguration, KieBase kbase, KieSession ksession, Class<?> factClass, boolean compositeIndexed) {
+        final ObjectTypeNode otn = KieUtil.getObjectTypeNode(kbase, factClass);
+        assertThat(otn).isNotNull();
+
+        ObjectSinkPropagator objectSinkPropagator = otn.getObjectSinkPropagator();
+        if (kieBaseTestConfiguration.useAlphaNetworkCompiler()) {
+            objectSinkPropagator = ((CompiledNetwork) objectSinkPropagator).getOriginalSinkPropagator();
+        }
+
+        boolean isPassedForBetaNode = false;
+        for (ObjectSink sink : objectSinkPropagator.getSinks()) {
+            if (sink instanceof RightInputAdapterNode) {
+                BetaNode betaNode = ((RightInputAdapterNode<?>) sink).getBetaNode();
+                BetaMemory bm = (BetaMemory) ((InternalWorkingMemory) ksession).getNodeMemory(betaNode);
+                assertThat(bm.getRightTupleMemory()).isInstanceOf(compositeIndexed ? TupleIndexHashRBTree.class : TupleIndexHashTable.class);
+                isPassedForBetaNode = true;
+            }
+        }
+        assertThat(isPassedForBetaNode).isTrue();
+    }
+}
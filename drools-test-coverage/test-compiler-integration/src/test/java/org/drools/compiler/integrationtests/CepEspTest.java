@@ -92,6 +92,7 @@ import org.kie.api.event.rule.DefaultAgendaEventListener;
 import org.kie.api.marshalling.Marshaller;
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
 import org.kie.api.runtime.conf.TimerJobFactoryOption;
 import org.kie.api.runtime.rule.EntryPoint;
 import org.kie.api.runtime.rule.FactHandle;
@@ -1938,6 +1939,45 @@ public class CepEspTest extends AbstractCepEspTest {
         }
     }
 
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    @Timeout(10000)
+    public void testEventExpirationWithTimingWheelClock(KieBaseTestConfiguration kieBaseTestConfiguration) throws Exception {
+        final String drl =
+                "package org.drools.integrationtests\n" +
+                "declare Stock\n" +
+                "    @role( event )\n" +
+                "    @expires( 200ms )\n" +
+                "    name : String\n" +
+                "    value : Double\n" +
+                "end\n" +
+                "rule \"count stocks\"\n" +
+                "when\n" +
+                "    accumulate( Stock(), $count : count() )\n" +
+                "then\n" +
+                "end";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("cep-esp-test", kieBaseTestConfiguration, drl);
+        final KieSessionConfiguration sessionConfig = KieServices.get().newKieSessionConfiguration();
+        sessionConfig.setOption(ClockTypeOption.get("timingwheel"));
+        final KieSession ksession = kbase.newKieSession(sessionConfig, null);
+        try {
+            final StockFactory stockFactory = new StockFactory(kbase);
+            for (int i = 0; i < 1000; i++) {
+                ksession.insert(stockFactory.createStock("ST" + i, 0d));
+            }
+            ksession.fireAllRules();
+            assertThat(ksession.getFactCount()).isEqualTo(1000);
+
+            // all the events expire together and are retracted by the timing wheel
+            Thread.sleep(1000);
+            ksession.fireAllRules();
+            assertThat(ksession.getFactCount()).isZero();
+        } finally {
+            ksession.dispose();
+        }
+    }
+
     private void populateSessionWithStocks(final KieSession ksession, final StockFactory stockFactory) {
         final SessionPseudoClock clock = ksession.getSessionClock();
 
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.drools.core.common.CompactObjectStore;
+import org.drools.kiesession.entrypoints.NamedEntryPoint;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil2;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.runtime.ClassObjectFilter;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.runtime.conf.ObjectStoreOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompactObjectStoreTest {
+
+    public static Stream<KieBaseTestConfiguration> parameters() {
+        return TestParametersUtil2.getKieBaseCloudConfigurations(true).stream();
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testSessionWithCompactObjectStore(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R when\n" +
+                "    $s : String()\n" +
+                "    Person( name == $s, $age : age )\n" +
+                "then\n" +
+                "    list.add($age);\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("compact-object-store-test", kieBaseTestConfiguration, drl);
+        final KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(ObjectStoreOption.COMPACT);
+        final KieSession ksession = kbase.newKieSession(conf, null);
+        try {
+            assertThat(((NamedEntryPoint) ksession.getEntryPoint("DEFAULT")).getObjectStore()).isInstanceOf(CompactObjectStore.class);
+
+            final List<Integer> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            final List<FactHandle> handles = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                handles.add(ksession.insert(new Person("P" + (i % 10), i)));
+            }
+            ksession.insert("P3");
+            assertThat(ksession.fireAllRules()).isEqualTo(100);
+            assertThat(ksession.getFactCount()).isEqualTo(1001);
+            assertThat(ksession.getObjects(new ClassObjectFilter(Person.class))).hasSize(1000);
+
+            final Person person = (Person) ksession.getObject(handles.get(13));
+            assertThat(ksession.getFactHandle(person)).isSameAs(handles.get(13));
+            person.setAge(2000);
+            ksession.update(handles.get(13), person);
+            list.clear();
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            assertThat(list).containsExactly(2000);
+
+            for (int i = 0; i < 1000; i += 2) {
+                ksession.delete(handles.get(i));
+            }
+            assertThat(ksession.getFactCount()).isEqualTo(501);
+            assertThat(ksession.getObject(handles.get(0))).isNull();
+            assertThat(ksession.getObject(handles.get(1))).isNotNull();
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
@@ -42,15 +42,20 @@ import org.drools.core.reteoo.CompositeObjectSinkAdapter;
 import org.drools.core.reteoo.JoinNode;
 import org.drools.core.reteoo.LeftInputAdapterNode;
 import org.drools.core.reteoo.NotNode;
+import org.drools.core.reteoo.ObjectSink;
 import org.drools.core.reteoo.ObjectSinkPropagator;
 import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.core.reteoo.RightTuple;
 import org.drools.core.reteoo.TupleMemory;
+import org.drools.core.util.AbstractHashTable.SingleIndex;
+import org.drools.core.util.AbstractHashTable.SingleLongIndex;
 import org.drools.core.util.FastIterator;
+import org.drools.core.util.index.TupleIndexHashTable;
 import org.drools.kiesession.session.StatefulKnowledgeSessionImpl;
 import org.drools.testcoverage.common.model.Address;
 import org.drools.testcoverage.common.model.Cheese;
 import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.model.Primitives;
 import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
 import org.drools.testcoverage.common.util.KieBaseUtil;
 import org.drools.testcoverage.common.util.KieUtil;
@@ -898,6 +903,104 @@ public class IndexingTest {
         }
     }
 
+    @ParameterizedTest(name = "KieBase type={0}")
+	@MethodSource("parameters")
+    public void testBuildsPrimitiveIndexedMemory(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl =
+                "package org.drools.compiler.test\n" +
+                        "import " + Primitives.class.getCanonicalName() + "\n" +
+                        "rule R1\n" +
+                        "when\n" +
+                        "   Primitives( $l : longPrimitive, $d : doublePrimitive )\n" +
+                        "   Primitives( longPrimitive == $l )\n" + // indexed on a long
+                        "   Primitives( doublePrimitive == $d )\n" + // indexed on a double
+                        "then\n" +
+                        "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("indexing-test", kieBaseTestConfiguration, drl);
+        final InternalWorkingMemory wm = (InternalWorkingMemory) kbase.newKieSession();
+        try {
+            final ObjectTypeNode node = KieUtil.getObjectTypeNode(kbase, Primitives.class);
+            assertThat(node).isNotNull();
+            ObjectSinkPropagator objectSinkPropagator = node.getObjectSinkPropagator();
+            if (kieBaseTestConfiguration.useAlphaNetworkCompiler()) {
+                objectSinkPropagator = ((CompiledNetwork) objectSinkPropagator).getOriginalSinkPropagator();
+            }
+            LeftInputAdapterNode liaNode = null;
+            for (ObjectSink sink : objectSinkPropagator.getSinks()) {
+                if (sink instanceof LeftInputAdapterNode) {
+                    liaNode = (LeftInputAdapterNode) sink;
+                }
+            }
+            assertThat(liaNode).isNotNull();
+            final JoinNode j2 = (JoinNode) liaNode.getSinkPropagator().getSinks()[0];
+            final JoinNode j3 = (JoinNode) j2.getSinkPropagator().getSinks()[0];
+
+            BetaMemory bm = (BetaMemory) wm.getNodeMemory(j2);
+            assertThat(bm.getRightTupleMemory()).isInstanceOf(TupleIndexHashTable.class);
+            assertThat(((TupleIndexHashTable) bm.getRightTupleMemory()).getIndex()).isInstanceOf(SingleLongIndex.class);
+            assertThat(((TupleIndexHashTable) bm.getLeftTupleMemory()).getIndex()).isInstanceOf(SingleLongIndex.class);
+
+            bm = (BetaMemory) wm.getNodeMemory(j3);
+            assertThat(bm.getRightTupleMemory()).isInstanceOf(TupleIndexHashTable.class);
+            // the primitive accessors of a double may round it, so doubles are indexed on their exact boxed value
+            assertThat(((TupleIndexHashTable) bm.getRightTupleMemory()).getIndex()).isInstanceOf(SingleIndex.class);
+            assertThat(((TupleIndexHashTable) bm.getLeftTupleMemory()).getIndex()).isInstanceOf(SingleIndex.class);
+
+            wm.insert(newPrimitives(1L, 1.5d));
+            wm.insert(newPrimitives(1L, 2.5d));
+            wm.insert(newPrimitives(2L, 1.5d));
+            assertThat(wm.fireAllRules()).isEqualTo(8);
+
+            wm.insert(newPrimitives(2L, 2.5d));
+            assertThat(wm.fireAllRules()).isEqualTo(8);
+        } finally {
+            wm.dispose();
+        }
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+	@MethodSource("parameters")
+    public void testIndexedJoinOnNearlyEqualAndLargeDoubles(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl =
+                "package org.drools.compiler.test\n" +
+                        "import " + Primitives.class.getCanonicalName() + "\n" +
+                        "global java.util.List list\n" +
+                        "rule R1\n" +
+                        "when\n" +
+                        "   $p1 : Primitives( $d : doublePrimitive )\n" +
+                        "   $p2 : Primitives( doublePrimitive == $d )\n" + // indexed on a double
+                        "then\n" +
+                        "   list.add( $p1.getLongPrimitive() + \"-\" + $p2.getLongPrimitive() );\n" +
+                        "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("indexing-test", kieBaseTestConfiguration, drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            // distinct doubles that differ below 1e-7 or that are beyond the range of a long once multiplied by 1e7
+            ksession.insert(newPrimitives(1L, 1.00000001d));
+            ksession.insert(newPrimitives(2L, 1.00000002d));
+            ksession.insert(newPrimitives(3L, 1e12d));
+            ksession.insert(newPrimitives(4L, 2e12d));
+            ksession.insert(newPrimitives(5L, 1e12d));
+            ksession.fireAllRules();
+
+            assertThat(list).containsExactlyInAnyOrder("1-1", "2-2", "3-3", "4-4", "5-5", "3-5", "5-3");
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private static Primitives newPrimitives(long longPrimitive, double doublePrimitive) {
+        final Primitives primitives = new Primitives();
+        primitives.setLongPrimitive(longPrimitive);
+        primitives.setDoublePrimitive(doublePrimitive);
+        return primitives;
+    }
+
     @ParameterizedTest(name = "KieBase type={0}")
 	@MethodSource("parameters")
     public void testAlphaIndexWithBigDecimalCoercion(KieBaseTestConfiguration kieBaseTestConfiguration) {
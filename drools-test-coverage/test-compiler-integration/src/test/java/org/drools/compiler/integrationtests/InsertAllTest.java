@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.model.StockTick;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieSessionTestConfiguration;
+import org.drools.testcoverage.common.util.TestParametersUtil2;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.api.KieBase;
+import org.kie.api.event.rule.DefaultRuleRuntimeEventListener;
+import org.kie.api.event.rule.ObjectInsertedEvent;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.api.time.SessionPseudoClock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InsertAllTest {
+
+    public static Stream<KieBaseTestConfiguration> parameters() {
+        return TestParametersUtil2.getKieBaseCloudConfigurations(true).stream();
+    }
+
+    public static Stream<KieBaseTestConfiguration> streamParameters() {
+        return TestParametersUtil2.getKieBaseStreamConfigurations(true).stream();
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testInsertAllOnHashedAlphas(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R1 when Person( name == \"Mario\" ) then list.add(\"R1\"); end\n" +
+                "rule R2 when Person( name == \"Mark\" ) then list.add(\"R2\"); end\n" +
+                "rule R3 when Person( name == \"Edson\" ) then list.add(\"R3\"); end\n" +
+                "rule R4 when Person( name == \"Luca\" ) then list.add(\"R4\"); end\n" +
+                "rule R5 when $s : String() Person( name == $s ) then list.add(\"R5\"); end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("insert-all-test", kieBaseTestConfiguration, drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            final List<Object> inserted = new ArrayList<>();
+            ksession.addEventListener(new DefaultRuleRuntimeEventListener() {
+                @Override
+                public void objectInserted(ObjectInsertedEvent event) {
+                    inserted.add(event.getObject());
+                }
+            });
+
+            final Person mario = new Person("Mario", 47);
+            final List<Object> facts = Arrays.asList(mario, new Person("Mark", 40), null, "Luca", new Person("Luca", 35),
+                                                     new Person("Sofia", 10), mario);
+            final List<FactHandle> handles = ksession.insertAll(facts);
+
+            assertThat(handles).hasSize(7);
+            assertThat(handles.get(2)).isNull();
+            // a fact already present in the session is not inserted twice
+            assertThat(handles.get(6)).isSameAs(handles.get(0));
+            for (int i = 0; i < facts.size(); i++) {
+                if (facts.get(i) != null) {
+                    assertThat(ksession.getObject(handles.get(i))).isSameAs(facts.get(i));
+                }
+            }
+            assertThat(inserted).hasSize(5);
+            assertThat(ksession.getFactCount()).isEqualTo(5);
+
+            assertThat(ksession.fireAllRules()).isEqualTo(4);
+            assertThat(list).containsExactlyInAnyOrder("R1", "R2", "R4", "R5");
+
+            ksession.delete(handles.get(4));
+            ksession.insertAll(Arrays.asList(new Person("Edson", 45), new Person("Luca", 36)));
+            list.clear();
+            assertThat(ksession.fireAllRules()).isEqualTo(3);
+            assertThat(list).containsExactlyInAnyOrder("R3", "R4", "R5");
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testInsertAllFiresEventsInInsertionOrder(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "rule R when Integer() then insertLogical(\"logical\"); end\n" +
+                "rule S when Person( $name : name ) String( this == $name ) then end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("insert-all-test", kieBaseTestConfiguration, drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            // enables the TMS for Strings, so that they are inserted one by one
+            ksession.insert(1);
+            ksession.fireAllRules();
+
+            final List<Object> inserted = new ArrayList<>();
+            ksession.addEventListener(new DefaultRuleRuntimeEventListener() {
+                @Override
+                public void objectInserted(ObjectInsertedEvent event) {
+                    inserted.add(event.getObject());
+                }
+            });
+
+            final Person mario = new Person("Mario", 47);
+            final Person mark = new Person("Mark", 40);
+            final Person luca = new Person("Luca", 35);
+            ksession.insertAll(Arrays.asList(mario, mark, "Mario", luca, "Luca"));
+
+            assertThat(inserted).containsExactly(mario, mark, "Mario", luca, "Luca");
+            assertThat(ksession.fireAllRules()).isEqualTo(2);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("streamParameters")
+    public void testInsertAllEvents(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl =
+                "import " + StockTick.class.getCanonicalName() + ";\n" +
+                "declare StockTick\n" +
+                "    @role( event )\n" +
+                "    @expires( 10s )\n" +
+                "end\n" +
+                "rule R when\n" +
+                "    accumulate( StockTick( company == \"RHT\" ), $count : count() )\n" +
+                "then\n" +
+                "end\n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("insert-all-test", kieBaseTestConfiguration, drl);
+        final KieSession ksession = kbase.newKieSession(KieSessionTestConfiguration.STATEFUL_PSEUDO.getKieSessionConfiguration(), null);
+        try {
+            final SessionPseudoClock clock = ksession.getSessionClock();
+
+            final List<StockTick> ticks = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                ticks.add(new StockTick(i, i % 2 == 0 ? "RHT" : "IBM", i));
+            }
+            ksession.insertAll(ticks);
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            assertThat(ksession.getFactCount()).isEqualTo(100);
+
+            // inserting again facts already in the session doesn't postpone their expiration
+            clock.advanceTime(5, TimeUnit.SECONDS);
+            ksession.insertAll(ticks.subList(0, 10));
+            ksession.fireAllRules();
+            assertThat(ksession.getFactCount()).isEqualTo(100);
+
+            // all the events inserted in the same batch expire together
+            clock.advanceTime(6, TimeUnit.SECONDS);
+            ksession.fireAllRules();
+            assertThat(ksession.getFactCount()).isZero();
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.compiler.integrationtests;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.drools.compiler.builder.impl.KnowledgeBuilderConfigurationImpl;
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.drools.kiesession.rulebase.KnowledgeBaseFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.builder.CompositeKnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderConfiguration;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.builder.conf.CompiledClassesCacheDirOption;
+import org.kie.internal.builder.conf.ParallelPackagesBuildOption;
+import org.kie.internal.io.ResourceFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelPackagesBuildTest {
+
+    private static final int PACKAGES = 8;
+    private static final int RULES_PER_PACKAGE = 5;
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    public void testParallelBuildFiresAllRules() {
+        KnowledgeBuilderConfiguration conf = KnowledgeBuilderFactory.newKnowledgeBuilderConfiguration();
+        conf.setOption(ParallelPackagesBuildOption.ENABLED);
+
+        List<String> fired = buildAndFire(conf, generateResources());
+        assertThat(fired).hasSize(PACKAGES * RULES_PER_PACKAGE);
+        assertThat(fired).contains("org.test.p0.R0", "org.test.p" + (PACKAGES - 1) + ".R" + (RULES_PER_PACKAGE - 1));
+    }
+
+    @Test
+    public void testParallelBuildReportsErrorsOfEachResource() {
+        KnowledgeBuilderConfiguration conf = KnowledgeBuilderFactory.newKnowledgeBuilderConfiguration();
+        conf.setOption(ParallelPackagesBuildOption.ENABLED);
+
+        List<String> resources = generateResources();
+        resources.set(2, "package org.test.p2\nrule Broken when\n  Integer( \nthen\nend\n");
+        resources.set(5, "package org.test.p5\nrule Broken when\n  $i : Integer()\nthen\n  undefinedMethod($i);\nend\n");
+
+        KnowledgeBuilder kbuilder = build(conf, resources);
+        assertThat(kbuilder.hasErrors()).isTrue();
+        assertThat(kbuilder.getErrors().toString()).contains("mismatched input", "undefinedMethod");
+    }
+
+    @Test
+    public void testCompiledClassesAreReusedFromCache() throws IOException {
+        KnowledgeBuilderConfiguration conf = KnowledgeBuilderFactory.newKnowledgeBuilderConfiguration();
+        conf.setOption(ParallelPackagesBuildOption.ENABLED);
+        conf.setOption(CompiledClassesCacheDirOption.get(cacheDir.toFile()));
+
+        List<String> resources = generateResources();
+        assertThat(buildAndFire(conf, resources)).hasSize(PACKAGES * RULES_PER_PACKAGE);
+        assertThat(cacheEntries()).hasSize(PACKAGES);
+
+        // an unchanged build doesn't add any entry and works with the cached classes
+        assertThat(buildAndFire(conf, resources)).hasSize(PACKAGES * RULES_PER_PACKAGE);
+        assertThat(cacheEntries()).hasSize(PACKAGES);
+
+        // changing a single package only adds the entry for that package
+        resources.set(0, resources.get(0).replace("fired.add(", "fired.add(\"\" + "));
+        assertThat(buildAndFire(conf, resources)).hasSize(PACKAGES * RULES_PER_PACKAGE);
+        assertThat(cacheEntries()).hasSize(PACKAGES + 1);
+    }
+
+    @Test
+    public void testCachedClassesAreNotReusedWhenReferencedClassesChange() throws IOException {
+        String facts = "package org.test.facts\n" +
+                       "declare Fact\n" +
+                       "  value : int\n" +
+                       "end\n";
+        String rules = "package org.test.rules\n" +
+                       "import org.test.facts.Fact\n" +
+                       "global java.util.List fired\n" +
+                       "rule Init when\n" +
+                       "then\n" +
+                       "  insert(new Fact(1));\n" +
+                       "end\n" +
+                       "rule R when\n" +
+                       "  $f : Fact()\n" +
+                       "then\n" +
+                       "  fired.add(\"\" + $f.getValue());\n" +
+                       "end\n";
+
+        List<String> resources = new ArrayList<>(List.of(facts, rules));
+        assertThat(buildAndFire(newCachingConfiguration(), resources)).containsExactly("1");
+        assertThat(cacheEntries()).isNotEmpty();
+
+        // the sources generated for the rules don't change, but the constructor of the declared type they use does:
+        // reusing the cached classes would fail with a NoSuchMethodError
+        resources.set(0, facts.replace("int", "long"));
+        assertThat(buildAndFire(newCachingConfiguration(), resources)).containsExactly("1");
+    }
+
+    @Test
+    public void testCachedClassesAreNotReusedWhenFunctionsOfOtherPackagesChange() throws IOException {
+        String functions = "package org.test.functions\n" +
+                           "function int twice(int value) {\n" +
+                           "  return value * 2;\n" +
+                           "}\n";
+        String rules = "package org.test.rules\n" +
+                       "import function org.test.functions.Twice.twice\n" +
+                       "global java.util.List fired\n" +
+                       "rule R when\n" +
+                       "  $i : Integer( this == 1 )\n" +
+                       "then\n" +
+                       "  fired.add(\"\" + twice($i));\n" +
+                       "end\n";
+
+        // the functions must be compiled before the package importing them, so they're added in a previous batch
+        assertThat(buildAndFire(newCachingConfiguration(), List.of(functions), List.of(rules))).containsExactly("2");
+        assertThat(cacheEntries()).hasSize(2);
+
+        // the function is compiled in another package than the rule calling it, so the sources generated for the rule
+        // don't change, but the signature of the function does: reusing the cached classes would fail with a NoSuchMethodError
+        // the entry of the rules is written again under the same key, while the one of the changed function is added
+        assertThat(buildAndFire(newCachingConfiguration(), List.of(functions.replace("int twice", "long twice")), List.of(rules))).containsExactly("2");
+        assertThat(cacheEntries()).hasSize(3);
+    }
+
+    @Test
+    public void testCacheDirFromProperty() {
+        System.setProperty(CompiledClassesCacheDirOption.PROPERTY_NAME, cacheDir.toString());
+        try {
+            KnowledgeBuilderConfigurationImpl conf = KnowledgeBuilderFactory.newKnowledgeBuilderConfiguration().as(KnowledgeBuilderConfigurationImpl.KEY);
+            assertThat(conf.getCompiledClassesCacheDir()).isEqualTo(cacheDir.toFile());
+            assertThat(conf.getOption(CompiledClassesCacheDirOption.KEY).getDirectory()).isEqualTo(cacheDir.toFile());
+        } finally {
+            System.clearProperty(CompiledClassesCacheDirOption.PROPERTY_NAME);
+        }
+    }
+
+    private KnowledgeBuilderConfiguration newCachingConfiguration() {
+        // a new configuration for each build, so that the declared types are defined in a new class loader
+        KnowledgeBuilderConfiguration conf = KnowledgeBuilderFactory.newKnowledgeBuilderConfiguration();
+        conf.setOption(ParallelPackagesBuildOption.ENABLED);
+        conf.setOption(CompiledClassesCacheDirOption.get(cacheDir.toFile()));
+        return conf;
+    }
+
+    private List<Path> cacheEntries() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.filter(f -> f.toString().endsWith(".classes")).toList();
+        }
+    }
+
+    @SafeVarargs
+    private List<String> buildAndFire(KnowledgeBuilderConfiguration conf, List<String>... batches) {
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder(conf);
+        for (List<String> resources : batches) {
+            build(kbuilder, resources);
+        }
+        assertThat(kbuilder.hasErrors()).as(kbuilder.getErrors().toString()).isFalse();
+
+        InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase();
+        kbase.addPackages(kbuilder.getKnowledgePackages());
+
+        KieSession ksession = kbase.newKieSession();
+        try {
+            List<String> fired = new ArrayList<>();
+            ksession.setGlobal("fired", fired);
+            for (int i = 0; i < RULES_PER_PACKAGE; i++) {
+                ksession.insert(i);
+            }
+            ksession.fireAllRules();
+            return fired;
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private KnowledgeBuilder build(KnowledgeBuilderConfiguration conf, List<String> resources) {
+        return build(KnowledgeBuilderFactory.newKnowledgeBuilder(conf), resources);
+    }
+
+    private KnowledgeBuilder build(KnowledgeBuilder kbuilder, List<String> resources) {
+        CompositeKnowledgeBuilder batch = kbuilder.batch();
+        for (int i = 0; i < resources.size(); i++) {
+            batch.add(ResourceFactory.newByteArrayResource(resources.get(i).getBytes())
+                              .setSourcePath("org/test/p" + i + "/rules.drl"), ResourceType.DRL);
+        }
+        batch.build();
+        return kbuilder;
+    }
+
+    private List<String> generateResources() {
+        List<String> resources = new ArrayList<>();
+        for (int i = 0; i < PACKAGES; i++) {
+            StringBuilder sb = new StringBuilder("package org.test.p" + i + "\n");
+            sb.append("global java.util.List fired\n");
+            for (int j = 0; j < RULES_PER_PACKAGE; j++) {
+                sb.append("rule R").append(j).append(" when\n")
+                  .append("  $i : Integer( this == ").append(j).append(" )\n")
+                  .append("then\n")
+                  .append("  fired.add(drools.getRule().getPackageName() + \".\" + drools.getRule().getName());\n")
+                  .append("end\n");
+            }
+            resources.add(sb.toString());
+        }
+        return resources;
+    }
+}
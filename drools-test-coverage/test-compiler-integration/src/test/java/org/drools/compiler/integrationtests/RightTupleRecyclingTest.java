@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.drools.core.common.InternalFactHandle;
+import org.drools.testcoverage.common.model.Cheese;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil2;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.api.KieBase;
+import org.kie.api.builder.KieModule;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.RightTuplePoolSizeOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RightTupleRecyclingTest {
+
+    public static Stream<KieBaseTestConfiguration> parameters() {
+        return TestParametersUtil2.getKieBaseCloudConfigurations(true).stream();
+    }
+
+    private KieBase getKieBase(KieBaseTestConfiguration kieBaseTestConfiguration, String drl, int poolSize) {
+        KieModule kieModule = KieUtil.getKieModuleFromDrls("right-tuple-recycling-test", kieBaseTestConfiguration, drl);
+        return KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, RightTuplePoolSizeOption.get(poolSize));
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testRightTupleIsReused(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                           "import " + Cheese.class.getCanonicalName() + ";\n" +
+                           "rule R1\n" +
+                           "when\n" +
+                           "   $c : Cheese()\n" +
+                           "   Person( likes == $c.type )\n" +
+                           "then\n" +
+                           "end\n";
+
+        final KieSession ksession = getKieBase(kieBaseTestConfiguration, drl, 4).newKieSession();
+        try {
+            ksession.insert(new Cheese("stilton", 10));
+            final FactHandle fh1 = ksession.insert(new Person("Mario", "stilton"));
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            final Object rightTuple = ((InternalFactHandle) fh1).getFirstRightTuple();
+            assertThat(rightTuple).isNotNull();
+
+            ksession.delete(fh1);
+            assertThat(ksession.fireAllRules()).isZero();
+
+            final FactHandle fh2 = ksession.insert(new Person("Luca", "stilton"));
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            assertThat(((InternalFactHandle) fh2).getFirstRightTuple()).isSameAs(rightTuple);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testRecyclingDoesNotChangeResults(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        final String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                           "import " + Cheese.class.getCanonicalName() + ";\n" +
+                           "global java.util.List list;\n" +
+                           "rule Join\n" +
+                           "when\n" +
+                           "   $c : Cheese( $type : type )\n" +
+                           "   $p : Person( likes == $type )\n" +
+                           "then\n" +
+                           "   list.add( \"join-\" + $p.getName() + \"-\" + $type );\n" +
+                           "end\n" +
+                           "rule Not\n" +
+                           "when\n" +
+                           "   $c : Cheese( $type : type )\n" +
+                           "   not Person( likes == $type )\n" +
+                           "then\n" +
+                           "   list.add( \"not-\" + $type );\n" +
+                           "end\n" +
+                           "rule Exists\n" +
+                           "when\n" +
+                           "   $c : Cheese( $type : type )\n" +
+                           "   exists Person( likes == $type )\n" +
+                           "then\n" +
+                           "   list.add( \"exists-\" + $type );\n" +
+                           "end\n";
+
+        final List<String> recycled = runScenario(getKieBase(kieBaseTestConfiguration, drl, 2));
+        final List<String> notRecycled = runScenario(getKieBase(kieBaseTestConfiguration, drl, 0));
+
+        assertThat(recycled).isEqualTo(notRecycled);
+        assertThat(recycled).containsExactly("not-brie", "not-stilton",
+                                             "exists-stilton", "join-Mario-stilton",
+                                             "not-stilton",
+                                             "exists-brie", "exists-stilton", "join-Edson-brie", "join-Luca-stilton", "join-Mark-brie");
+    }
+
+    private List<String> runScenario(KieBase kbase) {
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<String> list = new ArrayList<>();
+            final List<String> result = new ArrayList<>();
+            ksession.setGlobal("list", list);
+
+            ksession.insert(new Cheese("stilton", 10));
+            ksession.insert(new Cheese("brie", 10));
+            fireAllRules(ksession, list, result);
+
+            final FactHandle marioFh = ksession.insert(new Person("Mario", "stilton"));
+            fireAllRules(ksession, list, result);
+
+            // the deleted tuples are recycled by the following insertions, more than the pool size
+            ksession.delete(marioFh);
+            fireAllRules(ksession, list, result);
+
+            ksession.insert(new Person("Luca", "stilton"));
+            ksession.insert(new Person("Mark", "brie"));
+            ksession.insert(new Person("Edson", "brie"));
+            fireAllRules(ksession, list, result);
+
+            return result;
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    /**
+     * Fires the rules and appends the results to the given list, sorted to not depend on the order of the activations.
+     */
+    private static void fireAllRules(KieSession ksession, List<String> list, List<String> result) {
+        ksession.fireAllRules();
+        list.sort(null);
+        result.addAll(list);
+        list.clear();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.common.NodeMemories;
+import org.drools.core.reteoo.LeftInputAdapterNode.LiaNodeMemory;
+import org.drools.testcoverage.common.model.Cheese;
+import org.drools.testcoverage.common.model.Person;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
+import org.drools.testcoverage.common.util.TestParametersUtil2;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieModule;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.api.time.SessionPseudoClock;
+import org.kie.internal.conf.SegmentMemoryReclaimTimeoutOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SegmentMemoryReclaimTest {
+
+    private static final long TIMEOUT = 1000;
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "import " + Cheese.class.getCanonicalName() + ";\n" +
+            "global java.util.List list;\n" +
+            "rule Join\n" +
+            "when\n" +
+            "   $c : Cheese( $type : type )\n" +
+            "   $p : Person( likes == $type )\n" +
+            "then\n" +
+            "   list.add( \"join-\" + $p.getName() + \"-\" + $type );\n" +
+            "end\n" +
+            "rule Not\n" +
+            "when\n" +
+            "   $c : Cheese( $type : type )\n" +
+            "   not Person( likes == $type )\n" +
+            "then\n" +
+            "   list.add( \"not-\" + $type );\n" +
+            "end\n";
+
+    public static Stream<KieBaseTestConfiguration> parameters() {
+        return TestParametersUtil2.getKieBaseCloudConfigurations(true).stream();
+    }
+
+    private KieSession newSession(KieBaseTestConfiguration kieBaseTestConfiguration, long timeout) {
+        KieModule kieModule = KieUtil.getKieModuleFromDrls("segment-memory-reclaim-test", kieBaseTestConfiguration, DRL);
+        KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, SegmentMemoryReclaimTimeoutOption.get(timeout));
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(ClockTypeOption.PSEUDO);
+        return kbase.newKieSession(conf, null);
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testEmptySegmentsAreReclaimed(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        KieSession ksession = newSession(kieBaseTestConfiguration, TIMEOUT);
+        try {
+            List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            SessionPseudoClock clock = ksession.getSessionClock();
+
+            FactHandle cheeseFh = ksession.insert(new Cheese("stilton", 10));
+            FactHandle personFh = ksession.insert(new Person("Mario", "stilton"));
+            assertThat(ksession.fireAllRules()).isEqualTo(1);
+            int memories = countMemories(ksession);
+
+            ksession.delete(cheeseFh);
+            ksession.delete(personFh);
+            ksession.fireAllRules();
+            assertThat(countLiaMemories(ksession)).isEqualTo(1);
+
+            // the segments must be found empty twice, at least the timeout apart
+            clock.advanceTime(TIMEOUT, TimeUnit.MILLISECONDS);
+            ksession.fireAllRules();
+            assertThat(countLiaMemories(ksession)).isEqualTo(1);
+
+            clock.advanceTime(TIMEOUT, TimeUnit.MILLISECONDS);
+            ksession.fireAllRules();
+            assertThat(countLiaMemories(ksession)).isZero();
+            assertThat(countMemories(ksession)).isLessThan(memories);
+
+            // the memories are created again when needed
+            ksession.insert(new Cheese("stilton", 10));
+            ksession.fireAllRules();
+            ksession.insert(new Person("Luca", "stilton"));
+            ksession.fireAllRules();
+            assertThat(list).containsExactly("join-Mario-stilton", "not-stilton", "join-Luca-stilton");
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testSegmentsWithFactsAreNotReclaimed(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        KieSession ksession = newSession(kieBaseTestConfiguration, TIMEOUT);
+        try {
+            List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            SessionPseudoClock clock = ksession.getSessionClock();
+
+            FactHandle cheeseFh = ksession.insert(new Cheese("stilton", 10));
+            ksession.insert(new Person("Mario", "stilton"));
+            ksession.fireAllRules();
+
+            // the person is still in the right memory of the join and not nodes
+            ksession.delete(cheeseFh);
+            ksession.fireAllRules();
+            for (int i = 0; i < 3; i++) {
+                clock.advanceTime(TIMEOUT, TimeUnit.MILLISECONDS);
+                ksession.fireAllRules();
+            }
+            assertThat(countLiaMemories(ksession)).isEqualTo(1);
+
+            ksession.insert(new Cheese("stilton", 10));
+            ksession.insert(new Cheese("brie", 10));
+            ksession.fireAllRules();
+            list.sort(null);
+            assertThat(list).containsExactly("join-Mario-stilton", "join-Mario-stilton", "not-brie");
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testReclaimingIsDisabledByDefault(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        KieSession ksession = newSession(kieBaseTestConfiguration, SegmentMemoryReclaimTimeoutOption.DEFAULT_VALUE);
+        try {
+            ksession.setGlobal("list", new ArrayList<>());
+            SessionPseudoClock clock = ksession.getSessionClock();
+
+            ksession.delete(ksession.insert(new Cheese("stilton", 10)));
+            for (int i = 0; i < 3; i++) {
+                clock.advanceTime(TIMEOUT, TimeUnit.MILLISECONDS);
+                ksession.fireAllRules();
+            }
+            assertThat(countLiaMemories(ksession)).isEqualTo(1);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private static int countMemories(KieSession ksession) {
+        NodeMemories nodeMemories = ((InternalWorkingMemory) ksession).getNodeMemories();
+        int count = 0;
+        for (int i = 0; i < nodeMemories.length(); i++) {
+            if (nodeMemories.peekNodeMemory(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int countLiaMemories(KieSession ksession) {
+        NodeMemories nodeMemories = ((InternalWorkingMemory) ksession).getNodeMemories();
+        int count = 0;
+        for (int i = 0; i < nodeMemories.length(); i++) {
+            if (nodeMemories.peekNodeMemory(i) instanceof LiaNodeMemory) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
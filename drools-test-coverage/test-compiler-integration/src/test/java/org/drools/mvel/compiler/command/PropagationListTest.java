@@ -23,22 +23,54 @@ import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import org.drools.core.common.ActivationsManager;
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.ExecutableEntry;
+import org.drools.core.phreak.LockFreePropagationList;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.phreak.PropagationList;
+import org.drools.core.phreak.SynchronizedBypassPropagationList;
 import org.drools.core.phreak.SynchronizedPropagationList;
 import org.junit.jupiter.api.Disabled;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public class PropagationListTest {
 
-    @Test 
+    public static Stream<Arguments> propagationLists() {
+        return Stream.of(
+                Arguments.of("synchronized", (Function<ReteEvaluator, PropagationList>) SynchronizedPropagationList::new, true),
+                Arguments.of("synchronized-bypass", (Function<ReteEvaluator, PropagationList>) SynchronizedBypassPropagationList::new, false),
+                Arguments.of("lock-free", (Function<ReteEvaluator, PropagationList>) LockFreePropagationList::new, true));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("propagationLists")
     @Disabled
-    public void test() {
+    public void test(String name, Function<ReteEvaluator, PropagationList> propagationListSupplier, boolean ordered) {
         final int OBJECT_NR = 1000000;
         final int THREAD_NR = 8;
 
+        // the bypass list executes the entries directly on the inserting thread when the engine is not busy
+        final ReteEvaluator reteEvaluator = mock(ReteEvaluator.class, withSettings().stubOnly());
+        final ActivationsManager activationsManager = mock(ActivationsManager.class, withSettings().stubOnly());
+        when(reteEvaluator.getActivationsManager()).thenReturn(activationsManager);
+        doAnswer(invocation -> {
+            invocation.<ExecutableEntry>getArgument(0).execute();
+            return null;
+        }).when(activationsManager).executeTask(any());
+
         final ExecutorService executor = Executors.newFixedThreadPool(THREAD_NR, r -> {
             final Thread t = new Thread(r);
             t.setDaemon(true);
@@ -49,8 +81,8 @@ public class PropagationListTest {
 
             for (int counter = 0; counter < results.length;) {
 
-                final Checker checker = new Checker(THREAD_NR);
-                final PropagationList propagationList = new SynchronizedPropagationList(null);
+                final Checker checker = new Checker(THREAD_NR, ordered);
+                final PropagationList propagationList = propagationListSupplier.apply(reteEvaluator);
                 final CompletionService<Boolean> ecs = new ExecutorCompletionService<Boolean>(executor);
 
                 final long start = System.nanoTime();
@@ -91,6 +123,7 @@ public class PropagationListTest {
                 System.out.println("Threads DONE!");
             }
 
+            System.out.println(name + ":");
             analyzeResults(results);
         } finally {
             executor.shutdownNow();
@@ -151,12 +184,21 @@ public class PropagationListTest {
 
     public static class Checker {
         private final int[] counters;
+        private final AtomicIntegerArray unorderedCounters;
+        private final boolean ordered;
 
-        public Checker(final int nr) {
+        public Checker(final int nr, final boolean ordered) {
             counters = new int[nr];
+            unorderedCounters = new AtomicIntegerArray(nr);
+            this.ordered = ordered;
         }
 
         public void check(final TestEntry entry) {
+            if (!ordered) {
+                // entries may be executed concurrently and out of insertion order
+                unorderedCounters.incrementAndGet(entry.i);
+                return;
+            }
             if (counters[entry.i] == entry.j) {
                 if (entry.j % 10000 == 0) {
                     //System.out.println("[" + entry.i + ", " + entry.j / 10000 + "]");
@@ -38,6 +38,7 @@ import org.kie.internal.conf.IndexLeftBetaMemoryOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import org.kie.internal.conf.IndexRightBetaMemoryOption;
 import org.kie.internal.conf.MaxThreadsOption;
+import org.kie.internal.conf.ParallelEvaluationPoolSizeOption;
 import org.kie.internal.conf.ParallelExecutionOption;
 import org.kie.internal.conf.SequentialAgendaOption;
 import org.kie.internal.conf.ShareAlphaNodesOption;
@@ -404,6 +405,28 @@ public class KnowledgeBaseConfigurationTest {
         // checking the string based getProperty() method
         assertThat(config.getProperty(MaxThreadsOption.PROPERTY_NAME)).isEqualTo("8");
     }
+
+    @Test
+    public void testParallelEvaluationPoolSizeConfiguration() {
+        // checking the default
+        assertThat(config.getOption(ParallelEvaluationPoolSizeOption.KEY)).isEqualTo(ParallelEvaluationPoolSizeOption.get(0));
+
+        // setting the option using the type safe method
+        config.setOption( ParallelEvaluationPoolSizeOption.get(4) );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(ParallelEvaluationPoolSizeOption.KEY)).isEqualTo(ParallelEvaluationPoolSizeOption.get(4));
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(ParallelEvaluationPoolSizeOption.PROPERTY_NAME)).isEqualTo("4");
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( ParallelEvaluationPoolSizeOption.PROPERTY_NAME, "2" );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(ParallelEvaluationPoolSizeOption.KEY)).isEqualTo(ParallelEvaluationPoolSizeOption.get(2));
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(ParallelEvaluationPoolSizeOption.PROPERTY_NAME)).isEqualTo("2");
+    }
     
     @Test
     public void testParallelExecutionConfiguration() {
@@ -26,6 +26,7 @@ import org.kie.api.runtime.conf.AccumulateNullPropagationOption;
 import org.kie.api.runtime.conf.BeliefSystemTypeOption;
 import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.internal.runtime.conf.ObjectStoreOption;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -104,4 +105,19 @@ public class KnowledgeSessionConfigurationTest {
         // checking the string based getProperty() method
         assertThat(config.getProperty(AccumulateNullPropagationOption.PROPERTY_NAME)).isEqualTo("false");
     }
+
+    @Test
+    public void testObjectStore() {
+        assertThat(config.getOption(ObjectStoreOption.KEY)).isEqualTo(ObjectStoreOption.DEFAULT);
+        assertThat(config.getProperty(ObjectStoreOption.PROPERTY_NAME)).isEqualTo("default");
+
+        config.setOption(ObjectStoreOption.COMPACT);
+
+        assertThat(config.getOption(ObjectStoreOption.KEY)).isEqualTo(ObjectStoreOption.COMPACT);
+        assertThat(config.getProperty(ObjectStoreOption.PROPERTY_NAME)).isEqualTo("compact");
+
+        config.setProperty(ObjectStoreOption.PROPERTY_NAME, "default");
+
+        assertThat(config.getOption(ObjectStoreOption.KEY)).isEqualTo(ObjectStoreOption.DEFAULT);
+    }
 }
@@ -21,6 +21,7 @@ package org.drools.mvel.integrationtests;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -33,9 +34,12 @@ import org.drools.testcoverage.common.util.TestParametersUtil2;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.kie.api.KieBase;
+import org.kie.api.KieServices;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.rule.EntryPoint;
 import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.runtime.conf.PropagationListOption;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -193,4 +197,49 @@ public class FireUntilHaltTest {
         // the 2 facts inserted should be processed before halt
         assertThat(latch.await(100, TimeUnit.MILLISECONDS)).isTrue();
     }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testConcurrentInsertsWithLockFreePropagationList(KieBaseTestConfiguration kieBaseTestConfiguration) throws Exception {
+        String drl = "package org.example.drools;\n" +
+                "\n" +
+                "global java.util.concurrent.CountDownLatch latch;\n" +
+                "\n" +
+                "rule \"R1\" when\n" +
+                "    $i : Integer()\n" +
+                "then\n" +
+                "    latch.countDown();\n" +
+                "end\n";
+
+        final int threadNr = 8;
+        final int factNr = 1000;
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(PropagationListOption.LOCK_FREE);
+        KieSession ksession = kbase.newKieSession(conf, null);
+
+        CountDownLatch latch = new CountDownLatch(threadNr * factNr);
+        ksession.setGlobal("latch", latch);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadNr + 1);
+        try {
+            executor.execute(ksession::fireUntilHalt);
+            for (int i = 0; i < threadNr; i++) {
+                final int base = i * factNr;
+                executor.execute(() -> {
+                    for (int j = 0; j < factNr; j++) {
+                        ksession.insert(base + j);
+                    }
+                });
+            }
+
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(ksession.getFactCount()).isEqualTo(threadNr * factNr);
+        } finally {
+            ksession.halt();
+            ksession.dispose();
+            executor.shutdownNow();
+        }
+    }
 }
@@ -18,6 +18,8 @@
  */
 package org.drools.mvel.integrationtests;
 
+import org.drools.base.common.PartitionsManager;
+import org.drools.core.impl.InternalRuleBase;
 import org.drools.mvel.compiler.util.debug.DebugList;
 import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
 import org.drools.testcoverage.common.util.KieBaseUtil;
@@ -28,10 +30,12 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.kie.api.KieBase;
 import org.kie.api.builder.KieModule;
 import org.kie.api.runtime.KieSession;
+import org.kie.internal.conf.ParallelEvaluationPoolSizeOption;
 import org.kie.internal.conf.ParallelExecutionOption;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -131,4 +135,46 @@ public class ParallelEvaluationTest {
                 .flatMap(i -> Arrays.asList(i, i+1).stream()).collect(Collectors.toList());
         assertThat(list).isEqualTo(expected);
     }
+
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testOwnEvaluationPool(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        int ruleNr = 20;
+        StringBuilder sb = new StringBuilder( 400 );
+        sb.append( "global java.util.List list;\n" );
+        for (int i = 0; i < ruleNr; i++) {
+            sb.append( getRule( i, "" ) );
+        }
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, sb.toString());
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration,
+                ParallelExecutionOption.PARALLEL_EVALUATION, ParallelEvaluationPoolSizeOption.get(2) );
+
+        PartitionsManager partitionsManager = ((InternalRuleBase) kbase).getPartitionsManager();
+        assertThat(partitionsManager.hasOwnEvaluationPool()).isTrue();
+        assertThat(partitionsManager.getEvaluationPoolParallelism()).isEqualTo(2);
+        assertThat(partitionsManager.getEvaluationCostPerItem()).isEqualTo(-1L);
+
+        KieSession ksession = kbase.newKieSession();
+
+        List<Integer> list = new DebugList<>();
+        ksession.setGlobal( "list", list );
+
+        for (int i = 0; i < ruleNr; i++) {
+            ksession.insert( i );
+            ksession.insert( "" + i );
+        }
+
+        ksession.fireAllRules();
+
+        assertThat(list.size()).isEqualTo(ruleNr);
+        // the first evaluation is always performed in parallel in order to measure its cost
+        assertThat(partitionsManager.getEvaluationCostPerItem()).isGreaterThanOrEqualTo(0L);
+
+        ForkJoinPool ownPool = partitionsManager.getEvaluationPool();
+        ksession.dispose();
+        ((InternalRuleBase) kbase).dispose();
+        assertThat(ownPool.isShutdown()).isTrue();
+        assertThat(partitionsManager.hasOwnEvaluationPool()).isFalse();
+    }
 }
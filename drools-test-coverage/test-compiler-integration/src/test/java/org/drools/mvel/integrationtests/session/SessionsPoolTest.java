@@ -25,6 +25,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -57,6 +58,7 @@ import org.kie.internal.event.rule.RuleEventListener;
 import org.kie.internal.event.rule.RuleEventManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 
 public class SessionsPoolTest {
@@ -129,6 +131,39 @@ public class SessionsPoolTest {
         checkKieSession( ksession2 );
     }
 
+    @ParameterizedTest(name = "KieBase type={0}")
+    @MethodSource("parameters")
+    public void testBoundedKieSessionsPool(KieBaseTestConfiguration kieBaseTestConfiguration) {
+        KieContainerSessionsPool pool = getKieContainer(kieBaseTestConfiguration).newKieSessionsPool( 1 );
+        pool.setMaxSize( 2, 0, TimeUnit.MILLISECONDS );
+
+        KieSession ksession1 = pool.newKieSession();
+        KieSession ksession2 = pool.newKieSession();
+        try {
+            checkKieSession( ksession1 );
+            checkKieSession( ksession2 );
+
+            // all the sessions are in use and the pool doesn't wait
+            assertThatThrownBy( pool::newKieSession ).isInstanceOf( IllegalStateException.class );
+        } finally {
+            ksession2.dispose();
+        }
+
+        KieSession ksession3 = pool.newKieSession();
+        assertThat(ksession3).isSameAs(ksession2);
+        checkKieSession( ksession3 );
+        ksession3.dispose();
+        ksession1.dispose();
+
+        assertThat(pool.getCreatedSessionsCount()).isEqualTo(2);
+        assertThat(pool.getHitCount()).isEqualTo(2);
+        assertThat(pool.getMissCount()).isEqualTo(2);
+        assertThat(pool.getIdleSessionsCount()).isEqualTo(2);
+        assertThat(pool.getAverageCreationTime()).isPositive();
+
+        pool.shutdown();
+    }
+
     @ParameterizedTest(name = "KieBase type={0}")
     @MethodSource("parameters")
     public void testKieSessionsPoolInMultithreadEnv(KieBaseTestConfiguration kieBaseTestConfiguration) throws InterruptedException, ExecutionException {
@@ -18,6 +18,8 @@
  */
 package org.kie.api.runtime;
 
+import java.util.concurrent.TimeUnit;
+
 import org.kie.api.command.Command;
 
 /**
@@ -63,6 +65,56 @@ public interface KieSessionsPool {
      */
     StatelessKieSession newStatelessKieSession( KieSessionConfiguration conf );
 
+    /**
+     * Limits the number of sessions that this pool can create for each session configuration. When all of them are in use
+     * a further request waits up to the given timeout for a session to be disposed and then fails with an IllegalStateException.
+     * A timeout of 0 makes the request fail immediately, while a negative maxSize makes the pool unbounded, which is the default.
+     * Pools not supporting a bounded size ignore it.
+     */
+    default void setMaxSize(int maxSize, long acquireTimeout, TimeUnit unit) { }
+
+    /**
+     * Disposes the sessions remaining unused in this pool for longer than the given time, without ever going below
+     * the initial size of the pool. A negative value, which is the default, disables the eviction.
+     * Pools not supporting the eviction ignore it.
+     */
+    default void setMaxIdleTime(long maxIdleTime, TimeUnit unit) { }
+
+    /**
+     * Returns the number of requests served with a session that was already available in this pool, or -1 if not tracked
+     */
+    default long getHitCount() {
+        return -1;
+    }
+
+    /**
+     * Returns the number of requests for which this pool had no available session, or -1 if not tracked
+     */
+    default long getMissCount() {
+        return -1;
+    }
+
+    /**
+     * Returns the number of sessions created by this pool, or -1 if not tracked
+     */
+    default long getCreatedSessionsCount() {
+        return -1;
+    }
+
+    /**
+     * Returns the average time in nanoseconds taken to create a new session, or -1 if not tracked
+     */
+    default long getAverageCreationTime() {
+        return -1;
+    }
+
+    /**
+     * Returns the number of sessions currently available in this pool, or -1 if not tracked
+     */
+    default int getIdleSessionsCount() {
+        return -1;
+    }
+
     /**
      * Shutdown this pool and clean up all the resources
      */
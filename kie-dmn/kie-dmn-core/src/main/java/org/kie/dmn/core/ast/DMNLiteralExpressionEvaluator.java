@@ -43,6 +43,7 @@ import org.kie.dmn.feel.lang.FEELDialect;
 import org.kie.dmn.feel.lang.impl.CompiledExpressionImpl;
 import org.kie.dmn.feel.lang.impl.EvaluationContextImpl;
 import org.kie.dmn.feel.lang.impl.FEELImpl;
+import org.kie.dmn.feel.lang.impl.VariableSlots;
 import org.kie.dmn.model.api.LiteralExpression;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +59,7 @@ public class DMNLiteralExpressionEvaluator
     private LiteralExpression expressionNode;
     private CompiledExpression expression;
     private boolean isFunctionDef;
+    private VariableSlots variableSlots;
     final FEELImpl feelInstance;
 
     public DMNLiteralExpressionEvaluator(CompiledExpression expression, LiteralExpression expressionNode, FEEL feel) {
@@ -67,6 +69,7 @@ public class DMNLiteralExpressionEvaluator
             this.isFunctionDef = ((CompiledExpressionImpl) expression).isFunctionDef();
         } else if (expression instanceof ProcessedExpression) {
             this.isFunctionDef = ((ProcessedExpression) expression).getInterpreted().isFunctionDef();
+            this.variableSlots = ((ProcessedExpression) expression).getVariableSlots();
         } else {
             throw new IllegalArgumentException(
                     "Cannot create DMNLiteralExpressionEvaluator: unsupported type " + expression.getClass());
@@ -86,7 +89,7 @@ public class DMNLiteralExpressionEvaluator
     public EvaluatorResult evaluate(DMNRuntimeEventManager dmrem, DMNResult dmnr) {
         DMNResultImpl result = (DMNResultImpl) dmnr;
         LiteralInvocationListener liListener = new LiteralInvocationListener();
-        EvaluationContextImpl ectx = feelInstance.newEvaluationContext(List.of(liListener), result.getContext().getAll());
+        EvaluationContextImpl ectx = feelInstance.newEvaluationContext(List.of(liListener), result.getContext().getAll(), variableSlots);
         ectx.setDMNRuntime(dmrem.getRuntime());
         // in case an exception is thrown, the parent node will report it
         Set<FEELEvent> previousFeelEvents = result.getMessages(DMNMessage.Severity.WARN, DMNMessage.Severity.ERROR)
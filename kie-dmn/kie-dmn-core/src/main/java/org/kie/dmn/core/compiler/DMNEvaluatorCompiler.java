@@ -769,6 +769,7 @@ public class DMNEvaluatorCompiler implements DMNDecisionLogicCompiler {
                     Boolean result = t.apply(c, x);
                     return result != null && result;
                 }));
+                rule.getInputEntryText().add(tests.isEmpty() ? null : ut.getText());
             }
             for (LiteralExpression le : dr.getOutputEntry()) {
                 String expressionText = le.getText();
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core.compiler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.kie.dmn.core.assembler.DMNAssemblerService;
+
+/**
+ * Evaluates the independent decisions of a model concurrently, scheduling the DRG as a dependency graph on an
+ * executor: a decision is submitted as soon as all the decisions it requires are evaluated.
+ * <p>
+ * The contents of the resulting DMNResult do not depend on the scheduling: the values, decision results and
+ * messages of the decisions are merged back in the order of a sequential depth first evaluation, following the
+ * order in which the decisions are defined in the model. The before and after decision events are instead fired
+ * by the thread evaluating the decision, with the partial DMNResult of that evaluation, so the listeners have to be
+ * thread-safe. The events of a decision are always fired after the ones of the decisions it requires, while the
+ * events of independent decisions may interleave.
+ * <p>
+ * The evaluations in strict runtime mode, of models with imports and the ones nested inside a parallel evaluation
+ * (like the invocation of a decision service by a decision) are still sequential.
+ */
+public class ParallelEvaluationOption implements DMNOption {
+
+    private static final long serialVersionUID = 510l;
+
+    public static final String PROPERTY_NAME = DMNAssemblerService.ORG_KIE_DMN_PREFIX + ".runtime.parallel";
+
+    /**
+     * The default value for this option
+     */
+    public static final boolean DEFAULT_VALUE = false;
+
+    private final boolean parallelEvaluation;
+
+    private final transient Executor executor;
+
+    public ParallelEvaluationOption(boolean value) {
+        this.parallelEvaluation = value;
+        this.executor = null;
+    }
+
+    public ParallelEvaluationOption(String value) {
+        this(value == null ? DEFAULT_VALUE : Boolean.valueOf(value));
+    }
+
+    /**
+     * Enables the parallel evaluation on the given executor, instead of the common ForkJoinPool
+     */
+    public ParallelEvaluationOption(Executor executor) {
+        this.parallelEvaluation = true;
+        this.executor = executor;
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isParallelEvaluation() {
+        return parallelEvaluation;
+    }
+
+    public Executor getExecutor() {
+        return executor != null ? executor : ForkJoinPool.commonPool();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.core.util.Msg;
+import org.kie.dmn.core.util.MsgUtil;
+
+/**
+ * Evaluates all the decisions of a model for many input rows, as {@link DMNRuntime#evaluateAll(DMNModel, DMNContext)}
+ * would do for each of them.
+ * <p>
+ * The rows are given as a stream of contexts, or as columns of values, and the results are returned as a lazy stream,
+ * in the same order of the rows. Everything that doesn't depend on the row is resolved once for the whole batch: the
+ * decisions to evaluate, the runtime options, the topmost parents of the import chain of the model and whether there
+ * are listeners to notify, so a listener added to the runtime while a batch is evaluated isn't notified of its rows.
+ * The contexts built from the columns are used directly by the results, without cloning them.
+ * <p>
+ * When an executor is given, the rows are evaluated concurrently on it, while at most the given number of rows are
+ * being evaluated or waiting to be consumed, so the memory used doesn't depend on the size of the batch. In this case
+ * the decisions of each row are evaluated sequentially, even when the ParallelEvaluationOption is enabled.
+ * <p>
+ * Each row still gets its own DMNResultImpl, decision results, EvaluationContextImpl and ExecutionFrameImpl, since
+ * they are part of the result of the row or hold its state while its decisions are evaluated.
+ */
+public class DMNBatchEvaluator {
+
+    private final DMNRuntimeImpl runtime;
+    private final DMNModel model;
+    private final Collection<DecisionNode> decisions;
+
+    private Executor executor;
+    private int maxPendingRows;
+
+    public DMNBatchEvaluator(DMNRuntime runtime, DMNModel model) {
+        Objects.requireNonNull(runtime, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "runtime"));
+        Objects.requireNonNull(model, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "model"));
+        this.runtime = (DMNRuntimeImpl) runtime;
+        this.model = model;
+        this.decisions = DMNRuntimeImpl.getLocalDecisions(model);
+    }
+
+    /**
+     * Evaluates the rows concurrently on the given executor, with at most maxPendingRows rows evaluated or waiting to
+     * be consumed at the same time.
+     */
+    public DMNBatchEvaluator withExecutor(Executor executor, int maxPendingRows) {
+        if (maxPendingRows < 1) {
+            throw new IllegalArgumentException("maxPendingRows must be positive: " + maxPendingRows);
+        }
+        this.executor = Objects.requireNonNull(executor, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "executor"));
+        this.maxPendingRows = maxPendingRows;
+        return this;
+    }
+
+    /**
+     * Evaluates the given rows, which are cloned as by {@link DMNRuntime#evaluateAll(DMNModel, DMNContext)}.
+     */
+    public Stream<DMNResult> evaluateAll(Stream<? extends DMNContext> rows) {
+        Objects.requireNonNull(rows, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "rows"));
+        return evaluate(rows.<DMNContext> map(DMNContext::clone).iterator());
+    }
+
+    /**
+     * Evaluates the rows made of the values at the same position of the given columns, keyed by the name of the
+     * input they are the values of.
+     */
+    public Stream<DMNResult> evaluateAll(Map<String, ? extends List<?>> columns) {
+        Objects.requireNonNull(columns, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "columns"));
+        List<String> names = new ArrayList<>(columns.keySet());
+        List<List<?>> values = new ArrayList<>(columns.values());
+        int rows = values.isEmpty() ? 0 : values.get(0).size();
+        for (int i = 0; i < names.size(); i++) {
+            if (values.get(i).size() != rows) {
+                throw new IllegalArgumentException("Column '" + names.get(i) + "' has " + values.get(i).size() + " values instead of " + rows);
+            }
+        }
+        return evaluate(IntStream.range(0, rows).<DMNContext> mapToObj(row -> {
+            DMNContextImpl context = new DMNContextImpl();
+            for (int i = 0; i < names.size(); i++) {
+                context.set(names.get(i), values.get(i).get(row));
+            }
+            return context;
+        }).iterator());
+    }
+
+    private Stream<DMNResult> evaluate(Iterator<DMNContext> rows) {
+        DMNRuntimeImpl.PreparedEvaluation evaluation = runtime.prepareEvaluateAll(model, decisions);
+        Iterator<DMNResult> results = executor == null ? new SequentialResults(rows, evaluation) : new PendingResults(rows, evaluation);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static class SequentialResults implements Iterator<DMNResult> {
+
+        private final Iterator<DMNContext> rows;
+        private final DMNRuntimeImpl.PreparedEvaluation evaluation;
+
+        private SequentialResults(Iterator<DMNContext> rows, DMNRuntimeImpl.PreparedEvaluation evaluation) {
+            this.rows = rows;
+            this.evaluation = evaluation;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public DMNResult next() {
+            return evaluation.evaluate(rows.next());
+        }
+    }
+
+    private class PendingResults implements Iterator<DMNResult> {
+
+        private final Iterator<DMNContext> rows;
+        private final DMNRuntimeImpl.PreparedEvaluation evaluation;
+        private final Deque<CompletableFuture<DMNResult>> pending = new ArrayDeque<>();
+
+        private PendingResults(Iterator<DMNContext> rows, DMNRuntimeImpl.PreparedEvaluation evaluation) {
+            this.rows = rows;
+            this.evaluation = evaluation;
+        }
+
+        @Override
+        public boolean hasNext() {
+            submit();
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public DMNResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            // the row being joined still counts as pending: the next rows are submitted by the following hasNext()
+            CompletableFuture<DMNResult> next = pending.poll();
+            try {
+                return next.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+
+        private void submit() {
+            while (pending.size() < maxPendingRows && rows.hasNext()) {
+                DMNContext row = rows.next();
+                pending.add(CompletableFuture.supplyAsync(() -> DMNParallelEvaluator.sequentially(() -> evaluation.evaluate(row)), executor));
+            }
+        }
+    }
+}
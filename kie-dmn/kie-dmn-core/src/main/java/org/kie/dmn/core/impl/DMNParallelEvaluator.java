@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNDecisionResult;
+import org.kie.dmn.api.core.DMNMessage;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.ast.DMNNode;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.core.ast.DecisionNodeImpl;
+
+/**
+ * Evaluates a set of decisions of a model scheduling their DRG as a dependency graph on an executor,
+ * as configured by the ParallelEvaluationOption.
+ * <p>
+ * Each decision is evaluated by the usual sequential algorithm on a private DMNResult, whose context is a copy of
+ * the input context plus the values of the decisions it requires. Since those decisions have already been evaluated
+ * the recursion stops at them, while the BKMs and decision services it invokes are defined again in the private
+ * context. Once all the decisions are evaluated their messages and context entries are merged in the DMNResult
+ * in the order of the sequential evaluation, so its contents don't depend on the scheduling.
+ */
+final class DMNParallelEvaluator {
+
+    // marks the threads evaluating a decision of a parallel evaluation, so a nested evaluation doesn't wait on the executor
+    private static final ThreadLocal<Boolean> EVALUATING = new ThreadLocal<>();
+
+    private final DMNRuntimeImpl runtime;
+    private final DMNResultImpl result;
+    private final DMNContext inputContext;
+    private final boolean typeCheck;
+
+    // the decisions to be evaluated in the order of a sequential evaluation, with the decisions they require
+    private final Map<DecisionNode, List<DecisionNode>> requirements = new LinkedHashMap<>();
+    private final Set<String> decisionIds = new HashSet<>();
+
+    private DMNParallelEvaluator(DMNRuntimeImpl runtime, DMNResultImpl result, boolean typeCheck) {
+        this.runtime = runtime;
+        this.result = result;
+        this.inputContext = result.getContext().clone();
+        this.typeCheck = typeCheck;
+    }
+
+    /**
+     * Evaluates the given decisions in parallel, when the model allows it.
+     *
+     * @return false if the decisions have not been evaluated and the caller has to evaluate them sequentially
+     */
+    static boolean evaluate(DMNRuntimeImpl runtime, Executor executor, DMNResultImpl result,
+                            Collection<DecisionNode> decisions, boolean typeCheck) {
+        DMNModel model = result.getModel();
+        if (EVALUATING.get() != null || !model.getDefinitions().getImport().isEmpty()) {
+            return false;
+        }
+        DMNParallelEvaluator evaluator = new DMNParallelEvaluator(runtime, result, typeCheck);
+        Set<DecisionNode> visiting = new HashSet<>();
+        // follow the order of definition of the decisions, so the merge order doesn't depend on the given collection
+        for (DecisionNode decision : model.getDecisions()) {
+            if (decisions.contains(decision) && !evaluator.collectRequirements(decision, visiting)) {
+                return false;
+            }
+        }
+        evaluator.evaluate(executor);
+        return true;
+    }
+
+    /**
+     * Runs an evaluation on a thread of an executor, where the decisions are evaluated sequentially.
+     */
+    static <T> T sequentially(Supplier<T> evaluation) {
+        EVALUATING.set(Boolean.TRUE);
+        try {
+            return evaluation.get();
+        } finally {
+            EVALUATING.remove();
+        }
+    }
+
+    private boolean collectRequirements(DecisionNode decision, Set<DecisionNode> visiting) {
+        if (requirements.containsKey(decision)) {
+            return true;
+        }
+        if (!decision.getModelNamespace().equals(result.getModel().getNamespace()) || !visiting.add(decision)) {
+            return false;
+        }
+        List<DecisionNode> required = new ArrayList<>();
+        // a decision whose value is given in the input is not evaluated, nor the decisions it requires
+        boolean given = inputContext.isDefined(decision.getName());
+        for (DMNNode dep : ((DecisionNodeImpl) decision).getDependencies().values()) {
+            if (!given && dep instanceof DecisionNode requiredDecision) {
+                if (!collectRequirements(requiredDecision, visiting)) {
+                    return false;
+                }
+                required.add(requiredDecision);
+            }
+        }
+        visiting.remove(decision);
+        // each evaluation updates the result of its decision, so they can't be shared by decisions with the same id
+        if (decision.getId() == null || result.getDecisionResultById(decision.getId()) == null || !decisionIds.add(decision.getId())) {
+            return false;
+        }
+        requirements.put(decision, required);
+        return true;
+    }
+
+    private void evaluate(Executor executor) {
+        Map<DecisionNode, CompletableFuture<DMNResultImpl>> evaluations = new LinkedHashMap<>();
+        requirements.forEach((decision, required) -> {
+            CompletableFuture<?>[] requiredEvaluations = required.stream().map(evaluations::get).toArray(CompletableFuture[]::new);
+            evaluations.put(decision, CompletableFuture.allOf(requiredEvaluations)
+                    .thenApplyAsync(v -> evaluateDecision(decision, required), executor));
+        });
+
+        try {
+            CompletableFuture.allOf(evaluations.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+
+        for (CompletableFuture<DMNResultImpl> evaluation : evaluations.values()) {
+            merge(evaluation.join());
+        }
+    }
+
+    private DMNResultImpl evaluateDecision(DecisionNode decision, List<DecisionNode> required) {
+        DMNResultImpl decisionResult = runtime.getDMNResultImplFactory().newDMNResultImpl(result.getModel());
+        decisionResult.setContext(inputContext.clone());
+        // the evaluation only updates the result of its decision, as the ones of the decisions it requires are complete
+        result.getDecisionResults().forEach(decisionResult::addDecisionResult);
+        for (DecisionNode requiredDecision : required) {
+            DMNDecisionResult dr = result.getDecisionResultById(requiredDecision.getId());
+            if (dr.getEvaluationStatus() == DMNDecisionResult.DecisionEvaluationStatus.SUCCEEDED) {
+                decisionResult.getContext().set(((DecisionNodeImpl) requiredDecision).getDecision().getVariable().getName(), dr.getResult());
+            }
+        }
+
+        sequentially(() -> runtime.evaluateDecision(decisionResult.getContext(), decisionResult, decision, typeCheck, false));
+        return decisionResult;
+    }
+
+    private void merge(DMNResultImpl decisionResult) {
+        for (DMNMessage message : decisionResult.getMessages()) {
+            // a BKM required by several decisions reports its messages in each of their evaluations
+            if (!result.getMessages().contains(message)) {
+                result.addMessage(message);
+            }
+        }
+        decisionResult.getContext().getAll().forEach((name, value) -> {
+            if (!result.getContext().isDefined(name)) {
+                result.getContext().set(name, value);
+            }
+        });
+    }
+}
@@ -20,6 +20,7 @@ package org.kie.dmn.core.impl;
 
 import javax.xml.namespace.QName;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -55,6 +56,7 @@ import org.kie.dmn.core.ast.DecisionServiceNodeImpl;
 import org.kie.dmn.core.ast.InputDataNodeImpl;
 import org.kie.dmn.core.compiler.DMNOption;
 import org.kie.dmn.core.compiler.DMNProfile;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
 import org.kie.dmn.core.compiler.RuntimeModeOption;
 import org.kie.dmn.core.compiler.RuntimeTypeCheckOption;
 import org.kie.dmn.core.util.Msg;
@@ -72,6 +74,7 @@ import static org.kie.dmn.core.impl.DMNRuntimeUtils.coerceUsingType;
 import static org.kie.dmn.core.impl.DMNRuntimeUtils.getDependencyIdentifier;
 import static org.kie.dmn.core.impl.DMNRuntimeUtils.getIdentifier;
 import static org.kie.dmn.core.impl.DMNRuntimeUtils.getObjectString;
+import static org.kie.dmn.core.impl.DMNRuntimeUtils.populateInputsFromTopmostModel;
 import static org.kie.dmn.core.impl.DMNRuntimeUtils.populateResultContextWithTopmostParentsValues;
 import static org.kie.dmn.core.util.CoerceUtil.coerceValue;
 
@@ -85,6 +88,7 @@ public class DMNRuntimeImpl
 
     private boolean overrideRuntimeTypeCheck = false;
     private RuntimeModeOption.MODE runtimeModeOption = RuntimeModeOption.MODE.LENIENT;
+    private ParallelEvaluationOption parallelEvaluationOption = new ParallelEvaluationOption(ParallelEvaluationOption.DEFAULT_VALUE);
 
     private DMNResultImplFactory dmnResultFactory = new DMNResultImplFactory();
 
@@ -119,19 +123,70 @@ public class DMNRuntimeImpl
     public DMNResult evaluateAll(DMNModel model, DMNContext context) {
         Objects.requireNonNull(model, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "model"));
         Objects.requireNonNull(context, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "context"));
-        boolean performRuntimeTypeCheck = performRuntimeTypeCheck(model);
-        boolean strictMode = this.runtimeModeOption.equals(RuntimeModeOption.MODE.STRICT);
-        DMNResultImpl result = createResult(model, context);
-        DMNRuntimeEventManagerUtils.fireBeforeEvaluateAll(eventManager, model, result);
-        // the engine should evaluate all Decisions belonging to the "local" model namespace, not imported decision
-        // explicitly.
-        Set<DecisionNode> decisions = model.getDecisions().stream()
-                .filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet());
-        for (DecisionNode decision : decisions) {
-            evaluateDecision(context, result, decision, performRuntimeTypeCheck, strictMode);
+        return evaluateAll(model, context.clone(), getLocalDecisions(model));
+    }
+
+    /**
+     * Evaluates the given decisions, which are the local ones of the model, using the given context without
+     * cloning it, so it must not be shared with the caller.
+     */
+    DMNResult evaluateAll(DMNModel model, DMNContext resultContext, Collection<DecisionNode> decisions) {
+        return prepareEvaluateAll(model, decisions).evaluate(resultContext);
+    }
+
+    /**
+     * Resolves once the part of {@link #evaluateAll(DMNModel, DMNContext, Collection)} that doesn't depend on the
+     * context, so that it can be applied to many contexts.
+     */
+    PreparedEvaluation prepareEvaluateAll(DMNModel model, Collection<DecisionNode> decisions) {
+        return new PreparedEvaluation(model, decisions);
+    }
+
+    /**
+     * The evaluation of the given decisions of a model with the runtime options, the topmost parents of the import
+     * chain of the model and the presence of listeners resolved when it is prepared. It is thread safe.
+     */
+    final class PreparedEvaluation {
+
+        private final DMNModel model;
+        private final Collection<DecisionNode> decisions;
+        private final boolean performRuntimeTypeCheck;
+        private final boolean strictMode;
+        private final Set<DMNModelImpl.ModelImportTuple> topmostModels;
+        private final boolean notifyListeners;
+
+        private PreparedEvaluation(DMNModel model, Collection<DecisionNode> decisions) {
+            this.model = model;
+            this.decisions = decisions;
+            this.performRuntimeTypeCheck = performRuntimeTypeCheck(model);
+            this.strictMode = runtimeModeOption.equals(RuntimeModeOption.MODE.STRICT);
+            this.topmostModels = ((DMNModelImpl) model).getTopmostParents().orElse(null);
+            this.notifyListeners = eventManager.hasListeners();
+        }
+
+        DMNResult evaluate(DMNContext resultContext) {
+            DMNResultImpl result = dmnResultFactory.newDMNResultImpl(model);
+            result.setContext(resultContext);
+            if (topmostModels != null) {
+                populateInputsFromTopmostModel(resultContext, (DMNModelImpl) model, topmostModels);
+            }
+            for (DecisionNode decision : decisions) {
+                result.addDecisionResult(new DMNDecisionResultImpl(decision.getId(), decision.getName()));
+            }
+
+            if (notifyListeners) {
+                DMNRuntimeEventManagerUtils.fireBeforeEvaluateAll(eventManager, model, result);
+            }
+            if (!evaluateInParallel(result, decisions, performRuntimeTypeCheck, strictMode)) {
+                for (DecisionNode decision : decisions) {
+                    evaluateDecision(resultContext, result, decision, performRuntimeTypeCheck, strictMode);
+                }
+            }
+            if (notifyListeners) {
+                DMNRuntimeEventManagerUtils.fireAfterEvaluateAll(eventManager, model, result);
+            }
+            return result;
         }
-        DMNRuntimeEventManagerUtils.fireAfterEvaluateAll(eventManager, model, result);
-        return result;
     }
 
     @Override
@@ -162,12 +217,22 @@ public class DMNRuntimeImpl
         }
         final DMNResultImpl result = createResult(model, context);
         boolean strictMode = this.runtimeModeOption.equals(RuntimeModeOption.MODE.STRICT);
-        for (String name : decisionNames) {
-            evaluateByNameInternal(model, context, result, name, strictMode);
+        List<DecisionNode> decisions = Arrays.stream(decisionNames).map(model::getDecisionByName).toList();
+        if (decisions.contains(null) || !evaluateInParallel(result, decisions, performRuntimeTypeCheck(model), strictMode)) {
+            for (String name : decisionNames) {
+                evaluateByNameInternal(model, context, result, name, strictMode);
+            }
         }
         return result;
     }
 
+    private boolean evaluateInParallel(DMNResultImpl result, Collection<DecisionNode> decisions, boolean typeCheck,
+                                       boolean strictMode) {
+        // in strict mode the evaluation stops at the first error, so it depends on the order of the decisions
+        return parallelEvaluationOption.isParallelEvaluation() && !strictMode &&
+                DMNParallelEvaluator.evaluate(this, parallelEvaluationOption.getExecutor(), result, decisions, typeCheck);
+    }
+
     private void evaluateByNameInternal(DMNModel model, DMNContext context, DMNResultImpl result, String name,
                                         boolean strictMode) {
         boolean performRuntimeTypeCheck = performRuntimeTypeCheck(model);
@@ -201,8 +266,11 @@ public class DMNRuntimeImpl
         }
         final DMNResultImpl result = createResult(model, context);
         boolean strictMode = this.runtimeModeOption.equals(RuntimeModeOption.MODE.STRICT);
-        for (String id : decisionIds) {
-            evaluateByIdInternal(model, context, result, id, strictMode);
+        List<DecisionNode> decisions = Arrays.stream(decisionIds).map(model::getDecisionById).toList();
+        if (decisions.contains(null) || !evaluateInParallel(result, decisions, performRuntimeTypeCheck(model), strictMode)) {
+            for (String id : decisionIds) {
+                evaluateByIdInternal(model, context, result, id, strictMode);
+            }
         }
         return result;
     }
@@ -251,15 +319,29 @@ public class DMNRuntimeImpl
     }
 
     private DMNResultImpl createResult(DMNModel model, DMNContext context) {
-        DMNResultImpl result = createResultImpl(model, context);
+        return createResult(model, context.clone(), getLocalDecisions(model));
+    }
+
+    private DMNResultImpl createResult(DMNModel model, DMNContext resultContext, Collection<DecisionNode> decisions) {
+        DMNResultImpl result = dmnResultFactory.newDMNResultImpl(model);
+        result.setContext(resultContext);
+        populateResultContextWithTopmostParentsValues(result.getContext(), (DMNModelImpl) model);
 
-        for (DecisionNode decision :
-                model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet())) {
+        for (DecisionNode decision : decisions) {
             result.addDecisionResult(new DMNDecisionResultImpl(decision.getId(), decision.getName()));
         }
         return result;
     }
 
+    /**
+     * Returns the decisions belonging to the "local" model namespace: the engine should evaluate all of them, not
+     * the imported decisions explicitly.
+     */
+    static Set<DecisionNode> getLocalDecisions(DMNModel model) {
+        return model.getDecisions().stream()
+                .filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet());
+    }
+
     private DMNResultImpl createResultImpl(DMNModel model, DMNContext context) {
         DMNResultImpl result = dmnResultFactory.newDMNResultImpl(model);
         result.setContext(context.clone()); // DMNContextFPAImpl.clone() creates DMNContextImpl
@@ -271,6 +353,10 @@ public class DMNRuntimeImpl
         this.dmnResultFactory = dmnResultFactory;
     }
 
+    public DMNResultImplFactory getDMNResultImplFactory() {
+        return dmnResultFactory;
+    }
+
     @Override
     public DMNResult evaluateDecisionService(DMNModel model, DMNContext context, String decisionServiceName) {
         Objects.requireNonNull(model, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "model"));
@@ -568,7 +654,7 @@ public class DMNRuntimeImpl
         }
     }
 
-    private boolean evaluateDecision(DMNContext context, DMNResultImpl result, DecisionNode d, boolean typeCheck,
+    boolean evaluateDecision(DMNContext context, DMNResultImpl result, DecisionNode d, boolean typeCheck,
                                      boolean strictMode) {
         DecisionNodeImpl decision = (DecisionNodeImpl) d;
         String decisionId = d.getModelNamespace().equals(result.getModel().getNamespace()) ? decision.getId() :
@@ -812,6 +898,8 @@ public class DMNRuntimeImpl
             this.overrideRuntimeTypeCheck = ((RuntimeTypeCheckOption) option).isRuntimeTypeCheck();
         } else if (option instanceof RuntimeModeOption) {
             this.runtimeModeOption = ((RuntimeModeOption) option).getRuntimeMode();
+        } else if (option instanceof ParallelEvaluationOption) {
+            this.parallelEvaluationOption = (ParallelEvaluationOption) option;
         }
     }
 
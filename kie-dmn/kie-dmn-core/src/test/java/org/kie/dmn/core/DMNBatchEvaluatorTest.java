@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.event.AfterEvaluateAllEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.impl.DMNBatchEvaluator;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DMNBatchEvaluatorTest extends BaseInterpretedVsCompiledTest {
+
+    private static final int ROWS = 200;
+
+    private ExecutorService executor;
+    private DMNRuntime runtime;
+    private DMNModel dmnModel;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @MethodSource("params")
+    void evaluateRows(boolean useExecModelCompiler) {
+        init(useExecModelCompiler);
+        createRuntime();
+        List<DMNContext> rows = IntStream.range(0, ROWS).mapToObj(i -> context(age(i), yearsOfService(i))).collect(Collectors.toList());
+        List<BigDecimal> expected = rows.stream().map(row -> totalVacationDays(runtime.evaluateAll(dmnModel, row))).collect(Collectors.toList());
+
+        assertThat(new DMNBatchEvaluator(runtime, dmnModel).evaluateAll(rows.stream()).map(DMNBatchEvaluatorTest::totalVacationDays))
+                .containsExactlyElementsOf(expected);
+        assertThat(new DMNBatchEvaluator(runtime, dmnModel).withExecutor(executor, 8).evaluateAll(rows.stream()).map(DMNBatchEvaluatorTest::totalVacationDays))
+                .containsExactlyElementsOf(expected);
+        // the input rows are not modified
+        assertThat(rows.get(0).getAll()).containsOnlyKeys("Age", "Years of Service");
+    }
+
+    @ParameterizedTest
+    @MethodSource("params")
+    void evaluateColumns(boolean useExecModelCompiler) {
+        init(useExecModelCompiler);
+        createRuntime();
+        Map<String, List<?>> columns = new LinkedHashMap<>();
+        columns.put("Age", IntStream.range(0, ROWS).mapToObj(DMNBatchEvaluatorTest::age).collect(Collectors.toList()));
+        columns.put("Years of Service", IntStream.range(0, ROWS).mapToObj(DMNBatchEvaluatorTest::yearsOfService).collect(Collectors.toList()));
+        List<BigDecimal> expected = IntStream.range(0, ROWS)
+                .mapToObj(i -> totalVacationDays(runtime.evaluateAll(dmnModel, context(age(i), yearsOfService(i)))))
+                .collect(Collectors.toList());
+
+        List<DMNResult> results = new DMNBatchEvaluator(runtime, dmnModel).evaluateAll(columns).collect(Collectors.toList());
+        assertThat(results).allMatch(r -> !r.hasErrors());
+        assertThat(results.stream().map(DMNBatchEvaluatorTest::totalVacationDays)).containsExactlyElementsOf(expected);
+        assertThat(new DMNBatchEvaluator(runtime, dmnModel).withExecutor(executor, 3).evaluateAll(columns).map(DMNBatchEvaluatorTest::totalVacationDays))
+                .containsExactlyElementsOf(expected);
+
+        columns.put("Age", Arrays.asList(16, 25));
+        assertThatThrownBy(() -> new DMNBatchEvaluator(runtime, dmnModel).evaluateAll(columns))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("params")
+    void rowsAreConsumedLazily(boolean useExecModelCompiler) {
+        init(useExecModelCompiler);
+        createRuntime();
+        AtomicInteger consumedRows = new AtomicInteger();
+        Stream<DMNContext> rows = Stream.iterate(0, i -> i + 1).map(i -> {
+            consumedRows.incrementAndGet();
+            return context(age(i), yearsOfService(i));
+        });
+
+        List<DMNResult> results = new DMNBatchEvaluator(runtime, dmnModel).withExecutor(executor, 4).evaluateAll(rows)
+                .limit(10).collect(Collectors.toList());
+
+        assertThat(results).hasSize(10);
+        assertThat(consumedRows.get()).isBetween(10, 14);
+    }
+
+    @ParameterizedTest
+    @MethodSource("params")
+    void atMostMaxPendingRowsAreInFlight(boolean useExecModelCompiler) {
+        init(useExecModelCompiler);
+        createRuntime();
+        AtomicInteger submittedRows = new AtomicInteger();
+        AtomicInteger returnedRows = new AtomicInteger();
+        AtomicInteger maxInFlightRows = new AtomicInteger();
+        Executor countingExecutor = task -> {
+            maxInFlightRows.accumulateAndGet(submittedRows.incrementAndGet() - returnedRows.get(), Math::max);
+            executor.execute(task);
+        };
+
+        Iterator<DMNResult> results = new DMNBatchEvaluator(runtime, dmnModel).withExecutor(countingExecutor, 4)
+                .evaluateAll(IntStream.range(0, ROWS).mapToObj(i -> context(age(i), yearsOfService(i)))).iterator();
+        while (results.hasNext()) {
+            assertThat(results.next().hasErrors()).isFalse();
+            returnedRows.incrementAndGet();
+        }
+
+        assertThat(returnedRows.get()).isEqualTo(ROWS);
+        assertThat(maxInFlightRows.get()).isEqualTo(4);
+    }
+
+    @ParameterizedTest
+    @MethodSource("params")
+    void listenersAreNotifiedOfEachRow(boolean useExecModelCompiler) {
+        init(useExecModelCompiler);
+        createRuntime();
+        AtomicInteger evaluatedRows = new AtomicInteger();
+        AtomicInteger evaluatedDecisions = new AtomicInteger();
+        runtime.addListener(new DMNRuntimeEventListener() {
+            @Override
+            public void afterEvaluateAll(AfterEvaluateAllEvent event) {
+                evaluatedRows.incrementAndGet();
+            }
+
+            @Override
+            public void afterEvaluateDecision(AfterEvaluateDecisionEvent event) {
+                evaluatedDecisions.incrementAndGet();
+            }
+        });
+
+        runtime.evaluateAll(dmnModel, context(age(0), yearsOfService(0)));
+        int decisionsPerRow = evaluatedDecisions.get();
+        assertThat(evaluatedRows.get()).isEqualTo(1);
+
+        assertThat(new DMNBatchEvaluator(runtime, dmnModel).withExecutor(executor, 4)
+                           .evaluateAll(IntStream.range(0, ROWS).mapToObj(i -> context(age(i), yearsOfService(i)))))
+                .hasSize(ROWS);
+        assertThat(evaluatedRows.get()).isEqualTo(ROWS + 1);
+        assertThat(evaluatedDecisions.get()).isEqualTo(decisionsPerRow * (ROWS + 1));
+    }
+
+    private void createRuntime() {
+        runtime = DMNRuntimeUtil.createRuntime("0020-vacation-days.dmn", this.getClass());
+        dmnModel = runtime.getModel("https://www.drools.org/kie-dmn", "0020-vacation-days");
+        assertThat(dmnModel).isNotNull();
+    }
+
+    private static int age(int row) {
+        return 16 + row % 50;
+    }
+
+    private static int yearsOfService(int row) {
+        return row % 35;
+    }
+
+    private static DMNContext context(int age, int yearsOfService) {
+        DMNContext context = DMNFactory.newContext();
+        context.set("Age", age);
+        context.set("Years of Service", yearsOfService);
+        return context;
+    }
+
+    private static BigDecimal totalVacationDays(DMNResult result) {
+        return (BigDecimal) result.getContext().get("Total Vacation Days");
+    }
+}
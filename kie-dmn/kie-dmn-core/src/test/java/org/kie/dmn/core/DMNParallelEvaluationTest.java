@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNDecisionResult;
+import org.kie.dmn.api.core.DMNMessage;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
+import org.kie.dmn.core.impl.DMNRuntimeImpl;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.dmn.api.core.DMNDecisionResult.DecisionEvaluationStatus.NOT_EVALUATED;
+import static org.kie.dmn.api.core.DMNDecisionResult.DecisionEvaluationStatus.SKIPPED;
+import static org.kie.dmn.api.core.DMNDecisionResult.DecisionEvaluationStatus.SUCCEEDED;
+
+public class DMNParallelEvaluationTest extends BaseInterpretedVsCompiledTest {
+
+    private ExecutorService executor;
+    private DMNRuntime runtime;
+    private DMNModel dmnModel;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @MethodSource("params")
+    void independentDecisionsAreEvaluatedConcurrently(boolean useExecModelCompiler) {
+        init(useExecModelCompiler);
+        createRuntime(true);
+
+        // the decisions required by the total can only pass the barrier when evaluated at the same time
+        CyclicBarrier barrier = new CyclicBarrier(4);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        runtime.addListener(new DMNRuntimeEventListener() {
+            @Override
+            public void beforeEvaluateDecision(BeforeEvaluateDecisionEvent event) {
+                if (!event.getDecision().getName().equals("Total Vacation Days")) {
+                    try {
+                        barrier.await(10, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                events.add("before " + event.getDecision().getName());
+            }
+
+            @Override
+            public void afterEvaluateDecision(AfterEvaluateDecisionEvent event) {
+                events.add("after " + event.getDecision().getName());
+            }
+        });
+
+        DMNResult dmnResult = evaluateAll(16, 1);
+
+        assertThat(dmnResult.hasErrors()).as(dmnResult.getMessages().toString()).isFalse();
+        assertThat(dmnResult.getContext().get("Total Vacation Days")).isEqualTo(BigDecimal.valueOf(27));
+        assertThat(dmnResult.getDecisionResults()).allMatch(dr -> dr.getEvaluationStatus() == SUCCEEDED);
+        assertThat(events).hasSize(10).endsWith("before Total Vacation Days", "after Total Vacation Days");
+    }
+
+    @ParameterizedTest
+    @MethodSource("params")
+    void sameResultOfSequentialEvaluation(boolean useExecModelCompiler) {
+        init(useExecModelCompiler);
+        createRuntime(false);
+        DMNResult sequential = evaluateAll(44, 20);
+        DMNResult sequentialWithErrors = evaluateAll("44", 20);
+
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+        DMNResult parallel = evaluateAll(44, 20);
+        DMNResult parallelWithErrors = evaluateAll("44", 20);
+
+        assertSameResult(parallel, sequential);
+        assertSameResult(parallelWithErrors, sequentialWithErrors);
+        assertThat(parallelWithErrors.getDecisionResultByName("Total Vacation Days").getEvaluationStatus()).isEqualTo(SKIPPED);
+
+        // the order of the messages doesn't depend on the scheduling
+        for (int i = 0; i < 10; i++) {
+            assertThat(messages(evaluateAll("44", 20))).isEqualTo(messages(parallelWithErrors));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("params")
+    void evaluateByNameOnlyEvaluatesTheRequiredDecisions(boolean useExecModelCompiler) {
+        init(useExecModelCompiler);
+        createRuntime(true);
+
+        DMNContext context = DMNFactory.newContext();
+        context.set("Age", 16);
+        context.set("Years of Service", 1);
+        context.set("Extra days case 1", 0);
+        DMNResult dmnResult = runtime.evaluateByName(dmnModel, context, "Extra days case 2", "Total Vacation Days");
+
+        assertThat(dmnResult.hasErrors()).as(dmnResult.getMessages().toString()).isFalse();
+        assertThat(dmnResult.getContext().get("Total Vacation Days")).isEqualTo(BigDecimal.valueOf(22));
+        assertThat(dmnResult.getDecisionResultByName("Extra days case 1").getEvaluationStatus()).isEqualTo(NOT_EVALUATED);
+        assertThat(dmnResult.getDecisionResultByName("Extra days case 2").getEvaluationStatus()).isEqualTo(SUCCEEDED);
+        assertThat(dmnResult.getDecisionResultByName("Extra days case 3").getEvaluationStatus()).isEqualTo(SUCCEEDED);
+        assertThat(dmnResult.getDecisionResultByName("Base Vacation Days").getEvaluationStatus()).isEqualTo(SUCCEEDED);
+    }
+
+    private void createRuntime(boolean parallel) {
+        runtime = DMNRuntimeUtil.createRuntime("0020-vacation-days.dmn", this.getClass());
+        dmnModel = runtime.getModel("https://www.drools.org/kie-dmn", "0020-vacation-days");
+        assertThat(dmnModel).isNotNull();
+        if (parallel) {
+            ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+        }
+    }
+
+    private DMNResult evaluateAll(Object age, Object yearsOfService) {
+        DMNContext context = DMNFactory.newContext();
+        context.set("Age", age);
+        context.set("Years of Service", yearsOfService);
+        return runtime.evaluateAll(dmnModel, context);
+    }
+
+    private static void assertSameResult(DMNResult actual, DMNResult expected) {
+        assertThat(actual.getContext().getAll()).isEqualTo(expected.getContext().getAll());
+        assertThat(messages(actual)).containsExactlyInAnyOrderElementsOf(messages(expected));
+        for (DMNDecisionResult expectedDecisionResult : expected.getDecisionResults()) {
+            DMNDecisionResult decisionResult = actual.getDecisionResultById(expectedDecisionResult.getDecisionId());
+            assertThat(decisionResult.getEvaluationStatus()).isEqualTo(expectedDecisionResult.getEvaluationStatus());
+            assertThat(decisionResult.getResult()).isEqualTo(expectedDecisionResult.getResult());
+            assertThat(messages(decisionResult.getMessages())).isEqualTo(messages(expectedDecisionResult.getMessages()));
+        }
+    }
+
+    private static List<String> messages(DMNResult dmnResult) {
+        return messages(dmnResult.getMessages());
+    }
+
+    private static List<String> messages(List<DMNMessage> messages) {
+        return messages.stream().map(m -> m.getSeverity() + " " + m.getSourceId() + " " + m.getText()).collect(Collectors.toList());
+    }
+}
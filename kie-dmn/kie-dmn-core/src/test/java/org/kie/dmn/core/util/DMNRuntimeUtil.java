@@ -44,6 +44,7 @@ import org.kie.dmn.api.core.event.BeforeEvaluateDecisionEvent;
 import org.kie.dmn.api.core.event.BeforeEvaluateDecisionTableEvent;
 import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
 import org.kie.dmn.core.api.event.DefaultDMNRuntimeEventListener;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
 import org.kie.dmn.core.compiler.RuntimeModeOption;
 import org.kie.dmn.core.compiler.RuntimeTypeCheckOption;
 import org.kie.dmn.core.impl.DMNRuntimeImpl;
@@ -140,6 +141,7 @@ public final class DMNRuntimeUtil {
         ((DMNRuntimeImpl) dmnRuntime).setOption(new RuntimeTypeCheckOption(true));
         String runtimeMode = System.getProperty(RuntimeModeOption.PROPERTY_NAME, RuntimeModeOption.MODE.LENIENT.getMode());
         ((DMNRuntimeImpl)dmnRuntime).setOption(new RuntimeModeOption(runtimeMode));
+        ((DMNRuntimeImpl)dmnRuntime).setOption(new ParallelEvaluationOption(System.getProperty(ParallelEvaluationOption.PROPERTY_NAME)));
         return dmnRuntime;
     }
     
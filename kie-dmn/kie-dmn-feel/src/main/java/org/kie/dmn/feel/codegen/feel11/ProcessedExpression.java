@@ -28,9 +28,11 @@ import org.kie.dmn.feel.lang.EvaluationContext;
 import org.kie.dmn.feel.lang.FEELProfile;
 import org.kie.dmn.feel.lang.ast.visitor.ASTHeuristicCheckerVisitor;
 import org.kie.dmn.feel.lang.ast.visitor.ASTTemporalConstantVisitor;
+import org.kie.dmn.feel.lang.ast.visitor.ASTVariableSlotsVisitor;
 import org.kie.dmn.feel.lang.impl.CompiledExecutableExpression;
 import org.kie.dmn.feel.lang.impl.CompiledExpressionImpl;
 import org.kie.dmn.feel.lang.impl.InterpretedExecutableExpression;
+import org.kie.dmn.feel.lang.impl.VariableSlots;
 import org.kie.dmn.feel.parser.feel11.ASTBuilderVisitor;
 
 import static org.kie.dmn.feel.codegen.feel11.ProcessedFEELUnit.DefaultMode.Compiled;
@@ -45,6 +47,8 @@ public class ProcessedExpression extends ProcessedFEELUnit {
 
     private CompiledFEELExpression executableFEELExpression;
 
+    private VariableSlots variableSlots;
+
     public ProcessedExpression(
             String expression,
             CompilerContext ctx,
@@ -67,6 +71,18 @@ public class ProcessedExpression extends ProcessedFEELUnit {
         if (astVisitor.isVisitedTemporalCandidate()) {
             ast.accept(new ASTTemporalConstantVisitor(ctx));
         }
+        ASTVariableSlotsVisitor slotsVisitor = new ASTVariableSlotsVisitor(ctx.getInputVariableTypes());
+        ast.accept(slotsVisitor);
+        variableSlots = slotsVisitor.getVariableSlots();
+    }
+
+    /**
+     * @return the layout of the typed input variables referenced by this expression, to be used with
+     * {@link org.kie.dmn.feel.lang.impl.FEELImpl#newEvaluationContext(java.util.Collection, java.util.Map, VariableSlots)},
+     * or null if the expression has to be evaluated against a map-based context
+     */
+    public VariableSlots getVariableSlots() {
+        return variableSlots;
     }
 
     public CompiledFEELExpression asCompiledFEELExpression() {
@@ -22,13 +22,20 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.kie.dmn.api.feel.runtime.events.FEELEvent;
 import org.kie.dmn.feel.lang.EvaluationContext;
 import org.kie.dmn.feel.lang.Type;
+import org.kie.dmn.feel.lang.impl.EvaluationContextImpl;
+import org.kie.dmn.feel.lang.impl.ExecutionFrame;
+import org.kie.dmn.feel.lang.impl.SlotExecutionFrame;
+import org.kie.dmn.feel.lang.impl.VariableSlots;
 import org.kie.dmn.feel.util.Msg;
+import org.kie.dmn.feel.util.StringEvalHelper;
 
 public class NameRefNode
         extends BaseNode {
 
     private Type resultType;
 
+    private SlotIndex slotIndex;
+
     public NameRefNode(ParserRuleContext ctx, Type type) {
         super( ctx );
         this.resultType = type;
@@ -47,6 +54,16 @@ public class NameRefNode
 
     @Override
     public Object evaluate(EvaluationContext ctx) {
+        if (ctx instanceof EvaluationContextImpl) {
+            ExecutionFrame frame = ((EvaluationContextImpl) ctx).peek();
+            if (frame instanceof SlotExecutionFrame) {
+                SlotExecutionFrame slotFrame = (SlotExecutionFrame) frame;
+                int index = getSlotIndex(slotFrame.getVariableSlots());
+                if (index >= 0 && slotFrame.isSlotDefined(index)) {
+                    return slotFrame.getSlotValue(index);
+                }
+            }
+        }
         Object result = ctx.getValue( getText() );
         if ( result == null && !ctx.isDefined( getText() ) ) {
             ctx.notifyEvt( astEvent( FEELEvent.Severity.ERROR, Msg.createMessage( Msg.UNKNOWN_VARIABLE_REFERENCE, getText()), null) );
@@ -54,6 +71,19 @@ public class NameRefNode
         return result;
     }
 
+    /**
+     * The slot of this name is resolved once per layout, as the same node is evaluated against the frames of a single
+     * compiled expression, and published as an immutable pair so that concurrent evaluations can race on it safely.
+     */
+    private int getSlotIndex(VariableSlots slots) {
+        SlotIndex current = slotIndex;
+        if (current == null || current.slots != slots) {
+            current = new SlotIndex(slots, slots.indexOf(StringEvalHelper.normalizeVariableName(getText())));
+            slotIndex = current;
+        }
+        return current.index;
+    }
+
     @Override
     public Type getResultType() {
         return resultType;
@@ -63,4 +93,15 @@ public class NameRefNode
     public <T> T accept(Visitor<T> v) {
         return v.visit(this);
     }
+
+    private static final class SlotIndex {
+
+        private final VariableSlots slots;
+        private final int index;
+
+        private SlotIndex(VariableSlots slots, int index) {
+            this.slots = slots;
+            this.index = index;
+        }
+    }
 }
@@ -50,6 +50,7 @@ import org.kie.dmn.feel.runtime.Range;
 import org.kie.dmn.feel.util.BooleanEvalHelper;
 import org.kie.dmn.feel.util.BuiltInTypeUtils;
 import org.kie.dmn.feel.util.DateTimeEvalHelper;
+import org.kie.dmn.feel.util.NumberEvalHelper;
 
 import static org.kie.dmn.feel.lang.ast.infixexecutors.InfixExecutorUtils.addLocalDateAndDuration;
 import static org.kie.dmn.feel.lang.ast.infixexecutors.InfixExecutorUtils.commonManageInvalidParameters;
@@ -83,7 +84,7 @@ public abstract class DefaultDialectHandler implements DialectHandler {
                 (left, right) -> {
                     BigDecimal leftNum = getBigDecimalOrNull(left);
                     BigDecimal rightNum = getBigDecimal(right, ctx);
-                    return leftNum != null && rightNum != null ? leftNum.add(rightNum, MathContext.DECIMAL128) : null;
+                    return leftNum != null && rightNum != null ? NumberEvalHelper.add(leftNum, rightNum) : null;
                 });
 
         // Duration + LocalDate
@@ -406,7 +407,7 @@ public abstract class DefaultDialectHandler implements DialectHandler {
                 (left, right) -> {
                     BigDecimal leftNum = getBigDecimal(left, ctx);
                     BigDecimal rightNum = getBigDecimal(right, ctx);
-                    return leftNum != null && rightNum != null ? leftNum.subtract(rightNum, MathContext.DECIMAL128) : null;
+                    return leftNum != null && rightNum != null ? NumberEvalHelper.subtract(leftNum, rightNum) : null;
                 });
 
         // Number - Number
@@ -415,7 +416,7 @@ public abstract class DefaultDialectHandler implements DialectHandler {
                 (left, right) -> {
                     BigDecimal leftNum = getBigDecimal(left, ctx);
                     BigDecimal rightNum = getBigDecimal(right, ctx);
-                    return leftNum != null && rightNum != null ? leftNum.subtract(rightNum, MathContext.DECIMAL128) : null;
+                    return leftNum != null && rightNum != null ? NumberEvalHelper.subtract(leftNum, rightNum) : null;
                 });
 
         // LocalDate - Duration
@@ -470,7 +471,7 @@ public abstract class DefaultDialectHandler implements DialectHandler {
                 (left, right) -> {
                     BigDecimal leftNum = getBigDecimalOrNull(left);
                     BigDecimal rightNum = getBigDecimal(right, ctx);
-                    return leftNum != null && rightNum != null ? leftNum.multiply(rightNum, MathContext.DECIMAL128) : null;
+                    return leftNum != null && rightNum != null ? NumberEvalHelper.multiply(leftNum, rightNum) : null;
                 });
 
         // Number * Duration
@@ -534,7 +535,7 @@ public abstract class DefaultDialectHandler implements DialectHandler {
                 (left, right) -> {
                     BigDecimal leftBD = getBigDecimalOrNull(left);
                     BigDecimal rightBD = getBigDecimalOrNull(right);
-                    return leftBD.divide(rightBD, MathContext.DECIMAL128);
+                    return NumberEvalHelper.divide(leftBD, rightBD);
                 });
 
         // Number ÷ Number , Division by zero case → notify
@@ -626,6 +627,10 @@ public abstract class DefaultDialectHandler implements DialectHandler {
 
     @Override
     public Object executeAdd(Object left, Object right, EvaluationContext ctx) {
+        if (left instanceof BigDecimal leftNum && right instanceof BigDecimal rightNum) {
+            // Number + Number is the first operation matched by two numbers in every dialect
+            return NumberEvalHelper.add(leftNum, rightNum);
+        }
         return executeOperation(left, right, ctx, getAddOperations(ctx));
     }
 
@@ -676,16 +681,26 @@ public abstract class DefaultDialectHandler implements DialectHandler {
 
     @Override
     public Object executeSub(Object left, Object right, EvaluationContext ctx) {
+        if (left instanceof BigDecimal leftNum && right instanceof BigDecimal rightNum) {
+            return NumberEvalHelper.subtract(leftNum, rightNum);
+        }
         return executeOperation(left, right, ctx, getSubOperations(ctx));
     }
 
     @Override
     public Object executeMult(Object left, Object right, EvaluationContext ctx) {
+        if (left instanceof BigDecimal leftNum && right instanceof BigDecimal rightNum) {
+            return NumberEvalHelper.multiply(leftNum, rightNum);
+        }
         return executeOperation(left, right, ctx, getMultOperations(ctx));
     }
 
     @Override
     public Object executeDivision(Object left, Object right, EvaluationContext ctx) {
+        if (left instanceof BigDecimal leftNum && right instanceof BigDecimal rightNum && rightNum.signum() != 0) {
+            // division by zero is left to the operations, as it has to be notified
+            return NumberEvalHelper.divide(leftNum, rightNum);
+        }
         return executeOperation(left, right, ctx, getDivisionOperations(ctx));
     }
 
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.lang.ast.visitor;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.dmn.feel.lang.Type;
+import org.kie.dmn.feel.lang.ast.ASTNode;
+import org.kie.dmn.feel.lang.ast.FunctionDefNode;
+import org.kie.dmn.feel.lang.ast.NameRefNode;
+import org.kie.dmn.feel.lang.impl.VariableSlots;
+import org.kie.dmn.feel.util.StringEvalHelper;
+
+/**
+ * Collects the input variables, whose type is known at compile time, referenced by an expression.
+ * The resulting layout is not defined for expressions defining functions, as their closures
+ * are evaluated after the input context they captured has been released.
+ */
+public class ASTVariableSlotsVisitor extends DefaultedVisitor<Void> {
+
+    private final Set<String> inputVariables = new LinkedHashSet<>();
+    private final Set<String> referencedVariables = new LinkedHashSet<>();
+    private boolean definesFunctions;
+
+    public ASTVariableSlotsVisitor(Map<String, Type> inputVariableTypes) {
+        for (String name : inputVariableTypes.keySet()) {
+            inputVariables.add(StringEvalHelper.normalizeVariableName(name));
+        }
+    }
+
+    @Override
+    public Void defaultVisit(ASTNode n) {
+        for (ASTNode node : n.getChildrenNode()) {
+            if (node != null) {
+                node.accept(this);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(NameRefNode n) {
+        String name = StringEvalHelper.normalizeVariableName(n.getText());
+        if (inputVariables.contains(name)) {
+            referencedVariables.add(name);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(FunctionDefNode n) {
+        definesFunctions = true;
+        return null;
+    }
+
+    /**
+     * @return the layout of the referenced input variables, or null if there are none or the expression defines functions
+     */
+    public VariableSlots getVariableSlots() {
+        return definesFunctions || referencedVariables.isEmpty() ? null : VariableSlots.of(referencedVariables);
+    }
+}
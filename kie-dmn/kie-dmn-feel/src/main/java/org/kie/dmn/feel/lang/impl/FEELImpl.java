@@ -155,7 +155,8 @@ public class FEELImpl
     @Override
     public Object evaluate(CompiledExpression expr, Map<String, Object> inputVariables) {
         CompiledFEELExpression e = (CompiledFEELExpression) expr;
-        EvaluationContextImpl evaluationContext = newEvaluationContext(Collections.emptySet(), inputVariables); // split to simplify debug
+        VariableSlots variableSlots = e instanceof ProcessedExpression ? ((ProcessedExpression) e).getVariableSlots() : null;
+        EvaluationContextImpl evaluationContext = newEvaluationContext(Collections.emptySet(), inputVariables, variableSlots); // split to simplify debug
         return e.apply(evaluationContext);
     }
     
@@ -190,6 +191,20 @@ public class FEELImpl
         return ctx;
     }
 
+    /**
+     * Creates a new EvaluationContext using this FEEL instance classloader, where the global frame holds the variables of
+     * the supplied layout in an array, and reads the other inputVariables only when they are referenced
+     */
+    public EvaluationContextImpl newEvaluationContext(Collection<FEELEventListener> listeners, Map<String, Object> inputVariables, VariableSlots variableSlots) {
+        if (variableSlots == null) {
+            return newEvaluationContext(listeners, inputVariables);
+        }
+        EvaluationContextImpl ctx = newEvaluationContext(this.classLoader, listeners, Collections.emptyMap());
+        ExecutionFrameImpl globalFrame = (ExecutionFrameImpl) ctx.pop();
+        ctx.push(new SlotExecutionFrame(globalFrame.getParentFrame(), variableSlots, inputVariables));
+        return ctx;
+    }
+
     @Override
     public List<UnaryTest> evaluateUnaryTests(String expression) {
         return evaluateUnaryTests( expression, Collections.emptyMap() );
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.lang.impl;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.kie.dmn.feel.util.NumberEvalHelper;
+import org.kie.dmn.feel.util.StringEvalHelper;
+
+/**
+ * A global execution frame holding the variables of a {@link VariableSlots} layout in an array.
+ *
+ * Only the slotted variables are read from the input context when the frame is created, while the
+ * other entries are looked up in the input context on demand. The input context is copied into the
+ * map of this frame, as {@link ExecutionFrameImpl} does, only when its names need to be normalized or
+ * when the frame is asked for all its values, so the input context must not change while the frame is in use.
+ */
+public class SlotExecutionFrame extends ExecutionFrameImpl {
+
+    private static final Object UNDEFINED = new Object();
+
+    private final VariableSlots slots;
+    private final Object[] values;
+
+    private Map<String, Object> inputs;
+    private Boolean normalizedInputs;
+
+    public SlotExecutionFrame(ExecutionFrame parentFrame, VariableSlots slots, Map<String, Object> inputs) {
+        super(parentFrame, 0);
+        this.slots = slots;
+        this.values = new Object[slots.size()];
+        Arrays.fill(values, UNDEFINED);
+        for (int i = 0; i < values.length; i++) {
+            String name = slots.getName(i);
+            Object value = inputs.get(name);
+            if (value != null || inputs.containsKey(name)) {
+                values[i] = NumberEvalHelper.coerceNumber(value);
+            }
+        }
+        this.inputs = inputs;
+    }
+
+    public VariableSlots getVariableSlots() {
+        return slots;
+    }
+
+    /**
+     * @return true if the slot holds a value which is not shadowed by the root object of this frame
+     */
+    public boolean isSlotDefined(int index) {
+        return values[index] != UNDEFINED && getRootObject() == null;
+    }
+
+    public Object getSlotValue(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Object getValue(String symbol) {
+        symbol = StringEvalHelper.normalizeVariableName(symbol);
+        if (getRootObject() == null) {
+            int index = slots.indexOf(symbol);
+            if (index >= 0 && values[index] != UNDEFINED) {
+                return values[index];
+            }
+            resolve(symbol);
+        } else {
+            materialize();
+        }
+        return super.getValue(symbol);
+    }
+
+    @Override
+    public boolean isDefined(String symbol) {
+        symbol = StringEvalHelper.normalizeVariableName(symbol);
+        if (getRootObject() == null) {
+            int index = slots.indexOf(symbol);
+            if (index >= 0 && values[index] != UNDEFINED) {
+                return true;
+            }
+            resolve(symbol);
+        } else {
+            materialize();
+        }
+        return super.isDefined(symbol);
+    }
+
+    @Override
+    public void setValue(String symbol, Object value) {
+        symbol = StringEvalHelper.normalizeVariableName(symbol);
+        int index = slots.indexOf(symbol);
+        if (index >= 0) {
+            values[index] = value;
+            if (inputs != null) {
+                // until the frame is materialized the slot is the only place holding this variable
+                return;
+            }
+        }
+        super.setValue(symbol, value);
+    }
+
+    @Override
+    public Map<String, Object> getAllValues() {
+        materialize();
+        return super.getAllValues();
+    }
+
+    /**
+     * Copies in the map of this frame the not slotted input entry with the given name, if any
+     */
+    private void resolve(String symbol) {
+        if (inputs == null || super.getAllValues().containsKey(symbol)) {
+            return;
+        }
+        if (!hasNormalizedInputs()) {
+            materialize();
+        } else if (inputs.containsKey(symbol)) {
+            super.setValue(symbol, NumberEvalHelper.coerceNumber(inputs.get(symbol)));
+        }
+    }
+
+    private boolean hasNormalizedInputs() {
+        if (normalizedInputs == null) {
+            normalizedInputs = inputs.keySet().stream().allMatch(k -> k == null || k.equals(StringEvalHelper.normalizeVariableName(k)));
+        }
+        return normalizedInputs;
+    }
+
+    private void materialize() {
+        if (inputs == null) {
+            return;
+        }
+        Map<String, Object> variables = super.getAllValues();
+        for (Map.Entry<String, Object> entry : inputs.entrySet()) {
+            String name = StringEvalHelper.normalizeVariableName(entry.getKey());
+            int index = slots.indexOf(name);
+            if (index >= 0) {
+                if (values[index] == UNDEFINED) {
+                    values[index] = NumberEvalHelper.coerceNumber(entry.getValue());
+                }
+            } else {
+                variables.putIfAbsent(name, NumberEvalHelper.coerceNumber(entry.getValue()));
+            }
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != UNDEFINED) {
+                variables.put(slots.getName(i), values[i]);
+            }
+        }
+        inputs = null;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.lang.impl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.dmn.feel.util.StringEvalHelper;
+
+/**
+ * The fixed layout of the variables an expression reads from its input context,
+ * resolved at compile time from the input variables whose type is known.
+ * A {@link SlotExecutionFrame} stores the values of these variables in an array,
+ * indexed as defined by this layout, instead of copying the whole input context into a map.
+ */
+public final class VariableSlots {
+
+    private final String[] names;
+    private final Map<String, Integer> indexes;
+
+    private VariableSlots(String[] names) {
+        this.names = names;
+        this.indexes = new HashMap<>((int) Math.ceil(names.length / 0.75));
+        for (int i = 0; i < names.length; i++) {
+            indexes.put(names[i], i);
+        }
+    }
+
+    public static VariableSlots of(Collection<String> names) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String name : names) {
+            normalized.add(StringEvalHelper.normalizeVariableName(name));
+        }
+        return new VariableSlots(normalized.toArray(new String[0]));
+    }
+
+    /**
+     * @param normalizedName a name already normalized with {@link StringEvalHelper#normalizeVariableName(String)}
+     * @return the index of the slot holding the given variable, or -1 if it has no slot in this layout
+     */
+    public int indexOf(String normalizedName) {
+        Integer index = indexes.get(normalizedName);
+        return index != null ? index : -1;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public String toString() {
+        return "VariableSlots" + indexes.keySet();
+    }
+}
@@ -54,6 +54,7 @@ public class DTDecisionRule implements Indexed {
     private int                      index;
     private String                      id;
     private List<UnaryTest>          inputEntry;
+    private List<String>             inputEntryText;
     private List<CompiledExpression> outputEntry;
 
     public DTDecisionRule(int index, String id) {
@@ -73,6 +74,17 @@ index) inputExpression.
         return this.inputEntry;
     }
 
+    /**
+The texts of the inputEntry instances, in the same order, when available.
+They are used to index the input entries of the decision table, a null text is never indexed.
+     */
+    public List<String> getInputEntryText() {
+        if ( inputEntryText == null ) {
+            inputEntryText = new ArrayList<>();
+        }
+        return this.inputEntryText;
+    }
+
     /**
 A list of the instances of LiteralExpression that compose
 the output components of this DecisionRule. 
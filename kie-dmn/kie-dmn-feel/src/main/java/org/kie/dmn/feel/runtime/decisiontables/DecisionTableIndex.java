@@ -0,0 +1,452 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.kie.dmn.feel.util.NumberEvalHelper;
+
+/**
+ * A per column index of the input entries of a decision table, used to find the rules that can match the actual
+ * inputs without testing all of them.
+ * <p>
+ * The input entries made only of literal values, comparisons with a number, ranges between numbers and "-" are
+ * indexed: the literal values in a hash map, the comparisons and the ranges in an interval tree and the "-" in a
+ * catch-all set. Any other input entry is not indexed and its rule is always a candidate for that column.
+ * The candidates of all the columns are intersected and then still checked against their UnaryTests, so the index
+ * never changes the outcome of the decision table: it only skips the rules that surely don't match.
+ * When an actual input is null or of a type different from the literals of its column the index can't be used
+ * and all the rules have to be tested.
+ */
+final class DecisionTableIndex {
+
+    private static final String NUMBER = "-?(?:\\d+(?:\\.\\d+)?|\\.\\d+)";
+    private static final Pattern NUMBER_PATTERN = Pattern.compile(NUMBER);
+    private static final Pattern COMPARISON_PATTERN = Pattern.compile("(<=|>=|<|>)\\s*(" + NUMBER + ")");
+    private static final Pattern RANGE_PATTERN = Pattern.compile("([\\[(\\]])\\s*(" + NUMBER + ")\\s*\\.\\.\\s*(" + NUMBER + ")\\s*([\\])\\[])");
+
+    private static final Object DASH = new Object();
+
+    private enum Kind {
+        NUMBER, STRING, BOOLEAN
+    }
+
+    private final Column[] columns;
+
+    private DecisionTableIndex(Column[] columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Indexes the input entries of the given rules, using their text
+     * @return the index, or null if no column has any input entry that can be indexed
+     */
+    static DecisionTableIndex build(List<DTInputClause> inputs, List<DTDecisionRule> rules) {
+        Column[] columns = new Column[inputs.size()];
+        boolean indexed = false;
+        for (int i = 0; i < columns.length; i++) {
+            if (!inputs.get(i).isCollection()) {
+                columns[i] = Column.build(i, rules);
+                indexed |= columns[i] != null;
+            }
+        }
+        return indexed ? new DecisionTableIndex(columns) : null;
+    }
+
+    /**
+     * Returns the positions in the list of rules of the rules that can match the given actual inputs
+     * @return the candidate rules, or null if the actual inputs can't be looked up in this index
+     */
+    BitSet findCandidates(Object[] params) {
+        BitSet candidates = null;
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] == null) {
+                continue;
+            }
+            BitSet columnCandidates = columns[i].findCandidates(params[i]);
+            if (columnCandidates == null) {
+                return null;
+            }
+            if (candidates == null) {
+                candidates = columnCandidates;
+            } else {
+                candidates.and(columnCandidates);
+            }
+        }
+        return candidates;
+    }
+
+    private static class Column {
+        private final Kind kind;
+        private final BitSet catchAll;
+        private final Map<Object, int[]> equalities;
+        private final IntervalTree intervals;
+
+        private Column(Kind kind, BitSet catchAll, Map<Object, int[]> equalities, IntervalTree intervals) {
+            this.kind = kind;
+            this.catchAll = catchAll;
+            this.equalities = equalities;
+            this.intervals = intervals;
+        }
+
+        private static Column build(int column, List<DTDecisionRule> rules) {
+            BitSet catchAll = new BitSet(rules.size());
+            Map<Object, List<Integer>> equalities = new HashMap<>();
+            List<Interval> intervals = new ArrayList<>();
+            Kind kind = null;
+
+            for (int r = 0; r < rules.size(); r++) {
+                List<String> texts = rules.get(r).getInputEntryText();
+                List<Object> entries = column < texts.size() ? parseEntry(texts.get(column)) : null;
+                Kind entryKind = entries != null ? kindOf(entries) : null;
+                if (entryKind != null && kind == null) {
+                    kind = entryKind;
+                }
+                if (entries == null || entries.contains(DASH) || entryKind != kind) {
+                    catchAll.set(r);
+                    continue;
+                }
+                for (Object entry : entries) {
+                    if (entry instanceof Interval) {
+                        Interval interval = (Interval) entry;
+                        if (!interval.isEmpty()) {
+                            interval.rule = r;
+                            intervals.add(interval);
+                        }
+                    } else {
+                        List<Integer> ruleIndexes = equalities.computeIfAbsent(entry, k -> new ArrayList<>());
+                        if (ruleIndexes.isEmpty() || ruleIndexes.get(ruleIndexes.size() - 1) != r) {
+                            ruleIndexes.add(r);
+                        }
+                    }
+                }
+            }
+
+            if (kind == null) {
+                return null;
+            }
+            Map<Object, int[]> equalityIndex = new HashMap<>();
+            equalities.forEach((k, v) -> equalityIndex.put(k, v.stream().mapToInt(Integer::intValue).toArray()));
+            return new Column(kind, catchAll, equalityIndex, IntervalTree.build(intervals));
+        }
+
+        private BitSet findCandidates(Object value) {
+            Object key = toKey(kind, value);
+            if (key == null) {
+                return null;
+            }
+            BitSet candidates = (BitSet) catchAll.clone();
+            int[] ruleIndexes = equalities.get(key);
+            if (ruleIndexes != null) {
+                for (int r : ruleIndexes) {
+                    candidates.set(r);
+                }
+            }
+            if (intervals != null) {
+                intervals.collect((BigDecimal) key, candidates);
+            }
+            return candidates;
+        }
+    }
+
+    private static Object toKey(Kind kind, Object value) {
+        switch (kind) {
+            case NUMBER:
+                BigDecimal number = value instanceof Number ? NumberEvalHelper.getBigDecimalOrNull(value) : null;
+                return number != null ? normalize(number) : null;
+            case STRING:
+                return value instanceof String ? value : null;
+            case BOOLEAN:
+                return value instanceof Boolean ? value : null;
+            default:
+                return null;
+        }
+    }
+
+    private static BigDecimal normalize(BigDecimal number) {
+        // numbers are compared by value, so 1 and 1.0 have to be the same key
+        return number.signum() == 0 ? BigDecimal.ZERO : number.stripTrailingZeros();
+    }
+
+    private static Kind kindOf(List<Object> entries) {
+        Kind kind = null;
+        for (Object entry : entries) {
+            Kind entryKind;
+            if (entry == DASH) {
+                continue;
+            } else if (entry instanceof BigDecimal || entry instanceof Interval) {
+                entryKind = Kind.NUMBER;
+            } else if (entry instanceof String) {
+                entryKind = Kind.STRING;
+            } else {
+                entryKind = Kind.BOOLEAN;
+            }
+            if (kind != null && kind != entryKind) {
+                return null;
+            }
+            kind = entryKind;
+        }
+        return kind;
+    }
+
+    /**
+     * Parses the text of an input entry made of a comma separated list of literals, numeric comparisons and numeric ranges
+     * @return the parsed literals and intervals, or null if the input entry is anything else
+     */
+    static List<Object> parseEntry(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        List<Object> entries = new ArrayList<>();
+        int start = 0;
+        boolean inString = false;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i == text.length() || (text.charAt(i) == ',' && !inString)) {
+                Object entry = parseElement(text.substring(start, i).trim());
+                if (entry == null) {
+                    return null;
+                }
+                entries.add(entry);
+                start = i + 1;
+            } else if (text.charAt(i) == '"') {
+                inString = !inString;
+            }
+        }
+        return entries;
+    }
+
+    private static Object parseElement(String text) {
+        if (text.equals("-")) {
+            return DASH;
+        }
+        if (text.equals("true") || text.equals("false")) {
+            return Boolean.valueOf(text);
+        }
+        if (text.length() >= 2 && text.charAt(0) == '"' && text.charAt(text.length() - 1) == '"') {
+            String value = text.substring(1, text.length() - 1);
+            // escape sequences are left to the UnaryTest
+            return value.indexOf('"') < 0 && value.indexOf('\\') < 0 ? value : null;
+        }
+        if (NUMBER_PATTERN.matcher(text).matches()) {
+            return normalize(toNumber(text));
+        }
+        Matcher comparison = COMPARISON_PATTERN.matcher(text);
+        if (comparison.matches()) {
+            BigDecimal value = toNumber(comparison.group(2));
+            switch (comparison.group(1)) {
+                case "<":
+                    return new Interval(null, false, value, false);
+                case "<=":
+                    return new Interval(null, false, value, true);
+                case ">":
+                    return new Interval(value, false, null, false);
+                default:
+                    return new Interval(value, true, null, false);
+            }
+        }
+        Matcher range = RANGE_PATTERN.matcher(text);
+        if (range.matches()) {
+            return new Interval(toNumber(range.group(2)), range.group(1).equals("["),
+                                toNumber(range.group(3)), range.group(4).equals("]"));
+        }
+        return null;
+    }
+
+    private static BigDecimal toNumber(String text) {
+        // same precision used by FEEL for the number literals
+        return new BigDecimal(text, MathContext.DECIMAL128);
+    }
+
+    /**
+     * An interval of numbers, a null bound is unbounded
+     */
+    static class Interval {
+        private final BigDecimal low;
+        private final boolean lowIncluded;
+        private final BigDecimal high;
+        private final boolean highIncluded;
+        private int rule;
+
+        Interval(BigDecimal low, boolean lowIncluded, BigDecimal high, boolean highIncluded) {
+            this.low = low;
+            this.lowIncluded = lowIncluded;
+            this.high = high;
+            this.highIncluded = highIncluded;
+        }
+
+        private boolean isEmpty() {
+            if (low == null || high == null) {
+                return false;
+            }
+            int c = low.compareTo(high);
+            return c > 0 || (c == 0 && !(lowIncluded && highIncluded));
+        }
+
+        private boolean lowIncludes(BigDecimal value) {
+            if (low == null) {
+                return true;
+            }
+            int c = low.compareTo(value);
+            return c < 0 || (c == 0 && lowIncluded);
+        }
+
+        private boolean highIncludes(BigDecimal value) {
+            if (high == null) {
+                return true;
+            }
+            int c = high.compareTo(value);
+            return c > 0 || (c == 0 && highIncluded);
+        }
+
+        private boolean includes(BigDecimal value) {
+            return lowIncludes(value) && highIncludes(value);
+        }
+
+        /**
+         * A value included in this non empty interval
+         */
+        private BigDecimal innerPoint() {
+            if (low != null && lowIncluded) {
+                return low;
+            }
+            if (high != null && highIncluded) {
+                return high;
+            }
+            if (low != null && high != null) {
+                // the exact middle point, the division by 2 of a decimal number always terminates
+                return low.add(high).divide(BigDecimal.valueOf(2));
+            }
+            if (low != null) {
+                return low.add(BigDecimal.ONE);
+            }
+            return high != null ? high.subtract(BigDecimal.ONE) : BigDecimal.ZERO;
+        }
+
+        @Override
+        public String toString() {
+            return (lowIncluded ? "[" : "(") + low + ".." + high + (highIncluded ? "]" : ")");
+        }
+    }
+
+    private static final Comparator<Interval> BY_LOW = (i1, i2) -> {
+        if (i1.low == null || i2.low == null) {
+            return i1.low == null ? (i2.low == null ? 0 : -1) : 1;
+        }
+        int c = i1.low.compareTo(i2.low);
+        return c != 0 ? c : Boolean.compare(i2.lowIncluded, i1.lowIncluded);
+    };
+
+    private static final Comparator<Interval> BY_HIGH_DESCENDING = (i1, i2) -> {
+        if (i1.high == null || i2.high == null) {
+            return i1.high == null ? (i2.high == null ? 0 : -1) : 1;
+        }
+        int c = i2.high.compareTo(i1.high);
+        return c != 0 ? c : Boolean.compare(i2.highIncluded, i1.highIncluded);
+    };
+
+    /**
+     * A static centered interval tree: each node holds the intervals including its center, sorted both by their low
+     * and by their high bound, while the intervals entirely before or after the center are in the left and right subtrees.
+     */
+    static class IntervalTree {
+        private final BigDecimal center;
+        private final Interval[] byLow;
+        private final Interval[] byHigh;
+        private final IntervalTree left;
+        private final IntervalTree right;
+
+        private IntervalTree(BigDecimal center, Interval[] byLow, Interval[] byHigh, IntervalTree left, IntervalTree right) {
+            this.center = center;
+            this.byLow = byLow;
+            this.byHigh = byHigh;
+            this.left = left;
+            this.right = right;
+        }
+
+        static IntervalTree build(List<Interval> intervals) {
+            if (intervals.isEmpty()) {
+                return null;
+            }
+            List<BigDecimal> points = new ArrayList<>(intervals.size());
+            for (Interval interval : intervals) {
+                points.add(interval.innerPoint());
+            }
+            points.sort(null);
+            // the median is the inner point of one of the intervals, so at least that one is in this node
+            BigDecimal center = points.get(points.size() / 2);
+
+            List<Interval> here = new ArrayList<>();
+            List<Interval> before = new ArrayList<>();
+            List<Interval> after = new ArrayList<>();
+            for (Interval interval : intervals) {
+                if (interval.includes(center)) {
+                    here.add(interval);
+                } else if (interval.highIncludes(center)) {
+                    after.add(interval);
+                } else {
+                    before.add(interval);
+                }
+            }
+
+            Interval[] byLow = here.toArray(new Interval[here.size()]);
+            Interval[] byHigh = byLow.clone();
+            Arrays.sort(byLow, BY_LOW);
+            Arrays.sort(byHigh, BY_HIGH_DESCENDING);
+            return new IntervalTree(center, byLow, byHigh, build(before), build(after));
+        }
+
+        void collect(BigDecimal value, BitSet rules) {
+            for (IntervalTree node = this; node != null; ) {
+                int c = value.compareTo(node.center);
+                if (c < 0) {
+                    for (Interval interval : node.byLow) {
+                        if (!interval.lowIncludes(value)) {
+                            break;
+                        }
+                        rules.set(interval.rule);
+                    }
+                    node = node.left;
+                } else if (c > 0) {
+                    for (Interval interval : node.byHigh) {
+                        if (!interval.highIncludes(value)) {
+                            break;
+                        }
+                        rules.set(interval.rule);
+                    }
+                    node = node.right;
+                } else {
+                    for (Interval interval : node.byLow) {
+                        rules.set(interval.rule);
+                    }
+                    node = null;
+                }
+            }
+        }
+    }
+}
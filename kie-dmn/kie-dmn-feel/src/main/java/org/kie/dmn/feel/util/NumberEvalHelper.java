@@ -67,6 +67,69 @@ public class NumberEvalHelper {
         return null;
     }
 
+    /**
+     * The number of digits of the integers whose sum and difference are guaranteed to fit in a long
+     */
+    private static final int LONG_SAFE_PRECISION = 18;
+
+    /**
+     * Adds two numbers with the {@link MathContext#DECIMAL128} semantic of the FEEL addition. The sum of integers
+     * fitting in a long is computed on longs: being exact, it has the same value and scale of the BigDecimal one.
+     */
+    public static BigDecimal add(BigDecimal left, BigDecimal right) {
+        if (isLongSafeInteger(left) && isLongSafeInteger(right)) {
+            return BigDecimal.valueOf(left.longValue() + right.longValue());
+        }
+        return left.add(right, MathContext.DECIMAL128);
+    }
+
+    /**
+     * Subtracts two numbers with the {@link MathContext#DECIMAL128} semantic of the FEEL subtraction, on longs when both are
+     * integers fitting in a long
+     */
+    public static BigDecimal subtract(BigDecimal left, BigDecimal right) {
+        if (isLongSafeInteger(left) && isLongSafeInteger(right)) {
+            return BigDecimal.valueOf(left.longValue() - right.longValue());
+        }
+        return left.subtract(right, MathContext.DECIMAL128);
+    }
+
+    /**
+     * Multiplies two numbers with the {@link MathContext#DECIMAL128} semantic of the FEEL multiplication, on longs when both
+     * are integers and their product doesn't overflow
+     */
+    public static BigDecimal multiply(BigDecimal left, BigDecimal right) {
+        if (isLongSafeInteger(left) && isLongSafeInteger(right)) {
+            long l = left.longValue();
+            long r = right.longValue();
+            long high = Math.multiplyHigh(l, r);
+            long low = l * r;
+            if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+                return BigDecimal.valueOf(low);
+            }
+        }
+        return left.multiply(right, MathContext.DECIMAL128);
+    }
+
+    /**
+     * Divides two numbers with the {@link MathContext#DECIMAL128} semantic of the FEEL division, on longs when both are
+     * integers and the quotient is an integer too. The divisor must not be zero.
+     */
+    public static BigDecimal divide(BigDecimal left, BigDecimal right) {
+        if (isLongSafeInteger(left) && isLongSafeInteger(right)) {
+            long l = left.longValue();
+            long r = right.longValue();
+            if (l % r == 0) {
+                return BigDecimal.valueOf(l / r);
+            }
+        }
+        return left.divide(right, MathContext.DECIMAL128);
+    }
+
+    private static boolean isLongSafeInteger(BigDecimal value) {
+        return value.scale() == 0 && value.precision() <= LONG_SAFE_PRECISION;
+    }
+
     public static Object coerceNumber(Object value) {
         if ( value instanceof Number && !(value instanceof BigDecimal) ) {
             return getBigDecimalOrNull( value );
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.lang.impl;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.codegen.feel11.ProcessedExpression;
+import org.kie.dmn.feel.lang.CompiledExpression;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlotExecutionFrameTest {
+
+    static final FEEL FEEL_STRICT = FEELBuilder.builder().build();
+
+    @Test
+    public void slotsOfReferencedTypedVariables() {
+        CompiledExpression compiled = compile("a + b * 2 + c", "a", "b", "unused");
+        VariableSlots slots = ((ProcessedExpression) compiled).getVariableSlots();
+        assertThat(slots.size()).isEqualTo(2);
+        assertThat(slots.indexOf("a")).isZero();
+        assertThat(slots.indexOf("b")).isEqualTo(1);
+        assertThat(slots.indexOf("c")).isEqualTo(-1);
+        assertThat(slots.indexOf("unused")).isEqualTo(-1);
+
+        assertThat(FEEL_STRICT.evaluate(compiled, Map.of("a", 1, "b", 2, "c", 3, "other", 4))).isEqualTo(new BigDecimal("8"));
+    }
+
+    @Test
+    public void noSlotsForFunctionDefinitions() {
+        CompiledExpression compiled = compile("function(x) x + a", "a");
+        assertThat(((ProcessedExpression) compiled).getVariableSlots()).isNull();
+    }
+
+    @Test
+    public void notNormalizedInputNames() {
+        CompiledExpression compiled = compile("my var + other var", "my var", "other var");
+        Map<String, Object> inputs = new HashMap<>();
+        inputs.put("my  var", 1);
+        inputs.put(" other var ", 2);
+        assertThat(FEEL_STRICT.evaluate(compiled, inputs)).isEqualTo(new BigDecimal("3"));
+    }
+
+    @Test
+    public void sameResultsOfMapBasedFrame() {
+        List<String> expressions = List.of("if a > b then a else b",
+                                           "for x in [1, 2, 3] return x * a",
+                                           "[{a: 10}, {a: 20}][a > b]",
+                                           "{ b: a + 1, c: b * 2 }",
+                                           "sum([a, b, c])",
+                                           "missing",
+                                           "a in [b..c]");
+        Map<String, Object> inputs = Map.of("a", 5, "b", 12, "c", 30);
+        for (String expression : expressions) {
+            CompiledExpression compiled = compile(expression, "a", "b", "c");
+            FEELImpl feel = (FEELImpl) FEEL_STRICT;
+            Object expected = ((ProcessedExpression) compiled).apply(feel.newEvaluationContext(List.of(), inputs));
+            assertThat(FEEL_STRICT.evaluate(compiled, inputs)).as(expression).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void frameValues() {
+        VariableSlots slots = VariableSlots.of(List.of("a", "b"));
+        Map<String, Object> inputs = new HashMap<>();
+        inputs.put("a", 1);
+        inputs.put("c", 3L);
+        inputs.put("d", null);
+        SlotExecutionFrame frame = new SlotExecutionFrame(RootExecutionFrame.INSTANCE, slots, inputs);
+
+        assertThat(frame.isSlotDefined(0)).isTrue();
+        assertThat(frame.getSlotValue(0)).isEqualTo(BigDecimal.ONE);
+        assertThat(frame.isSlotDefined(1)).isFalse();
+        assertThat(frame.isDefined("b")).isFalse();
+        assertThat(frame.getValue("c")).isEqualTo(new BigDecimal("3"));
+        assertThat(frame.isDefined("d")).isTrue();
+        assertThat(frame.getValue("sum")).isNotNull();
+
+        frame.setValue("b", 2);
+        frame.setValue("e", 5);
+        assertThat(frame.getValue("b")).isEqualTo(2);
+        assertThat(frame.getAllValues()).containsOnlyKeys("a", "b", "c", "d", "e");
+
+        frame.setValue("a", 10);
+        assertThat(frame.getAllValues()).containsEntry("a", 10);
+        frame.setRootObject(Map.of("a", 100));
+        assertThat(frame.isSlotDefined(0)).isFalse();
+        assertThat(frame.getValue("a")).isEqualTo(new BigDecimal("100"));
+    }
+
+    private static CompiledExpression compile(String expression, String... typedVariables) {
+        CompilerContext ctx = FEEL_STRICT.newCompilerContext();
+        for (String name : typedVariables) {
+            ctx.addInputVariableType(name, BuiltInType.NUMBER);
+        }
+        return FEEL_STRICT.compile(expression, ctx);
+    }
+}
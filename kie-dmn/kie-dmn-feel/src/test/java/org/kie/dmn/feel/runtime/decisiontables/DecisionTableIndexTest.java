@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.lang.impl.FEELBuilder;
+import org.kie.dmn.feel.lang.impl.FEELImpl;
+import org.kie.dmn.feel.runtime.UnaryTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DecisionTableIndexTest {
+
+    private static final List<String> NUMERIC_ENTRIES = Arrays.asList("-", "1", "1.0, 2", "-3", "< 0", "<= 1", "> 5", ">= 5.5",
+                                                                      "[1..5]", "(1..5)", "]1..5[", "[2..2]", "(2..2)", "[5..1]",
+                                                                      "[-2.5..0)", "(0..10], 20", "< 2, > 8");
+
+    private static final List<Object> NUMERIC_INPUTS = Arrays.asList(-4, -3, new BigDecimal("-2.5"), -1, 0, 0.5, 1, new BigDecimal("1.00"), 1.5,
+                                                                     2L, 3, 5, new BigDecimal("5.5"), 6, 8, 9, 10, 11, 20);
+
+    private final FEEL feel = FEELBuilder.builder().build();
+    private final EvaluationContext ctx = ((FEELImpl) feel).newEvaluationContext(Collections.emptyList(), Collections.emptyMap());
+    private final Map<String, List<UnaryTest>> unaryTests = new HashMap<>();
+
+    @Test
+    void numericEntries() {
+        List<DTDecisionRule> rules = rules(NUMERIC_ENTRIES.stream().map(Collections::singletonList).toList());
+        DecisionTableIndex index = DecisionTableIndex.build(inputs(1), rules);
+
+        for (Object input : NUMERIC_INPUTS) {
+            // all these entries are indexed, so the candidates are exactly the matching rules
+            assertThat(index.findCandidates(new Object[]{input})).as("input " + input).isEqualTo(matching(rules, input));
+        }
+    }
+
+    @Test
+    void candidatesOfAllTheColumnsAreIntersected() {
+        List<DTDecisionRule> rules = rules(Arrays.asList(Arrays.asList("\"a\"", "< 10"),
+                                                         Arrays.asList("\"a\", \"b\"", "-"),
+                                                         Arrays.asList("-", ">= 10"),
+                                                         Arrays.asList("\"b\"", "[0..100]"),
+                                                         Arrays.asList("\"a,b\"", "10")));
+        DecisionTableIndex index = DecisionTableIndex.build(inputs(2), rules);
+
+        assertThat(index.findCandidates(new Object[]{"a", 5})).isEqualTo(bits(0, 1));
+        assertThat(index.findCandidates(new Object[]{"b", 10})).isEqualTo(bits(1, 2, 3));
+        assertThat(index.findCandidates(new Object[]{"a,b", 10})).isEqualTo(bits(2, 4));
+        assertThat(index.findCandidates(new Object[]{"c", 500})).isEqualTo(bits(2));
+    }
+
+    @Test
+    void entriesThatCanNotBeIndexedAreAlwaysCandidates() {
+        List<DTDecisionRule> rules = rules(Arrays.asList(Collections.singletonList("1"),
+                                                         Collections.singletonList("not(1)"),
+                                                         Collections.singletonList("< limit"),
+                                                         Collections.singletonList("\"x\""),
+                                                         Collections.singletonList(null)));
+        DecisionTableIndex index = DecisionTableIndex.build(inputs(1), rules);
+
+        assertThat(index.findCandidates(new Object[]{1})).isEqualTo(bits(0, 1, 2, 3, 4));
+        assertThat(index.findCandidates(new Object[]{7})).isEqualTo(bits(1, 2, 3, 4));
+    }
+
+    @Test
+    void inputsOfOtherTypesAreNotLookedUp() {
+        List<DTDecisionRule> rules = rules(Arrays.asList(Collections.singletonList("1"), Collections.singletonList("> 1")));
+        DecisionTableIndex index = DecisionTableIndex.build(inputs(1), rules);
+
+        assertThat(index.findCandidates(new Object[]{"1"})).isNull();
+        assertThat(index.findCandidates(new Object[]{null})).isNull();
+        assertThat(index.findCandidates(new Object[]{Double.NaN})).isNull();
+    }
+
+    @Test
+    void collectionsAndDashOnlyColumnsAreNotIndexed() {
+        List<DTDecisionRule> rules = rules(Arrays.asList(Arrays.asList("1", "-"), Arrays.asList("2", "-")));
+        List<DTInputClause> inputs = Arrays.asList(new DTInputClause("a", null, null, null, true),
+                                                   new DTInputClause("b", null, null, null, false));
+
+        assertThat(DecisionTableIndex.build(inputs, rules)).isNull();
+    }
+
+    @Test
+    void largeTable() {
+        List<List<String>> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.add(Collections.singletonList(NUMERIC_ENTRIES.get(i % NUMERIC_ENTRIES.size()).replace("5", "" + (i % 7))));
+        }
+        List<DTDecisionRule> rules = rules(entries);
+        DecisionTableIndex index = DecisionTableIndex.build(inputs(1), rules);
+
+        for (Object input : NUMERIC_INPUTS) {
+            assertThat(index.findCandidates(new Object[]{input})).as("input " + input).isEqualTo(matching(rules, input));
+        }
+    }
+
+    private BitSet matching(List<DTDecisionRule> rules, Object input) {
+        BitSet matching = new BitSet();
+        for (int i = 0; i < rules.size(); i++) {
+            for (UnaryTest test : unaryTests.computeIfAbsent(rules.get(i).getInputEntryText().get(0), feel::evaluateUnaryTests)) {
+                if (Boolean.TRUE.equals(test.apply(ctx, input))) {
+                    matching.set(i);
+                }
+            }
+        }
+        return matching;
+    }
+
+    private static List<DTDecisionRule> rules(List<List<String>> entries) {
+        List<DTDecisionRule> rules = new ArrayList<>();
+        for (List<String> texts : entries) {
+            DTDecisionRule rule = new DTDecisionRule(rules.size(), null);
+            rule.getInputEntryText().addAll(texts);
+            rules.add(rule);
+        }
+        return rules;
+    }
+
+    private static List<DTInputClause> inputs(int size) {
+        List<DTInputClause> inputs = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            inputs.add(new DTInputClause("input" + i, null, null, null, false));
+        }
+        return inputs;
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int i : indexes) {
+            bits.set(i);
+        }
+        return bits;
+    }
+}
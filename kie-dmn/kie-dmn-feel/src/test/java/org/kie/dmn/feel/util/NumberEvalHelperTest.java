@@ -20,7 +20,11 @@ package org.kie.dmn.feel.util;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -97,4 +101,27 @@ class NumberEvalHelperTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void arithmeticSameAsDecimal128() {
+        List<BigDecimal> values = new ArrayList<>(List.of(BigDecimal.ZERO, BigDecimal.ONE, BigDecimal.TEN, new BigDecimal("-1"),
+                new BigDecimal("0.00"), new BigDecimal("2.50"), new BigDecimal("1E+3"), new BigDecimal("-7"), new BigDecimal("3"),
+                new BigDecimal("999999999999999999"), new BigDecimal("-999999999999999999"), new BigDecimal("1000000000000000000"),
+                new BigDecimal("4294967296"), new BigDecimal("-3037000500"), new BigDecimal(Long.MAX_VALUE), new BigDecimal(Long.MIN_VALUE),
+                new BigDecimal("12345678901234567890123456789012345678")));
+        Random random = new Random(0);
+        for (int i = 0; i < 200; i++) {
+            values.add(BigDecimal.valueOf(random.nextLong() >> random.nextInt(64)));
+        }
+        for (BigDecimal left : values) {
+            for (BigDecimal right : values) {
+                // equals compares the scale too
+                assertThat(NumberEvalHelper.add(left, right)).isEqualTo(left.add(right, MathContext.DECIMAL128));
+                assertThat(NumberEvalHelper.subtract(left, right)).isEqualTo(left.subtract(right, MathContext.DECIMAL128));
+                assertThat(NumberEvalHelper.multiply(left, right)).isEqualTo(left.multiply(right, MathContext.DECIMAL128));
+                if (right.signum() != 0) {
+                    assertThat(NumberEvalHelper.divide(left, right)).isEqualTo(left.divide(right, MathContext.DECIMAL128));
+                }
+            }
+        }
+    }
 }
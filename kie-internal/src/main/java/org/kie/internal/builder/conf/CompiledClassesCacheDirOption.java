@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.builder.conf;
+
+import java.io.File;
+
+import org.kie.api.conf.OptionKey;
+
+/**
+ * A class for the directory where the classes compiled out of the DRL consequences and
+ * constraints are cached, so that a package whose generated sources didn't change is not
+ * compiled again in a later build.
+ *
+ * The cache entries are keyed on the content of the generated sources and are only reused
+ * while the bytecode of the classes they reference, like the facts and the declared types,
+ * is unchanged.
+ */
+public class CompiledClassesCacheDirOption implements SingleValueKieBuilderOption {
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the compiled classes cache directory configuration
+     */
+    public static final String PROPERTY_NAME = "drools.compiledClassesCache.dir";
+
+    public static OptionKey<CompiledClassesCacheDirOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    /**
+     * directory reference
+     */
+    private final File dir;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param dir directory to set
+     */
+    private CompiledClassesCacheDirOption( File dir ) {
+        this.dir = dir;
+    }
+
+    /**
+     * This is a factory method for this CompiledClassesCacheDirOption configuration.
+     * The factory method is a best practice for the case where the
+     * actual object construction is changed in the future.
+     *
+     * @param dir the directory where drools will cache the compiled classes
+     *
+     * @return the actual type safe compiled classes cache directory configuration.
+     */
+    public static CompiledClassesCacheDirOption get( File dir ) {
+        return new CompiledClassesCacheDirOption( dir );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the directory where drools caches the compiled classes
+     *
+     * @return
+     */
+    public File getDirectory() {
+        return dir;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledClassesCacheDirOption( directory="+((dir == null) ? "" : dir.toString())+" )";
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((dir == null) ? 0 : dir.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        CompiledClassesCacheDirOption other = (CompiledClassesCacheDirOption) obj;
+        if ( dir == null ) {
+            if ( other.dir != null ) { return false; }
+        } else if ( !dir.equals( other.dir ) ) {
+            return false;
+        }
+
+        return true;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.conf.SingleValueRuleBaseOption;
+
+/**
+ * A class for the alpha node adaptive indexing configuration.
+ * When the sample size is greater than 0 each node of the alpha network counts the facts propagated through it
+ * and, once that number reaches the sample size, it hashes and range indexes at runtime its alpha nodes that
+ * didn't reach the alpha node hashing and range index thresholds. A value of 0 disables the adaptive indexing.
+ */
+public class AlphaAdaptiveIndexingOption implements SingleValueRuleBaseOption {
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name
+     */
+    public static final String PROPERTY_NAME = "drools.alphaNodeAdaptiveIndexing";
+
+    public static OptionKey<AlphaAdaptiveIndexingOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    /**
+     * The default value for this option
+     */
+    public static final int DEFAULT_VALUE = 0;
+
+    /**
+     * number of propagations sampled before indexing
+     */
+    private final int sampleSize;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param sampleSize
+     */
+    private AlphaAdaptiveIndexingOption( int sampleSize ) {
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * This is a factory method for this Alpha Adaptive Indexing configuration.
+     * The factory method is a best practice for the case where the
+     * actual object construction is changed in the future.
+     *
+     * @param sampleSize the number of propagations sampled before indexing, 0 to disable the adaptive indexing
+     *
+     * @return the actual type safe alpha adaptive indexing configuration.
+     */
+    public static AlphaAdaptiveIndexingOption get( int sampleSize ) {
+        return new AlphaAdaptiveIndexingOption( sampleSize );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the number of propagations sampled before indexing
+     *
+     * @return
+     */
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + sampleSize;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        AlphaAdaptiveIndexingOption other = (AlphaAdaptiveIndexingOption) obj;
+        if ( sampleSize != other.sampleSize ) {
+            return false;
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.conf.SingleValueRuleBaseOption;
+
+/**
+ * A class for the parallel evaluation pool size configuration.
+ *
+ * When greater than 0 the KieBase uses its own ForkJoinPool with the given parallelism to evaluate
+ * (and, in fully parallel mode, fire) its partitions, so that a KieBase cannot starve the others
+ * running in the same JVM. When 0 the pool shared by all the KieBases of the JVM is used.
+ *
+ * drools.parallelEvaluationPoolSize = &lt;0..n&gt;
+ *
+ * DEFAULT = 0
+ */
+public class ParallelEvaluationPoolSizeOption implements SingleValueRuleBaseOption {
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the parallel evaluation pool size
+     */
+    public static final String PROPERTY_NAME = "drools.parallelEvaluationPoolSize";
+
+    public static OptionKey<ParallelEvaluationPoolSizeOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    /**
+     * pool size
+     */
+    private final int poolSize;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param poolSize
+     */
+    private ParallelEvaluationPoolSizeOption( int poolSize ) {
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * This is a factory method for this parallel evaluation pool size configuration.
+     * The factory method is a best practice for the case where the
+     * actual object construction is changed in the future.
+     *
+     * @param poolSize the parallelism of the pool used by this KieBase, 0 to use the shared one
+     *
+     * @return the actual type safe parallel evaluation pool size configuration.
+     */
+    public static ParallelEvaluationPoolSizeOption get( int poolSize ) {
+        return new ParallelEvaluationPoolSizeOption( poolSize );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the parallelism of the pool used by this KieBase, 0 if it uses the shared one
+     *
+     * @return
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + poolSize;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        ParallelEvaluationPoolSizeOption other = (ParallelEvaluationPoolSizeOption) obj;
+        if ( poolSize != other.poolSize ) {
+            return false;
+        }
+        return true;
+    }
+
+}
@@ -24,6 +24,21 @@ import org.kie.api.conf.SingleValueRuleBaseOption;
 /**
  * Determines is the engine should evaluate rules and execute their consequences sequentially or in parallel.
  *
+ * With PARALLEL_EVALUATION the network of rules belonging to different partitions is evaluated in parallel,
+ * while the consequences are still fired sequentially. It is enabled only when the rete network can be split
+ * in at least 8 partitions.
+ *
+ * With FULLY_PARALLEL the facts are also routed to the partitions interested in them and each partition has its own
+ * agenda, so also the consequences of rules in independent partitions are fired concurrently. The actions performed
+ * by a consequence are propagated to the other partitions through their own propagation queues. As for
+ * PARALLEL_EVALUATION, it is enabled only when the rete network can be split in at least 8 partitions.
+ * The partitions are computed only from the network topology: the engine doesn't analyze the consequences to detect
+ * whether they only touch facts local to their partition, so it is up to the rules' author to guarantee that
+ * consequences firing concurrently don't share any state outside of the working memory.
+ *
+ * Both modes are disabled when the rule base uses agenda-groups, activation-groups or queries, while salience
+ * is only incompatible with FULLY_PARALLEL.
+ *
  * drools.parallelExecution = &lt;sequential|parallel_evaluation|fully_parallel&gt;
  *
  * DEFAULT = SEQUENTIAL
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.conf.SingleValueRuleBaseOption;
+
+/**
+ * A class for the right tuple pool size configuration.
+ * When greater than 0 the memory of each join, not and exists node keeps up to this number of the RightTuples
+ * deleted from it and reuses them for the following insertions, instead of allocating new ones.
+ * A value of 0 disables the recycling of the RightTuples.
+ */
+public class RightTuplePoolSizeOption implements SingleValueRuleBaseOption {
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name
+     */
+    public static final String PROPERTY_NAME = "drools.rightTuplePoolSize";
+
+    public static OptionKey<RightTuplePoolSizeOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    /**
+     * The default value for this option
+     */
+    public static final int DEFAULT_VALUE = 0;
+
+    /**
+     * max number of recycled right tuples per node
+     */
+    private final int poolSize;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param poolSize
+     */
+    private RightTuplePoolSizeOption( int poolSize ) {
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * This is a factory method for this Right Tuple Pool Size configuration.
+     * The factory method is a best practice for the case where the
+     * actual object construction is changed in the future.
+     *
+     * @param poolSize the max number of recycled right tuples per node, 0 to disable the recycling
+     *
+     * @return the actual type safe right tuple pool size configuration.
+     */
+    public static RightTuplePoolSizeOption get( int poolSize ) {
+        return new RightTuplePoolSizeOption( poolSize );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the max number of recycled right tuples per node
+     *
+     * @return
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + poolSize;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        RightTuplePoolSizeOption other = (RightTuplePoolSizeOption) obj;
+        if ( poolSize != other.poolSize ) {
+            return false;
+        }
+        return true;
+    }
+
+}
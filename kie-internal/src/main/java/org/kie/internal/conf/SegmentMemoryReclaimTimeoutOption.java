@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.conf.SingleValueRuleBaseOption;
+
+/**
+ * A class for the segment memory reclaim timeout configuration.
+ * When greater than 0 a session discards the memories of the network segments, and of the rules paths going through
+ * them, that have stayed unlinked and empty for at least this number of milliseconds, measured on the session clock.
+ * The discarded memories are created again, as they would be in a new session, when a fact reaches those segments.
+ * A value of 0 disables the reclaiming.
+ */
+public class SegmentMemoryReclaimTimeoutOption implements SingleValueRuleBaseOption {
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name
+     */
+    public static final String PROPERTY_NAME = "drools.segmentMemoryReclaimTimeout";
+
+    public static OptionKey<SegmentMemoryReclaimTimeoutOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    /**
+     * The default value for this option
+     */
+    public static final long DEFAULT_VALUE = 0;
+
+    /**
+     * time in milliseconds after which an unlinked and empty segment is reclaimed
+     */
+    private final long timeout;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param timeout
+     */
+    private SegmentMemoryReclaimTimeoutOption( long timeout ) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * This is a factory method for this Segment Memory Reclaim Timeout configuration.
+     * The factory method is a best practice for the case where the
+     * actual object construction is changed in the future.
+     *
+     * @param timeout the time in milliseconds after which an unlinked and empty segment is reclaimed, 0 to disable the reclaiming
+     *
+     * @return the actual type safe segment memory reclaim timeout configuration.
+     */
+    public static SegmentMemoryReclaimTimeoutOption get( long timeout ) {
+        return new SegmentMemoryReclaimTimeoutOption( timeout );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the time in milliseconds after which an unlinked and empty segment is reclaimed
+     *
+     * @return
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Long.hashCode( timeout );
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        SegmentMemoryReclaimTimeoutOption other = (SegmentMemoryReclaimTimeoutOption) obj;
+        if ( timeout != other.timeout ) {
+            return false;
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.runtime.conf.SingleValueRuleRuntimeOption;
+
+/**
+ * An option to define the implementation of the store holding the fact handles of each entry point.
+ * The compact implementation keeps the handles in open addressing tables, lowering the memory
+ * required by each fact, and it is intended for sessions with a very large number of facts.
+ * It is used only when the KieBase has an identity assert behaviour, while with the equality one
+ * the default store is always used.
+ *
+ * drools.objectStore = &lt;default|compact&gt;
+ *
+ * DEFAULT = default
+ */
+public enum ObjectStoreOption implements SingleValueRuleRuntimeOption {
+
+    DEFAULT("default"),
+    COMPACT("compact");
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the object store configuration
+     */
+    public static final String PROPERTY_NAME = "drools.objectStore";
+
+    public static OptionKey<ObjectStoreOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    private final String string;
+
+    ObjectStoreOption( String string ) {
+        this.string = string;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public String getAsString() {
+        return string;
+    }
+
+    public static ObjectStoreOption determineObjectStore( String option ) {
+        for (ObjectStoreOption objectStoreOption : values()) {
+            if (objectStoreOption.string.equalsIgnoreCase( option )) {
+                return objectStoreOption;
+            }
+        }
+        throw new IllegalArgumentException( "Illegal enum value '" + option + "' for ObjectStoreOption" );
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.runtime.conf.SingleValueRuleRuntimeOption;
+
+/**
+ * An option to define the implementation of the queue used to hand over insertions, updates and deletions
+ * performed by other threads to the thread evaluating the network of a thread-safe KieSession.
+ * The lock-free implementation is intended for sessions fed by many concurrent threads, typically while
+ * another thread is running a fireUntilHalt.
+ *
+ * drools.propagationList = &lt;synchronized|lockfree&gt;
+ *
+ * DEFAULT = synchronized
+ */
+public enum PropagationListOption implements SingleValueRuleRuntimeOption {
+
+    SYNCHRONIZED("synchronized"),
+    LOCK_FREE("lockfree");
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the propagation list configuration
+     */
+    public static final String PROPERTY_NAME = "drools.propagationList";
+
+    public static OptionKey<PropagationListOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    private final String string;
+
+    PropagationListOption( String string ) {
+        this.string = string;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public String getAsString() {
+        return string;
+    }
+
+    public static PropagationListOption determinePropagationList( String option ) {
+        for (PropagationListOption propagationListOption : values()) {
+            if (propagationListOption.string.equalsIgnoreCase( option )) {
+                return propagationListOption;
+            }
+        }
+        throw new IllegalArgumentException( "Illegal enum value '" + option + "' for PropagationListOption" );
+    }
+}